@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the attributes of a successful request event with an API, operation, target, application,
+ * latencies, meta info and custom properties, through Jackson's conversion to a map as the publisher did before and
+ * through {@link Event#visitAttributes(AttributeVisitor)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventAttributesBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    private Event event;
+
+    @Setup
+    public void setup() {
+
+        event = new Event();
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId("c0ffee");
+        api.setApiType("HTTP");
+        api.setApiName("PizzaShack");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        api.setOrganizationId("carbon.super");
+        api.setApiContext("/pizzashack/1.0.0");
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setUriTemplate("/menu");
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setAuthScheme("Any");
+        api.setUriTemplates(Collections.singletonList(uriTemplate));
+        event.setApi(api);
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/menu");
+        event.setOperation(operation);
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setDestination("http://localhost:9443");
+        event.setTarget(target);
+        Application application = new Application();
+        application.setApplicationId("1");
+        application.setApplicationName("DefaultApplication");
+        application.setKeyType("PRODUCTION");
+        event.setApplication(application);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(12L);
+        latencies.setBackendLatency(8L);
+        event.setLatencies(latencies);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("correlation");
+        metaInfo.setGatewayType("SYNAPSE");
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-01-01T00:00:00.000Z");
+        event.setUserIp("127.0.0.1");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("userName", "admin@carbon.super");
+        properties.put("apiContext", "/pizzashack/1.0.0");
+        event.setProperties(properties);
+    }
+
+    @Benchmark
+    public void jacksonConversion(Blackhole blackhole) {
+
+        for (Map.Entry<String, Object> entry : OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE).entrySet()) {
+            blackhole.consume(entry.getKey());
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void attributeVisitor(Blackhole blackhole) {
+
+        event.visitAttributes((name, value) -> {
+            blackhole.consume(name);
+            blackhole.consume(value);
+        });
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.collectors;
+
+import org.wso2.carbon.apimgt.common.analytics.exceptions.DataNotFoundException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data provider holding the analytics data of a request, read from another provider at the time it is captured. A
+ * snapshot no longer depends on the message context the data was read from, so the collectors can process it on a
+ * different thread after the request has completed.
+ * <p>
+ * Only the data read by the collectors of the event category of the request is captured. Failures to read a value
+ * are captured as well, and are thrown again when the value is read from the snapshot.
+ */
+public final class AnalyticsDataSnapshot implements AnalyticsDataProvider {
+
+    private final EventCategory eventCategory;
+    private FaultCategory faultType;
+    private boolean anonymous;
+    private boolean authenticated;
+    private Value<API> api;
+    private Value<Application> application;
+    private Value<Operation> operation;
+    private Value<Target> target;
+    private Value<Latencies> latencies;
+    private Value<MetaInfo> metaInfo;
+    private Value<Error> error;
+    private Value<String> userAgentHeader;
+    private Value<String> userName;
+    private Value<String> endUserIP;
+    private Value<Map<String, Object>> properties;
+    private Value<Map<String, String>> maskProperties;
+    private int proxyResponseCode;
+    private int targetResponseCode;
+    private long requestTime;
+
+    private AnalyticsDataSnapshot(AnalyticsDataProvider provider) {
+
+        eventCategory = provider.getEventCategory();
+        if (eventCategory != EventCategory.SUCCESS && eventCategory != EventCategory.FAULT) {
+            return;
+        }
+        anonymous = provider.isAnonymous();
+        authenticated = provider.isAuthenticated();
+        requestTime = provider.getRequestTime();
+        proxyResponseCode = provider.getProxyResponseCode();
+        targetResponseCode = provider.getTargetResponseCode();
+        maskProperties = Value.of(provider::getMaskProperties);
+        properties = Value.of(() -> copyOf(provider.getProperties()));
+        api = Value.of(provider::getApi);
+        operation = Value.of(provider::getOperation);
+        metaInfo = Value.of(provider::getMetaInfo);
+        endUserIP = Value.of(provider::getEndUserIP);
+        if (eventCategory == EventCategory.SUCCESS) {
+            target = Value.of(provider::getTarget);
+            latencies = Value.of(provider::getLatencies);
+            userAgentHeader = Value.of(provider::getUserAgentHeader);
+            userName = Value.of(provider::getUserName);
+            if (!anonymous) {
+                application = Value.of(provider::getApplication);
+            }
+        } else {
+            faultType = provider.getFaultType();
+            if (faultType != null) {
+                error = Value.of(() -> provider.getError(faultType));
+            }
+            if (isApplicationReadForFault()) {
+                application = Value.of(provider::getApplication);
+            }
+        }
+    }
+
+    /**
+     * Captures the analytics data of a request from the given provider.
+     *
+     * @param provider provider to read the data from
+     * @return snapshot of the data
+     */
+    public static AnalyticsDataSnapshot of(AnalyticsDataProvider provider) {
+
+        return new AnalyticsDataSnapshot(provider);
+    }
+
+    @Override
+    public EventCategory getEventCategory() {
+
+        return eventCategory;
+    }
+
+    @Override
+    public boolean isAnonymous() {
+
+        return anonymous;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+
+        return authenticated;
+    }
+
+    @Override
+    public FaultCategory getFaultType() {
+
+        return faultType;
+    }
+
+    @Override
+    public API getApi() throws DataNotFoundException {
+
+        return Value.get(api);
+    }
+
+    @Override
+    public Application getApplication() throws DataNotFoundException {
+
+        return Value.get(application);
+    }
+
+    @Override
+    public Operation getOperation() throws DataNotFoundException {
+
+        return Value.get(operation);
+    }
+
+    @Override
+    public Target getTarget() {
+
+        return Value.getUnchecked(target);
+    }
+
+    @Override
+    public Latencies getLatencies() {
+
+        return Value.getUnchecked(latencies);
+    }
+
+    @Override
+    public MetaInfo getMetaInfo() {
+
+        return Value.getUnchecked(metaInfo);
+    }
+
+    @Override
+    public int getProxyResponseCode() {
+
+        return proxyResponseCode;
+    }
+
+    @Override
+    public int getTargetResponseCode() {
+
+        return targetResponseCode;
+    }
+
+    @Override
+    public long getRequestTime() {
+
+        return requestTime;
+    }
+
+    @Override
+    public Error getError(FaultCategory faultCategory) {
+
+        return faultCategory == faultType ? Value.getUnchecked(error) : null;
+    }
+
+    @Override
+    public String getUserAgentHeader() {
+
+        return Value.getUnchecked(userAgentHeader);
+    }
+
+    @Override
+    public String getUserName() {
+
+        return Value.getUnchecked(userName);
+    }
+
+    @Override
+    public String getEndUserIP() {
+
+        return Value.getUnchecked(endUserIP);
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+
+        return Value.getUnchecked(properties);
+    }
+
+    @Override
+    public Map<String, String> getMaskProperties() {
+
+        return Value.getUnchecked(maskProperties);
+    }
+
+    /**
+     * Whether the fault data collector of the fault type reads the application of the request. Authentication
+     * faults do not carry an application, and the other faults only read it unless the request is known to be
+     * anonymous.
+     */
+    private boolean isApplicationReadForFault() {
+
+        if (faultType == null || faultType == FaultCategory.AUTH) {
+            return false;
+        }
+        if (faultType == FaultCategory.OTHER) {
+            return authenticated && !anonymous;
+        }
+        return !(authenticated && anonymous);
+    }
+
+    private static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+
+        return map == null ? null : new HashMap<>(map);
+    }
+
+    /**
+     * A captured value, or the failure to read it.
+     */
+    private static final class Value<T> {
+
+        private final T value;
+        private final Exception failure;
+
+        private Value(T value, Exception failure) {
+
+            this.value = value;
+            this.failure = failure;
+        }
+
+        static <T> Value<T> of(Reader<T> reader) {
+
+            try {
+                return new Value<>(reader.read(), null);
+            } catch (DataNotFoundException | RuntimeException e) {
+                return new Value<>(null, e);
+            }
+        }
+
+        static <T> T get(Value<T> captured) throws DataNotFoundException {
+
+            if (captured != null && captured.failure instanceof DataNotFoundException) {
+                throw (DataNotFoundException) captured.failure;
+            }
+            return getUnchecked(captured);
+        }
+
+        static <T> T getUnchecked(Value<T> captured) {
+
+            if (captured == null) {
+                return null;
+            }
+            if (captured.failure instanceof RuntimeException) {
+                throw (RuntimeException) captured.failure;
+            }
+            return captured.value;
+        }
+    }
+
+    /**
+     * Reads a value from the provider being captured.
+     */
+    @FunctionalInterface
+    private interface Reader<T> {
+
+        T read() throws DataNotFoundException;
+    }
+}
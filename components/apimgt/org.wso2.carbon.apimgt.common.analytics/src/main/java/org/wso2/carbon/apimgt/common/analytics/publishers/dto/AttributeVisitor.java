@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.dto;
+
+/**
+ * Receives the attributes of an analytics {@link Event} one at a time.
+ *
+ * @param <E> exception the visitor may throw
+ */
+@FunctionalInterface
+public interface AttributeVisitor<E extends Exception> {
+
+    /**
+     * Accepts an attribute of the event.
+     *
+     * @param name  attribute name
+     * @param value attribute value, which may be null
+     * @throws E if the attribute cannot be accepted
+     */
+    void visit(String name, Object value) throws E;
+}
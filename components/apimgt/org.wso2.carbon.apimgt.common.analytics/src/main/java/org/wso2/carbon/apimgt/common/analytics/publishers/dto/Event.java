@@ -161,4 +161,45 @@ public class Event {
     public void setProperties(Map<String, Object> properties) {
         this.properties = properties;
     }
+
+    /**
+     * Passes the attributes of this event to the given visitor. Attribute names and values are the same as the
+     * entries of the map this event is converted to by Jackson, with the fields of unwrapped objects flattened into
+     * the event, but are read directly from the accessors.
+     *
+     * @param visitor visitor to receive the attributes
+     * @param <E>     exception the visitor may throw
+     * @throws E if the visitor fails to accept an attribute
+     */
+    public <E extends Exception> void visitAttributes(AttributeVisitor<E> visitor) throws E {
+
+        if (api != null) {
+            EventAttributes.visitApi(api, visitor);
+        }
+        if (operation != null) {
+            EventAttributes.visitOperation(operation, visitor);
+        }
+        if (target != null) {
+            EventAttributes.visitTarget(target, visitor);
+        }
+        if (application != null) {
+            EventAttributes.visitApplication(application, visitor);
+        }
+        if (latencies != null) {
+            EventAttributes.visitLatencies(latencies, visitor);
+        }
+        if (metaInfo != null) {
+            EventAttributes.visitMetaInfo(metaInfo, visitor);
+        }
+        if (error != null) {
+            EventAttributes.visitError(error, visitor);
+        }
+        visitor.visit("proxyResponseCode", proxyResponseCode);
+        visitor.visit("requestTimestamp", requestTimestamp);
+        visitor.visit("userAgentHeader", userAgentHeader);
+        visitor.visit("userName", userName);
+        visitor.visit("userIp", userIp);
+        visitor.visit("errorType", errorType);
+        visitor.visit("properties", EventAttributes.toPropertyMap(properties));
+    }
 }
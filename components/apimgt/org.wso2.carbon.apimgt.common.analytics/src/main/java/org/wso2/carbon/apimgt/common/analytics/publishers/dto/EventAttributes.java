@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accessors used by {@link Event#visitAttributes(AttributeVisitor)} to expose the attributes of the event DTOs with
+ * the same names and values as their Jackson map representation, without going through Jackson. Objects of types
+ * that are not known here, such as subclasses of the DTOs or custom property values, are still converted with
+ * Jackson so that the result stays the same.
+ */
+final class EventAttributes {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    private EventAttributes() {
+
+    }
+
+    static <E extends Exception> void visitApi(API api, AttributeVisitor<E> visitor) throws E {
+
+        if (api.getClass() != API.class && api.getClass() != ExtendedAPI.class) {
+            visitConverted(api, visitor);
+            return;
+        }
+        visitor.visit("apiId", api.getApiId());
+        visitor.visit("apiType", api.getApiType());
+        visitor.visit("apiName", api.getApiName());
+        visitor.visit("apiVersion", api.getApiVersion());
+        visitor.visit("apiCreator", api.getApiCreator());
+        visitor.visit("apiCreatorTenantDomain", api.getApiCreatorTenantDomain());
+        visitor.visit("uriTemplates", toUriTemplateList(api.getUriTemplates()));
+        visitor.visit("apiPolicies", toOperationPolicyList(api.getApiPolicies()));
+        if (api instanceof ExtendedAPI) {
+            ExtendedAPI extendedAPI = (ExtendedAPI) api;
+            visitor.visit("organizationId", extendedAPI.getOrganizationId());
+            visitor.visit("apiContext", extendedAPI.getApiContext());
+        }
+    }
+
+    static <E extends Exception> void visitOperation(Operation operation, AttributeVisitor<E> visitor) throws E {
+
+        if (operation.getClass() != Operation.class) {
+            visitConverted(operation, visitor);
+            return;
+        }
+        visitor.visit("apiMethod", operation.getApiMethod());
+        visitor.visit("apiResourceTemplate", operation.getApiResourceTemplate());
+    }
+
+    static <E extends Exception> void visitTarget(Target target, AttributeVisitor<E> visitor) throws E {
+
+        if (target.getClass() != Target.class) {
+            visitConverted(target, visitor);
+            return;
+        }
+        visitor.visit("targetResponseCode", target.getTargetResponseCode());
+        visitor.visit("responseCacheHit", target.isResponseCacheHit());
+        visitor.visit("destination", target.getDestination());
+    }
+
+    static <E extends Exception> void visitApplication(Application application, AttributeVisitor<E> visitor)
+            throws E {
+
+        if (application.getClass() != Application.class) {
+            visitConverted(application, visitor);
+            return;
+        }
+        visitor.visit("keyType", application.getKeyType());
+        visitor.visit("applicationId", application.getApplicationId());
+        visitor.visit("applicationName", application.getApplicationName());
+        visitor.visit("applicationOwner", application.getApplicationOwner());
+    }
+
+    static <E extends Exception> void visitLatencies(Latencies latencies, AttributeVisitor<E> visitor) throws E {
+
+        if (latencies.getClass() != Latencies.class) {
+            visitConverted(latencies, visitor);
+            return;
+        }
+        visitor.visit("responseLatency", latencies.getResponseLatency());
+        visitor.visit("backendLatency", latencies.getBackendLatency());
+        visitor.visit("requestMediationLatency", latencies.getRequestMediationLatency());
+        visitor.visit("responseMediationLatency", latencies.getResponseMediationLatency());
+    }
+
+    static <E extends Exception> void visitMetaInfo(MetaInfo metaInfo, AttributeVisitor<E> visitor) throws E {
+
+        if (metaInfo.getClass() != MetaInfo.class) {
+            visitConverted(metaInfo, visitor);
+            return;
+        }
+        visitor.visit("correlationId", metaInfo.getCorrelationId());
+        visitor.visit("regionId", metaInfo.getRegionId());
+        visitor.visit("gatewayType", metaInfo.getGatewayType());
+    }
+
+    static <E extends Exception> void visitError(Error error, AttributeVisitor<E> visitor) throws E {
+
+        if (error.getClass() != Error.class) {
+            visitConverted(error, visitor);
+            return;
+        }
+        visitor.visit("errorCode", error.getErrorCode());
+        FaultSubCategory errorMessage = error.getErrorMessage();
+        if (errorMessage instanceof Enum
+                && ((Enum<?>) errorMessage).getDeclaringClass().getEnclosingClass() == FaultSubCategories.class) {
+            visitor.visit("errorMessage", ((Enum<?>) errorMessage).name());
+        } else {
+            visitor.visit("errorMessage", toValue(errorMessage));
+        }
+    }
+
+    static Map<String, Object> toPropertyMap(Map<String, Object> properties) {
+
+        if (properties == null) {
+            return null;
+        }
+        Map<String, Object> propertyMap = new LinkedHashMap<>(Math.max(16, properties.size() * 2));
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            propertyMap.put(entry.getKey(), toValue(entry.getValue()));
+        }
+        return propertyMap;
+    }
+
+    /**
+     * Converts a value to its Jackson representation. Immutable scalars are returned as they are and any other value
+     * is converted with Jackson.
+     */
+    private static Object toValue(Object value) {
+
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Double || value instanceof Float
+                || value instanceof Short || value instanceof BigDecimal || value instanceof BigInteger) {
+            return value;
+        }
+        return OBJECT_MAPPER.convertValue(value, Object.class);
+    }
+
+    private static List<Object> toUriTemplateList(List<URITemplate> uriTemplates) {
+
+        if (uriTemplates == null) {
+            return null;
+        }
+        List<Object> uriTemplateList = new ArrayList<>(uriTemplates.size());
+        for (URITemplate uriTemplate : uriTemplates) {
+            if (uriTemplate == null || uriTemplate.getClass() != URITemplate.class) {
+                uriTemplateList.add(toValue(uriTemplate));
+                continue;
+            }
+            Map<String, Object> uriTemplateMap = new LinkedHashMap<>();
+            uriTemplateMap.put("uriTemplate", uriTemplate.getUriTemplate());
+            uriTemplateMap.put("resourceURI", uriTemplate.getResourceURI());
+            uriTemplateMap.put("resourceSandboxURI", uriTemplate.getResourceSandboxURI());
+            uriTemplateMap.put("httpVerb", uriTemplate.getHttpVerb());
+            uriTemplateMap.put("authScheme", uriTemplate.getAuthScheme());
+            uriTemplateMap.put("operationPolicies", toOperationPolicyList(uriTemplate.getOperationPolicies()));
+            uriTemplateList.add(uriTemplateMap);
+        }
+        return uriTemplateList;
+    }
+
+    private static List<Object> toOperationPolicyList(List<OperationPolicy> operationPolicies) {
+
+        if (operationPolicies == null) {
+            return null;
+        }
+        List<Object> operationPolicyList = new ArrayList<>(operationPolicies.size());
+        for (OperationPolicy operationPolicy : operationPolicies) {
+            if (operationPolicy == null || operationPolicy.getClass() != OperationPolicy.class) {
+                operationPolicyList.add(toValue(operationPolicy));
+                continue;
+            }
+            Map<String, Object> operationPolicyMap = new LinkedHashMap<>();
+            operationPolicyMap.put("policyId", operationPolicy.getPolicyId());
+            operationPolicyMap.put("policyName", operationPolicy.getPolicyName());
+            operationPolicyMap.put("policyVersion", operationPolicy.getPolicyVersion());
+            operationPolicyMap.put("direction", operationPolicy.getDirection());
+            operationPolicyMap.put("order", operationPolicy.getOrder());
+            operationPolicyList.add(operationPolicyMap);
+        }
+        return operationPolicyList;
+    }
+
+    private static <E extends Exception> void visitConverted(Object bean, AttributeVisitor<E> visitor) throws E {
+
+        for (Map.Entry<String, Object> entry : OBJECT_MAPPER.convertValue(bean, MAP_TYPE_REFERENCE).entrySet()) {
+            visitor.visit(entry.getKey(), entry.getValue());
+        }
+    }
+}
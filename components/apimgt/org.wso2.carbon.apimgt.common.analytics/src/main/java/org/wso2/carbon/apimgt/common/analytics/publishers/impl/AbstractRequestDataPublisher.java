@@ -25,7 +25,10 @@ import org.wso2.am.analytics.publisher.exception.MetricReportingException;
 import org.wso2.am.analytics.publisher.reporter.CounterMetric;
 import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
 import org.wso2.carbon.apimgt.common.analytics.publishers.RequestDataPublisher;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.AttributeVisitor;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -39,43 +42,86 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
             new TypeReference<Map<String, Object>>() {
             };
     private static final Log log = LogFactory.getLog(AbstractRequestDataPublisher.class);
+    private static final ThreadLocal<EventAttributeBuffer> EVENT_ATTRIBUTE_BUFFER =
+            ThreadLocal.withInitial(EventAttributeBuffer::new);
 
     @Override
     public void publish(Event analyticsEvent) {
 
-        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
-        List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
-        if (multipleCounterMetrics == null) {
-            log.error("All the counterMetrics are invalid. Event will be dropped.");
-            return;
-        }
-
-        for (CounterMetric counterMetric : multipleCounterMetrics) {
-            if (counterMetric == null) {
-                log.error("counterMetric cannot be null.");
+        EventAttributeBuffer attributes = EVENT_ATTRIBUTE_BUFFER.get();
+        try {
+            if (analyticsEvent.getClass() == Event.class) {
+                analyticsEvent.visitAttributes(attributes);
             } else {
-                String counterMetricClassName = counterMetric.getClass().toString().
-                        replaceAll("[\r\n]", "").split(" ")[1];
-                boolean caughtException = false;
-                MetricEventBuilder builder = counterMetric.getEventBuilder();
+                // Subclasses may carry additional attributes, which only Jackson knows about
+                Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
                 for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
-                    try {
-                        builder.addAttribute(entry.getKey(), entry.getValue());
-                    } catch (MetricReportingException e) {
-                        caughtException = true;
-                        log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
-                                , e);
-                        break;
-                    }
+                    attributes.visit(entry.getKey(), entry.getValue());
                 }
-                if (!caughtException) {
-                    try {
-                        counterMetric.incrementCount(builder);
-                    } catch (MetricReportingException e) {
-                        log.error("Error occurred when publishing event.", e);
-                    }
+            }
+            List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
+            if (multipleCounterMetrics == null) {
+                log.error("All the counterMetrics are invalid. Event will be dropped.");
+                return;
+            }
+
+            for (CounterMetric counterMetric : multipleCounterMetrics) {
+                if (counterMetric == null) {
+                    log.error("counterMetric cannot be null.");
+                } else {
+                    publish(counterMetric, attributes);
                 }
             }
+        } finally {
+            attributes.clear();
+        }
+    }
+
+    private static void publish(CounterMetric counterMetric, EventAttributeBuffer attributes) {
+
+        MetricEventBuilder builder = counterMetric.getEventBuilder();
+        for (int i = 0; i < attributes.size; i++) {
+            try {
+                builder.addAttribute(attributes.names[i], attributes.values[i]);
+            } catch (MetricReportingException e) {
+                log.error("Error adding data to the event stream. counterMetric: "
+                        + counterMetric.getClass().getName(), e);
+                return;
+            }
+        }
+        try {
+            counterMetric.incrementCount(builder);
+        } catch (MetricReportingException e) {
+            log.error("Error occurred when publishing event.", e);
+        }
+    }
+
+    /**
+     * Attributes of the event being published, kept per thread and reused across events so that an event is read
+     * only once regardless of the number of reporters.
+     */
+    private static final class EventAttributeBuffer implements AttributeVisitor<RuntimeException> {
+
+        private String[] names = new String[64];
+        private Object[] values = new Object[64];
+        private int size;
+
+        @Override
+        public void visit(String name, Object value) {
+
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            names[size] = name;
+            values[size] = value;
+            size++;
+        }
+
+        private void clear() {
+
+            Arrays.fill(values, 0, size, null);
+            size = 0;
         }
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EventTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    @Test
+    public void testAttributesOfSuccessEventMatchJacksonConversion() {
+
+        Event event = new Event();
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId("c0ffee");
+        api.setApiType("HTTP");
+        api.setApiName("PizzaShack");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        api.setOrganizationId("carbon.super");
+        api.setApiContext("/pizzashack/1.0.0");
+        OperationPolicy operationPolicy = new OperationPolicy();
+        operationPolicy.setPolicyId("1");
+        operationPolicy.setPolicyName("addHeader");
+        operationPolicy.setPolicyVersion("v1");
+        operationPolicy.setDirection("request");
+        operationPolicy.setOrder(1);
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setUriTemplate("/menu");
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setAuthScheme("Any");
+        uriTemplate.setResourceURI("http://localhost:9443/menu");
+        uriTemplate.setOperationPolicies(Collections.singletonList(operationPolicy));
+        api.setUriTemplates(Arrays.asList(uriTemplate, null));
+        event.setApi(api);
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/menu");
+        event.setOperation(operation);
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setResponseCacheHit(true);
+        target.setDestination("http://localhost:9443");
+        event.setTarget(target);
+        Application application = new Application();
+        application.setApplicationId("1");
+        application.setApplicationName("DefaultApplication");
+        application.setKeyType("PRODUCTION");
+        event.setApplication(application);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(12L);
+        latencies.setBackendLatency(8L);
+        event.setLatencies(latencies);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("correlation");
+        metaInfo.setGatewayType("SYNAPSE");
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-01-01T00:00:00.000Z");
+        event.setUserIp("127.0.0.1");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("string", "value");
+        properties.put("int", 1);
+        properties.put("long", 2L);
+        properties.put("byte", (byte) 3);
+        properties.put("char", 'c');
+        properties.put("null", null);
+        properties.put("list", new ArrayList<>(Arrays.asList("a", 1)));
+        properties.put("enum", FaultSubCategories.Other.UNCLASSIFIED);
+        event.setProperties(properties);
+
+        assertSameAsJackson(event);
+    }
+
+    @Test
+    public void testAttributesOfFaultEventMatchJacksonConversion() {
+
+        Event event = new Event();
+        API api = new API();
+        api.setApiName("PizzaShack");
+        event.setApi(api);
+        Error error = new Error();
+        error.setErrorCode(900804);
+        error.setErrorMessage(FaultSubCategories.Throttling.SUBSCRIPTION_LIMIT_EXCEEDED);
+        event.setError(error);
+        event.setErrorType("THROTTLED");
+        event.setProxyResponseCode(429);
+
+        assertSameAsJackson(event);
+    }
+
+    @Test
+    public void testAttributesOfSubclassedObjectsMatchJacksonConversion() {
+
+        Event event = new Event();
+        event.setOperation(new Operation() {
+            public String getOperationId() {
+
+                return "getMenu";
+            }
+        });
+        event.setMetaInfo(new MetaInfo());
+
+        assertSameAsJackson(event);
+    }
+
+    private static void assertSameAsJackson(Event event) {
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>();
+        event.visitAttributes((name, value) -> {
+            names.add(name);
+            attributes.put(name, value);
+        });
+        Assert.assertEquals(OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE), attributes);
+        Assert.assertEquals("Attributes must not be visited more than once", attributes.size(), names.size());
+        assertSameTypes(OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE), attributes);
+    }
+
+    private static void assertSameTypes(Object expected, Object actual) {
+
+        if (expected == null) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertEquals(expected.getClass(), actual.getClass());
+        if (expected instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) expected).entrySet()) {
+                assertSameTypes(entry.getValue(), ((Map<?, ?>) actual).get(entry.getKey()));
+            }
+        } else if (expected instanceof List) {
+            for (int i = 0; i < ((List<?>) expected).size(); i++) {
+                assertSameTypes(((List<?>) expected).get(i), ((List<?>) actual).get(i));
+            }
+        }
+    }
+}
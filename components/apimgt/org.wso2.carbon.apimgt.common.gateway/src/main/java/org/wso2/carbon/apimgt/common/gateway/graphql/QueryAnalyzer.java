@@ -18,26 +18,61 @@
  */
 package org.wso2.carbon.apimgt.common.gateway.graphql;
 
-import graphql.ExecutionResult;
-import graphql.GraphQL;
+import graphql.Directives;
+import graphql.ExecutionInput;
 import graphql.GraphQLError;
+import graphql.GraphQLException;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
 import graphql.analysis.FieldComplexityCalculator;
-import graphql.analysis.MaxQueryComplexityInstrumentation;
-import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.CoercedVariables;
+import graphql.language.Argument;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Node;
+import graphql.language.NodeTraverser;
+import graphql.language.NodeVisitorStub;
+import graphql.language.VariableReference;
 import graphql.schema.GraphQLSchema;
+import graphql.util.TraversalControl;
+import graphql.util.TraverserContext;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class contains methods using for Graphql query depth and complexity analysis.
+ * <p>
+ * A query is parsed and validated only once and its depth and complexity are computed together in a single traversal
+ * of the parsed document. The outcome is kept in a bounded cache keyed by the query, hence repeated queries are not
+ * analysed again.
  */
 public class QueryAnalyzer {
 
     private static final Log log = LogFactory.getLog(QueryAnalyzer.class);
+    private static final int MAX_CACHED_QUERIES = 1000;
+    /**
+     * Complexity calculator used until a complexity policy is provided, which counts each field as 1.
+     */
+    private static final FieldComplexityCalculator DEFAULT_COMPLEXITY_CALCULATOR =
+            (environment, childComplexity) -> 1 + childComplexity;
     private final GraphQLSchema schema;
+    private final Map<String, QueryAnalysis> analysisCache =
+            Collections.synchronizedMap(new QueryAnalysisCache(MAX_CACHED_QUERIES));
+    private volatile ComplexityPolicy complexityPolicy;
 
     public QueryAnalyzer(GraphQLSchema schema) {
         this.schema = schema;
@@ -51,6 +86,18 @@ public class QueryAnalyzer {
      * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
      */
     public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload) {
+        return analyseQueryDepth(maxQueryDepth, payload, null);
+    }
+
+    /**
+     * This method analyses the query depth.
+     *
+     * @param maxQueryDepth maximum query depth
+     * @param payload       payload of the request
+     * @param document      payload already parsed and validated against the schema, or null if it is not parsed yet
+     * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload, Document document) {
 
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query depth for " + payload + " and max query depth:" + maxQueryDepth);
@@ -59,29 +106,28 @@ public class QueryAnalyzer {
 
         // If maxQueryDepth is a positive value, perform the depth limitation check. Otherwise, bypass the check.
         if (maxQueryDepth > 0) {
-            MaxQueryDepthInstrumentation maxQueryDepthInstrumentation =
-                    new MaxQueryDepthInstrumentation(maxQueryDepth);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryDepthInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
+            QueryAnalysis queryAnalysis = getQueryAnalysis(payload, document);
+            List<String> errors = queryAnalysis.errors;
+            if (errors.isEmpty()) {
+                // depth does not depend on the calculator, hence reuse the metrics of the current complexity policy
+                QueryMetrics queryMetrics = queryAnalysis.getMetrics(schema, getCurrentComplexityCalculator());
+                errors = queryMetrics.errors;
+                if (errors.isEmpty() && queryMetrics.depth > maxQueryDepth) {
+                    errors = Collections.singletonList(
+                            "maximum query depth exceeded " + queryMetrics.depth + " > " + maxQueryDepth);
                 }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                    return queryAnalyzerResponseDTO;
+            }
+            if (!errors.isEmpty()) {
+                for (String error : errors) {
+                    queryAnalyzerResponseDTO.addErrorToList(error);
                 }
                 log.error(queryAnalyzerResponseDTO.getErrorList().toString());
                 queryAnalyzerResponseDTO.setSuccess(false);
                 return queryAnalyzerResponseDTO;
             }
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
+            }
         }
 
         queryAnalyzerResponseDTO.setSuccess(true);
@@ -98,6 +144,22 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryComplexity(int maxQueryComplexity, String payload,
                                                            FieldComplexityCalculator fieldComplexityCalculator) {
+        return analyseQueryComplexity(maxQueryComplexity, payload, fieldComplexityCalculator, null);
+    }
+
+    /**
+     * This method analyses the query complexity.
+     *
+     * @param maxQueryComplexity        Maximum query complexity value
+     * @param payload                   payload of the request
+     * @param fieldComplexityCalculator Field Complexity Calculator
+     * @param document                  payload already parsed and validated against the schema, or null if it is not
+     *                                  parsed yet
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryComplexity(int maxQueryComplexity, String payload,
+                                                           FieldComplexityCalculator fieldComplexityCalculator,
+                                                           Document document) {
 
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
@@ -107,31 +169,25 @@ public class QueryAnalyzer {
         // If maxQueryComplexity is a positive value, perform the complexity limitation check.
         // Otherwise, bypass the check.
         if (maxQueryComplexity > 0) {
-            MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation =
-                    new MaxQueryComplexityInstrumentation(maxQueryComplexity, fieldComplexityCalculator);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryComplexityInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
-                }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query complexity was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                } else {
-                    log.error(queryAnalyzerResponseDTO.getErrorList());
-                    queryAnalyzerResponseDTO.getErrorList().clear();
-                    queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
+            QueryAnalysis queryAnalysis = getQueryAnalysis(payload, document);
+            List<String> errors = queryAnalysis.errors;
+            if (errors.isEmpty()) {
+                QueryMetrics queryMetrics = queryAnalysis.getMetrics(schema, fieldComplexityCalculator);
+                errors = queryMetrics.errors;
+                if (errors.isEmpty() && queryMetrics.complexity > maxQueryComplexity) {
+                    errors = Collections.singletonList("maximum query complexity exceeded "
+                            + queryMetrics.complexity + " > " + maxQueryComplexity);
                 }
+            }
+            if (!errors.isEmpty()) {
+                log.error(errors);
+                queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
                 queryAnalyzerResponseDTO.setSuccess(false);
                 return queryAnalyzerResponseDTO;
             }
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum query complexity was not exceeded");
+            }
         }
 
         queryAnalyzerResponseDTO.setSuccess(true);
@@ -147,12 +203,235 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, int maxQueryComplexity,
                                                                    String complexityInfoJson) throws ParseException {
-        FieldComplexityCalculatorImpl fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
-        fieldComplexityCalculator.parseAccessControlPolicy(complexityInfoJson);
-        return analyseQueryComplexity(maxQueryComplexity, payload, fieldComplexityCalculator);
+        return analyseQueryMutationComplexity(payload, maxQueryComplexity, complexityInfoJson, null);
+    }
+
+    /**
+     * This method analyses the query complexity
+     *
+     * @param payload            payload of the request
+     * @param complexityInfoJson gql complexity info in json string format
+     * @param document           payload already parsed and validated against the schema, or null if it is not
+     *                           parsed yet
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, int maxQueryComplexity,
+                                                                   String complexityInfoJson, Document document)
+            throws ParseException {
+        return analyseQueryComplexity(maxQueryComplexity, payload, getComplexityCalculator(complexityInfoJson),
+                document);
+    }
+
+    /**
+     * Returns the complexity calculator of the given complexity policy. The calculator is built only when the policy
+     * differs from the one of the previous call, which is the case only when the API is redeployed.
+     *
+     * @param complexityInfoJson gql complexity info in json string format
+     * @return complexity calculator of the policy
+     * @throws ParseException if the policy is not a valid json
+     */
+    public FieldComplexityCalculator getComplexityCalculator(String complexityInfoJson) throws ParseException {
+        ComplexityPolicy policy = complexityPolicy;
+        if (policy == null || !Objects.equals(policy.complexityInfoJson, complexityInfoJson)) {
+            FieldComplexityCalculatorImpl fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
+            fieldComplexityCalculator.parseAccessControlPolicy(complexityInfoJson);
+            policy = new ComplexityPolicy(complexityInfoJson, fieldComplexityCalculator);
+            complexityPolicy = policy;
+        }
+        return policy.calculator;
     }
 
     public GraphQLSchema getSchema() {
         return schema;
     }
+
+    private FieldComplexityCalculator getCurrentComplexityCalculator() {
+        ComplexityPolicy policy = complexityPolicy;
+        return policy != null ? policy.calculator : DEFAULT_COMPLEXITY_CALCULATOR;
+    }
+
+    private QueryAnalysis getQueryAnalysis(String payload, Document document) {
+        QueryAnalysis queryAnalysis = analysisCache.get(payload);
+        if (queryAnalysis == null) {
+            if (document != null) {
+                queryAnalysis = new QueryAnalysis(document, Collections.emptyList());
+            } else {
+                ParseAndValidateResult result = ParseAndValidate.parseAndValidate(schema,
+                        ExecutionInput.newExecutionInput(payload).build());
+                List<String> errors = new ArrayList<>();
+                for (GraphQLError error : result.getErrors()) {
+                    errors.add(error.getMessage());
+                }
+                queryAnalysis = new QueryAnalysis(result.getDocument(), errors);
+            }
+            analysisCache.put(payload, queryAnalysis);
+        }
+        return queryAnalysis;
+    }
+
+    /**
+     * Parsed query along with its syntax and validation errors and the metrics computed from it.
+     */
+    private static final class QueryAnalysis {
+
+        private final Document document;
+        private final List<String> errors;
+        private volatile QueryMetrics metrics;
+
+        QueryAnalysis(Document document, List<String> errors) {
+            this.document = document;
+            this.errors = errors;
+        }
+
+        QueryMetrics getMetrics(GraphQLSchema schema, FieldComplexityCalculator fieldComplexityCalculator) {
+            QueryMetrics queryMetrics = metrics;
+            if (queryMetrics == null || queryMetrics.calculator != fieldComplexityCalculator) {
+                queryMetrics = QueryMetrics.compute(schema, document, fieldComplexityCalculator);
+                metrics = queryMetrics;
+            }
+            return queryMetrics;
+        }
+    }
+
+    /**
+     * Depth and complexity of a query, computed in the same way as graphql-java's MaxQueryDepthInstrumentation and
+     * MaxQueryComplexityInstrumentation, but in a single traversal.
+     * <p>
+     * The metrics do not depend on the variables of a request, hence they are computed once per query. Variables are
+     * not coerced, so a query declaring a non-null variable is analysed like any other query. A field or fragment
+     * whose @include or @skip condition is a variable is counted as included.
+     */
+    private static final class QueryMetrics {
+
+        private final FieldComplexityCalculator calculator;
+        private final int depth;
+        private final int complexity;
+        private final List<String> errors;
+
+        private QueryMetrics(FieldComplexityCalculator calculator, int depth, int complexity, List<String> errors) {
+            this.calculator = calculator;
+            this.depth = depth;
+            this.complexity = complexity;
+            this.errors = errors;
+        }
+
+        static QueryMetrics compute(GraphQLSchema schema, Document document,
+                                    FieldComplexityCalculator fieldComplexityCalculator) {
+            QueryTraverser queryTraverser;
+            try {
+                queryTraverser = QueryTraverser.newQueryTraverser().schema(schema).document(document)
+                        .coercedVariables(CoercedVariables.of(getConditionVariables(document))).build();
+            } catch (GraphQLException e) {
+                // e.g. multiple operations without an operation name
+                return new QueryMetrics(fieldComplexityCalculator, 0, 0,
+                        Collections.singletonList(e.getMessage()));
+            }
+            MetricsVisitor metricsVisitor = new MetricsVisitor(fieldComplexityCalculator);
+            queryTraverser.visitPostOrder(metricsVisitor);
+            return new QueryMetrics(fieldComplexityCalculator, metricsVisitor.depth,
+                    metricsVisitor.complexityByParent.getOrDefault(null, 0), Collections.emptyList());
+        }
+
+        /**
+         * Returns values for the variables used as @include or @skip conditions, which include the fields and
+         * fragments they are applied to.
+         */
+        private static Map<String, Object> getConditionVariables(Document document) {
+            Map<String, Object> conditionVariables = new HashMap<>();
+            new NodeTraverser().depthFirst(new NodeVisitorStub() {
+                @Override
+                public TraversalControl visitDirective(Directive node, TraverserContext<Node> context) {
+                    Argument condition = node.getArgument("if");
+                    if (condition != null && condition.getValue() instanceof VariableReference) {
+                        String variableName = ((VariableReference) condition.getValue()).getName();
+                        if (Directives.IncludeDirective.getName().equals(node.getName())) {
+                            conditionVariables.putIfAbsent(variableName, Boolean.TRUE);
+                        } else if (Directives.SkipDirective.getName().equals(node.getName())) {
+                            conditionVariables.putIfAbsent(variableName, Boolean.FALSE);
+                        }
+                    }
+                    return TraversalControl.CONTINUE;
+                }
+            }, document);
+            return conditionVariables;
+        }
+    }
+
+    /**
+     * Visits the fields of a query in post order, accumulating the complexity of each field to its parent.
+     */
+    private static final class MetricsVisitor extends QueryVisitorStub {
+
+        private final FieldComplexityCalculator fieldComplexityCalculator;
+        private final Map<QueryVisitorFieldEnvironment, Integer> complexityByParent = new HashMap<>();
+        private final Map<QueryVisitorFieldEnvironment, FieldComplexityEnvironment> complexityEnvironments =
+                new HashMap<>();
+        private int depth;
+
+        MetricsVisitor(FieldComplexityCalculator fieldComplexityCalculator) {
+            this.fieldComplexityCalculator = fieldComplexityCalculator;
+        }
+
+        @Override
+        public void visitField(QueryVisitorFieldEnvironment environment) {
+            int fieldDepth = 1;
+            for (QueryVisitorFieldEnvironment parent = environment.getParentEnvironment(); parent != null;
+                 parent = parent.getParentEnvironment()) {
+                fieldDepth++;
+            }
+            depth = Math.max(depth, fieldDepth);
+
+            int childComplexity = complexityByParent.getOrDefault(environment, 0);
+            int complexity = environment.isTypeNameIntrospectionField() ? 0
+                    : fieldComplexityCalculator.calculate(toComplexityEnvironment(environment), childComplexity);
+            complexityByParent.merge(environment.getParentEnvironment(), complexity, Integer::sum);
+        }
+
+        private FieldComplexityEnvironment toComplexityEnvironment(QueryVisitorFieldEnvironment environment) {
+            if (environment == null) {
+                return null;
+            }
+            FieldComplexityEnvironment complexityEnvironment = complexityEnvironments.get(environment);
+            if (complexityEnvironment == null) {
+                complexityEnvironment = new FieldComplexityEnvironment(environment.getField(),
+                        environment.getFieldDefinition(), environment.getFieldsContainer(),
+                        environment.getArguments(), toComplexityEnvironment(environment.getParentEnvironment()));
+                complexityEnvironments.put(environment, complexityEnvironment);
+            }
+            return complexityEnvironment;
+        }
+    }
+
+    /**
+     * Complexity policy of the API along with the calculator built from it.
+     */
+    private static final class ComplexityPolicy {
+
+        private final String complexityInfoJson;
+        private final FieldComplexityCalculator calculator;
+
+        ComplexityPolicy(String complexityInfoJson, FieldComplexityCalculator calculator) {
+            this.complexityInfoJson = complexityInfoJson;
+            this.calculator = calculator;
+        }
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used query analysis once the maximum size is reached.
+     */
+    private static final class QueryAnalysisCache extends LinkedHashMap<String, QueryAnalysis> {
+
+        private static final long serialVersionUID = 1L;
+        private final int maxSize;
+
+        QueryAnalysisCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, QueryAnalysis> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.apimgt.common.gateway.jwtgenerator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.nimbusds.jwt.JWTClaimsSet;
 import net.minidev.json.JSONObject;
 import org.apache.commons.logging.Log;
@@ -33,7 +34,11 @@ import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.Date;
@@ -43,15 +48,22 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Abstract class for jwt generation.
+ * Abstract class for jwt generation. The encoded JWT header is computed once per signing configuration and each
+ * thread reuses its own {@link Signature} instance.
  */
 public abstract class AbstractAPIMgtGatewayJWTGenerator {
     private static final Log log = LogFactory.getLog(AbstractAPIMgtGatewayJWTGenerator.class);
     public static final String NONE = "NONE";
     public static final String SHA256_WITH_RSA = "SHA256withRSA";
     public static final String API_GATEWAY_ID = "wso2.org/products/am";
+    private static final ObjectMapper CLAIM_MAPPER = new ObjectMapper();
+    private static final ObjectReader MAP_CLAIM_READER = CLAIM_MAPPER.readerFor(Map.class);
+    private static final ObjectReader LIST_CLAIM_READER = CLAIM_MAPPER.readerFor(List.class);
     protected JWTConfigurationDto jwtConfigurationDto;
 
+    private volatile EncodedHeader encodedHeader;
+    private final ThreadLocal<KeySignature> signatures = new ThreadLocal<>();
+
     private static volatile long ttl = -1L;
     private String dialectURI;
 
@@ -79,12 +91,8 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
     public String generateToken(JWTInfoDto jwtInfoDto) throws JWTGeneratorException {
 
-        String jwtHeader = buildHeader();
+        String base64UrlEncodedHeader = getEncodedHeader();
         String jwtBody = buildBody(jwtInfoDto);
-        String base64UrlEncodedHeader = "";
-        if (jwtHeader != null) {
-            base64UrlEncodedHeader = encode(jwtHeader.getBytes(Charset.defaultCharset()));
-        }
         String base64UrlEncodedBody = "";
         try {
             base64UrlEncodedBody = encode(jwtBody.getBytes("UTF-8"));
@@ -108,6 +116,28 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         }
     }
 
+    /**
+     * Returns the encoded JWT header, which is built again only when the signing configuration or the signing
+     * certificate changes.
+     */
+    private String getEncodedHeader() throws JWTGeneratorException {
+
+        JWTConfigurationDto configurationDto = jwtConfigurationDto;
+        Certificate publicCert = configurationDto.getPublicCert();
+        EncodedHeader header = encodedHeader;
+        if (header != null && header.configurationDto == configurationDto && header.publicCert == publicCert
+                && header.signatureAlgorithm.equals(signatureAlgorithm)) {
+            return header.value;
+        }
+        String jwtHeader = buildHeader();
+        String value = "";
+        if (jwtHeader != null) {
+            value = encode(jwtHeader.getBytes(Charset.defaultCharset()));
+        }
+        encodedHeader = new EncodedHeader(configurationDto, publicCert, signatureAlgorithm, value);
+        return value;
+    }
+
     public String buildHeader() throws JWTGeneratorException {
         String jwtHeader = null;
         X509Certificate x509Certificate = (X509Certificate) jwtConfigurationDto.getPublicCert();
@@ -132,10 +162,21 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
     public byte[] signJWT(String assertion) throws JWTGeneratorException {
 
+        PrivateKey privateKey = jwtConfigurationDto.getPrivateKey();
+        KeySignature keySignature = signatures.get();
         try {
-            PrivateKey privateKey = jwtConfigurationDto.getPrivateKey();
-            return JWTUtil.signJwt(assertion, privateKey, signatureAlgorithm);
-        } catch (Exception e) {
+            if (keySignature == null || keySignature.privateKey != privateKey
+                    || !keySignature.signature.getAlgorithm().equals(signatureAlgorithm)) {
+                Signature signature = Signature.getInstance(signatureAlgorithm);
+                signature.initSign(privateKey);
+                keySignature = new KeySignature(privateKey, signature);
+                signatures.set(keySignature);
+            }
+            // The signature is reset to the state after initSign once the assertion is signed.
+            keySignature.signature.update(assertion.getBytes(Charset.defaultCharset()));
+            return keySignature.signature.sign();
+        } catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
+            signatures.remove();
             throw new JWTGeneratorException(e);
         }
     }
@@ -171,13 +212,12 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                 }
             }
         }
-        ObjectMapper mapper = new ObjectMapper();
         for (Map.Entry<String, Object> claimEntry : claims.entrySet()) {
             Object claimVal = claimEntry.getValue();
             if (claimVal instanceof String && claimVal.toString().startsWith("{") &&
                     claimVal.toString().endsWith("}")) {
                 try {
-                    Map<String, String> map = mapper.readValue(claimVal.toString(), Map.class);
+                    Map<String, String> map = MAP_CLAIM_READER.readValue(claimVal.toString());
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), map);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
@@ -188,7 +228,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                     && claimVal.toString().contains("\"]")) {
 
                 try {
-                    List<String> arrayList = mapper.readValue(claimVal.toString(), List.class);
+                    List<String> arrayList = LIST_CLAIM_READER.readValue(claimVal.toString());
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), arrayList);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
@@ -232,5 +272,33 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     public abstract Map<String, Object> populateStandardClaims(JWTInfoDto jwtInfoDto);
 
     public abstract Map<String, Object> populateCustomClaims(JWTInfoDto jwtInfoDto);
-}
 
+    private static final class EncodedHeader {
+
+        private final JWTConfigurationDto configurationDto;
+        private final Certificate publicCert;
+        private final String signatureAlgorithm;
+        private final String value;
+
+        private EncodedHeader(JWTConfigurationDto configurationDto, Certificate publicCert, String signatureAlgorithm,
+                              String value) {
+
+            this.configurationDto = configurationDto;
+            this.publicCert = publicCert;
+            this.signatureAlgorithm = signatureAlgorithm;
+            this.value = value;
+        }
+    }
+
+    private static final class KeySignature {
+
+        private final PrivateKey privateKey;
+        private final Signature signature;
+
+        private KeySignature(PrivateKey privateKey, Signature signature) {
+
+            this.privateKey = privateKey;
+            this.signature = signature;
+        }
+    }
+}
@@ -17,6 +17,9 @@
  */
 package org.wso2.carbon.apimgt.common.gateway.graphql;
 
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.language.Document;
+import graphql.parser.Parser;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
@@ -121,4 +124,97 @@ public class QueryAnalyzerTestCase {
         Assert.assertTrue(queryAnalyzerResponseDTO.isSuccess());
         Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().isEmpty());
     }
+
+    @Test
+    public void testAnalyseMutationComplexityReusesComplexityPolicy() throws Exception {
+        String complexityPolicy = "{\"complexity\":{\"Subscription\":{\"liftStatusChange\":3},"
+                + "\"Lift\":{\"night\":1,\"name\":1,\"elevationGain\":1,\"id\":1,\"capacity\":1}}}";
+        FieldComplexityCalculator calculator = queryAnalyzer.getComplexityCalculator(complexityPolicy);
+        Assert.assertSame(calculator, queryAnalyzer.getComplexityCalculator(new String(complexityPolicy)));
+        Assert.assertNotSame(calculator, queryAnalyzer.getComplexityCalculator(null));
+
+        String payload = "subscription {\n" +
+                "  liftStatusChange {\n" +
+                "    name\n" +
+                "    id\n" +
+                "  }\n" +
+                "}\n";
+        // complexity is 1 * (3 + 2) = 5
+        Assert.assertTrue(queryAnalyzer.analyseQueryMutationComplexity(payload, 5, complexityPolicy).isSuccess());
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO =
+                queryAnalyzer.analyseQueryMutationComplexity(payload, 4, complexityPolicy);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().toString()
+                .contains("maximum query complexity exceeded"));
+        // depth of the already analysed query is still evaluated against the new limit
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, payload).isSuccess());
+        Assert.assertFalse(queryAnalyzer.analyseQueryDepth(1, payload).isSuccess());
+    }
+
+    @Test
+    public void testAnalyseParsedDocument() {
+        String payload = "subscription {\n" +
+                "  liftStatusChange {\n" +
+                "    name\n" +
+                "  }\n" +
+                "}\n";
+        Document document = new Parser().parseDocument(payload);
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, payload, document).isSuccess());
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryDepth(1, payload, document);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().toString()
+                .contains("maximum query depth exceeded 2 > 1"));
+        Assert.assertTrue(queryAnalyzer.analyseQueryComplexity(4, payload, fieldComplexityCalculator, document)
+                .isSuccess());
+    }
+
+    @Test
+    public void testAnalyseQueryWithRequiredVariables() {
+        String payload = "query ($id: ID!) {\n" +
+                "  Lift(id: $id) {\n" +
+                "    name\n" +
+                "  }\n" +
+                "}\n";
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, payload).isSuccess());
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryDepth(1, payload);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().toString()
+                .contains("maximum query depth exceeded 2 > 1"));
+        // complexity is 1 * (1 + 1) = 2
+        Assert.assertTrue(queryAnalyzer.analyseQueryComplexity(2, payload, fieldComplexityCalculator).isSuccess());
+        Assert.assertFalse(queryAnalyzer.analyseQueryComplexity(1, payload, fieldComplexityCalculator).isSuccess());
+    }
+
+    @Test
+    public void testAnalyseQueryWithVariableConditions() {
+        String payload = "query ($id: ID!, $withId: Boolean!, $withoutName: Boolean!) {\n" +
+                "  Lift(id: $id) {\n" +
+                "    name @skip(if: $withoutName)\n" +
+                "    id @include(if: $withId)\n" +
+                "  }\n" +
+                "}\n";
+        // conditional fields are counted as included, hence the complexity is 1 * (1 + 2) = 3
+        Assert.assertTrue(queryAnalyzer.analyseQueryComplexity(3, payload, fieldComplexityCalculator).isSuccess());
+        Assert.assertFalse(queryAnalyzer.analyseQueryComplexity(2, payload, fieldComplexityCalculator).isSuccess());
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, payload).isSuccess());
+    }
+
+    @Test
+    public void testAnalyseInvalidQuery() {
+        String payload = "subscription {\n" +
+                "  liftStatusChange {\n" +
+                "    unknownField\n" +
+                "  }\n" +
+                "}\n";
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryDepth(5, payload);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertFalse(queryAnalyzerResponseDTO.getErrorList().isEmpty());
+        queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryComplexity(10, payload, fieldComplexityCalculator);
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertTrue(queryAnalyzerResponseDTO.getErrorList().toString()
+                .contains("maximum query complexity exceeded"));
+        queryAnalyzerResponseDTO = queryAnalyzer.analyseQueryDepth(5, "subscription { liftStatusChange {");
+        Assert.assertFalse(queryAnalyzerResponseDTO.isSuccess());
+        Assert.assertFalse(queryAnalyzerResponseDTO.getErrorList().isEmpty());
+    }
 }
@@ -21,9 +21,18 @@ package org.wso2.carbon.apimgt.common.gateway.jwtgenerator;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTInfoDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
 import org.wso2.carbon.apimgt.common.gateway.exception.JWTGeneratorException;
 
+import java.nio.charset.Charset;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.cert.Certificate;
+
 public class AbstractAPIMgtGatewayJWTGeneratorTest {
     protected JWTConfigurationDto jwtConfigurationDto;
 
@@ -47,4 +56,61 @@ public class AbstractAPIMgtGatewayJWTGeneratorTest {
             Assert.fail("JWTGeneratorException thrown");
         }
     }
+
+    @Test
+    public void testSignJWTWithReusedSignature() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        jwtConfigurationDto.setPrivateKey(keyPair.getPrivate());
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = new APIMgtGatewayJWTGeneratorImpl();
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+
+        // Each assertion signed by the same thread should be verifiable independently.
+        for (String assertion : new String[]{"header.body1", "header.body2"}) {
+            byte[] signedAssertion = apiMgtGatewayJWTGenerator.signJWT(assertion);
+            Signature signature = Signature.getInstance(AbstractAPIMgtGatewayJWTGenerator.SHA256_WITH_RSA);
+            signature.initVerify(keyPair.getPublic());
+            signature.update(assertion.getBytes(Charset.defaultCharset()));
+            Assert.assertTrue(signature.verify(signedAssertion));
+        }
+    }
+
+    @Test
+    public void testHeaderIsReusedUntilSigningConfigurationChanges() throws Exception {
+        jwtConfigurationDto.setSignatureAlgorithm(AbstractAPIMgtGatewayJWTGenerator.NONE);
+        HeaderCountingJWTGenerator apiMgtGatewayJWTGenerator = new HeaderCountingJWTGenerator();
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        JWTInfoDto jwtInfoDto = new JWTInfoDto();
+        jwtInfoDto.setJwtValidationInfo(new JWTValidationInfo());
+
+        AbstractAPIMgtGatewayJWTGenerator referenceGenerator = new APIMgtGatewayJWTGeneratorImpl();
+        referenceGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        String expectedHeader = referenceGenerator.encode(
+                referenceGenerator.buildHeader().getBytes(Charset.defaultCharset()));
+        Assert.assertEquals(expectedHeader, apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto).split("\\.")[0]);
+        Assert.assertEquals(expectedHeader, apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto).split("\\.")[0]);
+        Assert.assertEquals(1, apiMgtGatewayJWTGenerator.headerCount);
+
+        // A new signing certificate of the same configuration
+        jwtConfigurationDto.setPublicCert(Mockito.mock(Certificate.class));
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(2, apiMgtGatewayJWTGenerator.headerCount);
+
+        // A new configuration
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(new JWTConfigurationDto(jwtConfigurationDto));
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(3, apiMgtGatewayJWTGenerator.headerCount);
+    }
+
+    private static class HeaderCountingJWTGenerator extends APIMgtGatewayJWTGeneratorImpl {
+        private int headerCount;
+
+        @Override
+        public String buildHeader() throws JWTGeneratorException {
+            headerCount++;
+            return super.buildHeader();
+        }
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.synapse.commons.throttle.core.CallerConfiguration;
+import org.apache.synapse.commons.throttle.core.CallerContext;
+import org.apache.synapse.commons.throttle.core.CallerContextFactory;
+import org.apache.synapse.commons.throttle.core.DistributedCounterManager;
+import org.apache.synapse.commons.throttle.core.RequestContext;
+import org.apache.synapse.commons.throttle.core.ThrottleConstants;
+import org.apache.synapse.commons.throttle.core.ThrottleContext;
+import org.apache.synapse.commons.throttle.core.internal.ThrottleServiceDataHolder;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures sync mode throttle decisions of {@link HybridThrottleProcessor} with 64 request threads, all for the same
+ * caller and with a caller per thread. Redis is replaced by an in-memory counter manager which parks each call for
+ * {@code redisLatencyMicros} to stand in for the round trip. With a shared caller, requests which find the caller
+ * syncing queue their count for the request holding the lock and are decided on the counter it reads back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class HybridThrottleProcessorBenchmark {
+
+    private static final long UNIT_TIME = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"0", "200"})
+    private long redisLatencyMicros;
+
+    private HybridThrottleProcessor processor;
+    private CallerConfiguration configuration;
+    private ThrottleContext throttleContext;
+    private CallerContext sharedCaller;
+
+    @Setup
+    public void setup() throws Exception {
+
+        ThrottleServiceDataHolder.getInstance()
+                .setDistributedCounterManager(new InMemoryCounterManager(redisLatencyMicros));
+        processor = new HybridThrottleProcessor(null, "gateway1");
+        configuration = Mockito.mock(CallerConfiguration.class, Mockito.withSettings().stubOnly());
+        Mockito.when(configuration.getMaximumRequestPerUnitTime()).thenReturn(Integer.MAX_VALUE);
+        Mockito.when(configuration.getUnitTime()).thenReturn(UNIT_TIME);
+        Mockito.when(configuration.getType()).thenReturn(ThrottleConstants.ROLE_BASE);
+        Mockito.when(configuration.getID()).thenReturn("Unlimited");
+        throttleContext = Mockito.mock(ThrottleContext.class, Mockito.withSettings().stubOnly());
+        sharedCaller = createSyncModeCaller("admin:app:shared");
+    }
+
+    @Benchmark
+    public boolean sharedCaller() {
+
+        return processor.canAccessIfUnitTimeNotOver(sharedCaller, configuration, throttleContext,
+                new RequestContext(System.currentTimeMillis()));
+    }
+
+    @Benchmark
+    public boolean callerPerThread(ThreadCaller threadCaller) {
+
+        return processor.canAccessIfUnitTimeNotOver(threadCaller.callerContext, configuration, throttleContext,
+                new RequestContext(System.currentTimeMillis()));
+    }
+
+    /**
+     * Caller of a single request thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCaller {
+
+        private static final AtomicLong THREAD_IDS = new AtomicLong();
+        private CallerContext callerContext;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+
+            callerContext = createSyncModeCaller("admin:app:" + THREAD_IDS.incrementAndGet());
+        }
+    }
+
+    private static CallerContext createSyncModeCaller(String callerId) throws Exception {
+
+        long now = System.currentTimeMillis();
+        CallerContext callerContext = CallerContextFactory.createCaller(ThrottleConstants.ROLE_BASE, callerId);
+        callerContext.setFirstAccessTime(now);
+        callerContext.setNextTimeWindow(now + UNIT_TIME);
+        callerContext.setUnitTime(UNIT_TIME);
+        callerContext.setIsThrottleParamSyncingModeSync(true);
+        return callerContext;
+    }
+
+    /**
+     * Counter manager keeping counters, timestamps and locks in memory. Every call parks for the configured latency.
+     */
+    private static class InMemoryCounterManager implements DistributedCounterManager {
+
+        private final ConcurrentHashMap<String, AtomicLong> values = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, String> locks = new ConcurrentHashMap<>();
+        private final long latencyNanos;
+
+        InMemoryCounterManager(long latencyMicros) {
+
+            this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        }
+
+        private AtomicLong value(String key) {
+
+            if (latencyNanos > 0) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+            return values.computeIfAbsent(key, k -> new AtomicLong());
+        }
+
+        @Override
+        public long getCounter(String key) {
+
+            return value(key).get();
+        }
+
+        @Override
+        public void setCounter(String key, long value) {
+
+            value(key).set(value);
+        }
+
+        @Override
+        public void setCounterWithExpiry(String key, long value, long expiryTime) {
+
+            value(key).set(value);
+        }
+
+        @Override
+        public long addAndGetCounter(String key, long value) {
+
+            return value(key).addAndGet(value);
+        }
+
+        @Override
+        public void removeCounter(String key) {
+
+            value(key).set(0);
+        }
+
+        @Override
+        public long asyncGetAndAddCounter(String key, long value) {
+
+            return value(key).getAndAdd(value);
+        }
+
+        @Override
+        public long asyncAddCounter(String key, long value) {
+
+            return value(key).addAndGet(value);
+        }
+
+        @Override
+        public long asyncGetAndAlterCounter(String key, long value) {
+
+            return value(key).getAndSet(value);
+        }
+
+        @Override
+        public long asyncGetAlterAndSetExpiryOfCounter(String key, long value, long expiryTimeStamp) {
+
+            return value(key).getAndSet(value);
+        }
+
+        @Override
+        public long getTimestamp(String key) {
+
+            return value(key).get();
+        }
+
+        @Override
+        public void setTimestamp(String key, long timeStamp) {
+
+            value(key).set(timeStamp);
+        }
+
+        public void setTimestampWithExpiry(String key, long timeStamp, long expiryTime) {
+
+            value(key).set(timeStamp);
+        }
+
+        @Override
+        public void removeTimestamp(String key) {
+
+            value(key).set(0);
+        }
+
+        @Override
+        public void setExpiry(String key, long expiryTimeStamp) {
+
+            value(key);
+        }
+
+        @Override
+        public long getTtl(String key) {
+
+            return -1;
+        }
+
+        @Override
+        public long setLock(String key, String value) {
+
+            value(key);
+            return locks.putIfAbsent(key, value) == null ? 1 : 0;
+        }
+
+        @Override
+        public boolean setLockWithExpiry(String key, String value, long expiryTimeStamp) {
+
+            value(key);
+            return locks.putIfAbsent(key, value) == null;
+        }
+
+        @Override
+        public boolean isEnable() {
+
+            return true;
+        }
+
+        @Override
+        public String getType() {
+
+            return "in-memory";
+        }
+
+        @Override
+        public long getKeyLockRetrievalTimeout() {
+
+            return 1000;
+        }
+
+        @Override
+        public void removeLock(String key) {
+
+            value(key);
+            locks.remove(key);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time a request thread spends on analytics for a successful request, when the collector and reporter
+ * run on the request thread and when the request is captured and handed to an {@link AsyncAnalyticsPublisher} with
+ * the default queue size and worker threads. The collector consumes {@code reporterCost} JMH CPU tokens to stand in
+ * for a reporter. When the collector is slower than the request rate the queue fills, and the asynchronous numbers
+ * then include the cost of dropping the newest event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncAnalyticsPublisherBenchmark {
+
+    @Param({"100", "10000"})
+    private long reporterCost;
+
+    private AnalyticsDataProvider provider;
+    private AsyncAnalyticsPublisher.DataCollector collector;
+    private AsyncAnalyticsPublisher publisher;
+
+    @Setup
+    public void setup() {
+
+        provider = new SuccessDataProvider();
+        collector = dataProvider -> {
+            Blackhole.consumeCPU(reporterCost);
+            if (dataProvider.getApi() == null) {
+                throw new IllegalStateException("API not captured");
+            }
+        };
+        publisher = new AsyncAnalyticsPublisher(8192, 2, APIConstants.ANALYTICS_DROP_POLICY_DROP_NEWEST, collector);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        publisher.stop();
+    }
+
+    @Benchmark
+    public void synchronousCollection() throws Exception {
+
+        collector.collect(provider);
+    }
+
+    @Benchmark
+    public void asynchronousPublish() {
+
+        publisher.publish(provider);
+    }
+
+    private static class SuccessDataProvider implements AnalyticsDataProvider {
+
+        private final API api = new API();
+        private final Application application = new Application();
+        private final Operation operation = new Operation();
+        private final Target target = new Target();
+        private final Latencies latencies = new Latencies();
+        private final MetaInfo metaInfo = new MetaInfo();
+
+        SuccessDataProvider() {
+
+            api.setApiId("c0ffee");
+            api.setApiType("HTTP");
+            api.setApiName("PizzaShack");
+            api.setApiVersion("1.0.0");
+            api.setApiCreator("admin");
+            api.setApiCreatorTenantDomain("carbon.super");
+            application.setApplicationId("1");
+            application.setApplicationName("DefaultApplication");
+            application.setKeyType("PRODUCTION");
+            operation.setApiMethod("GET");
+            operation.setApiResourceTemplate("/menu");
+            target.setTargetResponseCode(200);
+            target.setDestination("http://localhost:9443");
+            latencies.setResponseLatency(12L);
+            latencies.setBackendLatency(8L);
+            metaInfo.setCorrelationId("correlation");
+            metaInfo.setGatewayType("SYNAPSE");
+        }
+
+        @Override
+        public EventCategory getEventCategory() {
+
+            return EventCategory.SUCCESS;
+        }
+
+        @Override
+        public boolean isAnonymous() {
+
+            return false;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+
+            return true;
+        }
+
+        @Override
+        public FaultCategory getFaultType() {
+
+            return null;
+        }
+
+        @Override
+        public API getApi() {
+
+            return api;
+        }
+
+        @Override
+        public Application getApplication() {
+
+            return application;
+        }
+
+        @Override
+        public Operation getOperation() {
+
+            return operation;
+        }
+
+        @Override
+        public Target getTarget() {
+
+            return target;
+        }
+
+        @Override
+        public Latencies getLatencies() {
+
+            return latencies;
+        }
+
+        @Override
+        public MetaInfo getMetaInfo() {
+
+            return metaInfo;
+        }
+
+        @Override
+        public int getProxyResponseCode() {
+
+            return 200;
+        }
+
+        @Override
+        public int getTargetResponseCode() {
+
+            return 200;
+        }
+
+        @Override
+        public long getRequestTime() {
+
+            return 1767225600000L;
+        }
+
+        @Override
+        public org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error getError(FaultCategory faultCategory) {
+
+            return null;
+        }
+
+        @Override
+        public String getUserAgentHeader() {
+
+            return "curl/8.5.0";
+        }
+
+        @Override
+        public String getUserName() {
+
+            return "admin@carbon.super";
+        }
+
+        @Override
+        public String getEndUserIP() {
+
+            return "127.0.0.1";
+        }
+
+        @Override
+        public Map<String, String> getMaskProperties() {
+
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.gateway.TestUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of the condition groups of a policy with an IP range, an IP, a query parameter, a header
+ * and a JWT claim condition group for a request which matches only the last group.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThrottleConditionEvaluatorBenchmark {
+
+    private static final String JWT_TOKEN =
+            "FIg0KIH17DQogICAgImh0.ew0KICAgICJpc3MiOiJ3c28yLm9yZy9wcm9kdWN0cy9hbSIsDQogICAgImV4cCI6MTM0NTE4MzQ" +
+                    "5MjE4MSwNCiAgICAiaHR0cDovL3dzbzIub3JnL2NsYWltcy9zdWJzY3JpYmVyIjoiYWRtaW4iDQogfQ==";
+
+    private ThrottleConditionEvaluator throttleConditionEvaluator;
+    private ConditionGroupDTO[] conditionGroups;
+    private MessageContext messageContext;
+    private AuthenticationContext authenticationContext;
+
+    @Setup
+    public void setup() {
+
+        throttleConditionEvaluator = ThrottleConditionEvaluator.getInstance();
+        ConditionGroupDTO defaultGroup = new ConditionGroupDTO();
+        defaultGroup.setConditionGroupId("_default");
+        conditionGroups = new ConditionGroupDTO[]{
+                createConditionGroup("IPRangeConditionGroup", "IPRange", "10.10.0.1", "10.10.0.4"),
+                createConditionGroup("IPSpecificConditionGroup", "IPSpecific", null, "10.0.0.1"),
+                createConditionGroup("QueryParameterTypeConditionGroup", "QueryParameterType", "city", "^kandy$"),
+                createConditionGroup("HeaderTypeConditionGroup", "HeaderType", "X-Tier", "gold"),
+                createConditionGroup("JWTClaimsConditionGroup", "JWTClaims", "http://wso2.org/claims/subscriber",
+                        "admin"),
+                defaultGroup};
+
+        messageContext = TestUtils.getMessageContext("weatherAPI", "v1");
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        axis2MessageContext.setProperty("REST_URL_POSTFIX", "/temperature?city=colombo&unit=celsius");
+        ((Map) axis2MessageContext.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS))
+                .put("X-Tier", "silver");
+        authenticationContext = new AuthenticationContext();
+        authenticationContext.setCallerToken(JWT_TOKEN);
+    }
+
+    @Benchmark
+    public List<ConditionGroupDTO> getApplicableConditions() {
+
+        return throttleConditionEvaluator.getApplicableConditions(messageContext, authenticationContext,
+                conditionGroups);
+    }
+
+    private ConditionGroupDTO createConditionGroup(String id, String type, String name, String value) {
+
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType(type);
+        condition.setConditionName(name);
+        condition.setConditionValue(value);
+        ConditionGroupDTO conditionGroup = new ConditionGroupDTO();
+        conditionGroup.setConditionGroupId(id);
+        conditionGroup.setConditions(new ConditionDTO[]{condition});
+        return conditionGroup;
+    }
+}
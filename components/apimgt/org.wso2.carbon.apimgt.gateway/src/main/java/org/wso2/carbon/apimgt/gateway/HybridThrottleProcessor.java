@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.gateway;
 
+import com.google.common.util.concurrent.Striped;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.commons.throttle.core.*;
@@ -37,6 +38,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 
 /**
  * This class is responsible for processing throttle conditions in order to throttle based on subscription burst
@@ -54,12 +57,34 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
     private ThrottleDataHolder dataHolder;
     private String gatewayId;
     private static final String SYNC_MODE_MSG_PART_DELIMITER = "___";
+    private static final int CALLER_LOCK_STRIPES = 1024;
+    /**
+     * Maximum time a sync mode request waits for the caller lock while another request of the caller is syncing.
+     */
+    static final long CALLER_LOCK_WAIT_MILLIS = 500;
+    /**
+     * Longest time a waiting sync mode request sleeps before checking again whether its count has been synced or the
+     * caller lock has been released.
+     */
+    private static final long SYNC_WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    /**
+     * Guards the throttle params of caller contexts while they are synced with redis and while their time window is
+     * rolled over. Counting a request only touches the atomic counters of the caller context, so requests of a hot
+     * caller take the lock only at those two points. Locks are striped by caller context id instead of synchronizing
+     * on interned ids, and are reentrant as syncing tasks run within an already locked evaluation.
+     */
+    private final Striped<Lock> callerLocks = Striped.lock(CALLER_LOCK_STRIPES);
+    /**
+     * Counts of sync mode requests which found the caller lock held by another syncing request, by caller context id.
+     * They are added to the distributed counter by the next sync of the caller.
+     */
+    private final ConcurrentHashMap<String, PendingSyncCount> pendingSyncCounts = new ConcurrentHashMap<>();
 
     public HybridThrottleProcessor() {
-        redisPool = ServiceReferenceHolder.getInstance().getRedisPool();
-        RedisConfig redisConfig = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
-                .getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig();
-        gatewayId = redisConfig.getGatewayId();
+        this(ServiceReferenceHolder.getInstance().getRedisPool(),
+                org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
+                        .getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig()
+                        .getGatewayId());
 
         ScheduledExecutorService syncModeInitChannelSubscriptionExecutor = Executors.newScheduledThreadPool(1);
         syncModeInitChannelSubscriptionExecutor.scheduleAtFixedRate(new SyncModeInitChannelSubscription(), 0, 1,
@@ -71,6 +96,130 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 gatewayCountCheckingFrequency, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Creates a processor which does not subscribe to the sync mode channel or count the subscribed gateways.
+     */
+    HybridThrottleProcessor(JedisPool redisPool, String gatewayId) {
+        this.redisPool = redisPool;
+        this.gatewayId = gatewayId;
+    }
+
+    private Lock getCallerLock(CallerContext callerContext) {
+        return callerLocks.get(callerContext.getId());
+    }
+
+    /**
+     * Syncs the throttle params of a caller in sync mode with redis, counting the current request in the distributed
+     * counter.
+     * <p>
+     * If another request of the caller is syncing, the current request queues its count for the next sync and waits.
+     * The request returns as soon as a sync which drained its count has updated the global counter, so it is decided
+     * on that global counter without a round trip to redis of its own. If the caller lock is released before that,
+     * the request takes the lock and syncs the queued counts itself. If neither happens within
+     * {@link #CALLER_LOCK_WAIT_MILLIS}, the count stays queued for the next sync.
+     *
+     * @param stage description of the evaluation step, used in logs
+     */
+    private void syncInvocation(CallerContext callerContext, RequestContext requestContext, String stage) {
+        Lock callerLock = getCallerLock(callerContext);
+        if (callerLock.tryLock()) {
+            try {
+                syncWithSharedParams(callerContext, requestContext, true, stage);
+            } finally {
+                unlockCaller(callerContext, callerLock);
+            }
+            return;
+        }
+        String callerId = callerContext.getId();
+        PendingSyncCount pendingSyncCount = pendingSyncCounts.computeIfAbsent(callerId, id -> new PendingSyncCount());
+        long drain = pendingSyncCount.add();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CALLER_LOCK_WAIT_MILLIS);
+        try {
+            while (!pendingSyncCount.isSynced(drain)) {
+                long signals = pendingSyncCount.getSignals();
+                if (callerLock.tryLock()) {
+                    try {
+                        if (!pendingSyncCount.isSynced(drain)) {
+                            if (pendingSyncCounts.get(callerId) != pendingSyncCount) {
+                                // the time window was rolled over while waiting, so the queued counts go to the new window
+                                pendingSyncCounts.computeIfAbsent(callerId, id -> new PendingSyncCount())
+                                        .addAll(pendingSyncCount.drain());
+                            }
+                            syncWithSharedParams(callerContext, requestContext, false, stage);
+                        }
+                    } finally {
+                        unlockCaller(callerContext, callerLock);
+                    }
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(stage + " Timed out waiting for another request to sync, hence the request is "
+                                + "counted by the next sync. key = " + callerId);
+                    }
+                    return;
+                }
+                pendingSyncCount.awaitSignal(signals, Math.min(remaining, SYNC_WAIT_SLICE_NANOS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Releases the caller lock and wakes up the requests of the caller waiting for their counts to be synced.
+     */
+    private void unlockCaller(CallerContext callerContext, Lock callerLock) {
+        callerLock.unlock();
+        PendingSyncCount pendingSyncCount = pendingSyncCounts.get(callerContext.getId());
+        if (pendingSyncCount != null) {
+            pendingSyncCount.signalWaiters();
+        }
+    }
+
+    private static boolean tryLockCaller(Lock callerLock) {
+        try {
+            return callerLock.tryLock(CALLER_LOCK_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Syncs the throttle window and counter params of a caller with redis while holding the redis lock of the caller.
+     * The caller lock must be held by the current thread.
+     *
+     * @param isInvocationFlow whether the current request is to be counted, in addition to the local and queued counts
+     * @param stage            description of the evaluation step, used in logs
+     */
+    private void syncWithSharedParams(CallerContext callerContext, RequestContext requestContext,
+            boolean isInvocationFlow, String stage) {
+        if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
+            long syncingStartTime = System.currentTimeMillis();
+            syncThrottleWindowParams(callerContext, true);
+            // add piled items and new request item to shared-counter (increments before allowing the request)
+            syncThrottleCounterParams(callerContext, isInvocationFlow, requestContext);
+            SharedParamManager.releaseSharedKeys(callerContext.getId());
+            long timeNow = System.currentTimeMillis();
+            if (log.isDebugEnabled()) {
+                log.debug("Current time:" + timeNow + " " + stage + " Lock released in " + (timeNow
+                        - syncingStartTime) + " ms for callerContext: " + callerContext.getId());
+            }
+        } else {
+            if (log.isWarnEnabled()) {
+                log.warn("Current time : " + System.currentTimeMillis() + " " + stage
+                        + " Failed to lock shared keys, hence skipped syncing tasks. key = " + callerContext.getId());
+            }
+            if (isInvocationFlow) {
+                // increment local counter since, sync tasks didn't run where incrementing should have happened
+                // (https://github.com/wso2/api-manager/issues/1982#issuecomment-1624920455)
+                callerContext.incrementLocalCounter();
+            }
+        }
+    }
+
     private class SyncModeInitChannelSubscription implements Runnable {
         private static final int initialRedisConnectionRetryInterval = 5000;
         long redisConnectionRetryInterval = initialRedisConnectionRetryInterval;
@@ -139,7 +288,9 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                 log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
                                         + " message:" + syncModeInitMsg);
                             }
-                            synchronized (callerContext.getId().intern()) {
+                            Lock callerLock = getCallerLock(callerContext);
+                            callerLock.lock();
+                            try {
                                 if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                                     long syncingStartTime = System.currentTimeMillis();
                                     syncThrottleWindowParams(callerContext, false);
@@ -161,6 +312,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                                 + " message:" + syncModeInitMsg);
                                     }
                                 }
+                            } finally {
+                                unlockCaller(callerContext, callerLock);
                             }
                         } else {
                             if (log.isTraceEnabled()) {
@@ -283,26 +436,18 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("DataHolder is not null so running syncing tasks");
                 }
-                synchronized (callerContext.getId().intern()) {
-                    if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
-                        long syncingStartTime = System.currentTimeMillis();
-                        syncThrottleWindowParams(callerContext, true);
-                        syncThrottleCounterParams(callerContext, false, requestContext);
-                        SharedParamManager.releaseSharedKeys(callerContext.getId());
-                        long timeNow = System.currentTimeMillis();
-                        if (log.isDebugEnabled()) {
-                            log.debug("timeNow : " + timeNow
-                                    + ". Evaluating whether can access based on unit time. Lock released in " + (timeNow
-                                    - syncingStartTime) + " ms for callerContext " + callerContext.getId());
-                        }
-                    } else {
-                        if (log.isWarnEnabled()) {
-                            log.warn("Current time:" + System.currentTimeMillis()
-                                    + "Evaluating whether can access based on unit time."
-                                    + "  Failed to lock shared keys, hence skipped " + "syncing tasks. key =  "
-                                    + callerContext.getId());
-                        }
+                // the request has already been counted locally, so the sync only has to publish the local counters
+                Lock callerLock = getCallerLock(callerContext);
+                if (tryLockCaller(callerLock)) {
+                    try {
+                        syncWithSharedParams(callerContext, requestContext, false,
+                                "Evaluating whether can access based on unit time.");
+                    } finally {
+                        unlockCaller(callerContext, callerLock);
                     }
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Timed out waiting for another request to sync, hence the local counters are published "
+                            + "by the next sync. key = " + callerContext.getId());
                 }
             }
             if (log.isDebugEnabled()) {
@@ -344,30 +489,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("Going to run throttle param syncing in sync mode");
                 }
-                synchronized (callerContext.getId().intern()) {
-                    if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
-                        long syncingStartTime = System.currentTimeMillis();
-                        syncThrottleWindowParams(callerContext, true);
-                        // add piled items and new request item to shared-counter (increments before allowing the request)
-                        syncThrottleCounterParams(callerContext, true, requestContext);
-                        SharedParamManager.releaseSharedKeys(callerContext.getId());
-                        long timeNow = System.currentTimeMillis();
-                        if (log.isDebugEnabled()) {
-                            log.debug("Current time:" + timeNow
-                                    + "Evaluating whether can access if unit time is not over. Lock released in " + (
-                                    System.currentTimeMillis() - syncingStartTime) + " ms for callerContext: "
-                                    + callerContext.getId());
-                        }
-                    } else {
-                        if (log.isWarnEnabled()) {
-                            log.warn("Current time : " + System.currentTimeMillis()
-                                    + " Evaluating whether can access if unit time is not over. Failed to lock shared keys, hence skipped syncing tasks. key="
-                                    + callerContext.getId());
-                            callerContext.incrementLocalCounter(); // increment local counter since, sync tasks didn't run
-                            // where incrementing should have happened (https://github.com/wso2/api-manager/issues/1982#issuecomment-1624920455)
-                        }
-                    }
-                }
+                syncInvocation(callerContext, requestContext,
+                        "Evaluating whether can access if unit time is not over.");
             } else { //async mode
                 if (log.isTraceEnabled()) {
                     log.trace(
@@ -467,10 +590,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                             + callerContext.getLocalCounter() + ", Tier = " + configuration.getID()
                                             + ", nextAccessTime = " + callerContext.getNextAccessTime());
                         }
-                        // remove previous caller context
-                        if (callerContext.getNextTimeWindow() != 0) {
-                            throttleContext.removeCallerContext(callerContext.getId());
-                        }
+                        long observedTimeWindow = callerContext.getNextTimeWindow();
                         // reset the states so that, this is the first access
                         if (log.isTraceEnabled()) {
                             log.trace(
@@ -483,11 +603,9 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                         callerContext.setIsThrottleParamSyncingModeSync(false); // as this is the first access
                         syncModeNotifiedMap.remove(callerContext.getId());
 
-                        callerContext.setGlobalCounter(0);// can access the system and this is same as first access
-                        callerContext.setLocalCounter(1);
-                        callerContext.setLocalHits(0);
-                        callerContext.setFirstAccessTime(requestContext.getRequestTime());
-                        callerContext.setNextTimeWindow(requestContext.getRequestTime() + configuration.getUnitTime());
+                        // the request has already been counted above, whether or not this request starts the window
+                        startNewTimeWindow(callerContext, configuration, throttleContext, requestContext,
+                                observedTimeWindow);
                         if (log.isTraceEnabled()) {
                             log.trace("Evaluating whether can access if unit time is not over: globalCount = "
                                     + callerContext.getGlobalCounter() + " , localCount = "
@@ -496,8 +614,6 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                     + callerContext.getNextTimeWindow());
                         }
 
-                        throttleContext.addAndFlushCallerContext(callerContext, callerContext.getId());
-
                         if (log.isTraceEnabled()) {
                             log.trace("Caller=" + callerContext.getId()
                                     + " has reset counters and added for replication when unit time is not over");
@@ -559,37 +675,16 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
             if (log.isTraceEnabled()) {
                 log.trace("Going to run throttle param syncing");
             }
-            synchronized (callerContext.getId().intern()) {
-                if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
-                    long syncingStartTime = System.currentTimeMillis();
-                    syncThrottleWindowParams(callerContext, true);
-                    // add piled items and new request item to shared-counter (increments before allowing the request)
-                    syncThrottleCounterParams(callerContext, true, requestContext);
-                    SharedParamManager.releaseSharedKeys(callerContext.getId());
-                    long timeNow = System.currentTimeMillis();
-
-                    if (log.isDebugEnabled()) {
-                        log.debug("current time:" + timeNow
-                                + "Evaluating whether can access if unit time is over. Lock released in " + (timeNow
-                                - syncingStartTime) + " ms for callerContext " + callerContext.getId());
-                    }
-
-                } else {
-                    if (log.isWarnEnabled()) {
-                        log.warn("current time:" + System.currentTimeMillis()
-                                + " Evaluating whether can access if unit time is over. Failed to lock shared keys, "
-                                + "hence skipped syncing tasks. key = " + callerContext.getId());
-                    }
-                    // increment local counter since, sync tasks didn't run where incrementing should have happened
-                    // (https://github.com/wso2/api-manager/issues/1982#issuecomment-1624920455)
-                    callerContext.incrementLocalCounter();
-                }
-            }
+            syncInvocation(callerContext, requestContext, "Evaluating whether can access if unit time is over.");
         } else {
             if (log.isTraceEnabled()) {
                 log.trace("Evaluating whether can access if unit time is over.  Serving api calls in async mode");
             }
         }
+        // time window this request is about to roll over. Read after syncing since syncing may adopt a window set by
+        // another gateway.
+        long observedTimeWindow = callerContext.getNextTimeWindow();
+        boolean countedBySyncing = callerContext.isThrottleParamSyncingModeSync();
         if (maxRequest != 0) {
             // first req, after exceeding previous window if, in previous window the max limit was not exceeded
             if ((callerContext.getGlobalCounter() + callerContext.getLocalCounter()) < maxRequest) {
@@ -603,14 +698,10 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                         log.trace("Evaluating whether can access if unit time is over. if NextTimeWindow != 0");
                     }
                     // Removes and sends the current state to others  (clustered env)
-                    //remove previous callercontext instance
-                    throttleContext.removeCallerContext(callerContext.getId());
-                    callerContext.setGlobalCounter(0);// can access the system   and this is same as first access
-                    callerContext.setLocalCounter(1);
-                    callerContext.setLocalHits(0);
-                    callerContext.setFirstAccessTime(requestContext.getRequestTime());
-                    callerContext.setNextTimeWindow(requestContext.getRequestTime() + configuration.getUnitTime());
-                    throttleContext.addAndFlushCallerContext(callerContext, callerContext.getId());
+                    if (!startNewTimeWindow(callerContext, configuration, throttleContext, requestContext,
+                            observedTimeWindow) && !countedBySyncing) {
+                        callerContext.incrementLocalCounter();
+                    }
                     if (log.isTraceEnabled()) {
                         log.trace("Evaluating whether can access if unit time is over:  globalCount = "
                                 + callerContext.getGlobalCounter() + " , localCount = "
@@ -648,21 +739,14 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                 + " nextAccessTime = " + callerContext.getNextAccessTime());
                     }
 
-                    //remove previous callerContext instance
-                    if (callerContext.getNextTimeWindow() != 0) {
-                        throttleContext.removeCallerContext(callerContext.getId());
-                    }
                     // reset the states so that, this is the first access
                     callerContext.setNextAccessTime(0);
                     canAccess = true;
-                    callerContext.setLocalHits(0);
-                    callerContext.setGlobalCounter(0);// can access the system and this is same as first access
-                    callerContext.setLocalCounter(1);
-                    callerContext.setFirstAccessTime(requestContext.getRequestTime());
-
-                    callerContext.setNextTimeWindow(requestContext.getRequestTime() + configuration.getUnitTime());
                     // registers caller and send the current state to others (clustered env)
-                    throttleContext.addAndFlushCallerContext(callerContext, callerContext.getId());
+                    if (!startNewTimeWindow(callerContext, configuration, throttleContext, requestContext,
+                            observedTimeWindow) && !countedBySyncing) {
+                        callerContext.incrementLocalCounter();
+                    }
                     if (log.isTraceEnabled()) {
                         log.trace("Evaluating whether can access if unit time is over.  globalCount = "
                                 + callerContext.getGlobalCounter() + " , localCount = "
@@ -697,6 +781,44 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
         return canAccess;
     }
 
+    /**
+     * Starts a new time window for the caller, with the current request as its first access. The window is rolled over
+     * under the caller lock, so that concurrent requests which saw the same expired window do not reset the counters
+     * of each other.
+     *
+     * @param observedTimeWindow next time window of the caller as seen by the request when deciding to roll it over
+     * @return true if the window was rolled over by this request, false if another request had already done so
+     */
+    private boolean startNewTimeWindow(CallerContext callerContext, CallerConfiguration configuration,
+            ThrottleContext throttleContext, RequestContext requestContext, long observedTimeWindow) {
+        Lock callerLock = getCallerLock(callerContext);
+        PendingSyncCount rolledOverSyncCount = null;
+        callerLock.lock();
+        try {
+            if (callerContext.getNextTimeWindow() != observedTimeWindow) {
+                return false;
+            }
+            //remove previous callerContext instance
+            if (callerContext.getNextTimeWindow() != 0) {
+                throttleContext.removeCallerContext(callerContext.getId());
+            }
+            callerContext.setGlobalCounter(0);// can access the system and this is same as first access
+            callerContext.setLocalCounter(1);
+            // requests still waiting on the removed counts move them to the new window once they get the lock
+            rolledOverSyncCount = pendingSyncCounts.remove(callerContext.getId());
+            callerContext.setLocalHits(0);
+            callerContext.setFirstAccessTime(requestContext.getRequestTime());
+            callerContext.setNextTimeWindow(requestContext.getRequestTime() + configuration.getUnitTime());
+            throttleContext.addAndFlushCallerContext(callerContext, callerContext.getId());
+            return true;
+        } finally {
+            unlockCaller(callerContext, callerLock);
+            if (rolledOverSyncCount != null) {
+                rolledOverSyncCount.signalWaiters();
+            }
+        }
+    }
+
     /**
      * Set the throttle param sync mode for the callerContext
      */
@@ -746,7 +868,9 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
         if (log.isTraceEnabled()) {
             log.trace("When running syncing throttle counter params: isInvocationFlow = " + isInvocationFlow);
         }
-        synchronized (callerContext.getId().intern()) {
+        Lock callerLock = getCallerLock(callerContext);
+        callerLock.lock();
+        try {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle counter params: next time window = "
@@ -767,7 +891,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (isInvocationFlow) {
                     callerContext.incrementLocalCounter(); // increment local counter to consider current request
                 }
-                long localCounter = callerContext.getLocalCounter();
+                long localCounter = callerContext.getLocalCounter() + drainPendingSyncCount(id);
                 if (log.isTraceEnabled()) {
                     log.trace(
                             "When running syncing throttle counter params: localCounter increased to " + localCounter);
@@ -784,6 +908,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 //Update instance's global counter value with distributed counter
                 long oldGlobalCounter = callerContext.getGlobalCounter();
                 callerContext.setGlobalCounter(distributedCounter);
+                markPendingSyncCountSynced(id);
                 if (log.isTraceEnabled()) {
                     log.trace("When running syncing throttle counter params: Finally globalCounter increased from "
                             + oldGlobalCounter + " to " + callerContext.getGlobalCounter());
@@ -798,6 +923,85 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 log.debug("Latency for running syncing throttle counter params: " + (System.currentTimeMillis()
                         - syncingStartTime) + " ms for callerContext " + callerContext.getId());
             }
+        } finally {
+            callerLock.unlock();
+        }
+    }
+
+    /**
+     * Returns and clears the count of requests queued for the next sync of the caller. Must be called while holding
+     * the caller lock.
+     */
+    private long drainPendingSyncCount(String callerId) {
+        PendingSyncCount pendingSyncCount = pendingSyncCounts.get(callerId);
+        return pendingSyncCount == null ? 0 : pendingSyncCount.drain();
+    }
+
+    /**
+     * Marks the counts drained from the queue of the caller as added to the distributed counter and read back into
+     * the global counter. Must be called while holding the caller lock.
+     */
+    private void markPendingSyncCountSynced(String callerId) {
+        PendingSyncCount pendingSyncCount = pendingSyncCounts.get(callerId);
+        if (pendingSyncCount != null) {
+            pendingSyncCount.markSynced();
+        }
+    }
+
+    /**
+     * Count of the requests of a caller queued for its next sync. Drains are numbered, so that a queued request can
+     * tell whether a sync which took its count has completed.
+     */
+    private static final class PendingSyncCount {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong drains = new AtomicLong();
+        private volatile long syncedDrains;
+        private long signals;
+
+        /**
+         * Queues the count of a request.
+         *
+         * @return number of the drain up to which the count is synced
+         */
+        private long add() {
+            count.incrementAndGet();
+            // a drain numbered after the current one starts after the count was added, so it is sure to take it
+            return drains.get() + 1;
+        }
+
+        private void addAll(long queuedCount) {
+            count.addAndGet(queuedCount);
+        }
+
+        private long drain() {
+            // numbered before taking the count, so that the number seen by a request which added its count
+            // afterwards is lower than the number of any drain which may miss that count
+            drains.incrementAndGet();
+            return count.getAndSet(0);
+        }
+
+        private void markSynced() {
+            syncedDrains = drains.get();
+        }
+
+        private boolean isSynced(long drain) {
+            return syncedDrains >= drain;
+        }
+
+        private synchronized long getSignals() {
+            return signals;
+        }
+
+        private synchronized void signalWaiters() {
+            signals++;
+            notifyAll();
+        }
+
+        private synchronized void awaitSignal(long signalsSeen, long timeoutNanos) throws InterruptedException {
+            if (signals == signalsSeen) {
+                TimeUnit.NANOSECONDS.timedWait(this, timeoutNanos);
+            }
         }
     }
 
@@ -806,7 +1010,9 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
      */
     @Override
     public void syncThrottleWindowParams(CallerContext callerContext, boolean isInvocationFlow) {
-        synchronized (callerContext.getId().intern()) {
+        Lock callerLock = getCallerLock(callerContext);
+        callerLock.lock();
+        try {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle window params: isInvocationFlow = " + isInvocationFlow);
@@ -912,6 +1118,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 log.debug("Latency for running syncing throttle window params: " + (System.currentTimeMillis()
                         - syncingStartTime) + " ms for callerContext " + callerContext.getId());
             }
+        } finally {
+            callerLock.unlock();
         }
     }
 
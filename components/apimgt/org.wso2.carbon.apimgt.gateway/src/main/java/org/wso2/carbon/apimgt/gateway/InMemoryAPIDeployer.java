@@ -71,6 +71,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -78,6 +84,8 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final Gson gson = new Gson();
+    private static final Object deployedAPIRegistryLock = new Object();
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     DeploymentStatusNotifier deploymentStatusNotifier;
@@ -119,6 +127,7 @@ public class InMemoryAPIDeployer {
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
+                DataHolder.getInstance().initCache(generateAPIKeyForEndpoints(gatewayAPIDTO));
                 DataHolder.getInstance().addAPIMetaData(gatewayEvent);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
                 DataHolder.getInstance().updateLastUpdatedEventId(gatewayAPIDTO, gatewayEvent.getEventId());
@@ -159,6 +168,7 @@ public class InMemoryAPIDeployer {
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
+                DataHolder.getInstance().initCache(generateAPIKeyForEndpoints(gatewayAPIDTO));
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
                 DataHolder.getInstance().populateVhosts(gatewayAPIDTO);
                 syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
@@ -189,7 +199,7 @@ public class InMemoryAPIDeployer {
             try {
                 String gatewayRuntimeArtifact = artifactRetriever.retrieveArtifact(apiId, encodedString);
                 if (StringUtils.isNotEmpty(gatewayRuntimeArtifact)) {
-                    result = new Gson().fromJson(gatewayRuntimeArtifact, GatewayAPIDTO.class);
+                    result = gson.fromJson(gatewayRuntimeArtifact, GatewayAPIDTO.class);
                 } else {
                     String msg = "Error retrieving artifacts for API " + apiId + ". Storage returned null";
                     log.error(msg);
@@ -243,8 +253,8 @@ public class InMemoryAPIDeployer {
         }
         if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
             if (artifactRetriever != null) {
+                ThreadPoolExecutor deploymentWorkers = null;
                 try {
-                    int errorCount = 0;
                     String labelString = String.join("|", assignedGatewayLabels);
                     String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
 
@@ -258,42 +268,69 @@ public class InMemoryAPIDeployer {
                         log.debug("Retrieving all artifacts for the gateway with the labels: " + labelString +
                                 " for tenant: " + tenantDomain);
                     }
-                    List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
-                            .retrieveAllArtifacts(encodedString, tenantDomain);
-                    log.info("Retrieved " + gatewayRuntimeArtifacts.size() + " artifacts for deployment");
-                    if (gatewayRuntimeArtifacts.isEmpty()) {
-                        return true;
-                    }
                     if (redeployChangedAPIs) {
                         DataHolder dataHolder = DataHolder.getInstance();
                         apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
+                    // Redeployment on reconnect undeploys changed APIs as well, hence it is kept sequential.
+                    int parallelism = redeployChangedAPIs ? 1
+                            : gatewayArtifactSynchronizerProperties.getDeploymentParallelism();
+                    if (parallelism > 1) {
+                        deploymentWorkers = createDeploymentWorkers(parallelism);
+                    }
+                    ArtifactDeploymentTask deploymentTask = new ArtifactDeploymentTask(apiGatewayAdmin,
+                            assignedGatewayLabels, tenantDomain, redeployChangedAPIs ? apiMap : null);
+                    long startTime = System.currentTimeMillis();
+                    int artifactCount;
+                    long retrievalTime;
+                    if (deploymentWorkers == null) {
+                        // The artifacts are read in full before deploying them one at a time, so that the response
+                        // from the control plane is not left open and idle until the last API is deployed.
+                        List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance()
+                                .getArtifactRetriever().retrieveAllArtifacts(encodedString, tenantDomain);
+                        retrievalTime = System.currentTimeMillis() - startTime;
+                        artifactCount = gatewayRuntimeArtifacts.size();
+                        log.info("Retrieved " + artifactCount + " artifacts for deployment");
+                        for (String runtimeArtifact : gatewayRuntimeArtifacts) {
+                            deploymentTask.deploy(runtimeArtifact);
+                        }
+                    } else {
+                        // Artifacts are handed over to the deployment workers while the rest are still being
+                        // retrieved.
+                        ThreadPoolExecutor workers = deploymentWorkers;
+                        artifactCount = ServiceReferenceHolder.getInstance().getArtifactRetriever()
+                                .retrieveAllArtifacts(encodedString, tenantDomain, runtimeArtifact ->
+                                        workers.execute(() -> deploymentTask.deployInTenantFlow(runtimeArtifact)));
+                        retrievalTime = System.currentTimeMillis() - startTime;
+                        log.info("Retrieved " + artifactCount + " artifacts for deployment");
+                        deploymentWorkers.shutdown();
                         try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
-                                if (redeployChangedAPIs && apiMap != null) {
-                                    reDeployAPIs(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
-                                } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                    syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
-                                }
-                            }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
+                            deploymentWorkers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new ArtifactSynchronizerException("Interrupted while deploying APIs of tenant "
+                                    + tenantDomain, e);
                         }
                     }
+                    long deploymentTime = System.currentTimeMillis() - startTime;
+                    deploymentTask.throwIfFailed();
+                    if (artifactCount == 0) {
+                        return true;
+                    }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
                     DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+                    log.info("Deployed " + (artifactCount - deploymentTask.getErrorCount()) + " of " + artifactCount
+                            + " APIs of tenant " + tenantDomain + " in " + (System.currentTimeMillis() - startTime)
+                            + " ms [retrieval: " + retrievalTime + " ms, deployment: " + deploymentTime
+                            + " ms, artifact parsing: " + deploymentTask.getParsingTime() + " ms, synapse deployment: "
+                            + deploymentTask.getDeploymentTime() + " ms, deployment workers: " + parallelism + "]");
                     if (log.isDebugEnabled()) {
                         log.debug("APIs deployed in gateway with the labels of " + labelString);
                     }
                     result = true;
                     //Setting the result to false only if all the API deployments are failed
-                    if (gatewayRuntimeArtifacts.size() == errorCount) {
+                    if (artifactCount == deploymentTask.getErrorCount()) {
                         return false;
                     }
                 } catch (AxisFault e) {
@@ -301,6 +338,9 @@ public class InMemoryAPIDeployer {
                     log.error(msg, e);
                     return false;
                 } finally {
+                    if (deploymentWorkers != null) {
+                        deploymentWorkers.shutdownNow();
+                    }
                     MessageContext.destroyCurrentMessageContext();
                     PrivilegedCarbonContext.endTenantFlow();
                 }
@@ -313,6 +353,113 @@ public class InMemoryAPIDeployer {
         return result;
     }
 
+    private static ThreadPoolExecutor createDeploymentWorkers(int parallelism) {
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        // A bounded queue keeps the retrieved artifacts from piling up in memory when deployment falls behind,
+        // the retrieving thread deploys the artifact itself when the queue is full.
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 4), r -> {
+            Thread thread = new Thread(r, "APIDeploymentWorker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Deploys the runtime artifacts retrieved for a tenant and keeps track of the failures and the time spent on
+     * each phase. It is shared by the deployment workers of the tenant.
+     */
+    private class ArtifactDeploymentTask {
+
+        private final APIGatewayAdmin apiGatewayAdmin;
+        private final Set<String> assignedGatewayLabels;
+        private final String tenantDomain;
+        private final Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap;
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private final AtomicLong parsingTime = new AtomicLong();
+        private final AtomicLong deploymentTime = new AtomicLong();
+        private final AtomicReference<ArtifactSynchronizerException> failure = new AtomicReference<>();
+
+        ArtifactDeploymentTask(APIGatewayAdmin apiGatewayAdmin, Set<String> assignedGatewayLabels,
+                               String tenantDomain,
+                               Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap) {
+
+            this.apiGatewayAdmin = apiGatewayAdmin;
+            this.assignedGatewayLabels = assignedGatewayLabels;
+            this.tenantDomain = tenantDomain;
+            this.apiMap = apiMap;
+        }
+
+        void deployInTenantFlow(String runtimeArtifact) {
+
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                MessageContext.setCurrentMessageContext(
+                        org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+                deploy(runtimeArtifact);
+            } catch (AxisFault e) {
+                log.error("Error while creating the message context to deploy APIs of tenant " + tenantDomain, e);
+                errorCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.error("Error in deploying an API of tenant " + tenantDomain + " to the Gateway ", e);
+                errorCount.incrementAndGet();
+            } finally {
+                MessageContext.destroyCurrentMessageContext();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+
+        void deploy(String runtimeArtifact) {
+
+            if (failure.get() != null || StringUtils.isEmpty(runtimeArtifact)) {
+                return;
+            }
+            long startTime = System.currentTimeMillis();
+            GatewayAPIDTO gatewayAPIDTO = gson.fromJson(runtimeArtifact, GatewayAPIDTO.class);
+            long parsedTime = System.currentTimeMillis();
+            parsingTime.addAndGet(parsedTime - startTime);
+            try {
+                if (apiMap != null) {
+                    reDeployAPIs(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+                } else {
+                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                }
+            } catch (AxisFault axisFault) {
+                log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
+                errorCount.incrementAndGet();
+            } catch (ArtifactSynchronizerException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                deploymentTime.addAndGet(System.currentTimeMillis() - parsedTime);
+            }
+        }
+
+        void throwIfFailed() throws ArtifactSynchronizerException {
+
+            ArtifactSynchronizerException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+        }
+
+        int getErrorCount() {
+
+            return errorCount.get();
+        }
+
+        long getParsingTime() {
+
+            return parsingTime.get();
+        }
+
+        long getDeploymentTime() {
+
+            return deploymentTime.get();
+        }
+    }
+
     /**
      * Redeploy an API if there is a new revision deployed in the Control Plane
      * and not synced with the gateway due to connection issues.
@@ -346,7 +493,6 @@ public class InMemoryAPIDeployer {
                                                     api.getContext());
                 unDeployAPI(deployAPIInGatewayEvent);
                 deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
             } else if (DataHolder.getInstance().getGatewayRegistrationResponse()
                     != APIConstants.GatewayNotification.GatewayRegistrationResponse.ACKNOWLEDGED) {
                 // If the gateway is not registered yet or if it is registered during
@@ -365,12 +511,18 @@ public class InMemoryAPIDeployer {
         log.info("Deploying synapse artifacts of API ID: " + gatewayAPIDTO.getApiId() +
                 " and Context: " + gatewayAPIDTO.getApiContext());
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
-        addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
-        addDeployedGraphqlQLToAPI(gatewayAPIDTO);
-        DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
-                gatewayAPIDTO.getKeyManagers());
-        DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
-        DataHolder.getInstance().populateVhosts(gatewayAPIDTO);
+        // Synapse artifacts of the startup deployment workers are deployed in parallel, the registries of the
+        // deployed APIs are updated one API at a time.
+        synchronized (deployedAPIRegistryLock) {
+            addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
+            addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+            DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
+                    gatewayAPIDTO.getKeyManagers());
+            DataHolder.getInstance().initCache(generateAPIKeyForEndpoints(gatewayAPIDTO));
+            DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+            DataHolder.getInstance().populateVhosts(gatewayAPIDTO);
+            syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
+        }
     }
 
 
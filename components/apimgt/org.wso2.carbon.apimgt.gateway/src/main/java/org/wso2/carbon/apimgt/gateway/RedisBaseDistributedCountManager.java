@@ -18,30 +18,114 @@
 
 package org.wso2.carbon.apimgt.gateway;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.commons.throttle.core.DistributedCounterManager;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Response;
 import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
 import org.wso2.carbon.apimgt.gateway.throttling.util.ThrottleUtils;
-import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Redis Base Distributed Counter Manager for Throttler.
+ * <p>
+ * Compound counter operations are executed as MULTI/EXEC transactions by default. When the counter operation mode
+ * is set to "script", they are executed as server side Lua scripts instead. Both take a single round trip per
+ * operation, as the operations of {@link DistributedCounterManager} are issued one by one by the throttle processors.
+ * <p>
+ * When a counter batching window is configured, the increments of {@link #asyncGetAndAddCounter(String, long)} and
+ * {@link #asyncAddCounter(String, long)} issued within the window are coalesced per key and flushed to Redis in one
+ * pipelined round trip. {@link #addAndGetCounter(String, long)} is not batched, as it is called while holding the
+ * caller and shared key locks of a throttle sync, which would then be held for the batching window.
  */
 public class RedisBaseDistributedCountManager implements DistributedCounterManager {
 
     private static final Log log = LogFactory.getLog(RedisBaseDistributedCountManager.class);
     JedisPool redisPool;
     long keyLockRetrievalTimeout;
+    private final boolean scriptModeEnabled;
+    private final RedisCounterBatcher counterBatcher;
+
+    /**
+     * GET, INCRBY. Returns the value before the increment.
+     */
+    private static final CounterScript GET_AND_ADD_SCRIPT = new CounterScript(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "return current");
+
+    /**
+     * GET, DEL, INCRBY and optionally PEXPIREAT. Returns the value before the alteration.
+     */
+    private static final CounterScript GET_ALTER_AND_EXPIRE_SCRIPT = new CounterScript(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if ARGV[2] then redis.call('PEXPIREAT', KEYS[1], ARGV[2]) end " +
+            "return current");
+
+    /**
+     * SET, PEXPIREAT. Returns the PEXPIREAT reply.
+     */
+    private static final CounterScript SET_WITH_EXPIRY_SCRIPT = new CounterScript(
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return redis.call('PEXPIREAT', KEYS[1], ARGV[2])");
+
+    /**
+     * SETNX, PEXPIREAT. Returns the PEXPIREAT reply.
+     */
+    private static final CounterScript LOCK_WITH_EXPIRY_SCRIPT = new CounterScript(
+            "redis.call('SETNX', KEYS[1], ARGV[1]) " +
+            "return redis.call('PEXPIREAT', KEYS[1], ARGV[2])");
 
     public RedisBaseDistributedCountManager(JedisPool redisPool) {
+        this(redisPool, org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
+                .getAPIManagerConfigurationService().getAPIManagerConfiguration());
+    }
+
+    private RedisBaseDistributedCountManager(JedisPool redisPool, APIManagerConfiguration configuration) {
+        this(redisPool, configuration.getRedisConfig().getKeyLockRetrievalTimeout(),
+                APIConstants.REDIS_COUNTER_OPERATION_MODE_SCRIPT.equalsIgnoreCase(
+                        configuration.getDistributedThrottleConfig().getCounterOperationMode()),
+                configuration.getDistributedThrottleConfig().getCounterBatchingWindow());
+    }
+
+    RedisBaseDistributedCountManager(JedisPool redisPool, long keyLockRetrievalTimeout, boolean scriptModeEnabled,
+            long counterBatchingWindow) {
         this.redisPool = redisPool;
-        RedisConfig redisConfig = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.
-                getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig();
-        keyLockRetrievalTimeout = redisConfig.getKeyLockRetrievalTimeout();
+        this.keyLockRetrievalTimeout = keyLockRetrievalTimeout;
+        this.scriptModeEnabled = scriptModeEnabled;
+        if (counterBatchingWindow > 0) {
+            counterBatcher = new RedisCounterBatcher(this::incrementCountersInPipeline, counterBatchingWindow);
+        } else {
+            counterBatcher = null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Redis counter operation mode: " + (scriptModeEnabled ? "script" : "transaction")
+                    + ", counter batching window: " + counterBatchingWindow + "ms");
+        }
+    }
+
+    /**
+     * Flushes the counter increments pending in the current batching window and stops the batching. This has to run
+     * before the redis pool is closed.
+     */
+    public void shutdown() {
+
+        if (counterBatcher != null) {
+            counterBatcher.shutdown();
+        }
     }
 
     @Override
@@ -157,8 +241,18 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         long startTime = 0;
         try {
             startTime = System.currentTimeMillis();
+            if (counterBatcher != null) {
+                return counterBatcher.addAndGet(key, value) - value;
+            }
 
             try (Jedis jedis = redisPool.getResource()) {
+                if (scriptModeEnabled) {
+                    long current = parseCounterValue(GET_AND_ADD_SCRIPT.eval(jedis, key, String.valueOf(value)));
+                    if (log.isTraceEnabled()) {
+                        log.trace(String.format("Key %s increased from %s to %s", key, current, current + value));
+                    }
+                    return current;
+                }
                 long current = 0;
                 Transaction transaction = jedis.multi();
                 Response<String> currentValue = transaction.get(key);
@@ -186,6 +280,9 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         long startTime = 0;
         try {
             startTime = System.currentTimeMillis();
+            if (counterBatcher != null) {
+                return counterBatcher.addAndGet(key, value);
+            }
 
             try (Jedis jedis = redisPool.getResource()) {
                 long incrementedValue = 0;
@@ -218,6 +315,14 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
+                if (scriptModeEnabled) {
+                    long current = parseCounterValue(GET_ALTER_AND_EXPIRE_SCRIPT.eval(jedis, key,
+                            String.valueOf(value)));
+                    if (log.isTraceEnabled()) {
+                        log.trace(String.format("Key %s increased from %s to %s", key, current, value));
+                    }
+                    return current;
+                }
 
                 long current = 0;
                 Transaction transaction = jedis.multi();
@@ -249,6 +354,15 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
+                if (scriptModeEnabled) {
+                    long current = parseCounterValue(GET_ALTER_AND_EXPIRE_SCRIPT.eval(jedis, key,
+                            String.valueOf(value), String.valueOf(expiryTimeStamp)));
+                    if (log.isTraceEnabled()) {
+                        log.trace(String.format("Key %s increased from %s to %s and expiry set to %s", key, current,
+                                value, expiryTimeStamp));
+                    }
+                    return current;
+                }
 
                 long current = 0;
                 Transaction transaction = jedis.multi();
@@ -334,15 +448,22 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                transaction.set(key, String.valueOf(timeStamp));
-                Response<Long> expireSetResponse = transaction.pexpireAt(key, expiryTime);
-                transaction.exec();
+                Long expireSetStatus;
+                if (scriptModeEnabled) {
+                    expireSetStatus = (Long) SET_WITH_EXPIRY_SCRIPT.eval(jedis, key, String.valueOf(timeStamp),
+                            String.valueOf(expiryTime));
+                } else {
+                    Transaction transaction = jedis.multi();
+                    transaction.set(key, String.valueOf(timeStamp));
+                    Response<Long> expireSetResponse = transaction.pexpireAt(key, expiryTime);
+                    transaction.exec();
+                    expireSetStatus = expireSetResponse.get();
+                }
 
-                if (expireSetResponse.get() == 1) {
-                    log.trace("Expire timeout was set of key:" + key +  " status:" + expireSetResponse.get());
-                } else if (expireSetResponse.get() == 0) {
-                    log.trace("Expire timeout was not set of key:" + key + " status:" +  expireSetResponse.get() +
+                if (expireSetStatus == 1) {
+                    log.trace("Expire timeout was set of key:" + key +  " status:" + expireSetStatus);
+                } else if (expireSetStatus == 0) {
+                    log.trace("Expire timeout was not set of key:" + key + " status:" +  expireSetStatus +
                             " e.g. key doesn't exist, or operation skipped due to the provided arguments.");
                 } else {
                     log.trace("Expire timeout was not set");
@@ -461,11 +582,17 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         try {
             startTime = System.currentTimeMillis();
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                transaction.setnx(key, value);
-                Response<Long> pexpireAtResponse = transaction.pexpireAt(key, expiryTimeStamp);
-                transaction.exec();
-                long pexpireAtResponseCode = pexpireAtResponse.get();
+                long pexpireAtResponseCode;
+                if (scriptModeEnabled) {
+                    pexpireAtResponseCode = (Long) LOCK_WITH_EXPIRY_SCRIPT.eval(jedis, key, value,
+                            String.valueOf(expiryTimeStamp));
+                } else {
+                    Transaction transaction = jedis.multi();
+                    transaction.setnx(key, value);
+                    Response<Long> pexpireAtResponse = transaction.pexpireAt(key, expiryTimeStamp);
+                    transaction.exec();
+                    pexpireAtResponseCode = pexpireAtResponse.get();
+                }
                 if (pexpireAtResponseCode == 1) {
                     if (log.isTraceEnabled()) {
                         log.trace("expiry time of key:" + key + " was set successfully.");
@@ -526,5 +653,70 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             }
         }
     }
-}
 
+    /**
+     * Applies the given increments in a single pipelined round trip. Used by the counter batcher to flush the
+     * increments coalesced within a batching window.
+     */
+    private List<Long> incrementCountersInPipeline(List<String> keys, List<Long> deltas) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> responses = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                responses.add(pipeline.incrBy(keys.get(i), deltas.get(i)));
+            }
+            pipeline.sync();
+            List<Long> values = new ArrayList<>(responses.size());
+            for (Response<Long> response : responses) {
+                values.add(response.get());
+            }
+            return values;
+        }
+    }
+
+    private static long parseCounterValue(Object value) {
+
+        if (value == null) {
+            return 0;
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    /**
+     * Lua script executed through EVALSHA, which falls back to EVAL when the script is not yet cached in the
+     * Redis server, e.g. after a restart or a SCRIPT FLUSH. The EVAL caches the script for the following calls, so
+     * no separate SCRIPT LOAD round trip is needed.
+     */
+    static final class CounterScript {
+
+        private final String script;
+        private final String sha;
+
+        CounterScript(String script) {
+
+            this.script = script;
+            // the digest Redis caches the script under
+            this.sha = DigestUtils.sha1Hex(script);
+        }
+
+        Object eval(Jedis jedis, String key, String... args) {
+
+            List<String> keys = Collections.singletonList(key);
+            List<String> argList = Arrays.asList(args);
+            try {
+                return jedis.evalsha(sha, keys, argList);
+            } catch (JedisDataException e) {
+                if (e.getMessage() == null || !e.getMessage().startsWith("NOSCRIPT")) {
+                    throw e;
+                }
+                return jedis.eval(script, keys, argList);
+            }
+        }
+
+        String getSha() {
+
+            return sha;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces counter increments issued against the same key within a short batching window into a single
+ * increment per key, and flushes all keys of a window to Redis in one pipelined round trip.
+ * <p>
+ * Every caller still receives the exact value its own increment would have produced had it been applied
+ * individually, as the increments of a window are ordered by arrival and the per-caller value is derived from the
+ * value returned for the combined increment.
+ */
+class RedisCounterBatcher {
+
+    private static final Log log = LogFactory.getLog(RedisCounterBatcher.class);
+    private static final long FLUSH_WAIT_TIMEOUT = 5000L;
+
+    private final ConcurrentLinkedQueue<PendingIncrement> pendingIncrements = new ConcurrentLinkedQueue<>();
+    private final CounterStore counterStore;
+    private final long batchingWindow;
+    private final ScheduledExecutorService flushExecutor;
+    private volatile boolean shutdown;
+
+    /**
+     * Store to which the combined increments of a batching window are applied.
+     */
+    interface CounterStore {
+
+        /**
+         * Increments each of the given keys by the delta at the same position and returns the resulting values in
+         * the same order.
+         *
+         * @param keys   counter keys
+         * @param deltas amount to increment each key by
+         * @return values of the keys after the increments are applied
+         */
+        List<Long> incrementBy(List<String> keys, List<Long> deltas);
+    }
+
+    RedisCounterBatcher(CounterStore counterStore, long batchingWindow) {
+
+        this(counterStore, batchingWindow, true);
+    }
+
+    RedisCounterBatcher(CounterStore counterStore, long batchingWindow, boolean scheduleFlush) {
+
+        this.counterStore = counterStore;
+        this.batchingWindow = batchingWindow;
+        if (scheduleFlush) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "RedisCounterBatchFlusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flushSafely, batchingWindow, batchingWindow,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            flushExecutor = null;
+        }
+    }
+
+    /**
+     * Increments the given key by the given delta in the next flush and waits for the flush to complete.
+     *
+     * @param key   counter key
+     * @param delta amount to increment the counter by
+     * @return value of the counter right after this increment
+     */
+    long addAndGet(String key, long delta) {
+
+        CompletableFuture<Long> result = enqueue(key, delta);
+        if (shutdown) {
+            // the scheduled flusher is gone, so apply the increment right away
+            flush();
+        }
+        try {
+            return result.get(batchingWindow + FLUSH_WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("Interrupted while waiting for the counter increment of key " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JedisException("Error while incrementing counter of key " + key, e.getCause());
+        } catch (TimeoutException e) {
+            throw new JedisException("Timed out while waiting for the counter increment of key " + key, e);
+        }
+    }
+
+    /**
+     * Queues an increment of the given key to be applied in the next flush.
+     *
+     * @param key   counter key
+     * @param delta amount to increment the counter by
+     * @return future completed with the value of the counter right after this increment
+     */
+    CompletableFuture<Long> enqueue(String key, long delta) {
+
+        PendingIncrement pendingIncrement = new PendingIncrement(key, delta);
+        pendingIncrements.offer(pendingIncrement);
+        return pendingIncrement.result;
+    }
+
+    /**
+     * Applies all increments queued so far and completes the callers waiting on them.
+     */
+    void flush() {
+
+        Map<String, List<PendingIncrement>> incrementsByKey = new LinkedHashMap<>();
+        PendingIncrement pendingIncrement;
+        while ((pendingIncrement = pendingIncrements.poll()) != null) {
+            incrementsByKey.computeIfAbsent(pendingIncrement.key, k -> new ArrayList<>()).add(pendingIncrement);
+        }
+        if (incrementsByKey.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(incrementsByKey.size());
+        List<Long> deltas = new ArrayList<>(incrementsByKey.size());
+        for (Map.Entry<String, List<PendingIncrement>> entry : incrementsByKey.entrySet()) {
+            long total = 0;
+            for (PendingIncrement increment : entry.getValue()) {
+                total += increment.delta;
+            }
+            keys.add(entry.getKey());
+            deltas.add(total);
+        }
+        List<Long> results;
+        try {
+            results = counterStore.incrementBy(keys, deltas);
+        } catch (RuntimeException e) {
+            for (List<PendingIncrement> increments : incrementsByKey.values()) {
+                for (PendingIncrement increment : increments) {
+                    increment.result.completeExceptionally(e);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            // Walk back from the combined value so that each caller sees the value right after its own increment
+            long value = results.get(i);
+            List<PendingIncrement> increments = incrementsByKey.get(keys.get(i));
+            for (int j = increments.size() - 1; j >= 0; j--) {
+                PendingIncrement increment = increments.get(j);
+                increment.result.complete(value);
+                value -= increment.delta;
+            }
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Flushed counter increments of " + keys.size() + " keys to redis");
+        }
+    }
+
+    /**
+     * Stops the scheduled flusher and applies the increments still queued, so that no caller is left waiting on an
+     * increment that will never be flushed. Increments queued after this are applied by their own callers.
+     */
+    void shutdown() {
+
+        shutdown = true;
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            try {
+                if (!flushExecutor.awaitTermination(FLUSH_WAIT_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    log.warn("Timed out while waiting for the running counter flush to complete");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushSafely();
+    }
+
+    private void flushSafely() {
+
+        try {
+            flush();
+        } catch (Throwable e) {
+            log.error("Error while flushing counter increments to redis", e);
+        }
+    }
+
+    private static final class PendingIncrement {
+
+        private final String key;
+        private final long delta;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private PendingIncrement(String key, long delta) {
+
+            this.key = key;
+            this.delta = delta;
+        }
+    }
+}
@@ -102,9 +102,13 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
             provider = new SynapseAnalyticsDataProvider(messageContext,
                     ServiceReferenceHolder.getInstance().getAnalyticsCustomDataProvider());
         }
-        GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
         try {
-            dataCollector.collectData();
+            AsyncAnalyticsPublisher asyncPublisher = AsyncAnalyticsPublisher.getInstance();
+            if (asyncPublisher != null) {
+                asyncPublisher.publish(provider);
+            } else {
+                new GenericRequestDataCollector(provider).collectData();
+            }
         } catch (Exception e) {
             log.error("Error Occurred when collecting data", e);
         }
@@ -119,7 +123,7 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
 
     @Override
     public boolean handleServerShutDown() {
-        // Nothing to implement
+        AsyncAnalyticsPublisher.shutdown();
         return true;
     }
 
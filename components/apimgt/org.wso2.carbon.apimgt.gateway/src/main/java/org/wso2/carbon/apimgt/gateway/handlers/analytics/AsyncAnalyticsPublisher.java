@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataSnapshot;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the analytics collectors and reporters on a pool of worker threads instead of the request thread. The
+ * handler captures an {@link AnalyticsDataSnapshot} of the request, which is queued in a bounded queue and collected
+ * and published by a worker.
+ * <p>
+ * When the queue is full, the configured drop policy decides whether the new event is dropped
+ * ({@value APIConstants#ANALYTICS_DROP_POLICY_DROP_NEWEST}), the oldest queued event is dropped in its favour
+ * ({@value APIConstants#ANALYTICS_DROP_POLICY_DROP_OLDEST}), or the event is published on the request thread
+ * ({@value APIConstants#ANALYTICS_DROP_POLICY_CALLER_RUNS}). Queue depth and event counts are exposed as metrics.
+ */
+public class AsyncAnalyticsPublisher {
+
+    private static final Log log = LogFactory.getLog(AsyncAnalyticsPublisher.class);
+    private static final String METRIC_NAME = "AnalyticsPublisher";
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int DEFAULT_WORKER_THREADS = 2;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private static volatile AsyncAnalyticsPublisher instance;
+    private static volatile boolean initialized;
+
+    private final ThreadPoolExecutor executor;
+    private final DataCollector collector;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    AsyncAnalyticsPublisher(int queueSize, int workerThreads, String dropPolicy,
+                            DataCollector collector) {
+
+        this.collector = collector;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "AnalyticsPublisher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, getRejectedExecutionHandler(dropPolicy));
+    }
+
+    /**
+     * Returns the publisher, creating it on first use if asynchronous analytics publishing is enabled.
+     *
+     * @return the publisher, or null if analytics events should be published on the request thread
+     */
+    public static AsyncAnalyticsPublisher getInstance() {
+
+        if (!initialized) {
+            synchronized (AsyncAnalyticsPublisher.class) {
+                if (!initialized) {
+                    instance = createFromConfiguration();
+                    initialized = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the worker threads after publishing the events that are already queued.
+     */
+    public static void shutdown() {
+
+        AsyncAnalyticsPublisher publisher = instance;
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    /**
+     * Captures the analytics data of the request from the given provider and queues it for publishing.
+     *
+     * @param provider provider of the analytics data of the request, read before this method returns
+     */
+    public void publish(AnalyticsDataProvider provider) {
+
+        AnalyticsDataSnapshot snapshot = AnalyticsDataSnapshot.of(provider);
+        executor.execute(() -> collect(snapshot));
+    }
+
+    long getPublishedCount() {
+
+        return publishedCount.sum();
+    }
+
+    long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    long getCallerRunsCount() {
+
+        return callerRunsCount.sum();
+    }
+
+    long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    int getQueuedCount() {
+
+        return executor.getQueue().size();
+    }
+
+    void stop() {
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("Analytics events still queued after " + SHUTDOWN_TIMEOUT_MILLIS + "ms were dropped");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(AnalyticsDataProvider snapshot) {
+
+        try {
+            collector.collect(snapshot);
+            publishedCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            log.error("Error Occurred when collecting data", e);
+        }
+    }
+
+    private RejectedExecutionHandler getRejectedExecutionHandler(String dropPolicy) {
+
+        if (APIConstants.ANALYTICS_DROP_POLICY_CALLER_RUNS.equalsIgnoreCase(dropPolicy)) {
+            return (runnable, pool) -> {
+                if (pool.isShutdown()) {
+                    droppedCount.increment();
+                } else {
+                    callerRunsCount.increment();
+                    runnable.run();
+                }
+            };
+        } else if (APIConstants.ANALYTICS_DROP_POLICY_DROP_OLDEST.equalsIgnoreCase(dropPolicy)) {
+            return (runnable, pool) -> {
+                droppedCount.increment();
+                if (!pool.isShutdown()) {
+                    pool.getQueue().poll();
+                    pool.execute(runnable);
+                }
+            };
+        }
+        return (runnable, pool) -> {
+            droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Analytics event dropped as the publishing queue is full");
+            }
+        };
+    }
+
+    private static AsyncAnalyticsPublisher createFromConfiguration() {
+
+        APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance().getAPIManagerConfiguration();
+        if (configuration == null || !Boolean.parseBoolean(
+                configuration.getFirstProperty(APIConstants.API_ANALYTICS_ASYNC_PUBLISHING_ENABLED))) {
+            return null;
+        }
+        int queueSize = getIntProperty(configuration, APIConstants.API_ANALYTICS_ASYNC_PUBLISHING_QUEUE_SIZE,
+                DEFAULT_QUEUE_SIZE);
+        int workerThreads = getIntProperty(configuration, APIConstants.API_ANALYTICS_ASYNC_PUBLISHING_WORKER_THREADS,
+                DEFAULT_WORKER_THREADS);
+        String dropPolicy = StringUtils.defaultIfBlank(
+                configuration.getFirstProperty(APIConstants.API_ANALYTICS_ASYNC_PUBLISHING_DROP_POLICY),
+                APIConstants.ANALYTICS_DROP_POLICY_DROP_NEWEST).trim();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(queueSize, workerThreads, dropPolicy,
+                snapshot -> new GenericRequestDataCollector(snapshot).collectData());
+        publisher.registerMetrics();
+        log.info("Asynchronous analytics publishing enabled with queue size " + queueSize + ", " + workerThreads
+                + " worker threads and drop policy " + dropPolicy);
+        return publisher;
+    }
+
+    private static int getIntProperty(APIManagerConfiguration configuration, String key, int defaultValue) {
+
+        String value = configuration.getFirstProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " for " + key + ". Using the default value " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private void registerMetrics() {
+
+        try {
+            registerGauge("published", this::getPublishedCount);
+            registerGauge("dropped", this::getDroppedCount);
+            registerGauge("callerRuns", this::getCallerRunsCount);
+            registerGauge("failed", this::getFailedCount);
+            registerGauge("queued", () -> (long) getQueuedCount());
+        } catch (Exception e) {
+            log.warn("Error while registering analytics publishing metrics", e);
+        }
+    }
+
+    private void registerGauge(String name, Supplier<Long> value) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name),
+                (Gauge<Long>) value::get);
+    }
+
+    /**
+     * Collects and publishes the analytics event of a captured request.
+     */
+    @FunctionalInterface
+    interface DataCollector {
+
+        void collect(AnalyticsDataProvider provider) throws Exception;
+    }
+}
@@ -124,6 +124,8 @@ public class GraphQLAPIHandler extends AbstractHandler {
             Document document = parser.parseDocument(payload);
 
             if (validatePayloadWithSchema(messageContext, document)) {
+                // keep the validated document so that the query analysis does not parse the payload again
+                messageContext.setProperty(APIConstants.GRAPHQL_PAYLOAD_DOCUMENT, document);
                 supportForBasicAndAuthentication(messageContext);
 
                 // Extract the operation type and operations from the payload
@@ -17,6 +17,7 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -50,11 +51,12 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
             return true;
         }
         GraphQLSchema schema = (GraphQLSchema) messageContext.getProperty(APIConstants.GRAPHQL_SCHEMA);
-        if (queryAnalyzer == null) {
+        if (queryAnalyzer == null || queryAnalyzer.getSchema() != schema) {
             queryAnalyzer = new QueryAnalyzer(schema);
         }
         String payload = messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD).toString();
-        if (!isDepthAndComplexityValid(messageContext, payload)) {
+        Document document = (Document) messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD_DOCUMENT);
+        if (!isDepthAndComplexityValid(messageContext, payload, document)) {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
@@ -66,11 +68,13 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
      *
      * @param messageContext message context of the request
      * @param payload        payload of the request
+     * @param document       payload parsed and validated by the GraphQL API handler, if available
      * @return true, if the query is not blocked or false, if the query is blocked
      */
-    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload, Document document) {
         try {
-            return isDepthValid(messageContext, payload) && isComplexityValid(messageContext, payload);
+            return isDepthValid(messageContext, payload, document)
+                    && isComplexityValid(messageContext, payload, document);
         } catch (Exception e) {
             String errorMessage = "Policy definition parsing failed. ";
             log.error(errorMessage, e);
@@ -79,12 +83,12 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         }
     }
 
-    private boolean isDepthValid(MessageContext messageContext, String payload) {
+    private boolean isDepthValid(MessageContext messageContext, String payload, Document document) {
         int maxQueryDepth = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload, document);
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -94,7 +98,7 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
-    private boolean isComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isComplexityValid(MessageContext messageContext, String payload, Document document) {
         int queryComplexity = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
             queryComplexity = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
@@ -103,7 +107,8 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
                 .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
         QueryAnalyzerResponseDTO responseDTO = null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
+            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson,
+                    document);
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
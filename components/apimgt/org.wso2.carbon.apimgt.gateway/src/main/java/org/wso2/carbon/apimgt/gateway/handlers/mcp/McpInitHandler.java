@@ -189,11 +189,7 @@ public class McpInitHandler extends AbstractHandler implements ManagedLifecycle
                     String capabilityName = params.getToolName();
                     messageContext.setProperty(APIMgtGatewayConstants.MCP_CAPABILITY_NAME_KEY, capabilityName);
                     API api = GatewayUtils.getAPI(messageContext);
-                    URLMapping extendedOperation = api.getUrlMappings()
-                            .stream()
-                            .filter(operation -> operation.getUrlPattern().equals(capabilityName))
-                            .findFirst()
-                            .orElse(null);
+                    URLMapping extendedOperation = api.getUrlMappingByPattern(capabilityName);
 
                     BackendOperation backendOperation = null;
                     if (extendedOperation != null) { //direct_endpoint
@@ -17,30 +17,27 @@
 package org.wso2.carbon.apimgt.gateway.handlers.security;
 
 import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
-import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+import org.wso2.carbon.apimgt.impl.utils.BoundedConcurrentCache;
 
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A simple in-memory cache for API keys and validation information related to API keys.
  * In order to conserve resources, this implementation imposes hard upper bounds on the
- * number of valid and invalid keys kept in the cache. When the cache is full, a simple
- * LRU algorithm is used to replace existing cache entries. This cache implementation is
- * thread safe. It supports multiple concurrent read operations. That is read operations
- * may overlap and will return the results without blocking. But write operations are
- * carried out in a mutually exclusive manner. When multiple write operations are requested,
- * they will be executed in serial manner with thread blocking. Similarly overlapping read and
- * write operations will be executed in serial fashion. In general this cache is designed
- * for many read operations and less write operations.
+ * number of valid and invalid keys kept in the cache. When the cache is full, the least
+ * recently used entry is replaced, provided that the new key is used more frequently than
+ * that entry. This keeps a burst of unknown keys from flushing out the keys that are in use.
+ * This cache implementation is thread safe. Entries are spread over independently locked
+ * segments, so that operations on different keys seldom block each other.
  */
 public class APIKeyCache {
 
-    private Map<String,APIKeyValidationInfoDTO> validKeys;
-    private Map<String,APIKeyValidationInfoDTO> invalidKeys;
+    private BoundedConcurrentCache<String, APIKeyValidationInfoDTO> validKeys;
+    private BoundedConcurrentCache<String, APIKeyValidationInfoDTO> invalidKeys;
 
     APIKeyCache(int maxValidKeys, int maxInvalidKeys) {
-        validKeys = new LRUCache<String, APIKeyValidationInfoDTO>(maxValidKeys);
-        invalidKeys = new LRUCache<String, APIKeyValidationInfoDTO>(maxInvalidKeys);
+        validKeys = new BoundedConcurrentCache<>(maxValidKeys, 0, TimeUnit.MILLISECONDS, true, null);
+        invalidKeys = new BoundedConcurrentCache<>(maxInvalidKeys, 0, TimeUnit.MILLISECONDS, true, null);
     }
 
     public void addValidKey(String key, APIKeyValidationInfoDTO info) {
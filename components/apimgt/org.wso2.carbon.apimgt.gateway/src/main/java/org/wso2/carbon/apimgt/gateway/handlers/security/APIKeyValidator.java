@@ -352,11 +352,7 @@ public class APIKeyValidator {
                 Params params = requestBody.getParams();
                 String toolName = params != null ? params.getToolName() : null;
                 if (!StringUtils.isEmpty(toolName)) {
-                    URLMapping extendedOperation = api.getUrlMappings()
-                            .stream()
-                            .filter(operation -> operation.getUrlPattern().equals(toolName))
-                            .findFirst()
-                            .orElse(null);
+                    URLMapping extendedOperation = api.getUrlMappingByPattern(toolName);
                     if (extendedOperation != null) {
                         BackendOperation backendOperation = null;
                         if (StringUtils.equals(api.getSubtype(), APIConstants.API_SUBTYPE_DIRECT_BACKEND) ||
@@ -547,38 +543,25 @@ public class APIKeyValidator {
                 getResourceCache().put(apiCacheKey, apiInfoDTO);
             }
         }
-        if (apiInfoDTO.getResources() != null) {
-            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
-                for (VerbInfoDTO verb : verbDTOList) {
-                    //mcp direct_endpoint scenario
-                    String httpVerb = verb.getHttpVerb();
-                    if (verb.getBackendAPIOperationMapping() != null) {
-                        BackendOperation backendOperation = verb.getBackendAPIOperationMapping().getBackendOperation();
-                        if (backendOperation != null) {
-                            httpVerb = backendOperation.getVerb().toString();
-                        }
-                    }
-                    if (httpVerb.equals(httpMethod)) {
-                        for (String resourceString : resourceArray) {
-                            if (isResourcePathMatching(resourceString, resourceInfoDTO)) {
-                                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion,
-                                        resourceString, httpMethod);
-                                verb.setRequestKey(resourceCacheKey);
-                                verbInfoList.add(verb);
-                                if (isGatewayAPIResourceValidationEnabled) {
-                                    //Store verb in cache
-                                    //Set cache key in the message c\ontext so that it can be used by the subsequent handlers.
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Putting resource object in cache with key: " + resourceCacheKey);
-                                    }
-                                    getResourceCache().put(resourceCacheKey, verb);
-                                    synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
-                                }
-                            }
-                        }
-                    }
+        // Without the resource cache the API info is built again for every request, so it is scanned instead of
+        // being compiled into an index that would be used only once.
+        List<ResourceVerbIndex.Match> matches = isGatewayAPIResourceValidationEnabled ?
+                ResourceVerbIndex.of(apiInfoDTO).findMatches(resourceArray, httpMethod) :
+                ResourceVerbIndex.scan(apiInfoDTO, resourceArray, httpMethod);
+        for (ResourceVerbIndex.Match match : matches) {
+            VerbInfoDTO verb = match.getVerb();
+            resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion, match.getResource(),
+                    httpMethod);
+            verb.setRequestKey(resourceCacheKey);
+            verbInfoList.add(verb);
+            if (isGatewayAPIResourceValidationEnabled) {
+                //Store verb in cache
+                //Set cache key in the message context so that it can be used by the subsequent handlers.
+                if (log.isDebugEnabled()) {
+                    log.debug("Putting resource object in cache with key: " + resourceCacheKey);
                 }
+                getResourceCache().put(resourceCacheKey, verb);
+                synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
             }
         }
         if (verbInfoList.size() == 0) {
@@ -601,36 +584,6 @@ public class APIKeyValidator {
         return requestPath;
     }
 
-    private boolean isResourcePathMatching(String resourceString, ResourceInfoDTO resourceInfoDTO) {
-        String resource = resourceString.trim();
-        String urlPattern = resourceInfoDTO.getUrlPattern().trim();
-
-        //MCP direct_ep
-        if (resourceInfoDTO.getHttpVerbs() != null && !resourceInfoDTO.getHttpVerbs().isEmpty()) {
-            VerbInfoDTO verbInfoDTO = (VerbInfoDTO) resourceInfoDTO.getHttpVerbs().toArray()[0];
-            BackendOperationMapping backendAPIOperationMapping = verbInfoDTO.getBackendAPIOperationMapping();
-            if (backendAPIOperationMapping != null) {
-                BackendOperation backendOperation = backendAPIOperationMapping.getBackendOperation();
-                if (backendOperation != null) {
-                    urlPattern = backendOperation.getTarget();
-                }
-            }
-        }
-
-        if (resource.equalsIgnoreCase(urlPattern)) {
-            return true;
-        }
-
-        // If the urlPattern is only one character longer than the resource and the urlPattern ends with a '/'
-        if (resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")) {
-            // Check if resource is equal to urlPattern if the trailing '/' of the urlPattern is ignored
-            String urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
-            return resource.equalsIgnoreCase(urlPatternWithoutSlash);
-        }
-
-        return false;
-    }
-
     @MethodStats
     private APIInfoDTO doGetAPIInfo(MessageContext messageContext, String context, String apiVersion) throws APISecurityException {
         ArrayList<URITemplate> uriTemplates = getAllURITemplates(messageContext, context, apiVersion);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup structure for the verbs of an API, compiled once from its {@link APIInfoDTO}. Resources are indexed by
+ * their case-insensitive URL pattern (and, for patterns ending with '/', also by the pattern without the trailing
+ * '/'), so that resolving the verbs of an elected resource is a hash lookup instead of a scan over every resource
+ * and verb of the API. The result is identical to matching each resource in declaration order.
+ */
+final class ResourceVerbIndex {
+
+    /**
+     * Compiled indexes of the API info objects held in the resource cache. Keys are weakly referenced and compared
+     * by identity, so an index lives only as long as the cached API info it was compiled from.
+     */
+    private static final LoadingCache<APIInfoDTO, ResourceVerbIndex> INDEXES =
+            CacheBuilder.newBuilder().weakKeys().recordStats().build(new CacheLoader<APIInfoDTO, ResourceVerbIndex>() {
+                @Override
+                public ResourceVerbIndex load(APIInfoDTO apiInfoDTO) {
+
+                    return new ResourceVerbIndex(apiInfoDTO);
+                }
+            });
+
+    private static final Comparator<Match> DECLARATION_ORDER = Comparator.comparingInt(match -> match.entry.ordinal);
+
+    private final Map<String, List<Entry>> entriesByResource = new HashMap<>();
+
+    ResourceVerbIndex(APIInfoDTO apiInfoDTO) {
+
+        if (apiInfoDTO.getResources() == null) {
+            return;
+        }
+        int ordinal = 0;
+        for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+            Set<VerbInfoDTO> verbs = resourceInfoDTO.getHttpVerbs();
+            if (verbs == null || verbs.isEmpty()) {
+                continue;
+            }
+            String urlPattern = getUrlPattern(resourceInfoDTO);
+            for (VerbInfoDTO verb : verbs) {
+                Entry entry = new Entry(ordinal++, getHttpVerb(verb), verb);
+                if (entry.httpVerb == null) {
+                    continue;
+                }
+                entriesByResource.computeIfAbsent(toKey(urlPattern), key -> new ArrayList<>(1)).add(entry);
+                if (urlPattern.endsWith("/")) {
+                    entriesByResource.computeIfAbsent(toKey(urlPattern.substring(0, urlPattern.length() - 1)),
+                            key -> new ArrayList<>(1)).add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index compiled from the given API info, compiling it on first use.
+     *
+     * @param apiInfoDTO API info, as held in the resource cache
+     * @return index of the verbs of the API
+     */
+    static ResourceVerbIndex of(APIInfoDTO apiInfoDTO) {
+
+        return INDEXES.getUnchecked(apiInfoDTO);
+    }
+
+    /**
+     * Finds the verbs matching any of the given resources and the given HTTP method by scanning every resource and
+     * verb of the API. Used for API info objects that are built for a single request, which would not make up for
+     * the cost of compiling an index. The result is the same as that of {@link #findMatches(List, String)}.
+     *
+     * @param apiInfoDTO API info
+     * @param resources  elected resources (URL templates or GraphQL operations) of the request
+     * @param httpMethod HTTP method of the request
+     * @return matches, in declaration order of the verbs of the API
+     */
+    static List<Match> scan(APIInfoDTO apiInfoDTO, List<String> resources, String httpMethod) {
+
+        List<Match> matches = new ArrayList<>(resources.size());
+        if (apiInfoDTO.getResources() == null) {
+            return matches;
+        }
+        int ordinal = 0;
+        for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+            Set<VerbInfoDTO> verbs = resourceInfoDTO.getHttpVerbs();
+            if (verbs == null || verbs.isEmpty()) {
+                continue;
+            }
+            String urlPattern = getUrlPattern(resourceInfoDTO);
+            for (VerbInfoDTO verb : verbs) {
+                String httpVerb = getHttpVerb(verb);
+                if (httpVerb == null || !httpVerb.equals(httpMethod)) {
+                    continue;
+                }
+                Entry entry = new Entry(ordinal++, httpVerb, verb);
+                for (String resource : resources) {
+                    if (isMatching(resource.trim(), urlPattern)) {
+                        matches.add(new Match(entry, resource));
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of indexes compiled so far.
+     */
+    static long getCompiledIndexCount() {
+
+        return INDEXES.stats().loadCount();
+    }
+
+    /**
+     * Finds the verbs matching any of the given resources and the given HTTP method.
+     *
+     * @param resources  elected resources (URL templates or GraphQL operations) of the request
+     * @param httpMethod HTTP method of the request
+     * @return matches, in declaration order of the verbs of the API
+     */
+    List<Match> findMatches(List<String> resources, String httpMethod) {
+
+        List<Match> matches = new ArrayList<>(resources.size());
+        for (String resource : resources) {
+            List<Entry> entries = entriesByResource.get(toKey(resource));
+            if (entries == null) {
+                continue;
+            }
+            for (Entry entry : entries) {
+                if (entry.httpVerb.equals(httpMethod)) {
+                    matches.add(new Match(entry, resource));
+                }
+            }
+        }
+        if (resources.size() > 1 && matches.size() > 1) {
+            // List.sort is stable, so matches of the same verb keep the order of the resources.
+            matches.sort(DECLARATION_ORDER);
+        }
+        return matches;
+    }
+
+    private static boolean isMatching(String resource, String urlPattern) {
+
+        if (resource.equalsIgnoreCase(urlPattern)) {
+            return true;
+        }
+        // the trailing '/' of the URL pattern is optional
+        return resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")
+                && resource.equalsIgnoreCase(urlPattern.substring(0, resource.length()));
+    }
+
+    private static String getUrlPattern(ResourceInfoDTO resourceInfoDTO) {
+
+        // MCP direct endpoint operations are matched against the target of their backend operation
+        VerbInfoDTO firstVerb = resourceInfoDTO.getHttpVerbs().iterator().next();
+        BackendOperationMapping backendOperationMapping = firstVerb.getBackendAPIOperationMapping();
+        if (backendOperationMapping != null && backendOperationMapping.getBackendOperation() != null) {
+            return backendOperationMapping.getBackendOperation().getTarget().trim();
+        }
+        return resourceInfoDTO.getUrlPattern().trim();
+    }
+
+    private static String getHttpVerb(VerbInfoDTO verb) {
+
+        if (verb.getBackendAPIOperationMapping() != null) {
+            BackendOperation backendOperation = verb.getBackendAPIOperationMapping().getBackendOperation();
+            if (backendOperation != null) {
+                return backendOperation.getVerb().toString();
+            }
+        }
+        return verb.getHttpVerb();
+    }
+
+    private static String toKey(String resource) {
+
+        return resource.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static final class Entry {
+
+        private final int ordinal;
+        private final String httpVerb;
+        private final VerbInfoDTO verb;
+
+        private Entry(int ordinal, String httpVerb, VerbInfoDTO verb) {
+
+            this.ordinal = ordinal;
+            this.httpVerb = httpVerb;
+            this.verb = verb;
+        }
+    }
+
+    /**
+     * A verb matching one of the elected resources of a request.
+     */
+    static final class Match {
+
+        private final Entry entry;
+        private final String resource;
+
+        private Match(Entry entry, String resource) {
+
+            this.entry = entry;
+            this.resource = resource;
+        }
+
+        VerbInfoDTO getVerb() {
+
+            return entry.verb;
+        }
+
+        String getResource() {
+
+            return resource;
+        }
+    }
+}
@@ -22,14 +22,18 @@ import org.apache.synapse.MessageContext;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.AsyncAnalyticsDataProvider;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
+import java.util.Map;
+
 /**
  * Data provider for the response events of server sent events.
  */
 public class SseResponseEventDataProvider extends AsyncAnalyticsDataProvider {
 
     private int responseCode;
+    private int eventCount;
     private MessageContext messageContext;
 
     public SseResponseEventDataProvider(MessageContext messageContext) {
@@ -57,7 +61,26 @@ public class SseResponseEventDataProvider extends AsyncAnalyticsDataProvider {
         return operation;
     }
 
+    @Override
+    public Map<String, Object> getProperties() {
+        Map<String, Object> properties = super.getProperties();
+        if (eventCount > 0) {
+            properties.put(SseApiConstants.SSE_EVENT_COUNT, eventCount);
+        }
+        return properties;
+    }
+
     public void setResponseCode(int responseCode) {
         this.responseCode = responseCode;
     }
+
+    /**
+     * Sets the number of server sent events the next analytics event stands for. When set, the count is published
+     * as the {@value SseApiConstants#SSE_EVENT_COUNT} property of the analytics event.
+     *
+     * @param eventCount number of server sent events
+     */
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
 }
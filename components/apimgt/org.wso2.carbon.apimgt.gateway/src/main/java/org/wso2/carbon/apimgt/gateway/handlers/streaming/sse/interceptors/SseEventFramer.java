@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Counts the server sent events of a response stream without decoding it. An event is a block of non-empty lines
+ * terminated by an empty line, where a line ends with CRLF, LF or CR. Since the event stream is UTF-8 encoded, line
+ * terminators can be detected on the raw bytes. The framer keeps its state between the chunks of a stream, hence an
+ * event or a line terminator split across chunks is counted once, when it completes.
+ * <p>
+ * An instance is bound to a single response stream and is not thread safe.
+ */
+final class SseEventFramer {
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private boolean lineStart = true;
+    private boolean pendingCR;
+    private boolean eventHasContent;
+
+    /**
+     * Consumes the next chunk of the stream. The position of the buffer is not changed.
+     *
+     * @param buffer next chunk of the stream
+     * @return number of events completed within the chunk
+     */
+    int frame(ByteBuffer buffer) {
+        int eventCount = 0;
+        if (buffer.hasArray()) {
+            byte[] bytes = buffer.array();
+            int offset = buffer.arrayOffset();
+            for (int i = offset + buffer.position(), end = offset + buffer.limit(); i < end; i++) {
+                eventCount += next(bytes[i]);
+            }
+        } else {
+            for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+                eventCount += next(buffer.get(i));
+            }
+        }
+        return eventCount;
+    }
+
+    private int next(byte value) {
+        if (value == LF && pendingCR) {
+            // second half of a CRLF line terminator
+            pendingCR = false;
+            return 0;
+        }
+        pendingCR = value == CR;
+        if (value != LF && value != CR) {
+            lineStart = false;
+            eventHasContent = true;
+            return 0;
+        }
+        if (!lineStart) {
+            lineStart = true;
+            return 0;
+        }
+        // an empty line dispatches the event, if there is one
+        if (eventHasContent) {
+            eventHasContent = false;
+            return 1;
+        }
+        return 0;
+    }
+}
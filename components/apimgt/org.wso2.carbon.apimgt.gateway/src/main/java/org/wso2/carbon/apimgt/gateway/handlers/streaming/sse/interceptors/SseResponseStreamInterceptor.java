@@ -20,7 +20,6 @@ package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
 
 import org.apache.axiom.util.UIDGenerator;
 import org.apache.axis2.context.MessageContext;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.SynapseConstants;
@@ -33,16 +32,20 @@ import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.analytics.SseResponseEventDataProvider;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.throttling.ThrottleInfo;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUtils;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_ANALYTICS_INFO;
+import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_EVENT_FRAMER;
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants.SSE_THROTTLE_DTO;
 import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUtils.isThrottled;
 
@@ -52,15 +55,16 @@ import static org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.utils.SseUti
 public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
 
     private static final Log log = LogFactory.getLog(SseResponseStreamInterceptor.class);
-    private static final String SSE_STREAM_DELIMITER = "\n\n";
     private static final int DEFAULT_NO_OF_THROTTLE_PUBLISHER_EXECUTORS = 100;
-    private String charset = StandardCharsets.UTF_8.name();
-    private ExecutorService throttlePublisherService;
+    private static final int THROTTLE_PUBLISHER_QUEUE_SIZE = 10000;
+    private static final AtomicInteger throttlePublisherThreadCount = new AtomicInteger();
+    /**
+     * Throttle event publisher shared by all the interceptor instances. Publishing is non-blocking, hence when the
+     * queue is full the task is run by the transport thread instead of dropping the events.
+     */
+    private static volatile ExecutorService throttlePublisherService;
     private int noOfExecutorThreads = DEFAULT_NO_OF_THROTTLE_PUBLISHER_EXECUTORS;
-
-    public SseResponseStreamInterceptor() {
-        throttlePublisherService = Executors.newFixedThreadPool(noOfExecutorThreads);
-    }
+    private volatile Boolean analyticsEventAggregationEnabled;
 
     @Override
     public boolean interceptTargetResponse(MessageContext axisCtx) {
@@ -70,7 +74,7 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
 
     @Override
     public boolean targetResponse(ByteBuffer buffer, MessageContext axis2Ctx) {
-        int eventCount = getEventCount(buffer);
+        int eventCount = getEventFramer(axis2Ctx).frame(buffer);
         if (log.isDebugEnabled()) {
             log.debug("No. of events =" + eventCount);
         }
@@ -85,10 +89,37 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
         this.noOfExecutorThreads = executorThreads;
     }
 
-    private int getEventCount(ByteBuffer stream) {
-        Charset charsetValue = Charset.forName(this.charset);
-        String text = charsetValue.decode(stream).toString();
-        return StringUtils.countMatches(text, SSE_STREAM_DELIMITER);
+    private static SseEventFramer getEventFramer(MessageContext axis2Ctx) {
+        Object framer = axis2Ctx.getProperty(SSE_EVENT_FRAMER);
+        if (framer instanceof SseEventFramer) {
+            return (SseEventFramer) framer;
+        }
+        SseEventFramer eventFramer = new SseEventFramer();
+        axis2Ctx.setProperty(SSE_EVENT_FRAMER, eventFramer);
+        return eventFramer;
+    }
+
+    private ExecutorService getThrottlePublisherService() {
+        ExecutorService service = throttlePublisherService;
+        if (service == null) {
+            synchronized (SseResponseStreamInterceptor.class) {
+                service = throttlePublisherService;
+                if (service == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(noOfExecutorThreads, noOfExecutorThreads,
+                            60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(THROTTLE_PUBLISHER_QUEUE_SIZE),
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "SseThrottlePublisher-" + throttlePublisherThreadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    service = executor;
+                    throttlePublisherService = service;
+                }
+            }
+        }
+        return service;
     }
 
     private boolean handleThrottlingAndAnalytics(int eventCount, MessageContext axi2Ctx) {
@@ -108,7 +139,7 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
                 log.warn("Request is throttled out");
                 return false;
             }
-            throttlePublisherService.execute(
+            getThrottlePublisherService().execute(
                     () -> SseUtils.publishNonThrottledEvent(eventCount, messageId, throttleInfo, propertiesMap));
             if (APIUtil.isAnalyticsEnabled()) {
                 try {
@@ -134,12 +165,41 @@ public class SseResponseStreamInterceptor extends DefaultStreamInterceptor {
         SseResponseEventDataProvider provider = (SseResponseEventDataProvider) responseEventProvider;
         provider.setResponseCode((int) axi2Ctx.getProperty(SynapseConstants.HTTP_SC));
         GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
+        if (isAnalyticsEventAggregationEnabled()) {
+            // a single analytics event carrying the number of server sent events of the chunk
+            provider.setEventCount(eventCount);
+            dataCollector.collectData();
+            return;
+        }
         for (int count = 0; count < eventCount; count++) {
             dataCollector.collectData();
         }
     }
 
+    private boolean isAnalyticsEventAggregationEnabled() {
+        Boolean enabled = analyticsEventAggregationEnabled;
+        if (enabled == null) {
+            APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance().getAPIManagerConfiguration();
+            if (configuration == null) {
+                return false;
+            }
+            enabled = Boolean.parseBoolean(
+                    configuration.getFirstProperty(APIConstants.API_ANALYTICS_SSE_AGGREGATE_EVENTS));
+            analyticsEventAggregationEnabled = enabled;
+        }
+        return enabled;
+    }
+
+    /**
+     * Events are counted on the raw bytes of the stream, which is UTF-8 encoded as per the server sent events
+     * specification, hence the charset is no longer used.
+     *
+     * @param charset charset of the stream
+     * @deprecated the charset of the stream is not required to count the events
+     */
+    @Deprecated
+    @SuppressWarnings("unused")
     public void setCharset(String charset) {
-        this.charset = charset;
+        // nothing to do
     }
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.commons.lang3.StringUtils;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, pre-compiled form of a single throttle condition. Regular expressions and IP addresses of the condition
+ * are parsed once when the condition is compiled, and evaluation only reads request attributes through a
+ * {@link ConditionEvaluationContext}.
+ */
+abstract class CompiledCondition {
+
+    /**
+     * Source of the request attribute a condition is evaluated against.
+     */
+    enum AttributeSource {
+        HEADER, QUERY_PARAM, JWT_CLAIM
+    }
+
+    abstract boolean evaluate(ConditionEvaluationContext context);
+
+    /**
+     * Compiles a condition of an API level advanced policy condition group.
+     *
+     * @param condition condition to compile
+     * @return compiled condition
+     */
+    static CompiledCondition compile(ConditionDTO condition) {
+
+        boolean invert = condition.isInverted();
+        switch (condition.getConditionType()) {
+            case PolicyConstants.IP_RANGE_TYPE:
+                // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
+                return new IPRangeCondition(APIUtil.ipToBigInteger(condition.getConditionName()),
+                        APIUtil.ipToBigInteger(condition.getConditionValue()), invert, invert);
+            case PolicyConstants.IP_SPECIFIC_TYPE:
+                return new IPStringCondition(condition.getConditionValue(), invert);
+            case PolicyConstants.QUERY_PARAMETER_TYPE:
+                return new AttributeCondition(AttributeSource.QUERY_PARAM, condition.getConditionName(),
+                        condition.getConditionValue(), invert);
+            case PolicyConstants.JWT_CLAIMS_TYPE:
+                return new AttributeCondition(AttributeSource.JWT_CLAIM, condition.getConditionName(),
+                        condition.getConditionValue(), invert);
+            case PolicyConstants.HEADER_TYPE:
+                return new AttributeCondition(AttributeSource.HEADER, condition.getConditionName(),
+                        condition.getConditionValue(), invert);
+            default:
+                return invert ? ConstantCondition.TRUE : ConstantCondition.FALSE;
+        }
+    }
+
+    /**
+     * Compiles a specific IP or IP range condition received with a throttle event.
+     *
+     * @param ipCondition   condition to compile
+     * @param isRangeCondition whether the condition is an IP range condition
+     * @return compiled condition
+     */
+    static CompiledCondition compile(ConditionDto.IPCondition ipCondition, boolean isRangeCondition) {
+
+        if (isRangeCondition) {
+            return new IPRangeCondition(ipCondition.getStartingIp(), ipCondition.getEndingIp(),
+                    ipCondition.isInvert(), false);
+        }
+        return new IPValueCondition(ipCondition.getSpecificIp(), ipCondition.isInvert());
+    }
+
+    /**
+     * Compiles a multi valued header, query parameter or JWT claim condition received with a throttle event. All the
+     * values of the condition should match for the condition to be satisfied.
+     *
+     * @param source source of the attributes
+     * @param values attribute name to regular expression map
+     * @param invert whether the condition is inverted
+     * @return compiled condition
+     */
+    static CompiledCondition compile(AttributeSource source, Map<String, String> values, boolean invert) {
+
+        String[] names = new String[values.size()];
+        Pattern[] patterns = new Pattern[values.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            names[i] = entry.getKey();
+            patterns[i] = Pattern.compile(entry.getValue());
+            i++;
+        }
+        return new AttributeSetCondition(source, names, patterns, invert);
+    }
+
+    private static Map<String, String> getAttributes(ConditionEvaluationContext context, AttributeSource source) {
+
+        switch (source) {
+            case HEADER:
+                return context.getTransportHeaders();
+            case QUERY_PARAM:
+                return context.getQueryParams();
+            default:
+                return context.getJwtClaims();
+        }
+    }
+
+    /**
+     * Condition which always evaluates to the same value.
+     */
+    static final class ConstantCondition extends CompiledCondition {
+
+        static final ConstantCondition TRUE = new ConstantCondition(true);
+        static final ConstantCondition FALSE = new ConstantCondition(false);
+
+        private final boolean value;
+
+        private ConstantCondition(boolean value) {
+
+            this.value = value;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            return value;
+        }
+    }
+
+    /**
+     * Matches a single header, query parameter or JWT claim against a pre-compiled regular expression.
+     */
+    static final class AttributeCondition extends CompiledCondition {
+
+        private final AttributeSource source;
+        private final String name;
+        private final Pattern pattern;
+        private final boolean invert;
+
+        AttributeCondition(AttributeSource source, String name, String regex, boolean invert) {
+
+            this.source = source;
+            this.name = name;
+            this.pattern = Pattern.compile(regex);
+            this.invert = invert;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            Map<String, String> attributes = getAttributes(context, source);
+            boolean state = false;
+            if (attributes != null) {
+                String value = attributes.get(name);
+                state = value != null && pattern.matcher(value).find();
+            }
+            return state != invert;
+        }
+    }
+
+    /**
+     * Matches a set of headers, query parameters or JWT claims, all of which should match their pre-compiled regular
+     * expressions.
+     */
+    static final class AttributeSetCondition extends CompiledCondition {
+
+        private final AttributeSource source;
+        private final String[] names;
+        private final Pattern[] patterns;
+        private final boolean invert;
+
+        AttributeSetCondition(AttributeSource source, String[] names, Pattern[] patterns, boolean invert) {
+
+            this.source = source;
+            this.names = names;
+            this.patterns = patterns;
+            this.invert = invert;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            if (source == AttributeSource.JWT_CLAIM && (context.getAuthenticationContext() == null
+                    || context.getAuthenticationContext().getCallerToken() == null)) {
+                return false;
+            }
+            Map<String, String> attributes = getAttributes(context, source);
+            boolean status = true;
+            if (attributes == null) {
+                // Absence of transport headers does not fail a header condition.
+                status = source == AttributeSource.HEADER;
+            } else {
+                for (int i = 0; i < names.length; i++) {
+                    String value = attributes.get(names[i]);
+                    if (value == null || (source == AttributeSource.HEADER && value.isEmpty())
+                            || !patterns[i].matcher(value).find()) {
+                        status = false;
+                        break;
+                    }
+                }
+            }
+            return status != invert;
+        }
+    }
+
+    /**
+     * Matches the client IP against an IP range. When the client IP is not available the condition evaluates to
+     * {@code resultWhenIpMissing}.
+     */
+    static final class IPRangeCondition extends CompiledCondition {
+
+        private final BigInteger startingIp;
+        private final BigInteger endingIp;
+        private final boolean invert;
+        private final boolean resultWhenIpMissing;
+
+        IPRangeCondition(BigInteger startingIp, BigInteger endingIp, boolean invert, boolean resultWhenIpMissing) {
+
+            this.startingIp = startingIp;
+            this.endingIp = endingIp;
+            this.invert = invert;
+            this.resultWhenIpMissing = resultWhenIpMissing;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            if (StringUtils.isEmpty(context.getClientIp())) {
+                return resultWhenIpMissing;
+            }
+            BigInteger currentIp = context.getClientIpValue();
+            boolean status = startingIp.compareTo(currentIp) <= 0 && endingIp.compareTo(currentIp) >= 0;
+            return status != invert;
+        }
+    }
+
+    /**
+     * Matches the client IP string exactly against a specific IP.
+     */
+    static final class IPStringCondition extends CompiledCondition {
+
+        private final String ip;
+        private final boolean invert;
+
+        IPStringCondition(String ip, boolean invert) {
+
+            this.ip = ip;
+            this.invert = invert;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            return (ip != null && ip.equals(context.getClientIp())) != invert;
+        }
+    }
+
+    /**
+     * Matches the numeric value of the client IP against a specific IP.
+     */
+    static final class IPValueCondition extends CompiledCondition {
+
+        private final BigInteger ip;
+        private final boolean invert;
+
+        IPValueCondition(BigInteger ip, boolean invert) {
+
+            this.ip = ip;
+            this.invert = invert;
+        }
+
+        @Override
+        boolean evaluate(ConditionEvaluationContext context) {
+
+            return context.getClientIpValue().equals(ip) != invert;
+        }
+    }
+}
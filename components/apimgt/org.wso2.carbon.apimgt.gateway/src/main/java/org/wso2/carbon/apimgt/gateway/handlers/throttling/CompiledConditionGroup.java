@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+/**
+ * Immutable, pre-compiled form of a {@link ConditionGroupDTO}. A condition group is applicable for a request only if
+ * all of its conditions are satisfied.
+ */
+final class CompiledConditionGroup {
+
+    private static final CompiledCondition[] NO_CONDITIONS = new CompiledCondition[0];
+
+    private final ConditionGroupDTO conditionGroup;
+    private final CompiledCondition[] conditions;
+    private final boolean defaultGroup;
+
+    private CompiledConditionGroup(ConditionGroupDTO conditionGroup) {
+
+        this.conditionGroup = conditionGroup;
+        this.defaultGroup = APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId());
+        ConditionDTO[] conditionDTOs = conditionGroup.getConditions();
+        if (defaultGroup || conditionDTOs == null || conditionDTOs.length == 0) {
+            this.conditions = NO_CONDITIONS;
+        } else {
+            this.conditions = new CompiledCondition[conditionDTOs.length];
+            for (int i = 0; i < conditionDTOs.length; i++) {
+                this.conditions[i] = CompiledCondition.compile(conditionDTOs[i]);
+            }
+        }
+    }
+
+    /**
+     * Compiles the condition groups attached to a resource.
+     *
+     * @param conditionGroups condition groups to compile
+     * @return compiled condition groups, in the same order
+     */
+    static CompiledConditionGroup[] compile(ConditionGroupDTO[] conditionGroups) {
+
+        CompiledConditionGroup[] compiledGroups = new CompiledConditionGroup[conditionGroups.length];
+        for (int i = 0; i < conditionGroups.length; i++) {
+            compiledGroups[i] = new CompiledConditionGroup(conditionGroups[i]);
+        }
+        return compiledGroups;
+    }
+
+    ConditionGroupDTO getConditionGroup() {
+
+        return conditionGroup;
+    }
+
+    boolean isDefaultGroup() {
+
+        return defaultGroup;
+    }
+
+    boolean isApplicable(ConditionEvaluationContext context) {
+
+        if (conditions.length == 0) {
+            return false;
+        }
+        for (CompiledCondition condition : conditions) {
+            // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
+            if (!condition.evaluate(context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+
+import java.util.List;
+
+/**
+ * Immutable, pre-compiled form of a {@link ConditionDto} received with a throttle event. The IP condition of the
+ * pipeline is always evaluated, while header, JWT claim and query parameter conditions are evaluated only when the
+ * corresponding condition type is enabled in the throttle configuration.
+ */
+final class CompiledThrottleCondition {
+
+    private final CompiledCondition ipCondition;
+    private final CompiledCondition headerCondition;
+    private final CompiledCondition jwtClaimCondition;
+    private final CompiledCondition queryParamCondition;
+
+    private CompiledThrottleCondition(ConditionDto condition) {
+
+        if (condition.getIpCondition() != null) {
+            ipCondition = CompiledCondition.compile(condition.getIpCondition(), false);
+        } else if (condition.getIpRangeCondition() != null) {
+            ipCondition = CompiledCondition.compile(condition.getIpRangeCondition(), true);
+        } else {
+            ipCondition = null;
+        }
+        ConditionDto.HeaderConditions headerConditions = condition.getHeaderConditions();
+        headerCondition = headerConditions == null || headerConditions.getValues().isEmpty() ? null :
+                CompiledCondition.compile(CompiledCondition.AttributeSource.HEADER, headerConditions.getValues(),
+                        headerConditions.isInvert());
+        ConditionDto.JWTClaimConditions jwtClaimConditions = condition.getJwtClaimConditions();
+        jwtClaimCondition = jwtClaimConditions == null || jwtClaimConditions.getValues().isEmpty() ? null :
+                CompiledCondition.compile(CompiledCondition.AttributeSource.JWT_CLAIM, jwtClaimConditions.getValues(),
+                        jwtClaimConditions.isInvert());
+        ConditionDto.QueryParamConditions queryParamConditions = condition.getQueryParameterConditions();
+        queryParamCondition = queryParamConditions == null || queryParamConditions.getValues().isEmpty() ? null :
+                CompiledCondition.compile(CompiledCondition.AttributeSource.QUERY_PARAM,
+                        queryParamConditions.getValues(), queryParamConditions.isInvert());
+    }
+
+    /**
+     * Compiles the conditions of a throttled condition key.
+     *
+     * @param conditions conditions to compile
+     * @return compiled conditions, in the same order
+     */
+    static CompiledThrottleCondition[] compile(List<ConditionDto> conditions) {
+
+        CompiledThrottleCondition[] compiledConditions = new CompiledThrottleCondition[conditions.size()];
+        for (int i = 0; i < compiledConditions.length; i++) {
+            compiledConditions[i] = new CompiledThrottleCondition(conditions.get(i));
+        }
+        return compiledConditions;
+    }
+
+    boolean evaluate(ConditionEvaluationContext context, ThrottleProperties throttleProperties) {
+
+        boolean status = true;
+        if (ipCondition != null && !ipCondition.evaluate(context)) {
+            status = false;
+        }
+        if (headerCondition != null && throttleProperties.isEnableHeaderConditions()
+                && !headerCondition.evaluate(context)) {
+            status = false;
+        }
+        if (jwtClaimCondition != null && throttleProperties.isEnableJwtConditions()
+                && !jwtClaimCondition.evaluate(context)) {
+            status = false;
+        }
+        if (queryParamCondition != null && throttleProperties.isEnableQueryParamConditions()
+                && !queryParamCondition.evaluate(context)) {
+            status = false;
+        }
+        return status;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.axis2.context.MessageContext;
+import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Holds the request attributes referred by compiled throttle conditions. Each attribute is resolved lazily and at
+ * most once per request, so evaluating many conditions against the same request does not re-read the transport
+ * headers, re-parse the query string or re-decode the caller JWT.
+ */
+class ConditionEvaluationContext {
+
+    private final MessageContext messageContext;
+    private final AuthenticationContext authenticationContext;
+
+    private Map<String, String> transportHeaders;
+    private boolean transportHeadersResolved;
+    private Map<String, String> queryParams;
+    private boolean queryParamsResolved;
+    private Map<String, String> jwtClaims;
+    private boolean jwtClaimsResolved;
+    private String clientIp;
+    private boolean clientIpResolved;
+    private BigInteger clientIpValue;
+
+    ConditionEvaluationContext(MessageContext messageContext, AuthenticationContext authenticationContext) {
+
+        this.messageContext = messageContext;
+        this.authenticationContext = authenticationContext;
+    }
+
+    AuthenticationContext getAuthenticationContext() {
+
+        return authenticationContext;
+    }
+
+    Map<String, String> getTransportHeaders() {
+
+        if (!transportHeadersResolved) {
+            transportHeaders = (Map<String, String>) messageContext.getProperty(MessageContext.TRANSPORT_HEADERS);
+            transportHeadersResolved = true;
+        }
+        return transportHeaders;
+    }
+
+    Map<String, String> getQueryParams() {
+
+        if (!queryParamsResolved) {
+            queryParams = GatewayUtils.getQueryParams(messageContext);
+            queryParamsResolved = true;
+        }
+        return queryParams;
+    }
+
+    /**
+     * Returns the claims of the caller token, or null if there is no caller token in the authentication context.
+     */
+    Map<String, String> getJwtClaims() {
+
+        if (!jwtClaimsResolved) {
+            if (authenticationContext != null && authenticationContext.getCallerToken() != null) {
+                jwtClaims = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+            }
+            jwtClaimsResolved = true;
+        }
+        return jwtClaims;
+    }
+
+    String getClientIp() {
+
+        if (!clientIpResolved) {
+            clientIp = GatewayUtils.getIp(messageContext);
+            clientIpResolved = true;
+        }
+        return clientIp;
+    }
+
+    BigInteger getClientIpValue() {
+
+        if (clientIpValue == null) {
+            clientIpValue = APIUtil.ipToBigInteger(getClientIp());
+        }
+        return clientIpValue;
+    }
+}
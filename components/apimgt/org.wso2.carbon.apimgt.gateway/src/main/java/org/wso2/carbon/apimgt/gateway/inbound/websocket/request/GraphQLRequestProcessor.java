@@ -17,6 +17,9 @@
  */
 package org.wso2.carbon.apimgt.gateway.inbound.websocket.request;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.language.OperationDefinition;
@@ -61,6 +64,12 @@ import java.util.List;
 public class GraphQLRequestProcessor extends RequestProcessor {
 
     private static final Log log = LogFactory.getLog(GraphQLRequestProcessor.class);
+    /**
+     * Query analyzers of the deployed GraphQL schemas. An analyzer is dropped along with its schema when the API is
+     * redeployed or undeployed.
+     */
+    private static final LoadingCache<GraphQLSchema, QueryAnalyzer> queryAnalyzers = CacheBuilder.newBuilder()
+            .weakKeys().build(CacheLoader.from(QueryAnalyzer::new));
 
     /**
      * Handle inbound websocket requests for GraphQL subscriptions and perform authentication, authorization,
@@ -120,11 +129,12 @@ public class GraphQLRequestProcessor extends RequestProcessor {
                                             .validateScopes(inboundMessageContext, subscriptionOperation, operationId);
                                 }
                                 if (!responseDTO.isError()) {
-                                    QueryAnalyzer queryAnalyzer = new QueryAnalyzer(
+                                    QueryAnalyzer queryAnalyzer = queryAnalyzers.getUnchecked(
                                             inboundMessageContext.getGraphQLSchemaDTO().getGraphQLSchema());
                                     // analyze query depth and complexity
                                     responseDTO = validateQueryDepthAndComplexity(queryAnalyzer,
-                                            inboundMessageContext, graphQLSubscriptionPayload, operationId);
+                                            inboundMessageContext, graphQLSubscriptionPayload, document,
+                                            operationId);
                                     if (!responseDTO.isError()) {
                                         //throttle for matching resource
                                         responseDTO = InboundWebsocketProcessorUtil
@@ -255,17 +265,19 @@ public class GraphQLRequestProcessor extends RequestProcessor {
      * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
      * @param inboundMessageContext InboundMessageContext
      * @param payload               GraphQL payload
+     * @param document              GraphQL payload validated against the schema
      * @param operationId           Graphql message id
      * @return GraphQLProcessorResponseDTO
      */
     private GraphQLProcessorResponseDTO validateQueryDepthAndComplexity(QueryAnalyzer queryAnalyzer,
                                                                         InboundMessageContext inboundMessageContext,
-                                                                        String payload, String operationId) {
+                                                                        String payload, Document document,
+                                                                        String operationId) {
 
         GraphQLProcessorResponseDTO responseDTO = validateQueryDepth(queryAnalyzer, inboundMessageContext,
-                payload, operationId);
+                payload, document, operationId);
         if (!responseDTO.isError()) {
-            return validateQueryComplexity(queryAnalyzer, inboundMessageContext, payload, operationId);
+            return validateQueryComplexity(queryAnalyzer, inboundMessageContext, payload, document, operationId);
         }
         return responseDTO;
     }
@@ -276,12 +288,14 @@ public class GraphQLRequestProcessor extends RequestProcessor {
      * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
      * @param inboundMessageContext InboundMessageContext
      * @param payload               GraphQL payload
+     * @param document              GraphQL payload validated against the schema
      * @param operationId           Graphql message id
      * @return GraphQLProcessorResponseDTO
      */
     private GraphQLProcessorResponseDTO validateQueryComplexity(QueryAnalyzer queryAnalyzer,
                                                                 InboundMessageContext inboundMessageContext,
-                                                                String payload, String operationId) {
+                                                                String payload, Document document,
+                                                                String operationId) {
 
         GraphQLProcessorResponseDTO responseDTO = new GraphQLProcessorResponseDTO();
         responseDTO.setId(operationId);
@@ -291,7 +305,8 @@ public class GraphQLRequestProcessor extends RequestProcessor {
                     .getGraphQLSchema());
             QueryAnalyzerResponseDTO queryAnalyzerResponseDTO =
                     queryAnalyzer.analyseQueryMutationComplexity(payload,
-                            inboundMessageContext.getInfoDTO().getGraphQLMaxComplexity(), accessControlInfo);
+                            inboundMessageContext.getInfoDTO().getGraphQLMaxComplexity(), accessControlInfo,
+                            document);
             if (!queryAnalyzerResponseDTO.isSuccess() && !queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
                 List<String> errorList = queryAnalyzerResponseDTO.getErrorList();
                 log.error("Query complexity validation failed for: " + payload + " errors: " + errorList.toString());
@@ -325,18 +340,19 @@ public class GraphQLRequestProcessor extends RequestProcessor {
      * @param queryAnalyzer         Query complexity and depth analyzer for subscription operations
      * @param inboundMessageContext InboundMessageContext
      * @param payload               GraphQL payload
+     * @param document              GraphQL payload validated against the schema
      * @param operationId           GraphQL message Id
      * @return GraphQLProcessorResponseDTO
      */
     private GraphQLProcessorResponseDTO validateQueryDepth(QueryAnalyzer queryAnalyzer,
                                                            InboundMessageContext inboundMessageContext,
-                                                           String payload, String operationId) {
+                                                           String payload, Document document, String operationId) {
 
         GraphQLProcessorResponseDTO responseDTO = new GraphQLProcessorResponseDTO();
         responseDTO.setId(operationId);
         QueryAnalyzerResponseDTO queryAnalyzerResponseDTO =
                 queryAnalyzer.analyseQueryDepth(inboundMessageContext.getInfoDTO().
-                        getGraphQLMaxDepth(), payload);
+                        getGraphQLMaxDepth(), payload, document);
         if (!queryAnalyzerResponseDTO.isSuccess() && !queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
             List<String> errorList = queryAnalyzerResponseDTO.getErrorList();
             log.error("Query depth validation failed for: " + payload + " errors: " + errorList.toString());
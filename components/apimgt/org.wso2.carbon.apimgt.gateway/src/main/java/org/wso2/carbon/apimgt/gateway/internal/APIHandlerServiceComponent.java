@@ -106,6 +106,7 @@ public class APIHandlerServiceComponent {
 
     private APIKeyValidatorClientPool clientPool;
     private ServiceRegistration registration;
+    private RedisBaseDistributedCountManager redisBaseDistributedCountManager;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -153,7 +154,7 @@ public class APIHandlerServiceComponent {
                 ServiceReferenceHolder.getInstance().getAPIManagerConfiguration().getRedisConfig();
         if (redisConfig.isRedisEnabled()) {
             ServiceReferenceHolder.getInstance().setRedisPool(getJedisPool(redisConfig));
-            RedisBaseDistributedCountManager redisBaseDistributedCountManager =
+            redisBaseDistributedCountManager =
                     new RedisBaseDistributedCountManager(ServiceReferenceHolder.getInstance().getRedisPool());
             context.getBundleContext().registerService(DistributedCounterManager.class,
                     redisBaseDistributedCountManager, null);
@@ -336,6 +337,12 @@ public class APIHandlerServiceComponent {
             log.debug("Unregistering ThrottleDataService...");
             registration.unregister();
         }
+        if (ServiceReferenceHolder.getInstance().getThrottleDataPublisher() != null) {
+            ServiceReferenceHolder.getInstance().getThrottleDataPublisher().shutdown();
+        }
+        if (redisBaseDistributedCountManager != null) {
+            redisBaseDistributedCountManager.shutdown();
+        }
         if (ServiceReferenceHolder.getInstance().getRedisPool() != null &&
                 !ServiceReferenceHolder.getInstance().getRedisPool().isClosed()) {
             ServiceReferenceHolder.getInstance().getRedisPool().destroy();
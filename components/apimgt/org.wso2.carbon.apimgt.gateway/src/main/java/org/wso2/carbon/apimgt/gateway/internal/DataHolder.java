@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.apimgt.gateway.internal;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,29 +39,31 @@ import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class DataHolder {
     private static final Log log  = LogFactory.getLog(DataHolder.class);
     private static final DataHolder Instance = new DataHolder();
-    private Map<String, List<String>> apiToCertificatesMap = new HashMap<>();
-    private Map<String, String> googleAnalyticsConfigMap = new HashMap<>();
-    private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new HashMap<>();
-    private Map<String, List<String>> apiToKeyManagersMap = new HashMap<>();
-    private Map<String,Map<String, API>> tenantAPIMap  = new HashMap<>();
-    private Map<String, Boolean> tenantDeployStatus = new HashMap<>();
-    private Map<String, LLMProviderInfo> llmProviderMap = new HashMap<>();
+    // The registries below are updated by the deployment threads while the request threads read them, hence they
+    // are concurrent maps and the request path never takes a lock on them.
+    private volatile Map<String, List<String>> apiToCertificatesMap = new ConcurrentHashMap<>();
+    private final Map<String, String> googleAnalyticsConfigMap = new ConcurrentHashMap<>();
+    private final Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> apiToKeyManagersMap = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, API>> tenantAPIMap = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> tenantDeployStatus = new ConcurrentHashMap<>();
+    private final Map<String, LLMProviderInfo> llmProviderMap = new ConcurrentHashMap<>();
     private final Map<String, APIKeyInfo> apiKeyInfoHashMap = new ConcurrentHashMap<>();
     private final ReadWriteLock apiKeyInfoLock = new ReentrantReadWriteLock();
-    private final Map<String, Cache<String, Long>> apiSuspendedEndpoints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, EndpointSuspensions> apiSuspendedEndpoints = new ConcurrentHashMap<>();
+    private final AtomicLong endpointSuspensionVersions = new AtomicLong();
     private final ConcurrentMap<String, AbstractAPIMgtGatewayJWTGenerator> jwtGeneratorTenantMap =
             new ConcurrentHashMap<>();
 
@@ -100,12 +100,11 @@ public class DataHolder {
      */
     public LLMProviderInfo getLLMProviderConfigurations(String id) {
 
-        if (llmProviderMap.containsKey(id)) {
-            return llmProviderMap.get(id);
-        } else {
+        LLMProviderInfo provider = llmProviderMap.get(id);
+        if (provider == null) {
             log.warn("LLM Provider key " + id + " not found");
-            return null;
         }
+        return provider;
     }
 
     /**
@@ -144,7 +143,7 @@ public class DataHolder {
 
     public void setApiToCertificatesMap(Map<String, List<String>> apiToCertificatesMap) {
 
-        this.apiToCertificatesMap = apiToCertificatesMap;
+        this.apiToCertificatesMap = new ConcurrentHashMap<>(apiToCertificatesMap);
     }
 
     public static DataHolder getInstance() {
@@ -232,6 +231,10 @@ public class DataHolder {
 
     public void addGoogleAnalyticsConfig(String tenantDomain, String config) {
 
+        if (config == null) {
+            googleAnalyticsConfigMap.remove(tenantDomain);
+            return;
+        }
         googleAnalyticsConfigMap.put(tenantDomain, config);
     }
 
@@ -257,6 +260,10 @@ public class DataHolder {
 
     public void addApiToGraphQLSchemaDTO(String apiId, GraphQLSchemaDTO graphQLSchemaDTO) {
 
+        if (graphQLSchemaDTO == null) {
+            apiToGraphQLSchemaDTOMap.remove(apiId);
+            return;
+        }
         apiToGraphQLSchemaDTOMap.put(apiId, graphQLSchemaDTO);
     }
 
@@ -279,6 +286,10 @@ public class DataHolder {
 
     public void addKeyManagerToAPIMapping(String uuid, List<String> keyManagers) {
 
+        if (keyManagers == null) {
+            apiToKeyManagersMap.remove(uuid);
+            return;
+        }
         apiToKeyManagersMap.put(uuid, keyManagers);
     }
     public void removeKeyManagerToAPIMapping(String uuid) {
@@ -308,24 +319,16 @@ public class DataHolder {
         if (index != -1) {
             defaultContext = context.substring(0, index);
         }
-        Map<String, API> apiMap;
-        if (tenantAPIMap.containsKey(api.getOrganization())) {
-            apiMap = tenantAPIMap.get(api.getOrganization());
-        } else {
-            apiMap = new HashMap<>();
-        }
-        API oldAPI = apiMap.get(api.getContext());
-        if (oldAPI != null) {
-            apiMap.remove(api.getContext());
-            if (oldAPI.isDefaultVersion()) {
-                apiMap.remove(defaultContext);
-            }
-        }
-        apiMap.put(api.getContext(), api);
+        Map<String, API> apiMap = tenantAPIMap.computeIfAbsent(api.getOrganization(),
+                organization -> new ConcurrentHashMap<>());
+        // The new API replaces the old one in place, so that a request never finds the context unmapped while the API
+        // is being redeployed.
+        API oldAPI = apiMap.put(api.getContext(), api);
         if (api.isDefaultVersion()) {
             apiMap.put(defaultContext, api);
+        } else if (oldAPI != null && oldAPI.isDefaultVersion()) {
+            apiMap.remove(defaultContext, oldAPI);
         }
-        tenantAPIMap.put(api.getOrganization(), apiMap);
     }
 
     public void markAPIAsDeployed(GatewayAPIDTO gatewayAPIDTO) {
@@ -398,17 +401,11 @@ public class DataHolder {
     public void removeAPIFromAllTenantMap(String apiContext, String tenantDomain) {
         Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
         if (apiMap != null) {
-            API api = apiMap.get(apiContext);
-            if (api != null) {
-                apiMap.remove(apiContext);
-                if (api.isDefaultVersion()) {
-                    if (api.isDefaultVersion()) {
-                        String context = api.getContext();
-                        int index = context.lastIndexOf("/" + api.getApiVersion());
-                        apiMap.remove(context.substring(0, index));
-                    }
-
-                }
+            API api = apiMap.remove(apiContext);
+            if (api != null && api.isDefaultVersion()) {
+                String context = api.getContext();
+                int index = context.lastIndexOf("/" + api.getApiVersion());
+                apiMap.remove(context.substring(0, index), api);
             }
         }
     }
@@ -438,8 +435,8 @@ public class DataHolder {
     }
 
     public void markApisAsUnDeployedInTenant(String tenantDomain) {
-        if (tenantAPIMap.containsKey(tenantDomain)) {
-            Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
+        Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
+        if (apiMap != null) {
             apiMap.values().forEach(api -> api.setDeployed(false));
         }
     }
@@ -456,24 +453,28 @@ public class DataHolder {
     }
 
     /**
-     * Initializes a cache for a specific API key if not already present.
+     * Initializes the endpoint suspension registry of an API if not already present. The registry is created when
+     * the API is deployed, hence on the request path this is a lock free lookup of the existing registry.
      *
      * @param apiKey The key representing the API and tenant domain.
      */
-    public synchronized void initCache(String apiKey) {
-        apiSuspendedEndpoints.putIfAbsent(apiKey, CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.HOURS)
-                .build());
+    public void initCache(String apiKey) {
+
+        if (!apiSuspendedEndpoints.containsKey(apiKey)) {
+            apiSuspendedEndpoints.putIfAbsent(apiKey,
+                    new EndpointSuspensions(endpointSuspensionVersions.incrementAndGet()));
+        }
     }
 
     /**
-     * Retrieves the cache for a given endpoint key if it exists.
+     * Retrieves the endpoint suspension registry of an API if it exists.
      *
      * @param apiKey The key representing the API and tenant domain.
-     * @return The cache associated with the specified endpoint key, or {@code null} if not initialized.
+     * @return The suspension expiry times by endpoint key, or {@code null} if not initialized.
      */
-    public Cache<String, Long> getCache(String apiKey) {
-        return apiSuspendedEndpoints.get(apiKey);
+    public Map<String, Long> getCache(String apiKey) {
+        EndpointSuspensions suspensions = apiSuspendedEndpoints.get(apiKey);
+        return suspensions != null ? suspensions.expiryTimes : null;
     }
 
     /**
@@ -485,9 +486,11 @@ public class DataHolder {
      */
     public void suspendEndpoint(String apiKey, String endpointId, long expiryMillis) {
 
-        Cache<String, Long> cache = getCache(apiKey);
-        if (cache != null) {
-            cache.put(endpointId, System.currentTimeMillis() + expiryMillis);
+        EndpointSuspensions suspensions = apiSuspendedEndpoints.get(apiKey);
+        if (suspensions != null) {
+            // Concurrent suspensions of the same endpoint keep the latest expiry time.
+            suspensions.expiryTimes.merge(endpointId, System.currentTimeMillis() + expiryMillis, Math::max);
+            suspensions.version = endpointSuspensionVersions.incrementAndGet();
         }
     }
 
@@ -500,17 +503,47 @@ public class DataHolder {
      */
     public boolean isEndpointSuspended(String apiKey, String endpointId) {
 
-        Cache<String, Long> cache = getCache(apiKey);
-        if (cache == null) {
-            return false;
-        }
+        return getEndpointSuspensionExpiry(apiKey, endpointId) != 0L;
+    }
 
-        Long expirationTime = cache.getIfPresent(endpointId);
-        if (expirationTime == null || System.currentTimeMillis() > expirationTime) {
-            cache.invalidate(endpointId);
-            return false;
+    /**
+     * Returns the time until which an endpoint is suspended for a given API.
+     *
+     * @param apiKey     The key representing the API and tenant domain.
+     * @param endpointId The identifier of the endpoint.
+     * @return The suspension expiry time in milliseconds, or 0 if the endpoint is not suspended.
+     */
+    public long getEndpointSuspensionExpiry(String apiKey, String endpointId) {
+
+        EndpointSuspensions suspensions = apiSuspendedEndpoints.get(apiKey);
+        if (suspensions == null) {
+            return 0L;
         }
-        return true;
+        Long expirationTime = suspensions.expiryTimes.get(endpointId);
+        if (expirationTime == null) {
+            return 0L;
+        }
+        if (System.currentTimeMillis() > expirationTime) {
+            // Only the expired entry is removed, a suspension recorded concurrently is kept.
+            suspensions.expiryTimes.remove(endpointId, expirationTime);
+            return 0L;
+        }
+        return expirationTime;
+    }
+
+    /**
+     * Returns a version number which changes whenever an endpoint suspension of the given API is recorded or removed,
+     * or its suspension registry is created or released, so that the load balancing mediators of the API can reuse
+     * their view of the active endpoints until it changes. Versions are never reused, across APIs or across
+     * redeployments of an API.
+     *
+     * @param apiKey The key representing the API and tenant domain.
+     * @return The current endpoint suspension version of the API, or 0 if the registry is not initialized.
+     */
+    public long getEndpointSuspensionVersion(String apiKey) {
+
+        EndpointSuspensions suspensions = apiSuspendedEndpoints.get(apiKey);
+        return suspensions != null ? suspensions.version : 0L;
     }
 
     /**
@@ -520,18 +553,19 @@ public class DataHolder {
      * @param endpointId The identifier of the endpoint.
      */
     public void removeSuspendedEndpoint(String apiKey, String endpointId) {
-        Cache<String, Long> cache = getCache(apiKey);
-        if (cache != null) {
-            cache.invalidate(endpointId);
+        EndpointSuspensions suspensions = apiSuspendedEndpoints.get(apiKey);
+        if (suspensions != null) {
+            suspensions.expiryTimes.remove(endpointId);
+            suspensions.version = endpointSuspensionVersions.incrementAndGet();
         }
     }
 
     /**
-     * Releases an API's cache and removes it if no active references exist.
+     * Removes the endpoint suspension registry of an API when the API is undeployed.
      *
      * @param apiKey The key representing the API and tenant domain.
      */
-    public synchronized void releaseCache(String apiKey) {
+    public void releaseCache(String apiKey) {
 
         apiSuspendedEndpoints.remove(apiKey);
     }
@@ -591,4 +625,19 @@ public class DataHolder {
 
         return jwtGeneratorTenantMap;
     }
+
+    /**
+     * Endpoint suspension registry of an API, holding the suspension expiry times by endpoint key and the version of
+     * the registry.
+     */
+    private static final class EndpointSuspensions {
+
+        private final ConcurrentMap<String, Long> expiryTimes = new ConcurrentHashMap<>();
+        private volatile long version;
+
+        private EndpointSuspensions(long version) {
+
+            this.version = version;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fixed set of single threaded deployment lanes. Work is assigned to a lane by its key, so tasks with the same key
+ * run one after the other in submission order while tasks of unrelated APIs run in parallel. A lane thread is started
+ * only when work is first submitted to it.
+ */
+final class DeploymentLanes {
+
+    private final ExecutorService[] lanes;
+
+    DeploymentLanes(String name, int laneCount) {
+
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count should be a positive integer: " + laneCount);
+        }
+        lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = name + "-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    r -> new Thread(r, threadName));
+        }
+    }
+
+    /**
+     * Queues the task on the lane of the given key.
+     *
+     * @param key  key which decides the lane, tasks with equal keys run in submission order
+     * @param task task to run
+     */
+    void submit(String key, Runnable task) {
+
+        lanes[laneOf(key)].execute(task);
+    }
+
+    /**
+     * Returns the lane key of a deploy or undeploy event. An API is undeployed from the gateway by its context, so the
+     * events of all APIs of a tenant with the same context share a key, even when an API was deleted and recreated
+     * with a new UUID.
+     *
+     * @param event deploy or undeploy event
+     * @return key of the lane the event should run on
+     */
+    static String keyOf(DeployAPIInGatewayEvent event) {
+
+        return event.getTenantDomain() + ":" + event.getContext();
+    }
+
+    int laneOf(String key) {
+
+        if (key == null) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    int size() {
+
+        return lanes.length;
+    }
+}
@@ -60,8 +60,9 @@ import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -78,8 +79,14 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             .getAPIManagerConfiguration().getEventHubConfigurationDto();
     private final GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
-    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
     private static final GatewayNotifier gatewayNotifier = GatewayNotifier.getInstance();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Gson gson = new Gson();
+    private static final int DEPLOYMENT_LANE_COUNT = Math.max(2,
+            Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    private final DeploymentLanes deploymentLanes = new DeploymentLanes("DeploymentThread", DEPLOYMENT_LANE_COUNT);
+    private ScheduledExecutorService eventReleaseScheduler;
+    private long lastReleaseTime;
 
     public GatewayJMSMessageListener() {
     }
@@ -91,61 +98,90 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
     public void onMessage(Message message) {
 
         try {
-            if (eventHubConfigurationDto.hasEventWaitingTime()) {
-                long timeLeft = message.getJMSTimestamp() + eventHubConfigurationDto.getEventWaitingTime()
-                        - System.currentTimeMillis();
-                if (log.isDebugEnabled()) {
-                    log.debug("Event Hub waiting time: " + timeLeft);
-                }
-                if (timeLeft > 0) {
-                    Thread.sleep(timeLeft);
-                }
-            }
             if (message != null) {
                 if (log.isDebugEnabled()) {
                     log.debug("Event received in JMS Event Receiver - " + message);
                 }
-                Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
+                    String topicName = ((Topic) message.getJMSDestination()).getTopicName();
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData = new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
-                            path(APIConstants.EVENT_PAYLOAD_DATA);
-
-                    if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
-                        if (payloadData.get(APIConstants.EVENT_TYPE).asText() != null) {
-                            /*
-                             * This message contains notification
-                             * eventType - type of the event
-                             * timestamp - system time of the event published
-                             * event - event data
-                             */
-                            if (debugEnabled) {
-                                log.debug("Event received from the topic of " + jmsDestination.getTopicName());
-                            }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
-                        }
-                    } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase
-                            (jmsDestination.getTopicName())) {
-                        String mode = payloadData.get(APIConstants.Webhooks.MODE).asText();
-                        if (APIConstants.Webhooks.SUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksSubscriptionMessage(payloadData);
-                        } else if (APIConstants.Webhooks.UNSUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksUnSubscriptionMessage(payloadData);
-                        }
+                    if (eventHubConfigurationDto.hasEventWaitingTime()) {
+                        scheduleMessage(topicName, textMessage, message.getJMSTimestamp()
+                                + eventHubConfigurationDto.getEventWaitingTime());
+                    } else {
+                        processMessage(topicName, textMessage);
                     }
-
                 } else {
                     log.warn("Event dropped due to unsupported message type " + message.getClass());
                 }
             } else {
                 log.warn("Dropping the empty/null event received through jms receiver");
             }
-        } catch (JMSException | JsonProcessingException e) {
+        } catch (JMSException e) {
             log.error("JMSException occurred when processing the received message ", e);
-        } catch (InterruptedException e) {
-            log.error("Error occurred while waiting to retrieve artifacts from event hub", e);
+        }
+    }
+
+    /**
+     * Holds the message until the event hub waiting time has passed, without blocking the JMS consumer thread.
+     * Release times never go backwards, so that messages are still processed in the order they were received.
+     */
+    private synchronized void scheduleMessage(String topicName, String textMessage, long releaseTime) {
+
+        long now = System.currentTimeMillis();
+        lastReleaseTime = Math.max(lastReleaseTime, releaseTime);
+        long timeLeft = lastReleaseTime - now;
+        if (log.isDebugEnabled()) {
+            log.debug("Event Hub waiting time: " + timeLeft);
+        }
+        if (eventReleaseScheduler == null) {
+            eventReleaseScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "EventHubWaitingThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        eventReleaseScheduler.schedule(() -> {
+            try {
+                processMessage(topicName, textMessage);
+            } catch (RuntimeException e) {
+                log.error("Error occurred while processing the event received from " + topicName, e);
+            }
+        }, Math.max(timeLeft, 0L), TimeUnit.MILLISECONDS);
+    }
+
+    private void processMessage(String topicName, String textMessage) {
+
+        JsonNode payloadData;
+        try {
+            payloadData = objectMapper.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD)
+                    .path(APIConstants.EVENT_PAYLOAD_DATA);
+        } catch (JsonProcessingException e) {
+            log.error("Error occurred while parsing the event received from " + topicName, e);
+            return;
+        }
+        if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(topicName)) {
+            if (payloadData.get(APIConstants.EVENT_TYPE).asText() != null) {
+                /*
+                 * This message contains notification
+                 * eventType - type of the event
+                 * timestamp - system time of the event published
+                 * event - event data
+                 */
+                if (debugEnabled) {
+                    log.debug("Event received from the topic of " + topicName);
+                }
+                handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                        payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
+                        payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+            }
+        } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase(topicName)) {
+            String mode = payloadData.get(APIConstants.Webhooks.MODE).asText();
+            if (APIConstants.Webhooks.SUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
+                handleAsyncWebhooksSubscriptionMessage(payloadData);
+            } else if (APIConstants.Webhooks.UNSUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
+                handleAsyncWebhooksUnSubscriptionMessage(payloadData);
+            }
         }
     }
 
@@ -156,96 +192,35 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
 
         if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
                 || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
-                @Override
-                public void run() {
-
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
-                    String tenantDomain = gatewayEvent.getTenantDomain();
-                    if (!TenantUtils.isTenantAvailable(tenantDomain)){
-                        return;
-                    }
-                    boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                    if (!tenantLoaded) {
-                        String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
-                        synchronized (syncKey.intern()) {
-                            tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                            if (!tenantLoaded) {
-                                APIUtil.loadTenantConfigBlockingMode(tenantDomain);
-                            }
-                        }
-                    }
-
-                    if (tenantLoaded) {
-                        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
-                        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-                        if (!systemConfiguredGatewayLabels.isEmpty()) {
-                            ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
-                            if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.deployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
-                                            "in the Gateway");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                            }
-                            if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.unDeployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in undeploying artifacts");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                                DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
-                                        gatewayEvent.getTenantDomain());
-                            }
-                        }
-
-                        if (debugEnabled) {
-                            log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
-                                    gatewayEvent.getUuid() + " is successfully deployed/undeployed");
-                        }
-                    }
-                }
-            });
+            DeployAPIInGatewayEvent gatewayEvent = gson.fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            // Events of the same API context are deployed in the order they were received, other APIs proceed in
+            // parallel.
+            deploymentLanes.submit(DeploymentLanes.keyOf(gatewayEvent),
+                    () -> deployOrUndeployAPI(eventType, gatewayEvent));
         }
         if (EventType.APPLICATION_CREATE.toString().equals(eventType)
                 || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
         } else if (EventType.SUBSCRIPTIONS_CREATE.toString().equals(eventType)
                 || EventType.SUBSCRIPTIONS_UPDATE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())) {
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
         } else if (EventType.API_UPDATE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             DataHolder.getInstance().addAPIMetaData(event);
         } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -256,31 +231,31 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             }
         } else if (EventType.APPLICATION_REGISTRATION_CREATE.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
         } else if (EventType.SUBSCRIPTIONS_DELETE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
         } else if (EventType.APPLICATION_DELETE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
         } else if (EventType.REMOVE_APPLICATION_KEYMAPPING.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplicationKeyMapping(event);
         } else if (EventType.SCOPES_UPDATE.toString().equals(eventType)) {
-            ScopesEvent event = new Gson().fromJson(eventJson, ScopesEvent.class);
+            ScopesEvent event = gson.fromJson(eventJson, ScopesEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -289,7 +264,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.SCOPE_CREATE.toString().equals(eventType) ||
                 EventType.SCOPE_UPDATE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -298,7 +273,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     APIConstants.AuditLogConstants.DEPLOYED,
                     APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
         } else if (EventType.SCOPE_DELETE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -310,7 +285,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 EventType.POLICY_DELETE.toString().equals(eventType) ||
                 EventType.POLICY_UPDATE.toString().equals(eventType)) {
             String policyName = null;
-            PolicyEvent event = new Gson().fromJson(eventJson, PolicyEvent.class);
+            PolicyEvent event = gson.fromJson(eventJson, PolicyEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -323,7 +298,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 deletePolicy = true;
             }
             if (event.getPolicyType() == PolicyType.API) {
-                APIPolicyEvent policyEvent = new Gson().fromJson(eventJson, APIPolicyEvent.class);
+                APIPolicyEvent policyEvent = gson.fromJson(eventJson, APIPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateAPIPolicy(policyEvent);
@@ -333,7 +308,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 }
                 policyName = policyEvent.getPolicyName();
             } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
-                SubscriptionPolicyEvent policyEvent = new Gson().fromJson(eventJson, SubscriptionPolicyEvent.class);
+                SubscriptionPolicyEvent policyEvent = gson.fromJson(eventJson, SubscriptionPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateSubscriptionPolicy(policyEvent);
@@ -343,7 +318,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 }
                 policyName = policyEvent.getPolicyName();
             } else if (event.getPolicyType() == PolicyType.APPLICATION) {
-                ApplicationPolicyEvent policyEvent = new Gson().fromJson(eventJson, ApplicationPolicyEvent.class);
+                ApplicationPolicyEvent policyEvent = gson.fromJson(eventJson, ApplicationPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateApplicationPolicy(policyEvent);
@@ -358,7 +333,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
         } else if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType) ||
                 EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-            CertificateEvent certificateEvent = new Gson().fromJson(eventJson, CertificateEvent.class);
+            CertificateEvent certificateEvent = gson.fromJson(eventJson, CertificateEvent.class);
             if (!TenantUtils.isTenantAvailable(certificateEvent.getTenantDomain())){
                 return;
             }
@@ -385,7 +360,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.GA_CONFIG_UPDATE.toString().equals(eventType)) {
             GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
-                    new Gson().fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
+                    gson.fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
             if (!TenantUtils.isTenantAvailable(googleAnalyticsConfigEvent.getTenantDomain())){
                 return;
             }
@@ -395,14 +370,14 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 log.error(e);
             }
         } else if (EventType.UDATE_API_LOG_LEVEL.toString().equals(eventType)) {
-            APIEvent apiEvent = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent apiEvent = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(apiEvent.getTenantDomain())){
                 return;
             }
             APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
                     apiEvent.getResourceMethod(), apiEvent.getResourcePath());
         } else if (EventType.CUSTOM_POLICY_ADD.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -411,7 +386,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(key, keyTemplateValue);
         } else if (EventType.CUSTOM_POLICY_DELETE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -419,7 +394,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .removeKeyTemplate(key);
         } else if (EventType.CUSTOM_POLICY_UPDATE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -432,7 +407,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     .addKeyTemplate(newKey, newTemplateValue);
         } else if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)
                 || EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-            GatewayPolicyEvent gatewayPolicyEvent = new Gson().fromJson(eventJson, GatewayPolicyEvent.class);
+            GatewayPolicyEvent gatewayPolicyEvent = gson.fromJson(eventJson, GatewayPolicyEvent.class);
             if (!TenantUtils.isTenantAvailable(gatewayPolicyEvent.getTenantDomain())) {
                 return;
             }
@@ -478,7 +453,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_CREATE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -488,7 +463,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_DELETE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -498,7 +473,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_UPDATE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -512,7 +487,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 EventType.TENANT_DEACTIVATION.toString().equals(eventType)) {
             if (GatewayUtils.isTenantLoadingEnable()) {
                 try {
-                    TenantEvent tenantEvent = new Gson().fromJson(eventJson, TenantEvent.class);
+                    TenantEvent tenantEvent = gson.fromJson(eventJson, TenantEvent.class);
                     if (!TenantUtils.isTenantAvailable(tenantEvent.getTenantDomain())){
                         return;
                     }
@@ -526,7 +501,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             if (log.isDebugEnabled()) {
                 log.debug("Processing API key event. Event type: " + eventType);
             }
-            APIKeyEvent apiKeyEvent = new Gson().fromJson(eventJson, APIKeyEvent.class);
+            APIKeyEvent apiKeyEvent = gson.fromJson(eventJson, APIKeyEvent.class);
             if (!TenantUtils.isTenantAvailable(apiKeyEvent.getTenantDomain())){
                 return;
             }
@@ -549,7 +524,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             if (log.isDebugEnabled()) {
                 log.debug("Processing API key event. Event type: " + eventType);
             }
-            APIKeyAssociationEvent apiKeyAssociationEvent = new Gson().fromJson(eventJson, APIKeyAssociationEvent.class);
+            APIKeyAssociationEvent apiKeyAssociationEvent = gson.fromJson(eventJson, APIKeyAssociationEvent.class);
             if (!TenantUtils.isTenantAvailable(apiKeyAssociationEvent.getTenantDomain())){
                 return;
             }
@@ -571,7 +546,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 log.debug("Processing API key regeneration event. Event type: " + eventType);
             }
             APIKeyRegenerationEvent apiKeyRegenerationEvent =
-                    new Gson().fromJson(eventJson, APIKeyRegenerationEvent.class);
+                    gson.fromJson(eventJson, APIKeyRegenerationEvent.class);
             if (!TenantUtils.isTenantAvailable(apiKeyRegenerationEvent.getTenantDomain())) {
                 return;
             }
@@ -581,6 +556,68 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         }
     }
 
+    private void deployOrUndeployAPI(String eventType, DeployAPIInGatewayEvent gatewayEvent) {
+
+        String tenantDomain = gatewayEvent.getTenantDomain();
+        if (!TenantUtils.isTenantAvailable(tenantDomain)){
+            return;
+        }
+        boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+        if (!tenantLoaded) {
+            String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
+            synchronized (syncKey.intern()) {
+                tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+                if (!tenantLoaded) {
+                    APIUtil.loadTenantConfigBlockingMode(tenantDomain);
+                }
+            }
+        }
+
+        if (tenantLoaded) {
+            Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
+            systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+            if (!systemConfiguredGatewayLabels.isEmpty()) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
+                if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.deployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
+                                "in the Gateway");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
+                        }
+                    }
+                }
+                if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+                    boolean tenantFlowStarted = false;
+                    try {
+                        startTenantFlow(tenantDomain);
+                        tenantFlowStarted = true;
+                        inMemoryApiDeployer.unDeployAPI(gatewayEvent);
+                    } catch (ArtifactSynchronizerException e) {
+                        log.error("Error in undeploying artifacts");
+                    } finally {
+                        if (tenantFlowStarted) {
+                            endTenantFlow();
+                        }
+                    }
+                    DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
+                            gatewayEvent.getTenantDomain());
+                }
+            }
+
+            if (debugEnabled) {
+                log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
+                        gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+            }
+        }
+    }
+
     private APIKeyInfo fromAPIKeyEventToAPIKeyInfo(APIKeyEvent apiKeyEvent) {
         APIKeyInfo apiKeyInfo = new APIKeyInfo();
         apiKeyInfo.setApiId(apiKeyEvent.getApiId());
@@ -664,7 +701,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         providerInfo.setId(providerEvent.getId());
         providerInfo.setName(providerEvent.getName());
         providerInfo.setApiVersion(providerEvent.getApiVersion());
-        LLMProviderConfiguration configurations = new Gson().fromJson(providerEvent.getConfiguration(),
+        LLMProviderConfiguration configurations = gson.fromJson(providerEvent.getConfiguration(),
                 LLMProviderConfiguration.class);
         providerInfo.setConfigurations(configurations);
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
+import org.wso2.carbon.apimgt.api.gateway.ModelEndpointDTO;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable table of the model endpoints of an AI API load balancing policy, built once when the policy is set on the
+ * mediator. Endpoints are selected from a snapshot of the active endpoints, which is rebuilt only when an endpoint
+ * suspension of the API is recorded or removed, or when a suspension expires. Selecting an endpoint therefore neither locks nor
+ * allocates.
+ */
+final class ModelEndpointTable {
+
+    private final ModelEndpointDTO[] endpoints;
+    private final String[] endpointKeys;
+    private final double[] weights;
+    private final List<Map<String, Object>> targetModelConfigs;
+    private final boolean weighted;
+    private final AtomicInteger counter = new AtomicInteger(0);
+    private volatile HealthSnapshot healthSnapshot;
+
+    private ModelEndpointTable(List<ModelEndpointDTO> endpoints, Long suspendDuration, boolean weighted) {
+
+        int size = endpoints.size();
+        this.endpoints = endpoints.toArray(new ModelEndpointDTO[0]);
+        this.endpointKeys = new String[size];
+        this.weights = new double[size];
+        this.weighted = weighted;
+        Long suspendDurationMillis = suspendDuration != null
+                ? suspendDuration * AIAPIConstants.MILLISECONDS_IN_SECOND : null;
+        List<Map<String, Object>> configs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            endpointKeys[i] = GatewayUtils.getEndpointKey(this.endpoints[i]);
+            weights[i] = Math.max(this.endpoints[i].getWeight(), 0.1);
+            Map<String, Object> config = new HashMap<>();
+            config.put(AIAPIConstants.TARGET_MODEL_ENDPOINT, this.endpoints[i]);
+            config.put(AIAPIConstants.SUSPEND_DURATION, suspendDurationMillis);
+            configs.add(Collections.unmodifiableMap(config));
+        }
+        this.targetModelConfigs = Collections.unmodifiableList(configs);
+    }
+
+    /**
+     * Builds the endpoint table of a load balancing policy.
+     *
+     * @param endpoints       Endpoints of the policy.
+     * @param suspendDuration Suspend duration of the policy in seconds.
+     * @param weighted        Whether the endpoints are selected by weight rather than in turn.
+     * @return The endpoint table, or null if the policy has no endpoints.
+     */
+    static ModelEndpointTable of(List<ModelEndpointDTO> endpoints, Long suspendDuration, boolean weighted) {
+
+        if (endpoints == null || endpoints.isEmpty()) {
+            return null;
+        }
+        return new ModelEndpointTable(endpoints, suspendDuration, weighted);
+    }
+
+    /**
+     * Selects the next active endpoint.
+     *
+     * @param apiKey The key representing the API and tenant domain, under which the endpoint suspensions are kept.
+     * @return The load balancing configuration of the selected endpoint, holding the endpoint and the suspend
+     * duration, or null if all the endpoints are suspended.
+     */
+    Map<String, Object> next(String apiKey) {
+
+        HealthSnapshot snapshot = getHealthSnapshot(apiKey);
+        int activeCount = snapshot.activeEndpoints.length;
+        if (activeCount == 0) {
+            return null;
+        }
+        int index;
+        if (weighted) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int column = random.nextInt(activeCount);
+            index = random.nextDouble() < snapshot.probabilities[column] ? column : snapshot.aliases[column];
+        } else {
+            index = (counter.getAndIncrement() & Integer.MAX_VALUE) % activeCount;
+        }
+        return targetModelConfigs.get(snapshot.activeEndpoints[index]);
+    }
+
+    private HealthSnapshot getHealthSnapshot(String apiKey) {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        long version = dataHolder.getEndpointSuspensionVersion(apiKey);
+        HealthSnapshot snapshot = healthSnapshot;
+        if (snapshot != null && snapshot.version == version && snapshot.apiKey.equals(apiKey)
+                && System.currentTimeMillis() < snapshot.refreshTime) {
+            return snapshot;
+        }
+        int[] active = new int[endpoints.length];
+        int activeCount = 0;
+        long refreshTime = Long.MAX_VALUE;
+        for (int i = 0; i < endpoints.length; i++) {
+            long suspensionExpiry = dataHolder.getEndpointSuspensionExpiry(apiKey, endpointKeys[i]);
+            if (suspensionExpiry == 0L) {
+                active[activeCount++] = i;
+            } else {
+                refreshTime = Math.min(refreshTime, suspensionExpiry);
+            }
+        }
+        int[] activeEndpoints = Arrays.copyOf(active, activeCount);
+        snapshot = new HealthSnapshot(apiKey, version, refreshTime, activeEndpoints);
+        if (weighted) {
+            buildAliasTable(snapshot);
+        }
+        healthSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Builds the alias table of the active endpoints (Vose's method), which selects an endpoint with a probability
+     * proportional to its weight using a single random column and a single biased coin.
+     */
+    private void buildAliasTable(HealthSnapshot snapshot) {
+
+        int n = snapshot.activeEndpoints.length;
+        if (n == 0) {
+            return;
+        }
+        double totalWeight = 0;
+        for (int endpoint : snapshot.activeEndpoints) {
+            totalWeight += weights[endpoint];
+        }
+        double[] scaledWeights = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaledWeights[i] = weights[snapshot.activeEndpoints[i]] * n / totalWeight;
+            if (scaledWeights[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            snapshot.probabilities[less] = scaledWeights[less];
+            snapshot.aliases[less] = more;
+            scaledWeights[more] = scaledWeights[more] + scaledWeights[less] - 1.0;
+            if (scaledWeights[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        // Remaining columns are full, up to rounding errors.
+        while (!large.isEmpty()) {
+            snapshot.probabilities[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            snapshot.probabilities[small.pop()] = 1.0;
+        }
+    }
+
+    /**
+     * Active endpoints as of an endpoint suspension version, valid until the earliest suspension expiry.
+     */
+    private static final class HealthSnapshot {
+
+        private final String apiKey;
+        private final long version;
+        private final long refreshTime;
+        private final int[] activeEndpoints;
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        private HealthSnapshot(String apiKey, long version, long refreshTime, int[] activeEndpoints) {
+
+            this.apiKey = apiKey;
+            this.version = version;
+            this.refreshTime = refreshTime;
+            this.activeEndpoints = activeEndpoints;
+            this.probabilities = new double[activeEndpoints.length];
+            this.aliases = new int[activeEndpoints.length];
+        }
+    }
+}
@@ -25,18 +25,13 @@ import org.apache.synapse.core.SynapseEnvironment;
 import org.apache.synapse.mediators.AbstractMediator;
 import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
 import org.wso2.carbon.apimgt.api.APIManagementException;
-import org.wso2.carbon.apimgt.api.gateway.ModelEndpointDTO;
 import org.wso2.carbon.apimgt.api.gateway.RBPolicyConfigDTO;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * Mediator for AI API Round Robin load balancing.
@@ -44,7 +39,11 @@ import java.util.Random;
 public class WeightedRoundRobinMediator extends AbstractMediator implements ManagedLifecycle {
 
     private static final Log log = LogFactory.getLog(WeightedRoundRobinMediator.class);
+    private static final Gson gson = new Gson();
     private String weightedRoundRobinConfigs;
+    private volatile boolean validConfigs = true;
+    private volatile ModelEndpointTable productionEndpoints;
+    private volatile ModelEndpointTable sandboxEndpoints;
 
     /**
      * Initializes the mediator.
@@ -72,38 +71,29 @@ public class WeightedRoundRobinMediator extends AbstractMediator implements Mana
             log.debug("WeightedRoundRobinMediator mediation started.");
         }
 
-        DataHolder.getInstance().initCache(GatewayUtils.getAPIKeyForEndpoints(messageContext));
-
-        RBPolicyConfigDTO endpoints;
-        try {
-            endpoints = new Gson().fromJson(weightedRoundRobinConfigs, RBPolicyConfigDTO.class);
-        } catch (JsonSyntaxException e) {
-            log.error("Failed to parse weighted round robin configuration", e);
+        if (!validConfigs) {
             return false;
         }
 
+        String apiKey = GatewayUtils.getAPIKeyForEndpoints(messageContext);
+        DataHolder.getInstance().initCache(apiKey);
+
         String apiKeyType = (String) messageContext.getProperty(APIConstants.API_KEY_TYPE);
 
-        List<ModelEndpointDTO> selectedEndpoints = APIConstants.API_KEY_TYPE_PRODUCTION
+        ModelEndpointTable selectedEndpoints = APIConstants.API_KEY_TYPE_PRODUCTION
                 .equals(apiKeyType)
-                ? endpoints.getProduction()
-                : endpoints.getSandbox();
+                ? productionEndpoints
+                : sandboxEndpoints;
 
-        if (selectedEndpoints == null || selectedEndpoints.isEmpty()) {
+        if (selectedEndpoints == null) {
             if (log.isDebugEnabled()) {
                 log.debug("RoundRobin policy is not set for " + apiKeyType + ", bypassing mediation.");
             }
             return true;
         }
 
-        List<ModelEndpointDTO> activeEndpoints = GatewayUtils.filterActiveEndpoints(selectedEndpoints, messageContext);
-
-        if (!activeEndpoints.isEmpty()) {
-            ModelEndpointDTO nextEndpoint = getWeightedRandomEndpoint(activeEndpoints);
-            Map<String, Object> roundRobinConfigs = new HashMap<>();
-            roundRobinConfigs.put(AIAPIConstants.TARGET_MODEL_ENDPOINT, nextEndpoint);
-            roundRobinConfigs.put(AIAPIConstants.SUSPEND_DURATION,
-                    endpoints.getSuspendDuration() * AIAPIConstants.MILLISECONDS_IN_SECOND);
+        Map<String, Object> roundRobinConfigs = selectedEndpoints.next(apiKey);
+        if (roundRobinConfigs != null) {
             messageContext.setProperty(AIAPIConstants.ROUND_ROBIN_CONFIGS, roundRobinConfigs);
         } else {
             messageContext.setProperty(AIAPIConstants.TARGET_ENDPOINT, AIAPIConstants.REJECT_ENDPOINT);
@@ -111,34 +101,6 @@ public class WeightedRoundRobinMediator extends AbstractMediator implements Mana
         return true;
     }
 
-    /**
-     * Selects an endpoint using a weighted random selection mechanism.
-     *
-     * @param endpoints List of active endpoints.
-     * @return The selected ModelEndpointDTO based on weight.
-     */
-    private ModelEndpointDTO getWeightedRandomEndpoint(List<ModelEndpointDTO> endpoints) {
-
-        float totalWeight = 0.0f;
-        List<Float> cumulativeWeights = new ArrayList<>();
-
-        for (ModelEndpointDTO endpoint : endpoints) {
-            double weight = Math.max(endpoint.getWeight(), 0.1f);
-            totalWeight += (float) weight;
-            cumulativeWeights.add(totalWeight);
-        }
-
-        Random random = new Random();
-        float randomValue = random.nextFloat() * totalWeight;
-
-        for (int i = 0; i < cumulativeWeights.size(); i++) {
-            if (randomValue < cumulativeWeights.get(i)) {
-                return endpoints.get(i);
-            }
-        }
-        return endpoints.get(0);
-    }
-
     /**
      * Retrieves the endpoint list in JSON format.
      *
@@ -157,6 +119,22 @@ public class WeightedRoundRobinMediator extends AbstractMediator implements Mana
     public void setWeightedRoundRobinConfigs(String weightedRoundRobinConfigs) {
 
         this.weightedRoundRobinConfigs = weightedRoundRobinConfigs;
+        try {
+            RBPolicyConfigDTO endpoints = gson.fromJson(weightedRoundRobinConfigs, RBPolicyConfigDTO.class);
+            if (endpoints == null) {
+                productionEndpoints = null;
+                sandboxEndpoints = null;
+            } else {
+                productionEndpoints = ModelEndpointTable.of(endpoints.getProduction(),
+                        endpoints.getSuspendDuration(), true);
+                sandboxEndpoints = ModelEndpointTable.of(endpoints.getSandbox(), endpoints.getSuspendDuration(),
+                        true);
+            }
+            validConfigs = true;
+        } catch (JsonSyntaxException | IllegalArgumentException e) {
+            log.error("Failed to parse weighted round robin configuration", e);
+            validConfigs = false;
+        }
     }
 
     /**
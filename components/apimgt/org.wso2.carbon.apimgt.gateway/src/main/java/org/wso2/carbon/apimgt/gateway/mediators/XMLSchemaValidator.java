@@ -18,6 +18,9 @@
 
 package org.wso2.carbon.apimgt.gateway.mediators;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMException;
 import org.apache.axiom.soap.SOAPBody;
@@ -43,17 +46,17 @@ import org.xml.sax.SAXException;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.transform.stax.StAXSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This mediator would protect the backend resources from the XML threat vulnerabilities by validating the
@@ -62,6 +65,16 @@ import java.nio.charset.StandardCharsets;
 public class XMLSchemaValidator extends AbstractMediator {
     private static final Log logger = LogFactory.getLog(XMLSchemaValidator.class);
     private static final String APPLICATION_BUILDER_ALLOW_DTD = "ApplicationXMLBuilder.allowDTD";
+    private static final long SCHEMA_CACHE_EXPIRY_MINUTES = 15;
+    private static final long SCHEMA_CACHE_MAX_SIZE = 500;
+    /**
+     * Compiled schemas keyed by the secure processing mode and the XSD URL. Entries expire after a fixed interval so
+     * that a changed XSD is fetched and compiled again without redeploying the API.
+     */
+    private static final Cache<String, CompiledSchema> schemaCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(SCHEMA_CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(SCHEMA_CACHE_MAX_SIZE)
+            .build();
     APIManagerConfiguration apiManagerConfiguration;
     boolean isSecureXMLProcessingEnabled = true;
 
@@ -73,7 +86,6 @@ public class XMLSchemaValidator extends AbstractMediator {
      * @return A boolean value.True if successful and false if not.
      */
     public boolean mediate(MessageContext messageContext) {
-        InputStream inputStreamSchema;
         InputStream inputStreamXml;
         Boolean xmlValidationStatus;
         Boolean schemaValidationStatus;
@@ -116,7 +128,7 @@ public class XMLSchemaValidator extends AbstractMediator {
                 (ThreatProtectorConstants.APPLICATION_XML.equals(contentType) ||
                         ThreatProtectorConstants.TEXT_XML.equals(contentType))) {
             try {
-                String payload = extractPayload(axis2MC);
+                OMElement payload = extractPayload(axis2MC);
                 Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XML_VALIDATION);
                 if (messageProperty != null) {
                     xmlValidationStatus = Boolean.valueOf(messageProperty.toString());
@@ -124,7 +136,9 @@ public class XMLSchemaValidator extends AbstractMediator {
                         XMLConfig xmlConfig = configureSchemaProperties(messageContext);
                         apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
                         apimThreatAnalyzer.configure(xmlConfig);
-                        inputStreamXml = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                        payload.serialize(outputStream);
+                        inputStreamXml = new ByteArrayInputStream(outputStream.toByteArray());
                         apimThreatAnalyzer.analyze(inputStreamXml, apiContext);
                     }
                 }
@@ -132,9 +146,7 @@ public class XMLSchemaValidator extends AbstractMediator {
                 if (messageProperty != null) {
                     schemaValidationStatus = Boolean.valueOf(messageProperty.toString());
                     if (schemaValidationStatus.equals(true)) {
-                        inputStreamSchema = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
-                        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStreamSchema);
-                        validateSchema(messageContext, bufferedInputStream);
+                        validateSchema(messageContext, payload);
                     }
                 }
             } catch (APIMThreatAnalyzerException e) {
@@ -278,58 +290,126 @@ public class XMLSchemaValidator extends AbstractMediator {
     /**
      * This method validates the request payload xml with the relevant xsd.
      *
-     * @param messageContext      This message context contains the request message properties of the relevant
-     *                            API which was enabled the XML_Validator message mediation in flow.
-     * @param bufferedInputStream Buffered input stream to be validated.
+     * @param messageContext This message context contains the request message properties of the relevant
+     *                       API which was enabled the XML_Validator message mediation in flow.
+     * @param payload        First element of the SOAP body to be validated.
      * @throws APIMThreatAnalyzerException Exception might be occurred while parsing the xml payload.
      */
-    private boolean validateSchema(MessageContext messageContext, BufferedInputStream bufferedInputStream)
+    private boolean validateSchema(MessageContext messageContext, OMElement payload)
             throws APIMThreatAnalyzerException {
-        String xsdURL;
-        Schema schema;
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XSD_URL);
+        if (messageProperty == null || String.valueOf(messageProperty).isEmpty()) {
+            return true;
+        }
+        String xsdURL = String.valueOf(messageProperty);
+        CompiledSchema compiledSchema = null;
         try {
-            if (isSecureXMLProcessingEnabled) {
-                schemaFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-                schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-                schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            compiledSchema = getCompiledSchema(xsdURL, isSecureXMLProcessingEnabled);
+            compiledSchema.getValidator().validate(new StAXSource(payload.getXMLStreamReader()));
+        } catch (SAXException | IOException | XMLStreamException e) {
+            if (compiledSchema != null) {
+                // do not reuse a validator which was interrupted in the middle of a document
+                compiledSchema.discardValidator();
             }
+            throw new APIMThreatAnalyzerException("Error occurred while parsing XML payload : " + e);
+        }
+        return true;
+    }
 
-            Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XSD_URL);
-            if (messageProperty == null) {
-                return true;
-            } else {
-                if (String.valueOf(messageProperty).isEmpty()) {
-                    return true;
-                } else {
-                    xsdURL = String.valueOf(messageProperty);
-                    URL schemaFile = new URL(xsdURL);
-                    schema = schemaFactory.newSchema(schemaFile);
-                    Source xmlFile = new StreamSource(bufferedInputStream);
-                    Validator validator = schema.newValidator();
-                    if (isSecureXMLProcessingEnabled) {
-                        validator.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-                        validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-                        validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-                    }
-                    validator.validate(xmlFile);
+    /**
+     * Returns the compiled schema of the given XSD, fetching and compiling it only when it is not cached or the cached
+     * entry has expired.
+     *
+     * @param xsdURL           URL of the XSD.
+     * @param secureProcessing Whether secure XML processing should be applied to the schema and its validators.
+     * @return The compiled schema.
+     * @throws SAXException If the XSD could not be compiled.
+     * @throws IOException  If the XSD URL is malformed.
+     */
+    static CompiledSchema getCompiledSchema(final String xsdURL, final boolean secureProcessing)
+            throws SAXException, IOException {
+        try {
+            return schemaCache.get(secureProcessing + ":" + xsdURL,
+                    () -> new CompiledSchema(compileSchema(new URL(xsdURL), secureProcessing), secureProcessing));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SAXException) {
+                throw (SAXException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new SAXException("Error occurred while compiling XML schema " + xsdURL, (Exception) cause);
+        }
+    }
+
+    /**
+     * Discards all the compiled schemas so that they are fetched again on the next request.
+     */
+    static void invalidateSchemaCache() {
+        schemaCache.invalidateAll();
+    }
+
+    private static Schema compileSchema(URL schemaFile, boolean secureProcessing) throws SAXException {
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        if (secureProcessing) {
+            schemaFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Compiling XML schema " + schemaFile);
+        }
+        return schemaFactory.newSchema(schemaFile);
+    }
+
+    /**
+     * A compiled schema along with the validators created from it. {@link Schema} is thread safe but
+     * {@link Validator} is not, hence a validator is kept per thread and reused for the subsequent requests served
+     * by the same thread.
+     */
+    static final class CompiledSchema {
+
+        private final Schema schema;
+        private final boolean secureProcessing;
+        private final ThreadLocal<Validator> validators = new ThreadLocal<>();
+
+        CompiledSchema(Schema schema, boolean secureProcessing) {
+            this.schema = schema;
+            this.secureProcessing = secureProcessing;
+        }
+
+        Schema getSchema() {
+            return schema;
+        }
+
+        Validator getValidator() throws SAXException {
+            Validator validator = validators.get();
+            if (validator == null) {
+                validator = schema.newValidator();
+                if (secureProcessing) {
+                    validator.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                    validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+                    validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
                 }
+                validators.set(validator);
             }
-        } catch (SAXException | IOException e) {
-            throw new APIMThreatAnalyzerException("Error occurred while parsing XML payload : " + e);
+            return validator;
+        }
+
+        void discardValidator() {
+            validators.remove();
         }
-        return true;
     }
 
     /**
      * Extracts the payload from the SOAP message body.
      *
      * @param axis2MC The Axis2 message context containing the SOAP message to extract payload from.
-     * @return The string representation of the first element in the SOAP body.
+     * @return The first element in the SOAP body.
      * @throws XMLStreamException Exception might be occurred while parsing the SOAP message or if the message format is
      *                            invalid (missing envelope, body, or first element).
      */
-    private String extractPayload(org.apache.axis2.context.MessageContext axis2MC)
+    private OMElement extractPayload(org.apache.axis2.context.MessageContext axis2MC)
             throws XMLStreamException, IOException {
         try {
             RelayUtils.buildMessage(axis2MC);
@@ -348,7 +428,7 @@ public class XMLSchemaValidator extends AbstractMediator {
                 logger.debug("First element is missing in the SOAP body");
                 throw new XMLStreamException(APIMgtGatewayConstants.INVALID_XML_FORMAT_MSG);
             }
-            return firstElement.toString();
+            return firstElement;
 
         } catch (OMException e) {
             throw new XMLStreamException(APIMgtGatewayConstants.INVALID_XML_FORMAT_MSG);
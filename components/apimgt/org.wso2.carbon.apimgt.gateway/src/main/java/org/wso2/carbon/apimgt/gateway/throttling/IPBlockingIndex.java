@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable lookup index over the IP blocking conditions of a tenant.
+ * <p>
+ * Fixed IP conditions are kept in hash sets. Non inverted IP range conditions are sorted by their starting IP together
+ * with a running maximum of the ending IPs, so finding whether any range contains an IP is a binary search. Ranges
+ * whose bounds fit in 64 bits (IPv4) are stored as primitive longs, and the rest (IPv6) as pairs of longs holding the
+ * high and low 64 bits of the 128 bit address. Inverted conditions block every IP outside them, so only the
+ * intersection of all inverted ranges has to be kept.
+ * <p>
+ * Request IPs in dotted decimal IPv4 form are parsed straight into a long. Other IPs (IPv6) are parsed through
+ * {@link APIUtil#ipToBigInteger(String)} and split into their high and low 64 bits.
+ * <p>
+ * Instances are never modified after construction. Updates build a new index which is then published, so readers
+ * never wait on writers.
+ */
+final class IPBlockingIndex {
+
+    static final IPBlockingIndex EMPTY = new IPBlockingIndex(Collections.<IPRange>emptySet());
+
+    private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private final Set<IPRange> ipRanges;
+
+    private final Set<String> blockedFixedIps = new HashSet<>();
+    private final Set<String> invertedFixedIps = new HashSet<>();
+
+    // Non inverted ranges, with bounds fitting in 64 bits, sorted by starting IP.
+    private final long[] narrowStarts;
+    private final long[] narrowMaxEnds;
+    // Non inverted ranges, with bounds wider than 64 bits, sorted by starting IP.
+    private final long[] wideStartsHigh;
+    private final long[] wideStartsLow;
+    private final long[] wideMaxEndsHigh;
+    private final long[] wideMaxEndsLow;
+
+    // Intersection of the inverted ranges. An IP is not blocked by inverted ranges only if it is within all of them.
+    private final boolean hasInvertedRanges;
+    private final long invertedMaxStartHigh;
+    private final long invertedMaxStartLow;
+    private final long invertedMinEndHigh;
+    private final long invertedMinEndLow;
+
+    IPBlockingIndex(Set<IPRange> ipRanges) {
+
+        this.ipRanges = Collections.unmodifiableSet(ipRanges);
+        List<BigInteger[]> narrowRanges = new ArrayList<>();
+        List<BigInteger[]> wideRanges = new ArrayList<>();
+        BigInteger maxStart = null;
+        BigInteger minEnd = null;
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ipRange.isInvert()) {
+                    invertedFixedIps.add(ipRange.getFixedIp());
+                } else if (ipRange.getFixedIp() != null) {
+                    blockedFixedIps.add(ipRange.getFixedIp());
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                BigInteger start = ipRange.getStartingIpBigIntValue();
+                BigInteger end = ipRange.getEndingIpBigIntValue();
+                if (start == null || end == null) {
+                    continue;
+                }
+                if (ipRange.isInvert()) {
+                    maxStart = maxStart == null || start.compareTo(maxStart) > 0 ? start : maxStart;
+                    minEnd = minEnd == null || end.compareTo(minEnd) < 0 ? end : minEnd;
+                } else if (start.bitLength() <= 64 && end.bitLength() <= 64) {
+                    narrowRanges.add(new BigInteger[]{start, end});
+                } else {
+                    wideRanges.add(new BigInteger[]{start, end});
+                }
+            }
+        }
+        hasInvertedRanges = maxStart != null;
+        invertedMaxStartHigh = hasInvertedRanges ? high(maxStart) : 0;
+        invertedMaxStartLow = hasInvertedRanges ? low(maxStart) : 0;
+        invertedMinEndHigh = hasInvertedRanges ? high(minEnd) : 0;
+        invertedMinEndLow = hasInvertedRanges ? low(minEnd) : 0;
+
+        Comparator<BigInteger[]> byStart = new Comparator<BigInteger[]>() {
+            @Override
+            public int compare(BigInteger[] o1, BigInteger[] o2) {
+
+                return o1[0].compareTo(o2[0]);
+            }
+        };
+        Collections.sort(narrowRanges, byStart);
+        Collections.sort(wideRanges, byStart);
+
+        narrowStarts = new long[narrowRanges.size()];
+        narrowMaxEnds = new long[narrowRanges.size()];
+        BigInteger maxEnd = null;
+        for (int i = 0; i < narrowRanges.size(); i++) {
+            BigInteger[] range = narrowRanges.get(i);
+            maxEnd = maxEnd == null || range[1].compareTo(maxEnd) > 0 ? range[1] : maxEnd;
+            narrowStarts[i] = range[0].longValue();
+            narrowMaxEnds[i] = maxEnd.longValue();
+        }
+
+        wideStartsHigh = new long[wideRanges.size()];
+        wideStartsLow = new long[wideRanges.size()];
+        wideMaxEndsHigh = new long[wideRanges.size()];
+        wideMaxEndsLow = new long[wideRanges.size()];
+        maxEnd = null;
+        for (int i = 0; i < wideRanges.size(); i++) {
+            BigInteger[] range = wideRanges.get(i);
+            maxEnd = maxEnd == null || range[1].compareTo(maxEnd) > 0 ? range[1] : maxEnd;
+            wideStartsHigh[i] = high(range[0]);
+            wideStartsLow[i] = low(range[0]);
+            wideMaxEndsHigh[i] = high(maxEnd);
+            wideMaxEndsLow[i] = low(maxEnd);
+        }
+    }
+
+    Set<IPRange> getIpRanges() {
+
+        return ipRanges;
+    }
+
+    boolean isEmpty() {
+
+        return ipRanges.isEmpty();
+    }
+
+    /**
+     * Checks whether the given IP is blocked by any of the conditions in the index. Fixed IP conditions match the IP
+     * string exactly, while IP range conditions match IPs strictly between the starting and ending IPs.
+     *
+     * @param ip client IP
+     * @return true if the IP is blocked
+     */
+    boolean isBlocked(String ip) {
+
+        if (blockedFixedIps.contains(ip)) {
+            return true;
+        }
+        // An inverted fixed IP condition blocks every other IP.
+        if (!invertedFixedIps.isEmpty() && !(invertedFixedIps.size() == 1 && invertedFixedIps.contains(ip))) {
+            return true;
+        }
+        if (narrowStarts.length == 0 && wideStartsHigh.length == 0 && !hasInvertedRanges) {
+            return false;
+        }
+
+        // The request IP is parsed only once, and only if there are range conditions to check.
+        long ipHigh;
+        long ipLow = parseIPv4(ip);
+        if (ipLow >= 0) {
+            ipHigh = 0;
+        } else {
+            BigInteger ipValue = APIUtil.ipToBigInteger(ip);
+            ipHigh = high(ipValue);
+            ipLow = low(ipValue);
+        }
+        if (hasInvertedRanges
+                && !(compare(ipHigh, ipLow, invertedMaxStartHigh, invertedMaxStartLow) > 0
+                && compare(ipHigh, ipLow, invertedMinEndHigh, invertedMinEndLow) < 0)) {
+            return true;
+        }
+        if (ipHigh == 0 && narrowStarts.length > 0) {
+            int index = lastStartBelow(narrowStarts, ipLow);
+            if (index >= 0 && Long.compareUnsigned(narrowMaxEnds[index], ipLow) > 0) {
+                return true;
+            }
+        }
+        if (wideStartsHigh.length > 0) {
+            int index = lastStartBelow(wideStartsHigh, wideStartsLow, ipHigh, ipLow);
+            return index >= 0 && compare(wideMaxEndsHigh[index], wideMaxEndsLow[index], ipHigh, ipLow) > 0;
+        }
+        return false;
+    }
+
+    /**
+     * Parses an IP in dotted decimal IPv4 form, with four octets without leading zeros, into its numeric value.
+     *
+     * @param ip client IP
+     * @return numeric value of the IP, or -1 if the IP is not in dotted decimal IPv4 form
+     */
+    static long parseIPv4(String ip) {
+
+        if (ip == null) {
+            return -1;
+        }
+        int length = ip.length();
+        if (length < 7 || length > 15) {
+            return -1;
+        }
+        long value = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = ip.charAt(i);
+            if (c == '.') {
+                if (digits == 0 || ++dots > 3) {
+                    return -1;
+                }
+                value = (value << 8) | octet;
+                octet = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (digits > 0 && octet == 0) {
+                    // Leading zeros are left to the address parser, which may read them differently.
+                    return -1;
+                }
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || dots != 3) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+
+    /**
+     * Returns the index of the last range starting strictly below the given unsigned value, or -1 if there is none.
+     */
+    private static int lastStartBelow(long[] starts, long value) {
+
+        int low = 0;
+        int high = starts.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(starts[mid], value) < 0) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the last range starting strictly below the given 128 bit value, or -1 if there is none.
+     */
+    private static int lastStartBelow(long[] startsHigh, long[] startsLow, long valueHigh, long valueLow) {
+
+        int low = 0;
+        int high = startsHigh.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startsHigh[mid], startsLow[mid], valueHigh, valueLow) < 0) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private static int compare(long high1, long low1, long high2, long low2) {
+
+        int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    private static long high(BigInteger value) {
+
+        return value.shiftRight(64).and(LONG_MASK).longValue();
+    }
+
+    private static long low(BigInteger value) {
+
+        return value.and(LONG_MASK).longValue();
+    }
+}
@@ -30,7 +30,6 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -50,7 +49,7 @@ public class ThrottleDataHolder {
     private Map<String, String> blockedAPIConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedApplicationConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedUserConditionsMap = new ConcurrentHashMap<String, String>();
-    private Map<String, Set<IPRange>> blockedIpConditionsMap = new ConcurrentHashMap<>();
+    private Map<String, IPBlockingIndex> blockedIpConditionsMap = new ConcurrentHashMap<>();
     private Map<String, String> keyTemplateMap = new ConcurrentHashMap<String, String>();
     private boolean isBlockingConditionsPresent = true;
     private boolean isKeyTemplatesPresent = false;
@@ -165,13 +164,14 @@ public class ThrottleDataHolder {
 
     public void addIpBlockingCondition(String tenantDomain, int conditionId, String value, String type) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges == null){
-            ipRanges = new HashSet<>();
+        IPRange ipRange = convertValueToIPRange(tenantDomain, conditionId, value, type);
+        // IP blocking conditions are updated copy-on-write, so that request threads never block on an update.
+        synchronized (blockedIpConditionsMap) {
+            Set<IPRange> ipRanges = new HashSet<>(
+                    blockedIpConditionsMap.getOrDefault(tenantDomain, IPBlockingIndex.EMPTY).getIpRanges());
+            ipRanges.add(ipRange);
+            blockedIpConditionsMap.put(tenantDomain, new IPBlockingIndex(ipRanges));
         }
-
-        ipRanges.add(convertValueToIPRange(tenantDomain, conditionId, value, type));
-        blockedIpConditionsMap.put(tenantDomain, ipRanges);
     }
 
     private IPRange convertValueToIPRange(String tenantDomain, int conditionId, String value, String type) {
@@ -229,7 +229,12 @@ public class ThrottleDataHolder {
 
     public void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
         if(data.size() > 0) {
-            blockedIpConditionsMap.putAll(data);
+            synchronized (blockedIpConditionsMap) {
+                for (Map.Entry<String, Set<IPRange>> entry : data.entrySet()) {
+                    blockedIpConditionsMap.put(entry.getKey(),
+                            new IPBlockingIndex(new HashSet<>(entry.getValue())));
+                }
+            }
         }
     }
 
@@ -260,14 +265,18 @@ public class ThrottleDataHolder {
 
     public void removeIpBlockingCondition(String tenantDomain, int conditionId) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges != null) {
-            Iterator<IPRange> iterator = ipRanges.iterator();
-            while (iterator.hasNext()) {
-                IPRange ipRange = iterator.next();
-                if (ipRange.getId() == conditionId) {
-                    iterator.remove();
-                    break;
+        synchronized (blockedIpConditionsMap) {
+            IPBlockingIndex ipBlockingIndex = blockedIpConditionsMap.get(tenantDomain);
+            if (ipBlockingIndex != null) {
+                Set<IPRange> ipRanges = new HashSet<>(ipBlockingIndex.getIpRanges());
+                Iterator<IPRange> iterator = ipRanges.iterator();
+                while (iterator.hasNext()) {
+                    IPRange ipRange = iterator.next();
+                    if (ipRange.getId() == conditionId) {
+                        iterator.remove();
+                        blockedIpConditionsMap.put(tenantDomain, new IPBlockingIndex(ipRanges));
+                        break;
+                    }
                 }
             }
         }
@@ -309,38 +318,15 @@ public class ThrottleDataHolder {
 
     private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(apiTenantDomain);
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant " + apiTenantDomain + " contains block conditions");
-            for (IPRange ipRange : ipRanges) {
-                if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    }
-                } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    }
-                }
+        IPBlockingIndex ipBlockingIndex =
+                blockedIpConditionsMap.getOrDefault(apiTenantDomain, IPBlockingIndex.EMPTY);
+        if (!ipBlockingIndex.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant " + apiTenantDomain + " contains block conditions");
+            }
+            if (ipBlockingIndex.isBlocked(ip)) {
+                log.debug("Block IP selected for Blocked");
+                return true;
             }
         }
         return false;
@@ -224,7 +224,29 @@ public class DataProcessAndPublishingAgent implements Runnable {
     }
 
     public void run() {
-        JSONObject jsonObMap = new JSONObject();
+        dataPublisher.tryPublish(createEvent());
+    }
+
+    /**
+     * Builds the throttle event of the request.
+     *
+     * @return event to be published to the traffic manager
+     */
+    org.wso2.carbon.databridge.commons.Event createEvent() {
+        ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
+        // With the compact encoding, properties are collected into a buffer reused by this thread, and only the
+        // headers, query parameters and claims referred to by the resource's conditions are published
+        ThrottlePropertiesEncoder propertiesEncoder = null;
+        ThrottlePropertiesEncoder.ConditionAttributeNames conditionAttributeNames = null;
+        Map<String, Object> jsonObMap;
+        if (APIConstants.AdvancedThrottleConstants.EVENT_PROPERTIES_ENCODING_COMPACT
+                .equalsIgnoreCase(getThrottleProperties().getEventPropertiesEncoding())) {
+            propertiesEncoder = ThrottlePropertiesEncoder.getInstance();
+            conditionAttributeNames = ThrottlePropertiesEncoder.getConditionAttributeNames(list);
+            jsonObMap = propertiesEncoder.getProperties();
+        } else {
+            jsonObMap = new JSONObject();
+        }
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
 
@@ -249,7 +271,9 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
         //HeaderMap will only be set if the Header Publishing has been enabled.
         if (getThrottleProperties().isEnableHeaderConditions()) {
-            if (this.headersMap != null) {
+            if (propertiesEncoder != null) {
+                propertiesEncoder.putAll(this.headersMap, conditionAttributeNames.getHeaders());
+            } else if (this.headersMap != null) {
                 jsonObMap.putAll(this.headersMap);
             }
         }
@@ -260,26 +284,38 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
         //Setting query parameters
         if (getThrottleProperties().isEnableQueryParamConditions()) {
-            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
-            if (queryParams != null) {
-                jsonObMap.putAll(queryParams);
+            if (propertiesEncoder != null) {
+                if (!conditionAttributeNames.getQueryParams().isEmpty()) {
+                    propertiesEncoder.putAll(GatewayUtils.getQueryParams(axis2MessageContext),
+                            conditionAttributeNames.getQueryParams());
+                }
+            } else {
+                Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
+                if (queryParams != null) {
+                    jsonObMap.putAll(queryParams);
+                }
             }
-
         }
 
         //Publish jwt claims
         if (getThrottleProperties().isEnableJwtConditions()) {
             if (authenticationContext.getCallerToken() != null) {
-                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-                if (assertions != null) {
-                    jsonObMap.putAll(assertions);
+                if (propertiesEncoder != null) {
+                    if (!conditionAttributeNames.getJwtClaims().isEmpty()) {
+                        propertiesEncoder.putAll(JWTUtil.getJWTClaims(authenticationContext.getCallerToken()),
+                                conditionAttributeNames.getJwtClaims());
+                    }
+                } else {
+                    Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+                    if (assertions != null) {
+                        jsonObMap.putAll(assertions);
+                    }
                 }
             }
         }
 
         //this parameter will be used to capture message size and pass it to calculation logic
         
-        ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
         boolean isVerbInfoContentAware = false;
         if (list != null && !list.isEmpty()) {
             VerbInfoDTO verbInfoDTO = list.get(0);
@@ -313,16 +349,17 @@ public class DataProcessAndPublishingAgent implements Runnable {
             jsonObMap.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
         }
 
+        String properties = propertiesEncoder != null ? propertiesEncoder.encode() : jsonObMap.toString();
         Object[] objects = new Object[]{messageContext.getMessageID(),
                                         this.applicationLevelThrottleKey, this.applicationLevelTier,
                                         this.apiLevelThrottleKey, this.apiLevelTier,
                                         this.subscriptionLevelThrottleKey, this.subscriptionLevelTier,
                                         this.resourceLevelThrottleKey, this.resourceLevelTier,
                                         this.authorizedUser, this.apiContext, this.apiVersion,
-                                        this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
+                                        this.appTenant, this.apiTenant, this.appId, this.apiName, properties};
         org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
                                                                                                       System.currentTimeMillis(), null, null, objects);
-        dataPublisher.tryPublish(event);
+        return event;
     }
 
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
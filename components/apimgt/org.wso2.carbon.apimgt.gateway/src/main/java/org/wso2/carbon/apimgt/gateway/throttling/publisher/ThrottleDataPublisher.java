@@ -57,6 +57,8 @@ public class ThrottleDataPublisher {
 
     Executor executor;
 
+    private ThrottleEventBatchPublisher batchPublisher;
+
     /**
      * This method will initialize throttle data publisher. Inside this we will start executor and initialize data
      * publisher which we used to publish throttle data.
@@ -67,22 +69,35 @@ public class ThrottleDataPublisher {
             ThrottleProperties.DataPublisher dataPublisherConfiguration = ServiceReferenceHolder.getInstance()
                     .getThrottleProperties().getDataPublisher();
             if (dataPublisherConfiguration != null && dataPublisherConfiguration.isEnabled()) {
-                dataPublisherPool = ThrottleDataPublisherPool.getInstance();
+                ThrottleProperties.DataPublisherBatching dataPublisherBatchingConfiguration = throttleProperties
+                        .getDataPublisherBatching();
+                boolean batchingEnabled = dataPublisherBatchingConfiguration != null
+                        && dataPublisherBatchingConfiguration.isEnabled();
+                if (!batchingEnabled) {
+                    dataPublisherPool = ThrottleDataPublisherPool.getInstance();
+                }
                 ThrottleProperties.DataPublisherThreadPool dataPublisherThreadPoolConfiguration = ServiceReferenceHolder
                         .getInstance().getThrottleProperties().getDataPublisherThreadPool();
 
                 try {
-                    executor = new DataPublisherThreadPoolExecutor(dataPublisherThreadPoolConfiguration.getCorePoolSize(),
-                            dataPublisherThreadPoolConfiguration.getMaximumPoolSize(), dataPublisherThreadPoolConfiguration
-                            .getKeepAliveTime(),
-                            TimeUnit
-                                    .SECONDS,
-                            new LinkedBlockingDeque<Runnable>() {
-                            });
+                    if (!batchingEnabled) {
+                        executor = new DataPublisherThreadPoolExecutor(
+                                dataPublisherThreadPoolConfiguration.getCorePoolSize(),
+                                dataPublisherThreadPoolConfiguration.getMaximumPoolSize(),
+                                dataPublisherThreadPoolConfiguration.getKeepAliveTime(), TimeUnit.SECONDS,
+                                new LinkedBlockingDeque<Runnable>() {
+                                });
+                    }
                     dataPublisher = new DataPublisher(dataPublisherConfiguration.getType(), dataPublisherConfiguration
                             .getReceiverUrlGroup(), dataPublisherConfiguration.getAuthUrlGroup(), dataPublisherConfiguration
                             .getUsername(),
                             dataPublisherConfiguration.getPassword());
+                    if (batchingEnabled) {
+                        // Agents are created after the data publisher, as each agent captures it when constructed
+                        batchPublisher = new ThrottleEventBatchPublisher(dataPublisherBatchingConfiguration,
+                                DataProcessAndPublishingAgent::new, dataPublisher::tryPublish);
+                        batchPublisher.start();
+                    }
 
                 } catch (DataEndpointAgentConfigurationException e) {
                     log.error("Error in initializing binary data-publisher to send requests to global throttling engine " +
@@ -104,6 +119,17 @@ public class ThrottleDataPublisher {
         }
     }
 
+    /**
+     * Publishes the throttle events still queued for batching and stops the publisher threads. Called when the gateway
+     * shuts down, before the data publisher goes away.
+     */
+    public void shutdown() {
+
+        if (batchPublisher != null) {
+            batchPublisher.stop();
+        }
+    }
+
     /**
      * This method used to pass message context and let it run within separate thread.
      *
@@ -118,7 +144,12 @@ public class ThrottleDataPublisher {
             String appId, MessageContext messageContext,
             AuthenticationContext authenticationContext) {
         try {
-            if (dataPublisherPool != null) {
+            if (batchPublisher != null) {
+                batchPublisher.publish(agent -> agent.setDataReference(applicationLevelThrottleKey,
+                        applicationLevelTier, apiLevelThrottleKey, apiLevelTier, subscriptionLevelThrottleKey,
+                        subscriptionLevelTier, resourceLevelThrottleKey, resourceLevelTier, authorizedUser,
+                        apiContext, apiVersion, appTenant, apiTenant, appId, messageContext, authenticationContext));
+            } else if (dataPublisherPool != null) {
                 DataProcessAndPublishingAgent agent = dataPublisherPool.get();
                 agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
                         apiLevelThrottleKey, apiLevelTier,
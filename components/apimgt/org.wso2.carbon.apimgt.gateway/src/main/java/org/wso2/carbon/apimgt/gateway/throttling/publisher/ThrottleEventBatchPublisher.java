@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Publishes throttle events in batches. Request threads fill pre-allocated agents held in bounded ring buffers, and
+ * a fixed number of publisher threads, one per ring, drain their ring in batches. The events of a batch are created
+ * and their slots freed in one pass, after which the batch is handed over to the event sink. This replaces a pool
+ * borrow, an executor task submission and a pool return per request.
+ * <p>
+ * Events are never blocked on: when all rings are full, or the publisher is stopped, the event is dropped. Dropped
+ * events, events rejected by the event sink and events that failed to publish are counted and exposed as metrics.
+ */
+class ThrottleEventBatchPublisher {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventBatchPublisher.class);
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long STOP_WAIT_MILLIS = 5000L;
+    private static final String METRIC_NAME = "ThrottleDataPublisher";
+
+    private final ThrottleEventRingBuffer[] ringBuffers;
+    private final Thread[] publisherThreads;
+    private final int batchSize;
+    private final EventSink eventSink;
+    private volatile boolean running = true;
+    // request threads between checking whether the publisher is running and queueing their event
+    private final AtomicInteger activePublishers = new AtomicInteger();
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    ThrottleEventBatchPublisher(ThrottleProperties.DataPublisherBatching batchingConfiguration,
+                                Supplier<DataProcessAndPublishingAgent> agentFactory, EventSink eventSink) {
+
+        int ringCount = Math.max(1, batchingConfiguration.getPublisherThreads());
+        int ringCapacity = Math.max(1, batchingConfiguration.getBufferSize() / ringCount);
+        batchSize = Math.max(1, batchingConfiguration.getBatchSize());
+        this.eventSink = eventSink;
+        ringBuffers = new ThrottleEventRingBuffer[ringCount];
+        publisherThreads = new Thread[ringCount];
+        for (int i = 0; i < ringCount; i++) {
+            ThrottleEventRingBuffer ringBuffer = new ThrottleEventRingBuffer(ringCapacity, agentFactory);
+            ringBuffers[i] = ringBuffer;
+            Thread publisherThread = new Thread(() -> drainUntilStopped(ringBuffer), "ThrottleEventPublisher-" + i);
+            publisherThread.setDaemon(true);
+            publisherThreads[i] = publisherThread;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Throttle event batching enabled with " + ringCount + " publisher threads, ring capacity "
+                    + ringBuffers[0].getCapacity() + " and batch size " + batchSize);
+        }
+    }
+
+    void start() {
+
+        for (Thread publisherThread : publisherThreads) {
+            publisherThread.start();
+        }
+        registerMetrics();
+    }
+
+    /**
+     * Stops the publisher threads and waits for them to publish the events still queued. Events published after this
+     * is called are dropped. Rings whose thread has stopped are drained once more from the calling thread, to pick up
+     * events queued by request threads that were queueing while the publisher stopped.
+     */
+    void stop() {
+
+        running = false;
+        for (Thread publisherThread : publisherThreads) {
+            LockSupport.unpark(publisherThread);
+        }
+        for (Thread publisherThread : publisherThreads) {
+            try {
+                publisherThread.join(STOP_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STOP_WAIT_MILLIS);
+        while (activePublishers.get() > 0 && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        for (int i = 0; i < publisherThreads.length; i++) {
+            Thread publisherThread = publisherThreads[i];
+            if (publisherThread.isAlive()) {
+                log.warn("Timed out while waiting for " + publisherThread.getName() + " to publish queued events");
+            } else {
+                drain(ringBuffers[i]);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Throttle event batching stopped. Published: " + getPublishedCount() + ", dropped: "
+                    + getDroppedCount() + ", still queued: " + getQueuedCount());
+        }
+    }
+
+    /**
+     * Fills a free agent with the given initializer and queues it for publishing.
+     *
+     * @param agentInitializer sets the data references of the agent
+     * @return false if the event was dropped because all buffers are full or the publisher is stopped
+     */
+    boolean publish(Consumer<DataProcessAndPublishingAgent> agentInitializer) {
+
+        // registered before checking whether running, so that stop() waits for the event if it was seen running
+        activePublishers.incrementAndGet();
+        try {
+            if (!running) {
+                droppedCount.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("Throttle event dropped as the publisher is stopped");
+                }
+                return false;
+            }
+            int start = (int) (Thread.currentThread().getId() % ringBuffers.length);
+            for (int i = 0; i < ringBuffers.length; i++) {
+                ThrottleEventRingBuffer ringBuffer = ringBuffers[(start + i) % ringBuffers.length];
+                long sequence = ringBuffer.claim();
+                if (sequence < 0) {
+                    continue;
+                }
+                boolean initialized = false;
+                try {
+                    agentInitializer.accept(ringBuffer.getAgent(sequence));
+                    initialized = true;
+                } finally {
+                    ringBuffer.publish(sequence, initialized);
+                }
+                return true;
+            }
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+        droppedCount.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Throttle event dropped as the publishing buffers are full");
+        }
+        return false;
+    }
+
+    /**
+     * Publishes all events queued in the given ring from the calling thread. Used when the publisher threads are
+     * not running.
+     */
+    void drain(ThrottleEventRingBuffer ringBuffer) {
+
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (drainBatch(ringBuffer, batch) > 0) {
+            // keep draining until the ring is empty
+        }
+    }
+
+    ThrottleEventRingBuffer[] getRingBuffers() {
+
+        return ringBuffers;
+    }
+
+    long getPublishedCount() {
+
+        return publishedCount.sum();
+    }
+
+    long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    long getRejectedCount() {
+
+        return rejectedCount.sum();
+    }
+
+    long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    int getQueuedCount() {
+
+        int queued = 0;
+        for (ThrottleEventRingBuffer ringBuffer : ringBuffers) {
+            queued += ringBuffer.size();
+        }
+        return queued;
+    }
+
+    private void drainUntilStopped(ThrottleEventRingBuffer ringBuffer) {
+
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (drainBatch(ringBuffer, batch) == 0) {
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+            }
+        }
+        drain(ringBuffer);
+    }
+
+    /**
+     * Takes a batch of events from the given ring and hands it over to the event sink.
+     *
+     * @return number of ring slots processed
+     */
+    private int drainBatch(ThrottleEventRingBuffer ringBuffer, List<Event> batch) {
+
+        int drained = ringBuffer.drain(batchSize, batch, failedCount::increment);
+        for (Event event : batch) {
+            try {
+                if (eventSink.tryPublish(event)) {
+                    publishedCount.increment();
+                } else {
+                    rejectedCount.increment();
+                }
+            } catch (Throwable e) {
+                failedCount.increment();
+                log.error("Error while publishing throttle event to traffic manager", e);
+            }
+        }
+        batch.clear();
+        return drained;
+    }
+
+    private void registerMetrics() {
+
+        try {
+            registerGauge("published", this::getPublishedCount);
+            registerGauge("dropped", this::getDroppedCount);
+            registerGauge("rejected", this::getRejectedCount);
+            registerGauge("failed", this::getFailedCount);
+            registerGauge("queued", () -> (long) getQueuedCount());
+        } catch (Exception e) {
+            log.warn("Error while registering throttle event publishing metrics", e);
+        }
+    }
+
+    private void registerGauge(String name, Supplier<Long> value) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name),
+                (Gauge<Long>) value::get);
+    }
+
+    /**
+     * Destination the drained throttle events are handed over to.
+     */
+    @FunctionalInterface
+    interface EventSink {
+
+        /**
+         * @return whether the event was accepted
+         */
+        boolean tryPublish(Event event);
+    }
+}
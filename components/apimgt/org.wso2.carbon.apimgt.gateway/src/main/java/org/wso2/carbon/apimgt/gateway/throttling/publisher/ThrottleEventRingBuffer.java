@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded multi-producer, single-consumer ring of pre-allocated {@link DataProcessAndPublishingAgent}s.
+ * <p>
+ * A request thread claims a sequence, fills the agent of the claimed slot and publishes the slot. The single
+ * consumer takes the events of a batch of consecutive published slots in order, clears their agents and frees the
+ * whole batch at once. A producer never waits: when the ring is full, {@link #claim()} fails and the caller drops
+ * the event.
+ */
+final class ThrottleEventRingBuffer {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventRingBuffer.class);
+
+    private final DataProcessAndPublishingAgent[] agents;
+    private final boolean[] validSlots;
+    private final AtomicLongArray publishedSequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong claimedSequence = new AtomicLong();
+    private final AtomicLong consumedSequence = new AtomicLong();
+
+    ThrottleEventRingBuffer(int requestedCapacity, Supplier<DataProcessAndPublishingAgent> agentFactory) {
+
+        capacity = roundUpToPowerOfTwo(requestedCapacity);
+        mask = capacity - 1;
+        agents = new DataProcessAndPublishingAgent[capacity];
+        validSlots = new boolean[capacity];
+        publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            agents[i] = agentFactory.get();
+            publishedSequences.set(i, -1);
+        }
+    }
+
+    /**
+     * Claims the next free slot of the ring.
+     *
+     * @return claimed sequence, or -1 if the ring is full
+     */
+    long claim() {
+
+        while (true) {
+            long sequence = claimedSequence.get();
+            if (sequence - consumedSequence.get() >= capacity) {
+                return -1;
+            }
+            if (claimedSequence.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Agent of the slot of a claimed sequence. Only the thread that claimed the sequence may fill it.
+     */
+    DataProcessAndPublishingAgent getAgent(long sequence) {
+
+        return agents[(int) (sequence & mask)];
+    }
+
+    /**
+     * Makes a claimed slot visible to the consumer. Every claimed sequence must be published, even if filling its
+     * agent failed, as the consumer cannot move past an unpublished slot.
+     *
+     * @param sequence claimed sequence
+     * @param valid    whether the agent of the slot was filled successfully
+     */
+    void publish(long sequence, boolean valid) {
+
+        int index = (int) (sequence & mask);
+        validSlots[index] = valid;
+        publishedSequences.set(index, sequence);
+    }
+
+    /**
+     * Moves the events of up to {@code maxBatchSize} consecutive published slots into the given batch and frees the
+     * slots. Must only be called by the single consumer of the ring.
+     *
+     * @param maxBatchSize    maximum number of slots to process
+     * @param batch           list the events are added to
+     * @param failureListener notified for each agent whose event could not be created
+     * @return number of slots processed
+     */
+    int drain(int maxBatchSize, List<Event> batch, Runnable failureListener) {
+
+        long firstSequence = consumedSequence.get();
+        long sequence = firstSequence;
+        while (sequence - firstSequence < maxBatchSize) {
+            int index = (int) (sequence & mask);
+            if (publishedSequences.get(index) != sequence) {
+                break;
+            }
+            DataProcessAndPublishingAgent agent = agents[index];
+            try {
+                if (validSlots[index]) {
+                    batch.add(agent.createEvent());
+                }
+            } catch (Throwable e) {
+                failureListener.run();
+                log.error("Error while creating throttle event", e);
+            } finally {
+                agent.clearDataReference();
+            }
+            sequence++;
+        }
+        if (sequence != firstSequence) {
+            consumedSequence.lazySet(sequence);
+        }
+        return (int) (sequence - firstSequence);
+    }
+
+    int size() {
+
+        return (int) (claimedSequence.get() - consumedSequence.get());
+    }
+
+    int getCapacity() {
+
+        return capacity;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+
+        if (value <= 1) {
+            return 1;
+        }
+        int highestOneBit = Integer.highestOneBit(value - 1) << 1;
+        return highestOneBit > 0 ? highestOneBit : 1 << 30;
+    }
+}
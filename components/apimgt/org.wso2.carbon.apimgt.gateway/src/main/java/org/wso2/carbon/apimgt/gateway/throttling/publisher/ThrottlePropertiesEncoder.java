@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.json.simple.JSONValue;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact encoder for the properties attribute of throttle events. The properties are collected into a map and
+ * serialized into a character buffer that are both reused by the publishing thread, instead of building a new
+ * {@link org.json.simple.JSONObject} per request. The encoded form is still a JSON object, so that the traffic
+ * manager can read it without any change.
+ * <p>
+ * Headers, query parameters and JWT claims are only added when a condition of the invoked resource refers to them.
+ */
+final class ThrottlePropertiesEncoder {
+
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private static final ThreadLocal<ThrottlePropertiesEncoder> ENCODERS =
+            ThreadLocal.withInitial(ThrottlePropertiesEncoder::new);
+
+    /**
+     * Attribute names referenced by the conditions of a resource, keyed by the identity of the condition groups
+     * held in the resource's {@link VerbInfoDTO}. Entries are released together with the resource.
+     */
+    private static final LoadingCache<ConditionGroupDTO[], ConditionAttributeNames> CONDITION_ATTRIBUTE_NAMES =
+            CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<ConditionGroupDTO[],
+                    ConditionAttributeNames>() {
+                @Override
+                public ConditionAttributeNames load(ConditionGroupDTO[] conditionGroups) {
+                    return new ConditionAttributeNames(conditionGroups);
+                }
+            });
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private StringBuilder buffer = new StringBuilder(512);
+
+    private ThrottlePropertiesEncoder() {
+    }
+
+    /**
+     * Returns the encoder of the current thread, cleared of properties added for any previous event.
+     *
+     * @return encoder of the current thread
+     */
+    static ThrottlePropertiesEncoder getInstance() {
+
+        ThrottlePropertiesEncoder encoder = ENCODERS.get();
+        encoder.properties.clear();
+        return encoder;
+    }
+
+    /**
+     * Resolves the header, query parameter and JWT claim names referred to by the conditions of the given
+     * resources.
+     *
+     * @param verbInfoDTOs resources matched for the request
+     * @return names of the attributes referred to by conditions
+     */
+    static ConditionAttributeNames getConditionAttributeNames(List<VerbInfoDTO> verbInfoDTOs) {
+
+        if (verbInfoDTOs == null || verbInfoDTOs.isEmpty()) {
+            return ConditionAttributeNames.NONE;
+        }
+        if (verbInfoDTOs.size() == 1) {
+            return getConditionAttributeNames(verbInfoDTOs.get(0).getConditionGroups());
+        }
+        ConditionAttributeNames attributeNames = new ConditionAttributeNames(null);
+        for (VerbInfoDTO verbInfoDTO : verbInfoDTOs) {
+            attributeNames.addAll(getConditionAttributeNames(verbInfoDTO.getConditionGroups()));
+        }
+        return attributeNames;
+    }
+
+    private static ConditionAttributeNames getConditionAttributeNames(ConditionGroupDTO[] conditionGroups) {
+
+        if (conditionGroups == null || conditionGroups.length == 0) {
+            return ConditionAttributeNames.NONE;
+        }
+        return CONDITION_ATTRIBUTE_NAMES.getUnchecked(conditionGroups);
+    }
+
+    /**
+     * Map into which the properties of the current event are collected.
+     *
+     * @return properties of the current event
+     */
+    Map<String, Object> getProperties() {
+
+        return properties;
+    }
+
+    /**
+     * Adds the entries of the given attribute map whose names are in the given set of names.
+     *
+     * @param attributes attributes of the request
+     * @param names      names of the attributes to add
+     */
+    void putAll(Map<String, String> attributes, Set<String> names) {
+
+        if (attributes == null || names.isEmpty()) {
+            return;
+        }
+        for (String name : names) {
+            String value = attributes.get(name);
+            if (value != null) {
+                properties.put(name, value);
+            }
+        }
+    }
+
+    /**
+     * Serializes the collected properties as a JSON object.
+     *
+     * @return JSON representation of the properties
+     */
+    String encode() {
+
+        StringBuilder out = buffer;
+        out.setLength(0);
+        out.append('{');
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            appendString(out, entry.getKey());
+            out.append(':');
+            appendValue(out, entry.getValue());
+        }
+        out.append('}');
+        String encoded = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            // Do not let a single large event pin a large buffer to the publishing thread
+            buffer = new StringBuilder(512);
+        }
+        properties.clear();
+        return encoded;
+    }
+
+    private static void appendValue(StringBuilder out, Object value) {
+
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String) {
+            appendString(out, (String) value);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else {
+            out.append(JSONValue.toJSONString(value));
+        }
+    }
+
+    /**
+     * Appends the given string as a JSON string literal, escaping it the same way as {@link JSONValue#escape}.
+     */
+    private static void appendString(StringBuilder out, String value) {
+
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '/':
+                    out.append("\\/");
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F')
+                            || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        out.append("\\u").append(HEX_DIGITS[(ch >> 12) & 0xF]).append(HEX_DIGITS[(ch >> 8) & 0xF])
+                                .append(HEX_DIGITS[(ch >> 4) & 0xF]).append(HEX_DIGITS[ch & 0xF]);
+                    } else {
+                        out.append(ch);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Names of the headers, query parameters and JWT claims referred to by a set of conditions. Header names are
+     * held in lower case, as transport headers are published in lower case.
+     */
+    static final class ConditionAttributeNames {
+
+        static final ConditionAttributeNames NONE = new ConditionAttributeNames(null);
+
+        private final Set<String> headers = new HashSet<>();
+        private final Set<String> queryParams = new HashSet<>();
+        private final Set<String> jwtClaims = new HashSet<>();
+
+        private ConditionAttributeNames(ConditionGroupDTO[] conditionGroups) {
+
+            if (conditionGroups == null) {
+                return;
+            }
+            for (ConditionGroupDTO conditionGroup : conditionGroups) {
+                if (conditionGroup == null || conditionGroup.getConditions() == null) {
+                    continue;
+                }
+                for (ConditionDTO condition : conditionGroup.getConditions()) {
+                    if (condition == null || condition.getConditionName() == null) {
+                        continue;
+                    }
+                    if (PolicyConstants.HEADER_TYPE.equals(condition.getConditionType())) {
+                        headers.add(condition.getConditionName().toLowerCase(Locale.ENGLISH));
+                    } else if (PolicyConstants.QUERY_PARAMETER_TYPE.equals(condition.getConditionType())) {
+                        queryParams.add(condition.getConditionName());
+                    } else if (PolicyConstants.JWT_CLAIMS_TYPE.equals(condition.getConditionType())) {
+                        jwtClaims.add(condition.getConditionName());
+                    }
+                }
+            }
+        }
+
+        private void addAll(ConditionAttributeNames attributeNames) {
+
+            headers.addAll(attributeNames.headers);
+            queryParams.addAll(attributeNames.queryParams);
+            jwtClaims.addAll(attributeNames.jwtClaims);
+        }
+
+        Set<String> getHeaders() {
+
+            return headers;
+        }
+
+        Set<String> getQueryParams() {
+
+            return queryParams;
+        }
+
+        Set<String> getJwtClaims() {
+
+            return jwtClaims;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.util.Map;
 
 public class MCPPayloadGenerator {
     private static final Gson gson = new GsonBuilder().serializeNulls().setPrettyPrinting().create();
+    private static final Gson compactGson = new GsonBuilder().serializeNulls().create();
 
     public static String getErrorResponse(Object id, int code, String message, Object data) {
         McpError error = new McpError(code, message, data);
@@ -102,6 +103,35 @@ public class MCPPayloadGenerator {
     //write a method to generate the tool list payload
     public static String generateToolListPayload(Object id, List<URLMapping> extendedOperations, boolean isThirdParty) {
         McpResponse<ToolListResult> toolListResponse = new McpResponse<>(id);
+        toolListResponse.setResult(createToolListResult(extendedOperations, isThirdParty));
+        return gson.toJson(toolListResponse);
+    }
+
+    /**
+     * Generates the compact JSON of the tools/list result, which does not depend on the request and hence can be
+     * computed once per API and used with {@link #generateResultPayload(Object, String)}.
+     *
+     * @param extendedOperations operations of the API
+     * @param isThirdParty       whether the tools are from a third-party MCP server
+     * @return the tools/list result as a JSON string
+     */
+    public static String generateToolListResult(List<URLMapping> extendedOperations, boolean isThirdParty) {
+        return compactGson.toJson(createToolListResult(extendedOperations, isThirdParty));
+    }
+
+    /**
+     * Generates a JSON-RPC response with the given id and an already serialized result.
+     *
+     * @param id     id of the request
+     * @param result result as a JSON string
+     * @return the response payload
+     */
+    public static String generateResultPayload(Object id, String result) {
+        return "{\"jsonrpc\":" + compactGson.toJson(APIConstants.MCP.RpcConstants.JSON_RPC_VERSION)
+                + ",\"id\":" + compactGson.toJson(id) + ",\"result\":" + result + "}";
+    }
+
+    private static ToolListResult createToolListResult(List<URLMapping> extendedOperations, boolean isThirdParty) {
         ToolListResult toolListResult = new ToolListResult();
         List<ToolListResult.ToolInfo> toolInfoList = new ArrayList<>();
 
@@ -123,8 +153,7 @@ public class MCPPayloadGenerator {
             toolInfoList.add(tool);
         }
         toolListResult.setTools(toolInfoList);
-        toolListResponse.setResult(toolListResult);
-        return gson.toJson(toolListResponse);
+        return toolListResult;
     }
 
     private static ToolListResult.JsonSchema sanitizeInputSchema(ToolListResult.JsonSchema inputSchema) {
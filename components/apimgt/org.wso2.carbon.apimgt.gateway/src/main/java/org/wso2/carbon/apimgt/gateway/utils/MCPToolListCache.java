@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache of the serialized tools/list result of the MCP server APIs, keyed by the URL mapping list of the API. Since a
+ * redeployed API comes with a new list of URL mappings, the result of the previous revision is dropped along with it.
+ * A result is also rebuilt when the URL mappings of an API are extended in place.
+ */
+final class MCPToolListCache {
+
+    private static final Cache<List<URLMapping>, ToolList> toolLists = CacheBuilder.newBuilder().weakKeys().build();
+
+    private MCPToolListCache() {
+    }
+
+    /**
+     * Returns the tools/list response for the given request id and URL mappings of an API.
+     *
+     * @param id          id of the request
+     * @param urlMappings URL mappings of the matched API
+     * @return the response payload
+     */
+    static String getToolListPayload(Object id, List<URLMapping> urlMappings) {
+        List<URLMapping> mappings = urlMappings != null ? urlMappings : Collections.<URLMapping>emptyList();
+        ToolList toolList = toolLists.getIfPresent(mappings);
+        if (toolList == null || toolList.size != mappings.size()) {
+            toolList = new ToolList(mappings.size(), MCPPayloadGenerator.generateToolListResult(mappings, false));
+            toolLists.put(mappings, toolList);
+        }
+        return MCPPayloadGenerator.generateResultPayload(id, toolList.result);
+    }
+
+    /**
+     * Serialized tools/list result along with the number of URL mappings it was built from.
+     */
+    private static final class ToolList {
+
+        private final int size;
+        private final String result;
+
+        private ToolList(int size, String result) {
+            this.size = size;
+            this.result = result;
+        }
+    }
+}
@@ -189,9 +189,7 @@ public class MCPUtils {
     }
 
     private static boolean validateToolName(String toolName, API matchedApi) {
-        return matchedApi.getUrlMappings()
-                .stream()
-                .anyMatch(operation -> toolName.equals(operation.getUrlPattern()));
+        return matchedApi.getUrlMappingByPattern(toolName) != null;
     }
 
 
@@ -220,6 +218,9 @@ public class MCPUtils {
      * @return the response payload as a String
      */
     public static McpResponseDto handleMcpToolList(Object id, API matchedApi, boolean isThirdParty) {
+        if (!isThirdParty) {
+            return new McpResponseDto(MCPToolListCache.getToolListPayload(id, matchedApi.getUrlMappings()), 200, null);
+        }
         return new McpResponseDto(
                 MCPPayloadGenerator.generateToolListPayload(id, matchedApi.getUrlMappings(),
                         isThirdParty), 200, null);
@@ -239,12 +240,7 @@ public class MCPUtils {
         McpRequest mcpRequest) throws McpException {
         Params params = mcpRequest.getParams();
         if (params != null) {
-            String toolName = params.getToolName();
-            URLMapping extendedOperation = matchedApi.getUrlMappings()
-                    .stream()
-                    .filter(operation -> operation.getUrlPattern().equals(toolName))
-                    .findFirst()
-                    .orElse(null);
+            URLMapping extendedOperation = matchedApi.getUrlMappingByPattern(params.getToolName());
             String subType = matchedApi.getSubtype();
             transformMcpRequest(messageContext, id, extendedOperation, mcpRequest, subType);
         }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.synapse.commons.throttle.core.CallerConfiguration;
+import org.apache.synapse.commons.throttle.core.CallerContext;
+import org.apache.synapse.commons.throttle.core.CallerContextFactory;
+import org.apache.synapse.commons.throttle.core.RequestContext;
+import org.apache.synapse.commons.throttle.core.SharedParamManager;
+import org.apache.synapse.commons.throttle.core.ThrottleConstants;
+import org.apache.synapse.commons.throttle.core.ThrottleContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests the sync mode counting of {@link HybridThrottleProcessor} when requests of the same caller contend for the
+ * caller lock. Redis is replaced by an in-memory distributed counter behind {@link SharedParamManager}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SharedParamManager.class})
+@PowerMockIgnore("javax.management.*")
+public class HybridThrottleProcessorTest {
+
+    private static final String CALLER_ID = "admin:app1:Gold";
+    private static final long UNIT_TIME = 60000;
+
+    private final AtomicLong distributedCounter = new AtomicLong();
+    private final List<Long> distributedIncrements = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch windowSyncStarted;
+    private volatile CountDownLatch windowSyncGate;
+    private HybridThrottleProcessor processor;
+    private ThrottleContext throttleContext;
+    private long firstAccessTime;
+
+    @Before
+    public void setUp() {
+
+        firstAccessTime = System.currentTimeMillis();
+        PowerMockito.mockStatic(SharedParamManager.class);
+        PowerMockito.when(SharedParamManager.lockSharedKeys(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(true);
+        PowerMockito.when(SharedParamManager.getSharedTimestamp(Mockito.anyString())).thenAnswer(invocation -> {
+            CountDownLatch gate = windowSyncGate;
+            if (gate != null) {
+                windowSyncStarted.countDown();
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            return firstAccessTime;
+        });
+        PowerMockito.when(SharedParamManager.getDistributedCounter(Mockito.anyString()))
+                .thenAnswer(invocation -> distributedCounter.get());
+        PowerMockito.when(SharedParamManager.addAndGetDistributedCounter(Mockito.anyString(), Mockito.anyLong()))
+                .thenAnswer(invocation -> {
+                    long delta = invocation.getArgument(1);
+                    distributedIncrements.add(delta);
+                    // stands in for the round trip to redis
+                    Thread.sleep(1);
+                    return distributedCounter.addAndGet(delta);
+                });
+        processor = new HybridThrottleProcessor(null, "gateway1");
+        throttleContext = Mockito.mock(ThrottleContext.class);
+    }
+
+    @Test
+    public void testContendedRequestsAreCountedBeforeDeciding() throws Exception {
+
+        int maxRequests = 100;
+        CallerContext callerContext = createSyncModeCaller();
+        CallerConfiguration configuration = createConfiguration(maxRequests);
+
+        List<Boolean> decisions = evaluateConcurrently(callerContext, configuration, 64, 300);
+
+        int allowed = 0;
+        for (Boolean decision : decisions) {
+            if (decision) {
+                allowed++;
+            }
+        }
+        Assert.assertTrue("Allowed " + allowed + " requests over the limit of " + maxRequests,
+                allowed <= maxRequests);
+        Assert.assertTrue(allowed > 0);
+    }
+
+    @Test
+    public void testContendedRequestsAreNotLost() throws Exception {
+
+        int requests = 500;
+        CallerContext callerContext = createSyncModeCaller();
+        CallerConfiguration configuration = createConfiguration(Integer.MAX_VALUE);
+
+        List<Boolean> decisions = evaluateConcurrently(callerContext, configuration, 64, requests);
+
+        Assert.assertFalse(decisions.contains(Boolean.FALSE));
+        Assert.assertEquals(requests, distributedCounter.get() + callerContext.getLocalCounter());
+        Assert.assertEquals(requests, callerContext.getGlobalCounter());
+        Assert.assertTrue(distributedIncrements.size() <= requests);
+    }
+
+    @Test
+    public void testWaitingRequestIsFlushedByRequestHoldingTheLock() throws Exception {
+
+        CallerContext callerContext = createSyncModeCaller();
+        CallerConfiguration configuration = createConfiguration(10);
+        blockWindowSync();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> holder = executorService.submit(evaluation(callerContext, configuration));
+            Assert.assertTrue(windowSyncStarted.await(5, TimeUnit.SECONDS));
+            AtomicReference<Thread> waiterThread = new AtomicReference<>();
+            Future<Boolean> waiter = executorService.submit(() -> {
+                waiterThread.set(Thread.currentThread());
+                return evaluation(callerContext, configuration).call();
+            });
+            waitUntilTimedWaiting(waiterThread);
+            windowSyncGate.countDown();
+
+            Assert.assertTrue(holder.get(5, TimeUnit.SECONDS));
+            Assert.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        // the request holding the lock added the queued count of the waiting request along with its own
+        Assert.assertEquals(1, distributedIncrements.size());
+        Assert.assertEquals(Long.valueOf(2), distributedIncrements.get(0));
+        Assert.assertEquals(2, callerContext.getGlobalCounter());
+    }
+
+    @Test
+    public void testRequestTimingOutOnLockIsCountedByNextSync() throws Exception {
+
+        CallerContext callerContext = createSyncModeCaller();
+        CallerConfiguration configuration = createConfiguration(10);
+        blockWindowSync();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> holder = executorService.submit(evaluation(callerContext, configuration));
+            Assert.assertTrue(windowSyncStarted.await(5, TimeUnit.SECONDS));
+            Future<Boolean> waiter = executorService.submit(evaluation(callerContext, configuration));
+            // the waiting request gives up on the lock and is decided on the counters it has
+            Assert.assertTrue(waiter.get(HybridThrottleProcessor.CALLER_LOCK_WAIT_MILLIS * 4, TimeUnit.MILLISECONDS));
+            windowSyncGate.countDown();
+            Assert.assertTrue(holder.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(1, distributedIncrements.size());
+        Assert.assertEquals(Long.valueOf(2), distributedIncrements.get(0));
+    }
+
+    private List<Boolean> evaluateConcurrently(CallerContext callerContext, CallerConfiguration configuration,
+                                               int threads, int requests) throws Exception {
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Boolean>> evaluations = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                evaluations.add(evaluation(callerContext, configuration));
+            }
+            List<Boolean> decisions = new ArrayList<>(requests);
+            for (Future<Boolean> decision : executorService.invokeAll(evaluations)) {
+                decisions.add(decision.get());
+            }
+            return decisions;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void blockWindowSync() {
+
+        windowSyncStarted = new CountDownLatch(1);
+        windowSyncGate = new CountDownLatch(1);
+    }
+
+    private static void waitUntilTimedWaiting(AtomicReference<Thread> threadReference) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Thread thread = threadReference.get();
+            if (thread != null && thread.getState() == Thread.State.TIMED_WAITING) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+        Assert.fail("Request did not wait for the caller lock");
+    }
+
+    private Callable<Boolean> evaluation(CallerContext callerContext, CallerConfiguration configuration) {
+
+        return () -> processor.canAccessIfUnitTimeNotOver(callerContext, configuration, throttleContext,
+                new RequestContext(System.currentTimeMillis()));
+    }
+
+    private CallerContext createSyncModeCaller() throws Exception {
+
+        CallerContext callerContext = CallerContextFactory.createCaller(ThrottleConstants.ROLE_BASE, CALLER_ID);
+        callerContext.setFirstAccessTime(firstAccessTime);
+        callerContext.setNextTimeWindow(firstAccessTime + UNIT_TIME);
+        callerContext.setUnitTime(UNIT_TIME);
+        callerContext.setIsThrottleParamSyncingModeSync(true);
+        return callerContext;
+    }
+
+    private static CallerConfiguration createConfiguration(int maxRequests) {
+
+        CallerConfiguration configuration = Mockito.mock(CallerConfiguration.class);
+        Mockito.when(configuration.getMaximumRequestPerUnitTime()).thenReturn(maxRequests);
+        Mockito.when(configuration.getUnitTime()).thenReturn(UNIT_TIME);
+        Mockito.when(configuration.getProhibitTimePeriod()).thenReturn(0L);
+        Mockito.when(configuration.getType()).thenReturn(ThrottleConstants.ROLE_BASE);
+        Mockito.when(configuration.getID()).thenReturn("Gold");
+        return configuration;
+    }
+}
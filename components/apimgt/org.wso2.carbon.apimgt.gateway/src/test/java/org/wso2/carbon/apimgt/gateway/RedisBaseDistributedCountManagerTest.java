@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the script mode and counter batching of {@link RedisBaseDistributedCountManager} against a mocked Jedis
+ * client.
+ */
+public class RedisBaseDistributedCountManagerTest {
+
+    private static final String NO_SCRIPT_ERROR = "NOSCRIPT No matching script. Please use EVAL.";
+
+    private Jedis jedis;
+    private JedisPool redisPool;
+    private RedisBaseDistributedCountManager countManager;
+
+    @Before
+    public void setup() {
+
+        jedis = Mockito.mock(Jedis.class);
+        redisPool = Mockito.mock(JedisPool.class);
+        Mockito.when(redisPool.getResource()).thenReturn(jedis);
+    }
+
+    @After
+    public void tearDown() {
+
+        if (countManager != null) {
+            countManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testScriptModeRunsOperationInSingleEvalsha() {
+
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, true, 0);
+        Mockito.when(jedis.evalsha(Mockito.anyString(), Mockito.anyList(), Mockito.anyList())).thenReturn("7");
+
+        Assert.assertEquals(7, countManager.asyncGetAndAddCounter("counter", 3));
+        Mockito.verify(jedis).evalsha(Mockito.anyString(), Mockito.eq(Collections.singletonList("counter")),
+                Mockito.eq(Collections.singletonList("3")));
+        Mockito.verify(jedis, Mockito.never()).scriptLoad(Mockito.anyString());
+        Mockito.verify(jedis, Mockito.never()).eval(Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+        Mockito.verify(jedis, Mockito.never()).multi();
+    }
+
+    @Test
+    public void testScriptIsEvaluatedWhenNotCachedInRedis() {
+
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, true, 0);
+        Mockito.when(jedis.evalsha(Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenThrow(new JedisDataException(NO_SCRIPT_ERROR)).thenReturn("4");
+        Mockito.when(jedis.eval(Mockito.anyString(), Mockito.anyList(), Mockito.anyList())).thenReturn("2");
+
+        Assert.assertEquals(2, countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, 1000L));
+        Assert.assertEquals(4, countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, 2000L));
+
+        ArgumentCaptor<String> sha = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jedis, Mockito.times(2)).evalsha(sha.capture(), Mockito.anyList(), Mockito.anyList());
+        ArgumentCaptor<String> script = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jedis).eval(script.capture(), Mockito.eq(Collections.singletonList("counter")),
+                Mockito.eq(Arrays.asList("1", "1000")));
+        // the script is called by the digest Redis caches the evaluated script under
+        Assert.assertEquals(DigestUtils.sha1Hex(script.getValue()), sha.getAllValues().get(0));
+        Assert.assertEquals(sha.getAllValues().get(0), sha.getAllValues().get(1));
+        Mockito.verify(jedis, Mockito.never()).scriptLoad(Mockito.anyString());
+    }
+
+    @Test
+    public void testScriptErrorsOtherThanNoScriptArePropagated() {
+
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, true, 0);
+        Mockito.when(jedis.evalsha(Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenThrow(new JedisDataException("ERR value is not an integer or out of range"));
+        try {
+            countManager.asyncGetAndAddCounter("counter", 1);
+            Assert.fail("Expected the script error to be propagated");
+        } catch (JedisDataException e) {
+            Assert.assertTrue(e.getMessage().startsWith("ERR"));
+        }
+        Mockito.verify(jedis, Mockito.never()).eval(Mockito.anyString(), Mockito.anyList(), Mockito.anyList());
+    }
+
+    @Test
+    public void testScriptModeLockWithExpiry() {
+
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, true, 0);
+        Mockito.when(jedis.evalsha(Mockito.anyString(), Mockito.anyList(), Mockito.anyList()))
+                .thenReturn(1L).thenReturn(0L);
+
+        Assert.assertTrue(countManager.setLockWithExpiry("lock", "gateway1", 1000L));
+        Assert.assertFalse(countManager.setLockWithExpiry("lock", "gateway1", 1000L));
+        Mockito.verify(jedis, Mockito.times(2)).evalsha(Mockito.anyString(),
+                Mockito.eq(Collections.singletonList("lock")), Mockito.eq(Arrays.asList("gateway1", "1000")));
+    }
+
+    @Test(timeout = 5000)
+    public void testAddAndGetCounterIsNotBatched() {
+
+        // a window this long would block a batched increment until the test times out
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, false, 3600000L);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Response<Long> incremented = mockResponse(5L);
+        Mockito.when(jedis.multi()).thenReturn(transaction);
+        Mockito.when(transaction.incrBy("counter", 2L)).thenReturn(incremented);
+
+        Assert.assertEquals(5, countManager.addAndGetCounter("counter", 2));
+        Mockito.verify(transaction).exec();
+        Mockito.verify(jedis, Mockito.never()).pipelined();
+    }
+
+    @Test(timeout = 5000)
+    public void testAsyncIncrementsAreBatched() {
+
+        countManager = new RedisBaseDistributedCountManager(redisPool, 50, false, 5);
+        Pipeline pipeline = Mockito.mock(Pipeline.class);
+        Response<Long> incremented = mockResponse(9L);
+        Mockito.when(jedis.pipelined()).thenReturn(pipeline);
+        Mockito.when(pipeline.incrBy("counter", 4L)).thenReturn(incremented);
+
+        Assert.assertEquals(5, countManager.asyncGetAndAddCounter("counter", 4));
+        Mockito.verify(pipeline).sync();
+        Mockito.verify(jedis, Mockito.never()).multi();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Response<T> mockResponse(T value) {
+
+        Response<T> response = Mockito.mock(Response.class);
+        Mockito.when(response.get()).thenReturn(value);
+        return response;
+    }
+}
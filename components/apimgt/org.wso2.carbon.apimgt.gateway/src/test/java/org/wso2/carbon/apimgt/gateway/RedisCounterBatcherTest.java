@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the counter batcher against an in-memory stand-in of the Redis counter store.
+ */
+public class RedisCounterBatcherTest {
+
+    @Test
+    public void testIncrementsOfSameKeyAreCoalesced() throws Exception {
+
+        InMemoryCounterStore counterStore = new InMemoryCounterStore();
+        RedisCounterBatcher counterBatcher = new RedisCounterBatcher(counterStore, 10, false);
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(counterBatcher.enqueue("counter", 1));
+        }
+        counterBatcher.flush();
+        for (int i = 0; i < results.size(); i++) {
+            Assert.assertEquals(Long.valueOf(i + 1), results.get(i).get());
+        }
+        Assert.assertEquals(1, counterStore.invocations);
+        Assert.assertEquals(Long.valueOf(4), counterStore.counters.get("counter"));
+    }
+
+    @Test
+    public void testEachCallerReceivesValueAfterItsOwnIncrement() throws Exception {
+
+        InMemoryCounterStore counterStore = new InMemoryCounterStore();
+        counterStore.counters.put("a", 10L);
+        RedisCounterBatcher counterBatcher = new RedisCounterBatcher(counterStore, 10, false);
+        CompletableFuture<Long> first = counterBatcher.enqueue("a", 2);
+        CompletableFuture<Long> second = counterBatcher.enqueue("b", 5);
+        CompletableFuture<Long> third = counterBatcher.enqueue("a", 3);
+        counterBatcher.flush();
+        Assert.assertEquals(Long.valueOf(12), first.get());
+        Assert.assertEquals(Long.valueOf(5), second.get());
+        Assert.assertEquals(Long.valueOf(15), third.get());
+        Assert.assertEquals(1, counterStore.invocations);
+        Assert.assertEquals(Long.valueOf(15), counterStore.counters.get("a"));
+        Assert.assertEquals(Long.valueOf(5), counterStore.counters.get("b"));
+    }
+
+    @Test
+    public void testScheduledFlushCompletesBlockingCallers() {
+
+        InMemoryCounterStore counterStore = new InMemoryCounterStore();
+        RedisCounterBatcher counterBatcher = new RedisCounterBatcher(counterStore, 5);
+        try {
+            Assert.assertEquals(3, counterBatcher.addAndGet("counter", 3));
+            Assert.assertEquals(7, counterBatcher.addAndGet("counter", 4));
+        } finally {
+            counterBatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownFlushesPendingIncrements() throws Exception {
+
+        InMemoryCounterStore counterStore = new InMemoryCounterStore();
+        RedisCounterBatcher counterBatcher = new RedisCounterBatcher(counterStore, TimeUnit.HOURS.toMillis(1));
+        CompletableFuture<Long> pending = counterBatcher.enqueue("counter", 2);
+        counterBatcher.shutdown();
+        Assert.assertEquals(Long.valueOf(2), pending.get(1, TimeUnit.SECONDS));
+        // increments after the shutdown are applied by the caller itself
+        Assert.assertEquals(5, counterBatcher.addAndGet("counter", 3));
+    }
+
+    @Test
+    public void testStoreFailureIsPropagatedToCallers() throws Exception {
+
+        RedisCounterBatcher counterBatcher = new RedisCounterBatcher((keys, deltas) -> {
+            throw new IllegalStateException("connection refused");
+        }, 10, false);
+        CompletableFuture<Long> result = counterBatcher.enqueue("counter", 1);
+        counterBatcher.flush();
+        try {
+            result.get(1, TimeUnit.SECONDS);
+            Assert.fail("Expected the store failure to be propagated");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    private static class InMemoryCounterStore implements RedisCounterBatcher.CounterStore {
+
+        private final Map<String, Long> counters = new HashMap<>();
+        private int invocations;
+
+        @Override
+        public synchronized List<Long> incrementBy(List<String> keys, List<Long> deltas) {
+
+            invocations++;
+            List<Long> values = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                long value = counters.getOrDefault(keys.get(i), 0L) + deltas.get(i);
+                counters.put(keys.get(i), value);
+                values.add(value);
+            }
+            return values;
+        }
+    }
+}
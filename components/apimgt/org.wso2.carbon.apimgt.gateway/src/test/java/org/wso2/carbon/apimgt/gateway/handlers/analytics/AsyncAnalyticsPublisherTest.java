@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncAnalyticsPublisherTest {
+
+    @Test
+    public void testEventsAreCollectedOnWorkerThreads() throws Exception {
+
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch collected = new CountDownLatch(1);
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(16, 1,
+                APIConstants.ANALYTICS_DROP_POLICY_DROP_NEWEST, provider -> {
+                    threads.add(Thread.currentThread().getName());
+                    collected.countDown();
+                });
+        publisher.publish(getProvider(1L));
+        Assert.assertTrue(collected.await(10, TimeUnit.SECONDS));
+        publisher.stop();
+
+        Assert.assertTrue(threads.get(0).startsWith("AnalyticsPublisher-"));
+        Assert.assertEquals(1, publisher.getPublishedCount());
+    }
+
+    @Test
+    public void testNewestEventIsDroppedWhenQueueIsFull() throws Exception {
+
+        BlockingCollector collector = new BlockingCollector();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(1, 1,
+                APIConstants.ANALYTICS_DROP_POLICY_DROP_NEWEST, collector);
+        fillQueue(publisher, collector);
+        publisher.publish(getProvider(3L));
+
+        Assert.assertEquals(1, publisher.getDroppedCount());
+        Assert.assertEquals(1, publisher.getQueuedCount());
+        collector.release.countDown();
+        publisher.stop();
+        Assert.assertEquals(2, publisher.getPublishedCount());
+        Assert.assertEquals("[1, 2]", collector.requestTimes.toString());
+    }
+
+    @Test
+    public void testOldestEventIsDroppedWhenQueueIsFull() throws Exception {
+
+        BlockingCollector collector = new BlockingCollector();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(1, 1,
+                APIConstants.ANALYTICS_DROP_POLICY_DROP_OLDEST, collector);
+        fillQueue(publisher, collector);
+        publisher.publish(getProvider(3L));
+
+        Assert.assertEquals(1, publisher.getDroppedCount());
+        collector.release.countDown();
+        publisher.stop();
+        Assert.assertEquals("[1, 3]", collector.requestTimes.toString());
+    }
+
+    @Test
+    public void testEventIsCollectedOnCallerThreadWhenQueueIsFull() throws Exception {
+
+        BlockingCollector collector = new BlockingCollector();
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(1, 1,
+                APIConstants.ANALYTICS_DROP_POLICY_CALLER_RUNS, collector);
+        fillQueue(publisher, collector);
+        publisher.publish(getProvider(3L));
+
+        Assert.assertEquals(0, publisher.getDroppedCount());
+        Assert.assertEquals(1, publisher.getCallerRunsCount());
+        Assert.assertTrue(collector.threads.contains(Thread.currentThread().getName()));
+        collector.release.countDown();
+        publisher.stop();
+        Assert.assertEquals(3, publisher.getPublishedCount());
+    }
+
+    @Test
+    public void testCollectorFailuresAreCounted() {
+
+        AsyncAnalyticsPublisher publisher = new AsyncAnalyticsPublisher(16, 1,
+                APIConstants.ANALYTICS_DROP_POLICY_DROP_NEWEST, provider -> {
+                    throw new IllegalStateException("collector failure");
+                });
+        publisher.publish(getProvider(1L));
+        publisher.stop();
+
+        Assert.assertEquals(1, publisher.getFailedCount());
+        Assert.assertEquals(0, publisher.getPublishedCount());
+    }
+
+    private static void fillQueue(AsyncAnalyticsPublisher publisher, BlockingCollector collector)
+            throws InterruptedException {
+
+        publisher.publish(getProvider(1L));
+        Assert.assertTrue(collector.started.await(10, TimeUnit.SECONDS));
+        publisher.publish(getProvider(2L));
+    }
+
+    private static AnalyticsDataProvider getProvider(long requestTime) {
+
+        AnalyticsDataProvider provider = Mockito.mock(AnalyticsDataProvider.class);
+        Mockito.when(provider.getEventCategory()).thenReturn(EventCategory.SUCCESS);
+        Mockito.when(provider.getRequestTime()).thenReturn(requestTime);
+        return provider;
+    }
+
+    private static class BlockingCollector implements AsyncAnalyticsPublisher.DataCollector {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void collect(AnalyticsDataProvider provider) throws Exception {
+
+            requestTimes.add(provider.getRequestTime());
+            threads.add(Thread.currentThread().getName());
+            if (provider.getRequestTime() == 1L) {
+                // Keep the worker busy with the first event so that the following events wait in the queue
+                started.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIConstants;
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceVerbIndexTest {
+
+    @Test
+    public void testMatchIsCaseInsensitiveAndFiltersByMethod() {
+
+        VerbInfoDTO getMenu = verb("GET");
+        VerbInfoDTO postMenu = verb("POST");
+        ResourceVerbIndex index = new ResourceVerbIndex(apiInfo(resource("/Menu", getMenu, postMenu)));
+
+        List<ResourceVerbIndex.Match> matches = index.findMatches(Collections.singletonList(" /menu "), "POST");
+        Assert.assertEquals(1, matches.size());
+        Assert.assertSame(postMenu, matches.get(0).getVerb());
+        Assert.assertEquals(" /menu ", matches.get(0).getResource());
+
+        Assert.assertTrue(index.findMatches(Collections.singletonList("/menu"), "PUT").isEmpty());
+        Assert.assertTrue(index.findMatches(Collections.singletonList("/menus"), "GET").isEmpty());
+    }
+
+    @Test
+    public void testTrailingSlashOfPatternIsOptional() {
+
+        VerbInfoDTO withSlash = verb("GET");
+        VerbInfoDTO withoutSlash = verb("GET");
+        ResourceVerbIndex index = new ResourceVerbIndex(apiInfo(resource("/orders/", withSlash),
+                resource("/items", withoutSlash)));
+
+        Assert.assertSame(withSlash, index.findMatches(Collections.singletonList("/orders"), "GET").get(0).getVerb());
+        Assert.assertSame(withSlash, index.findMatches(Collections.singletonList("/orders/"), "GET").get(0).getVerb());
+        Assert.assertSame(withoutSlash, index.findMatches(Collections.singletonList("/items"), "GET").get(0).getVerb());
+        Assert.assertTrue(index.findMatches(Collections.singletonList("/items/"), "GET").isEmpty());
+    }
+
+    @Test
+    public void testMatchesFollowDeclarationOrder() {
+
+        VerbInfoDTO first = verb("POST");
+        VerbInfoDTO second = verb("POST");
+        VerbInfoDTO third = verb("POST");
+        ResourceVerbIndex index = new ResourceVerbIndex(apiInfo(resource("hero", first), resource("droid", second),
+                resource("human", third)));
+
+        List<ResourceVerbIndex.Match> matches = index.findMatches(Arrays.asList("human", "hero", "droid", "hero"),
+                "POST");
+        Assert.assertEquals(4, matches.size());
+        Assert.assertSame(first, matches.get(0).getVerb());
+        Assert.assertSame(first, matches.get(1).getVerb());
+        Assert.assertSame(second, matches.get(2).getVerb());
+        Assert.assertSame(third, matches.get(3).getVerb());
+    }
+
+    @Test
+    public void testBackendOperationTargetAndVerbAreUsedForMcpOperations() {
+
+        BackendOperation backendOperation = new BackendOperation();
+        backendOperation.setTarget("/pets/{petId}");
+        backendOperation.setVerb(APIConstants.SupportedHTTPVerbs.DELETE);
+        BackendOperationMapping backendOperationMapping = new BackendOperationMapping();
+        backendOperationMapping.setBackendOperation(backendOperation);
+        VerbInfoDTO tool = verb("TOOL");
+        tool.setBackendOperationMapping(backendOperationMapping);
+        ResourceVerbIndex index = new ResourceVerbIndex(apiInfo(resource("deletePet", tool)));
+
+        Assert.assertSame(tool, index.findMatches(Collections.singletonList("/pets/{petId}"), "DELETE").get(0)
+                .getVerb());
+        Assert.assertTrue(index.findMatches(Collections.singletonList("deletePet"), "TOOL").isEmpty());
+    }
+
+    @Test
+    public void testIndexIsCompiledOncePerAPIInfo() throws Exception {
+
+        APIInfoDTO apiInfoDTO = apiInfo(resource("/menu", verb("GET")));
+        long compiledBefore = ResourceVerbIndex.getCompiledIndexCount();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ResourceVerbIndex>> indexes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                indexes.add(executorService.submit(() -> ResourceVerbIndex.of(apiInfoDTO)));
+            }
+            for (Future<ResourceVerbIndex> index : indexes) {
+                Assert.assertSame(ResourceVerbIndex.of(apiInfoDTO), index.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(1, ResourceVerbIndex.getCompiledIndexCount() - compiledBefore);
+        Assert.assertNotSame(ResourceVerbIndex.of(apiInfoDTO), ResourceVerbIndex.of(apiInfo()));
+    }
+
+    @Test
+    public void testScanMatchesIndex() {
+
+        APIInfoDTO apiInfoDTO = apiInfo(resource("/Orders/", verb("GET"), verb("POST")),
+                resource("/orders/{id}", verb("GET")), resource("/items", verb("GET"), verb("DELETE")));
+        ResourceVerbIndex index = new ResourceVerbIndex(apiInfoDTO);
+        List<List<String>> requests = Arrays.asList(Collections.singletonList("/orders"),
+                Collections.singletonList(" /ORDERS/ "), Arrays.asList("/items", "/orders/{id}", "/orders"),
+                Collections.singletonList("/unknown"));
+        for (List<String> resources : requests) {
+            for (String httpMethod : Arrays.asList("GET", "POST", "DELETE")) {
+                List<ResourceVerbIndex.Match> indexed = index.findMatches(resources, httpMethod);
+                List<ResourceVerbIndex.Match> scanned = ResourceVerbIndex.scan(apiInfoDTO, resources, httpMethod);
+                Assert.assertEquals(indexed.size(), scanned.size());
+                for (int i = 0; i < indexed.size(); i++) {
+                    Assert.assertSame(indexed.get(i).getVerb(), scanned.get(i).getVerb());
+                    Assert.assertEquals(indexed.get(i).getResource(), scanned.get(i).getResource());
+                }
+            }
+        }
+    }
+
+    private static VerbInfoDTO verb(String httpVerb) {
+
+        VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+        verbInfoDTO.setHttpVerb(httpVerb);
+        return verbInfoDTO;
+    }
+
+    private static ResourceInfoDTO resource(String urlPattern, VerbInfoDTO... verbs) {
+
+        ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+        resourceInfoDTO.setUrlPattern(urlPattern);
+        resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>(Arrays.asList(verbs)));
+        return resourceInfoDTO;
+    }
+
+    private static APIInfoDTO apiInfo(ResourceInfoDTO... resources) {
+
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<>(Arrays.asList(resources)));
+        return apiInfoDTO;
+    }
+}
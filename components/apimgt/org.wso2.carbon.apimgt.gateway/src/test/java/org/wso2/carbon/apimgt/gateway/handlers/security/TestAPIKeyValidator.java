@@ -19,7 +19,7 @@ package org.wso2.carbon.apimgt.gateway.handlers.security;
 
 import org.apache.axis2.engine.AxisConfiguration;
 import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
-import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+import org.wso2.carbon.apimgt.impl.utils.BoundedConcurrentCache;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -69,30 +69,33 @@ public class TestAPIKeyValidator {   //extends APIKeyValidator
     
     private static class SimpleCache implements Cache {
         
-        private Map<Object,Object> map = new LRUCache<Object, Object>(APISecurityConstants.DEFAULT_MAX_INVALID_KEYS);
+        private BoundedConcurrentCache<Object, Object> map =
+                new BoundedConcurrentCache<Object, Object>(APISecurityConstants.DEFAULT_MAX_INVALID_KEYS);
         
         public boolean containsKey(Object o) {
-            return map.containsKey(o);
+            return map.get(o) != null;
         }
 
         public boolean containsValue(Object o) {
-            return map.containsValue(o);
+            return map.values().contains(o);
         }
 
         public Set entrySet() {
-            return map.entrySet();
+            throw new UnsupportedOperationException();
         }
 
         public boolean isEmpty() {
-            return map.isEmpty();
+            return map.size() == 0;
         }
 
         public Set keySet() {
-            return map.keySet();
+            throw new UnsupportedOperationException();
         }
 
-        public void putAll(Map map) {
-            map.putAll(map);
+        public void putAll(Map entries) {
+            for (Object entry : entries.entrySet()) {
+                map.put(((Map.Entry) entry).getKey(), ((Map.Entry) entry).getValue());
+            }
         }
 
         public int size() {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class SseEventFramerTest {
+
+    @Test
+    public void testEventsWithinChunk() {
+
+        SseEventFramer framer = new SseEventFramer();
+        Assert.assertEquals(2, framer.frame(chunk("data: first\n\nevent: update\ndata: second\n\n")));
+        Assert.assertEquals(0, framer.frame(chunk("data: third\n")));
+        Assert.assertEquals(1, framer.frame(chunk("\n")));
+    }
+
+    @Test
+    public void testEventsSplitAcrossChunks() {
+
+        SseEventFramer framer = new SseEventFramer();
+        Assert.assertEquals(0, framer.frame(chunk("data: fir")));
+        Assert.assertEquals(0, framer.frame(chunk("st\n")));
+        Assert.assertEquals(1, framer.frame(chunk("\ndata: second\r\n")));
+        Assert.assertEquals(1, framer.frame(chunk("\r")));
+        // the LF completes the CRLF of the previous chunk and is not another empty line
+        Assert.assertEquals(0, framer.frame(chunk("\n")));
+        Assert.assertEquals(1, framer.frame(chunk("data: third\r\r")));
+    }
+
+    @Test
+    public void testEmptyLinesWithoutEventAreNotCounted() {
+
+        SseEventFramer framer = new SseEventFramer();
+        Assert.assertEquals(0, framer.frame(chunk("\n\n\r\n")));
+        Assert.assertEquals(1, framer.frame(chunk("data: \u00fc\n\n\n\n")));
+    }
+
+    @Test
+    public void testBufferPositionIsNotChanged() {
+
+        byte[] bytes = "ignored\n\ndata: event\n\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(9);
+        Assert.assertEquals(1, new SseEventFramer().frame(buffer));
+        Assert.assertEquals(9, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        Assert.assertEquals(2, new SseEventFramer().frame(direct));
+        Assert.assertEquals(0, direct.position());
+        ByteBuffer readOnly = direct.asReadOnlyBuffer();
+        readOnly.position(9);
+        Assert.assertEquals(1, new SseEventFramer().frame(readOnly));
+    }
+
+    private static ByteBuffer chunk(String text) {
+
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
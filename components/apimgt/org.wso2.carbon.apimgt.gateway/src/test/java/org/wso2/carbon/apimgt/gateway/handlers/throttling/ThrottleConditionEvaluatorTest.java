@@ -253,6 +253,35 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertNull(matchingConditionGroups.get(0));
     }
 
+    @Test
+    public void testCompiledConditionGroupIsReusedAcrossRequests() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("QueryParameterTypeConditionGroup");
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType("QueryParameterType");
+        condition.setConditionName("city");
+        condition.setConditionValue("^colombo$");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{condition});
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO, defaultConditionGroupDTO};
+
+        MessageContext matchingContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ((Axis2MessageContext) matchingContext).getAxis2MessageContext().setProperty("REST_URL_POSTFIX",
+                "/temperature?city=colombo");
+        MessageContext nonMatchingContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ((Axis2MessageContext) nonMatchingContext).getAxis2MessageContext().setProperty("REST_URL_POSTFIX",
+                "/temperature?city=kandy");
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals("QueryParameterTypeConditionGroup", throttleConditionEvaluator
+                    .getApplicableConditions(matchingContext, new AuthenticationContext(), conditionGroupDTOS)
+                    .get(0).getConditionGroupId());
+            Assert.assertEquals(THROTTLE_POLICY_DEFAULT, throttleConditionEvaluator
+                    .getApplicableConditions(nonMatchingContext, new AuthenticationContext(), conditionGroupDTOS)
+                    .get(0).getConditionGroupId());
+        }
+    }
+
     @Test
     public void testApplicabilityOfInvertedQueryParameterTypeCondition() {
 
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class DataHolderTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 500;
+
+    @Test
+    public void testConcurrentAPIMetaDataUpdatesAreNotLost() throws Exception {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        String tenantDomain = "concurrent.com";
+        runConcurrently(thread -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                dataHolder.addAPIMetaData(createAPI(tenantDomain, "/api" + thread + "_" + i, "1.0.0"));
+            }
+        });
+        Map<String, API> apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
+        // Each default version API is mapped by both its context and its default context.
+        Assert.assertEquals(2 * THREADS * UPDATES_PER_THREAD, apiMap.size());
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                dataHolder.removeAPIFromAllTenantMap("/api" + thread + "_" + i + "/1.0.0", tenantDomain);
+            }
+        });
+        Assert.assertTrue(apiMap.isEmpty());
+    }
+
+    @Test
+    public void testRedeployedAPIIsAlwaysVisible() throws Exception {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        String tenantDomain = "redeploy.com";
+        String context = "/pizzashack/1.0.0";
+        dataHolder.addAPIMetaData(createAPI(tenantDomain, "/pizzashack", "1.0.0"));
+        Map<String, API> apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
+        runConcurrently(thread -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                if (thread % 2 == 0) {
+                    dataHolder.addAPIMetaData(createAPI(tenantDomain, "/pizzashack", "1.0.0"));
+                } else {
+                    Assert.assertNotNull(apiMap.get(context));
+                    Assert.assertNotNull(apiMap.get("/pizzashack"));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testConcurrentEndpointSuspensionsAreNotLost() throws Exception {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        String apiKey = "carbon.super_SuspensionAPI_1.0.0";
+        dataHolder.initCache(apiKey);
+        try {
+            runConcurrently(thread -> {
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    dataHolder.initCache(apiKey);
+                    dataHolder.suspendEndpoint(apiKey, "endpoint-" + thread + "_" + i, 60000L);
+                    Assert.assertTrue(dataHolder.isEndpointSuspended(apiKey, "endpoint-" + thread + "_" + i));
+                }
+            });
+            Assert.assertEquals(THREADS * UPDATES_PER_THREAD, dataHolder.getCache(apiKey).size());
+            dataHolder.suspendEndpoint(apiKey, "expired", -1L);
+            Assert.assertFalse(dataHolder.isEndpointSuspended(apiKey, "expired"));
+            Assert.assertFalse(dataHolder.getCache(apiKey).containsKey("expired"));
+        } finally {
+            dataHolder.releaseCache(apiKey);
+        }
+        Assert.assertNull(dataHolder.getCache(apiKey));
+        Assert.assertFalse(dataHolder.isEndpointSuspended(apiKey, "endpoint-0_0"));
+    }
+
+    @Test
+    public void testEndpointSuspensionVersionIsKeptPerApi() {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        String apiKey = "carbon.super_SuspendedAPI_1.0.0";
+        String otherApiKey = "carbon.super_OtherAPI_1.0.0";
+        Assert.assertEquals(0L, dataHolder.getEndpointSuspensionVersion(apiKey));
+        dataHolder.initCache(apiKey);
+        dataHolder.initCache(otherApiKey);
+        try {
+            long version = dataHolder.getEndpointSuspensionVersion(apiKey);
+            long otherVersion = dataHolder.getEndpointSuspensionVersion(otherApiKey);
+            Assert.assertNotEquals(version, otherVersion);
+
+            dataHolder.suspendEndpoint(apiKey, "endpoint-0_model-0", 60000L);
+            long suspendedVersion = dataHolder.getEndpointSuspensionVersion(apiKey);
+            Assert.assertNotEquals(version, suspendedVersion);
+            Assert.assertEquals(otherVersion, dataHolder.getEndpointSuspensionVersion(otherApiKey));
+
+            dataHolder.removeSuspendedEndpoint(apiKey, "endpoint-0_model-0");
+            Assert.assertNotEquals(suspendedVersion, dataHolder.getEndpointSuspensionVersion(apiKey));
+            Assert.assertEquals(otherVersion, dataHolder.getEndpointSuspensionVersion(otherApiKey));
+
+            // A redeployed API must not reuse the version of its released registry.
+            long releasedVersion = dataHolder.getEndpointSuspensionVersion(apiKey);
+            dataHolder.releaseCache(apiKey);
+            Assert.assertEquals(0L, dataHolder.getEndpointSuspensionVersion(apiKey));
+            dataHolder.initCache(apiKey);
+            Assert.assertNotEquals(releasedVersion, dataHolder.getEndpointSuspensionVersion(apiKey));
+        } finally {
+            dataHolder.releaseCache(apiKey);
+            dataHolder.releaseCache(otherApiKey);
+        }
+    }
+
+    @Test
+    public void testRequestPathDoesNotTakeGlobalLock() throws Exception {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        String apiKey = "carbon.super_LockFreeAPI_1.0.0";
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            synchronized (dataHolder) {
+                Future<Boolean> future = executorService.submit(() -> {
+                    dataHolder.initCache(apiKey);
+                    dataHolder.suspendEndpoint(apiKey, "endpoint-0_model-0", 60000L);
+                    boolean suspended = dataHolder.isEndpointSuspended(apiKey, "endpoint-0_model-0");
+                    dataHolder.releaseCache(apiKey);
+                    return suspended;
+                });
+                Assert.assertTrue(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executorService.submit((Callable<Void>) () -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private API createAPI(String tenantDomain, String defaultContext, String version) {
+
+        API api = new API();
+        api.setOrganization(tenantDomain);
+        api.setContext(defaultContext + "/" + version);
+        api.setApiVersion(version);
+        api.setApiName(defaultContext.substring(1));
+        api.setDefaultVersion(true);
+        return api;
+    }
+
+    private interface ThreadTask {
+
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class DeploymentLanesTest {
+
+    @Test
+    public void testTasksOfSameKeyRunInOrder() throws InterruptedException {
+
+        DeploymentLanes deploymentLanes = new DeploymentLanes("TestLane", 4);
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            deploymentLanes.submit("api-uuid", () -> {
+                completed.add(sequence);
+                done.countDown();
+            });
+        }
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.valueOf(i), completed.get(i));
+        }
+    }
+
+    @Test
+    public void testTasksOfOtherLanesAreNotBlocked() throws InterruptedException {
+
+        DeploymentLanes deploymentLanes = new DeploymentLanes("TestLane", 4);
+        String blockedKey = "api-uuid-0";
+        String otherKey = null;
+        for (int i = 1; otherKey == null; i++) {
+            if (deploymentLanes.laneOf("api-uuid-" + i) != deploymentLanes.laneOf(blockedKey)) {
+                otherKey = "api-uuid-" + i;
+            }
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+        deploymentLanes.submit(blockedKey, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        deploymentLanes.submit(otherKey, otherDone::countDown);
+        try {
+            Assert.assertTrue(otherDone.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testEventsOfRecreatedApiRunInOrder() throws InterruptedException {
+
+        DeploymentLanes deploymentLanes = new DeploymentLanes("TestLane", 16);
+        DeployAPIInGatewayEvent undeploy = deploymentEvent(APIConstants.EventType.REMOVE_API_FROM_GATEWAY,
+                "carbon.super", "api-uuid-x", "/pizzashack/1.0.0");
+        DeployAPIInGatewayEvent deploy = deploymentEvent(APIConstants.EventType.DEPLOY_API_IN_GATEWAY,
+                "carbon.super", "api-uuid-y", "/pizzashack/1.0.0");
+        Assert.assertEquals(DeploymentLanes.keyOf(undeploy), DeploymentLanes.keyOf(deploy));
+        Assert.assertNotEquals(DeploymentLanes.keyOf(deploy), DeploymentLanes.keyOf(deploymentEvent(
+                APIConstants.EventType.DEPLOY_API_IN_GATEWAY, "wso2.com", "api-uuid-y", "/pizzashack/1.0.0")));
+
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        deploymentLanes.submit(DeploymentLanes.keyOf(undeploy), () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.add(undeploy.getUuid());
+            done.countDown();
+        });
+        deploymentLanes.submit(DeploymentLanes.keyOf(deploy), () -> {
+            completed.add(deploy.getUuid());
+            done.countDown();
+        });
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals("[api-uuid-x, api-uuid-y]", completed.toString());
+    }
+
+    @Test
+    public void testLaneOfKey() {
+
+        DeploymentLanes deploymentLanes = new DeploymentLanes("TestLane", 3);
+        Assert.assertEquals(3, deploymentLanes.size());
+        Assert.assertEquals(0, deploymentLanes.laneOf(null));
+        for (int i = 0; i < 50; i++) {
+            int lane = deploymentLanes.laneOf("api-" + i);
+            Assert.assertTrue(lane >= 0 && lane < 3);
+            Assert.assertEquals(lane, deploymentLanes.laneOf("api-" + i));
+        }
+    }
+
+    private static DeployAPIInGatewayEvent deploymentEvent(APIConstants.EventType type, String tenantDomain,
+                                                           String uuid, String context) {
+
+        return new DeployAPIInGatewayEvent(uuid, System.currentTimeMillis(), type.name(), tenantDomain, 1, uuid,
+                new HashSet<>(), "PizzaShackAPI", "1.0.0", "admin", "HTTP", context);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
+import org.wso2.carbon.apimgt.api.gateway.ModelEndpointDTO;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ModelEndpointTableTest {
+
+    @Test
+    public void testRoundRobinSkipsSuspendedEndpoints() {
+
+        String apiKey = "carbon.super:RoundRobinAPI:1.0.0";
+        DataHolder.getInstance().initCache(apiKey);
+        try {
+            List<ModelEndpointDTO> endpoints = createEndpoints(1, 1, 1);
+            ModelEndpointTable table = ModelEndpointTable.of(endpoints, 30L, false);
+            Assert.assertNotNull(table);
+            Map<String, Object> first = table.next(apiKey);
+            Assert.assertEquals(endpoints.get(0), first.get(AIAPIConstants.TARGET_MODEL_ENDPOINT));
+            Assert.assertEquals(30000L, first.get(AIAPIConstants.SUSPEND_DURATION));
+            Assert.assertEquals(endpoints.get(1), table.next(apiKey).get(AIAPIConstants.TARGET_MODEL_ENDPOINT));
+
+            DataHolder.getInstance().suspendEndpoint(apiKey, "endpoint-1_model-1", 60000L);
+            for (int i = 0; i < 10; i++) {
+                Assert.assertNotEquals(endpoints.get(1),
+                        table.next(apiKey).get(AIAPIConstants.TARGET_MODEL_ENDPOINT));
+            }
+            DataHolder.getInstance().suspendEndpoint(apiKey, "endpoint-0_model-0", 60000L);
+            DataHolder.getInstance().suspendEndpoint(apiKey, "endpoint-2_model-2", 60000L);
+            Assert.assertNull(table.next(apiKey));
+
+            DataHolder.getInstance().removeSuspendedEndpoint(apiKey, "endpoint-2_model-2");
+            Assert.assertEquals(endpoints.get(2), table.next(apiKey).get(AIAPIConstants.TARGET_MODEL_ENDPOINT));
+        } finally {
+            DataHolder.getInstance().releaseCache(apiKey);
+        }
+    }
+
+    @Test
+    public void testWeightedSelectionFollowsWeights() {
+
+        String apiKey = "carbon.super:WeightedAPI:1.0.0";
+        DataHolder.getInstance().initCache(apiKey);
+        try {
+            List<ModelEndpointDTO> endpoints = createEndpoints(1, 3, 0);
+            ModelEndpointTable table = ModelEndpointTable.of(endpoints, null, true);
+            Assert.assertNotNull(table);
+            int[] counts = new int[endpoints.size()];
+            int iterations = 41000;
+            for (int i = 0; i < iterations; i++) {
+                counts[endpoints.indexOf(table.next(apiKey).get(AIAPIConstants.TARGET_MODEL_ENDPOINT))]++;
+            }
+            // Weights below 0.1 are raised to 0.1, giving the endpoints shares of 10/41, 30/41 and 1/41.
+            Assert.assertEquals(10000, counts[0], 1000);
+            Assert.assertEquals(30000, counts[1], 1000);
+            Assert.assertEquals(1000, counts[2], 500);
+
+            DataHolder.getInstance().suspendEndpoint(apiKey, "endpoint-1_model-1", 60000L);
+            for (int i = 0; i < 100; i++) {
+                Assert.assertNotEquals(endpoints.get(1),
+                        table.next(apiKey).get(AIAPIConstants.TARGET_MODEL_ENDPOINT));
+            }
+        } finally {
+            DataHolder.getInstance().releaseCache(apiKey);
+        }
+    }
+
+    @Test
+    public void testEmptyEndpoints() {
+
+        Assert.assertNull(ModelEndpointTable.of(null, 30L, false));
+        Assert.assertNull(ModelEndpointTable.of(new ArrayList<>(), 30L, true));
+    }
+
+    private List<ModelEndpointDTO> createEndpoints(double... weights) {
+
+        List<ModelEndpointDTO> endpoints = new ArrayList<>();
+        for (int i = 0; i < weights.length; i++) {
+            ModelEndpointDTO endpoint = new ModelEndpointDTO();
+            endpoint.setEndpointId("endpoint-" + i);
+            endpoint.setModel("model-" + i);
+            endpoint.setWeight(weights[i]);
+            endpoints.add(endpoint);
+        }
+        return endpoints;
+    }
+}
@@ -35,7 +35,17 @@ import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorCons
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Validator;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 /**
  * This is the test case for {@link XMLSchemaValidator}
@@ -155,4 +165,39 @@ public class XMLSchemaValidatorTest {
 
         log.info("Successfully completed testConfigureSchemaPropertiesAllowsDtdAndExternalEntitiesWhenSecureProcessingDisabled test case.");
     }
+
+    /**
+     * Test that the XSD is compiled once and the validator is reused by the same thread.
+     */
+    @Test
+    public void testCompiledSchemaIsCached() throws Exception {
+        File xsd = File.createTempFile("order", ".xsd");
+        xsd.deleteOnExit();
+        Files.write(xsd.toPath(), ("<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+                + "<xs:element name=\"order\"><xs:complexType><xs:sequence>"
+                + "<xs:element name=\"quantity\" type=\"xs:int\"/>"
+                + "</xs:sequence></xs:complexType></xs:element></xs:schema>").getBytes(StandardCharsets.UTF_8));
+        String xsdURL = xsd.toURI().toURL().toString();
+        XMLSchemaValidator.invalidateSchemaCache();
+
+        XMLSchemaValidator.CompiledSchema compiledSchema = XMLSchemaValidator.getCompiledSchema(xsdURL, true);
+        assertSame(compiledSchema, XMLSchemaValidator.getCompiledSchema(xsdURL, true));
+        assertNotSame(compiledSchema, XMLSchemaValidator.getCompiledSchema(xsdURL, false));
+
+        Validator validator = compiledSchema.getValidator();
+        assertSame(validator, compiledSchema.getValidator());
+        validator.validate(new StreamSource(new StringReader("<order><quantity>2</quantity></order>")));
+        try {
+            validator.validate(new StreamSource(new StringReader("<order><quantity>two</quantity></order>")));
+            fail("Invalid payload should not pass the schema validation");
+        } catch (org.xml.sax.SAXException e) {
+            compiledSchema.discardValidator();
+        }
+        assertNotSame(validator, compiledSchema.getValidator());
+        compiledSchema.getValidator()
+                .validate(new StreamSource(new StringReader("<order><quantity>3</quantity></order>")));
+
+        XMLSchemaValidator.invalidateSchemaCache();
+        assertNotSame(compiledSchema, XMLSchemaValidator.getCompiledSchema(xsdURL, true));
+    }
 }
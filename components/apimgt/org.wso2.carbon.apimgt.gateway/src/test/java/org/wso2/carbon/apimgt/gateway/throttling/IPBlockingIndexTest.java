@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashSet;
+import java.util.Set;
+
+public class IPBlockingIndexTest {
+
+    @Test
+    public void testParseIPv4() {
+
+        Assert.assertEquals(0L, IPBlockingIndex.parseIPv4("0.0.0.0"));
+        Assert.assertEquals(0xFFFFFFFFL, IPBlockingIndex.parseIPv4("255.255.255.255"));
+        Assert.assertEquals(0xC0A80132L, IPBlockingIndex.parseIPv4("192.168.1.50"));
+        Assert.assertEquals(0x000A0000L, IPBlockingIndex.parseIPv4("0.10.0.0"));
+    }
+
+    @Test
+    public void testParseIPv4LeavesOtherFormsToAddressParser() {
+
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4(null));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("256.1.1.1"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("1.2.3"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("1.2.3.4.5"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("1..2.3"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("1.2.3."));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("01.2.3.4"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("::1"));
+        Assert.assertEquals(-1L, IPBlockingIndex.parseIPv4("::ffff:10.0.0.5"));
+    }
+
+    @Test
+    public void testIPv4AndIPv6RangesAtBounds() {
+
+        Set<IPRange> ipRanges = new HashSet<>();
+        ipRanges.add(range(1, "10.0.0.255", "10.0.2.0", false));
+        ipRanges.add(range(2, "::1:0:0:0", "::1:0:0:ff", false));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+
+        Assert.assertFalse(index.isBlocked("10.0.0.255"));
+        Assert.assertTrue(index.isBlocked("10.0.1.0"));
+        Assert.assertTrue(index.isBlocked("10.0.1.255"));
+        Assert.assertFalse(index.isBlocked("10.0.2.0"));
+        Assert.assertFalse(index.isBlocked("255.255.255.255"));
+        Assert.assertTrue(index.isBlocked("::1:0:0:10"));
+        Assert.assertFalse(index.isBlocked("::1:0:0:ff"));
+    }
+
+    @Test
+    public void testInvertedRangeWithIPv4AndIPv6() {
+
+        Set<IPRange> ipRanges = new HashSet<>();
+        ipRanges.add(range(1, "10.0.0.0", "10.0.0.100", true));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+
+        Assert.assertFalse(index.isBlocked("10.0.0.50"));
+        Assert.assertTrue(index.isBlocked("10.0.0.100"));
+        Assert.assertTrue(index.isBlocked("172.16.0.1"));
+        Assert.assertTrue(index.isBlocked("2001:db8::1"));
+    }
+
+    private static IPRange range(int id, String startingIp, String endingIp, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setEndingIp(endingIp);
+        ipRange.setInvert(invert);
+        ipRange.setStartingIpBigIntValue(toBigInteger(startingIp));
+        ipRange.setEndingIpBigIntValue(toBigInteger(endingIp));
+        return ipRange;
+    }
+
+    private static BigInteger toBigInteger(String ip) {
+
+        try {
+            return new BigInteger(1, InetAddress.getByName(ip).getAddress());
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException(ip, e);
+        }
+    }
+}
@@ -18,7 +18,9 @@
 
 package org.wso2.carbon.apimgt.gateway.throttling;
 
+import org.junit.Assert;
 import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIConstants;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +68,62 @@ public class ThrottleDataHolderTest {
 
     @Test
     public void addIplockingCondition() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        String tenantDomain = "iprange.com";
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 1, "{\"fixedIp\":\"10.0.0.5\",\"invert\":false}",
+                APIConstants.BLOCKING_CONDITIONS_IP);
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 2,
+                "{\"startingIp\":\"192.168.1.1\",\"endingIp\":\"192.168.1.100\",\"invert\":false}",
+                APIConstants.BLOCK_CONDITION_IP_RANGE);
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 3,
+                "{\"startingIp\":\"2001:db8::1\",\"endingIp\":\"2001:db8::ff\",\"invert\":false}",
+                APIConstants.BLOCK_CONDITION_IP_RANGE);
+
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.5"));
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.6"));
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "192.168.1.50"));
+        // Range bounds are exclusive
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "192.168.1.1"));
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "192.168.1.100"));
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "2001:db8::10"));
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "2001:db8::1:0"));
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, "other.com", "10.0.0.5"));
+
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 1);
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 2);
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 3);
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.5"));
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "192.168.1.50"));
+    }
+
+    @Test
+    public void addInvertedIplockingCondition() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        String tenantDomain = "invertediprange.com";
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 1,
+                "{\"startingIp\":\"10.0.0.1\",\"endingIp\":\"10.0.0.100\",\"invert\":true}",
+                APIConstants.BLOCK_CONDITION_IP_RANGE);
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 2,
+                "{\"startingIp\":\"10.0.0.50\",\"endingIp\":\"10.0.0.200\",\"invert\":true}",
+                APIConstants.BLOCK_CONDITION_IP_RANGE);
+
+        // Only IPs within all the inverted ranges are allowed
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.75"));
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.20"));
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.150"));
+
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 1);
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 2);
+        throttleDataHolder.addIpBlockingCondition(tenantDomain, 3, "{\"fixedIp\":\"10.0.0.5\",\"invert\":true}",
+                APIConstants.BLOCKING_CONDITIONS_IP);
+        Assert.assertFalse(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.5"));
+        Assert.assertTrue(isIpBlocked(throttleDataHolder, tenantDomain, "10.0.0.6"));
+        throttleDataHolder.removeIpBlockingCondition(tenantDomain, 3);
+    }
+
+    private boolean isIpBlocked(ThrottleDataHolder throttleDataHolder, String tenantDomain, String ip) {
+        return throttleDataHolder.isRequestBlocked("/blocked/1.0.0", "admin:blockedApp", "blockedUser", ip,
+                tenantDomain, "blockedSubscription");
     }
 
     @Test
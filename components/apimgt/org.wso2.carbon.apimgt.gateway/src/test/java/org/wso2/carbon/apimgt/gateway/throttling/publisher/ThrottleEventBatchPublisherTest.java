@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThrottleEventBatchPublisherTest {
+
+    @Test
+    public void testEventsAreDroppedWhenBuffersAreFull() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(4, 1),
+                TestAgent::new, new TestEventSink(published, true));
+        for (int i = 0; i < 6; i++) {
+            int event = i;
+            Assert.assertEquals(i < 4, batchPublisher.publish(agent -> ((TestAgent) agent).event = event));
+        }
+        Assert.assertEquals(2, batchPublisher.getDroppedCount());
+        Assert.assertEquals(4, batchPublisher.getQueuedCount());
+
+        batchPublisher.drain(batchPublisher.getRingBuffers()[0]);
+        Assert.assertEquals(4, batchPublisher.getPublishedCount());
+        Assert.assertEquals(0, batchPublisher.getQueuedCount());
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3), published);
+        Assert.assertTrue(batchPublisher.publish(agent -> ((TestAgent) agent).event = 6));
+    }
+
+    @Test
+    public void testRejectedAndFailedEventsAreCounted() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(8, 1),
+                TestAgent::new, new TestEventSink(published, false));
+        batchPublisher.publish(agent -> ((TestAgent) agent).event = 1);
+        batchPublisher.publish(agent -> ((TestAgent) agent).event = -1);
+        batchPublisher.drain(batchPublisher.getRingBuffers()[0]);
+        Assert.assertEquals(0, batchPublisher.getPublishedCount());
+        Assert.assertEquals(1, batchPublisher.getRejectedCount());
+        Assert.assertEquals(1, batchPublisher.getFailedCount());
+    }
+
+    @Test
+    public void testFailedInitializationDoesNotBlockBuffer() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(8, 1),
+                TestAgent::new, new TestEventSink(published, true));
+        try {
+            batchPublisher.publish(agent -> {
+                throw new IllegalStateException("Invalid message context");
+            });
+            Assert.fail("Expected the initialization failure to be propagated");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        batchPublisher.publish(agent -> ((TestAgent) agent).event = 1);
+        batchPublisher.drain(batchPublisher.getRingBuffers()[0]);
+        Assert.assertEquals(Collections.singletonList(1), published);
+        Assert.assertEquals(1, batchPublisher.getPublishedCount());
+    }
+
+    @Test
+    public void testConcurrentProducersWithSingleConsumer() throws Exception {
+
+        int producers = 4;
+        int eventsPerProducer = 5000;
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(64, 1),
+                TestAgent::new, new TestEventSink(published, true));
+        ThrottleEventRingBuffer ringBuffer = batchPublisher.getRingBuffers()[0];
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executorService.execute(() -> {
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        int event = producer * eventsPerProducer + i;
+                        while (!batchPublisher.publish(agent -> ((TestAgent) agent).event = event)) {
+                            Thread.yield();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            List<Event> batch = new ArrayList<>();
+            while (done.getCount() > 0 || batchPublisher.getQueuedCount() > 0) {
+                if (ringBuffer.drain(16, batch, () -> { }) == 0) {
+                    Thread.yield();
+                }
+                for (Event event : batch) {
+                    published.add((Integer) event.getPayloadData()[0]);
+                }
+                batch.clear();
+            }
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(producers * eventsPerProducer, published.size());
+        Assert.assertEquals(producers * eventsPerProducer, published.stream().distinct().count());
+    }
+
+    @Test
+    public void testStopPublishesQueuedEvents() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(1024, 2),
+                TestAgent::new, new TestEventSink(published, true));
+        batchPublisher.start();
+        int events = 500;
+        for (int i = 0; i < events; i++) {
+            int event = i;
+            Assert.assertTrue(batchPublisher.publish(agent -> ((TestAgent) agent).event = event));
+        }
+        batchPublisher.stop();
+        Assert.assertEquals(0, batchPublisher.getQueuedCount());
+        Assert.assertEquals(events, batchPublisher.getPublishedCount());
+        Assert.assertEquals(events, published.size());
+    }
+
+    @Test
+    public void testBatchIsTakenFromRingInOnePass() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(8, 1),
+                TestAgent::new, new TestEventSink(published, true));
+        for (int i = 0; i < 3; i++) {
+            int event = i;
+            batchPublisher.publish(agent -> ((TestAgent) agent).event = event);
+        }
+        List<Event> batch = new ArrayList<>();
+        Assert.assertEquals(2, batchPublisher.getRingBuffers()[0].drain(2, batch, () -> { }));
+        // the slots of the batch are free before its events are handed over
+        Assert.assertEquals(1, batchPublisher.getQueuedCount());
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(0, batch.get(0).getPayloadData()[0]);
+        Assert.assertEquals(1, batch.get(1).getPayloadData()[0]);
+        Assert.assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void testEventsPublishedAfterStopAreDropped() {
+
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(8, 1),
+                TestAgent::new, new TestEventSink(published, true));
+        batchPublisher.start();
+        batchPublisher.stop();
+        Assert.assertFalse(batchPublisher.publish(agent -> ((TestAgent) agent).event = 1));
+        Assert.assertEquals(1, batchPublisher.getDroppedCount());
+        Assert.assertEquals(0, batchPublisher.getQueuedCount());
+        Assert.assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void testEventsPublishedWhileStoppingAreNotStranded() throws Exception {
+
+        int producers = 4;
+        List<Integer> published = Collections.synchronizedList(new ArrayList<>());
+        ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(batching(1 << 16, 2),
+                TestAgent::new, new TestEventSink(published, true));
+        batchPublisher.start();
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(producers);
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                executorService.execute(() -> {
+                    started.countDown();
+                    boolean queued = true;
+                    while (queued) {
+                        int event = attempts.getAndIncrement();
+                        queued = batchPublisher.publish(agent -> ((TestAgent) agent).event = event);
+                    }
+                });
+            }
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            batchPublisher.stop();
+            executorService.shutdown();
+            Assert.assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(0, batchPublisher.getQueuedCount());
+        Assert.assertEquals(attempts.get(), batchPublisher.getPublishedCount() + batchPublisher.getDroppedCount());
+        Assert.assertEquals(batchPublisher.getPublishedCount(), published.size());
+    }
+
+    private static ThrottleProperties.DataPublisherBatching batching(int bufferSize, int publisherThreads) {
+
+        ThrottleProperties.DataPublisherBatching batching = new ThrottleProperties.DataPublisherBatching();
+        batching.setEnabled(true);
+        batching.setBufferSize(bufferSize);
+        batching.setPublisherThreads(publisherThreads);
+        batching.setBatchSize(2);
+        return batching;
+    }
+
+    /**
+     * Agent which creates an event carrying the number it was filled with instead of reading a message context. A
+     * negative number fails to create an event.
+     */
+    private static class TestAgent extends DataProcessAndPublishingAgentWrapper {
+
+        private Integer event;
+
+        TestAgent() {
+
+            super(new ThrottleProperties());
+        }
+
+        @Override
+        Event createEvent() {
+
+            if (event < 0) {
+                throw new IllegalStateException("Error while creating event");
+            }
+            return new Event("throttleStream", 0, null, null, new Object[]{event});
+        }
+
+        @Override
+        public void clearDataReference() {
+
+            super.clearDataReference();
+            event = null;
+        }
+    }
+
+    /**
+     * Sink which records the events handed over to it.
+     */
+    private static class TestEventSink implements ThrottleEventBatchPublisher.EventSink {
+
+        private final List<Integer> published;
+        private final boolean accept;
+
+        TestEventSink(List<Integer> published, boolean accept) {
+
+            this.published = published;
+            this.accept = accept;
+        }
+
+        @Override
+        public boolean tryPublish(Event event) {
+
+            if (accept) {
+                published.add((Integer) event.getPayloadData()[0]);
+            }
+            return accept;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ThrottlePropertiesEncoderTest {
+
+    @Test
+    public void testEncodedPropertiesMatchJsonObject() throws Exception {
+
+        JSONObject expected = new JSONObject();
+        expected.put("ip", 3232235777L);
+        expected.put("ipv6", new BigInteger("42540766411282592856903984951653826561"));
+        expected.put("messageSize", 0L);
+        expected.put("x-forwarded-for", "a\"b\\c/d\n\u0001\u2001");
+        expected.put("isEnabled", Boolean.TRUE);
+
+        ThrottlePropertiesEncoder encoder = ThrottlePropertiesEncoder.getInstance();
+        encoder.getProperties().putAll(expected);
+        String encoded = encoder.encode();
+
+        JSONParser parser = new JSONParser();
+        Assert.assertEquals(parser.parse(expected.toString()), parser.parse(encoded));
+        Assert.assertTrue(encoder.getProperties().isEmpty());
+    }
+
+    @Test
+    public void testOnlyConditionAttributesArePublished() throws Exception {
+
+        VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+        verbInfoDTO.setConditionGroups(new ConditionGroupDTO[]{
+                conditionGroup(condition(PolicyConstants.HEADER_TYPE, "X-Tenant"),
+                        condition(PolicyConstants.QUERY_PARAMETER_TYPE, "region")),
+                conditionGroup(condition(PolicyConstants.IP_SPECIFIC_TYPE, "ip"))});
+        ThrottlePropertiesEncoder.ConditionAttributeNames conditionAttributeNames =
+                ThrottlePropertiesEncoder.getConditionAttributeNames(Collections.singletonList(verbInfoDTO));
+        Assert.assertSame(conditionAttributeNames,
+                ThrottlePropertiesEncoder.getConditionAttributeNames(Collections.singletonList(verbInfoDTO)));
+        Assert.assertEquals(Collections.singleton("x-tenant"), conditionAttributeNames.getHeaders());
+        Assert.assertEquals(Collections.singleton("region"), conditionAttributeNames.getQueryParams());
+        Assert.assertTrue(conditionAttributeNames.getJwtClaims().isEmpty());
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-tenant", "wso2");
+        headers.put("user-agent", "curl");
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("region", "eu");
+        queryParams.put("page", "2");
+
+        ThrottlePropertiesEncoder encoder = ThrottlePropertiesEncoder.getInstance();
+        encoder.putAll(headers, conditionAttributeNames.getHeaders());
+        encoder.putAll(queryParams, conditionAttributeNames.getQueryParams());
+        JSONObject published = (JSONObject) new JSONParser().parse(encoder.encode());
+
+        Assert.assertEquals(2, published.size());
+        Assert.assertEquals("wso2", published.get("x-tenant"));
+        Assert.assertEquals("eu", published.get("region"));
+    }
+
+    @Test
+    public void testNoConditionAttributesWithoutConditionGroups() {
+
+        ThrottlePropertiesEncoder.ConditionAttributeNames conditionAttributeNames =
+                ThrottlePropertiesEncoder.getConditionAttributeNames(Collections.singletonList(new VerbInfoDTO()));
+        Assert.assertTrue(conditionAttributeNames.getHeaders().isEmpty());
+        Assert.assertTrue(conditionAttributeNames.getQueryParams().isEmpty());
+        Assert.assertTrue(conditionAttributeNames.getJwtClaims().isEmpty());
+    }
+
+    private static ConditionGroupDTO conditionGroup(ConditionDTO... conditions) {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditions(conditions);
+        return conditionGroupDTO;
+    }
+
+    private static ConditionDTO condition(String type, String name) {
+
+        ConditionDTO conditionDTO = new ConditionDTO();
+        conditionDTO.setConditionType(type);
+        conditionDTO.setConditionName(name);
+        conditionDTO.setConditionValue("value");
+        return conditionDTO;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MCPToolListCacheTest {
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"properties\":{\"query_limit\":{\"type\":\"integer\"}},"
+            + "\"required\":[\"query_limit\"]}";
+
+    @Test
+    public void testToolListPayload() {
+
+        API api = api(tool("listMenu", backendOperation("/menu")), tool("placeOrder", backendOperation("/order")));
+
+        for (Object id : Arrays.<Object>asList(1, "abc", null)) {
+            JsonObject expected = JsonParser.parseString(
+                    MCPPayloadGenerator.generateToolListPayload(id, api.getUrlMappings(), false)).getAsJsonObject();
+            JsonObject actual = JsonParser.parseString(
+                    MCPToolListCache.getToolListPayload(id, api.getUrlMappings())).getAsJsonObject();
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testToolListIsRebuiltWhenUrlMappingsChange() {
+
+        API api = api(tool("listMenu", backendOperation("/menu")));
+        Assert.assertFalse(MCPToolListCache.getToolListPayload(1, api.getUrlMappings()).contains("placeOrder"));
+
+        api.getUrlMappings().add(tool("placeOrder", backendOperation("/order")));
+        Assert.assertTrue(MCPToolListCache.getToolListPayload(1, api.getUrlMappings()).contains("placeOrder"));
+
+        api.setUrlMappings(new ArrayList<>());
+        Assert.assertFalse(MCPToolListCache.getToolListPayload(1, api.getUrlMappings()).contains("listMenu"));
+    }
+
+    @Test
+    public void testToolListOfApiWithoutUrlMappings() {
+
+        JsonObject payload = JsonParser.parseString(MCPToolListCache.getToolListPayload(1, null)).getAsJsonObject();
+        Assert.assertEquals(0, payload.getAsJsonObject("result").getAsJsonArray("tools").size());
+    }
+
+    private static API api(URLMapping... urlMappings) {
+
+        API api = new API();
+        api.setSubtype(APIConstants.API_SUBTYPE_DIRECT_BACKEND);
+        List<URLMapping> mappings = new ArrayList<>(Arrays.asList(urlMappings));
+        api.setUrlMappings(mappings);
+        return api;
+    }
+
+    private static URLMapping tool(String name, BackendOperation backendOperation) {
+
+        URLMapping urlMapping = new URLMapping();
+        urlMapping.setUrlPattern(name);
+        urlMapping.setDescription(name + " tool");
+        urlMapping.setSchemaDefinition(SCHEMA);
+        BackendOperationMapping backendOperationMapping = new BackendOperationMapping();
+        backendOperationMapping.setBackendOperation(backendOperation);
+        urlMapping.setBackendOperationMapping(backendOperationMapping);
+        return urlMapping;
+    }
+
+    private static BackendOperation backendOperation(String target) {
+
+        BackendOperation backendOperation = new BackendOperation();
+        backendOperation.setTarget(target);
+        backendOperation.setVerb(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.GET);
+        return backendOperation;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the ratings, gateway vendors and AM_API info of a Dev Portal search result page of 50 APIs from an
+ * in-memory H2 database of 10,000 APIs, half of them rated. The per-API lookups run the queries the page used to run
+ * for each API, and the bulk lookups run the IN-list queries of ApiMgtDAO in chunks of
+ * {@link SQLConstants#API_ID_CHUNK_SIZE} UUIDs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DevPortalAPIEnrichmentBenchmark {
+
+    private static final int APIS = 10000;
+
+    @Param({"50"})
+    private int pageSize;
+
+    private Connection connection;
+    private List<String> apiUUIDs;
+    private List<String> page;
+
+    @Setup
+    public void setup() throws SQLException {
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:DevPortalAPIEnrichmentBenchmark;DB_CLOSE_DELAY=-1",
+                "wso2carbon", "wso2carbon");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE AM_API (API_ID INTEGER AUTO_INCREMENT, API_UUID VARCHAR(256), " +
+                    "API_PROVIDER VARCHAR(256), API_NAME VARCHAR(256), API_VERSION VARCHAR(30), " +
+                    "CONTEXT VARCHAR(256), CONTEXT_TEMPLATE VARCHAR(256), API_TIER VARCHAR(256), " +
+                    "API_TYPE VARCHAR(10), API_SUBTYPE VARCHAR(100), ORGANIZATION VARCHAR(100), " +
+                    "GATEWAY_VENDOR VARCHAR(100) DEFAULT 'wso2', CREATED_BY VARCHAR(100), CREATED_TIME TIMESTAMP, " +
+                    "UPDATED_BY VARCHAR(100), UPDATED_TIME TIMESTAMP, REVISIONS_CREATED INTEGER DEFAULT 0, " +
+                    "STATUS VARCHAR(30), IS_EGRESS INTEGER DEFAULT 0, API_DISPLAY_NAME VARCHAR(256), " +
+                    "INITIATED_FROM_GW INTEGER DEFAULT 0, PRIMARY KEY (API_ID), UNIQUE (API_UUID))");
+            statement.execute("CREATE TABLE AM_API_RATINGS (RATING_ID VARCHAR(255) NOT NULL, API_ID INTEGER, " +
+                    "RATING INTEGER, SUBSCRIBER_ID INTEGER, PRIMARY KEY (RATING_ID))");
+            statement.execute("CREATE INDEX IDX_AAR_API_ID ON AM_API_RATINGS (API_ID)");
+        }
+        apiUUIDs = new ArrayList<>(APIS);
+        try (PreparedStatement addAPI = connection.prepareStatement("INSERT INTO AM_API (API_UUID, API_PROVIDER, " +
+                "API_NAME, API_VERSION, CONTEXT, API_TIER, API_TYPE, ORGANIZATION, STATUS, CREATED_TIME) VALUES " +
+                "(?, 'admin', ?, '1.0.0', ?, 'Unlimited', 'HTTP', 'carbon.super', 'PUBLISHED', " +
+                "CURRENT_TIMESTAMP)");
+             PreparedStatement addRating = connection.prepareStatement("INSERT INTO AM_API_RATINGS (RATING_ID, " +
+                     "API_ID, RATING, SUBSCRIBER_ID) VALUES (?, ?, ?, 1)")) {
+            for (int i = 1; i <= APIS; i++) {
+                String apiUUID = UUID.randomUUID().toString();
+                apiUUIDs.add(apiUUID);
+                addAPI.setString(1, apiUUID);
+                addAPI.setString(2, "API" + i);
+                addAPI.setString(3, "/api" + i + "/1.0.0");
+                addAPI.addBatch();
+                if (i % 2 == 0) {
+                    addRating.setString(1, UUID.randomUUID().toString());
+                    addRating.setInt(2, i);
+                    addRating.setInt(3, i % 5 + 1);
+                    addRating.addBatch();
+                }
+            }
+            addAPI.executeBatch();
+            addRating.executeBatch();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void selectPage() {
+
+        int from = ThreadLocalRandom.current().nextInt(APIS - pageSize);
+        page = apiUUIDs.subList(from, from + pageSize);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void perAPILookups(Blackhole blackhole) throws SQLException {
+
+        for (String apiUUID : page) {
+            int apiId = -1;
+            try (ResultSet resultSet = query(SQLConstants.GET_API_ID_SQL_BY_UUID, Collections.singletonList(apiUUID))) {
+                if (resultSet.next()) {
+                    apiId = resultSet.getInt("API_ID");
+                }
+            }
+            try (PreparedStatement preparedStatement =
+                         connection.prepareStatement(SQLConstants.GET_API_AVERAGE_RATING_SQL)) {
+                preparedStatement.setInt(1, apiId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    consume(resultSet, blackhole);
+                }
+            }
+            try (ResultSet resultSet = query(SQLConstants.GET_GATEWAY_VENDOR_BY_API_ID,
+                    Collections.singletonList(apiUUID))) {
+                consume(resultSet, blackhole);
+            }
+            try (ResultSet resultSet = query(SQLConstants.RETRIEVE_API_INFO_FROM_UUID,
+                    Collections.singletonList(apiUUID))) {
+                consume(resultSet, blackhole);
+            }
+        }
+    }
+
+    @Benchmark
+    public void bulkLookups(Blackhole blackhole) throws SQLException {
+
+        for (String sqlTemplate : new String[]{SQLConstants.GET_API_AVERAGE_RATINGS_BY_UUIDS_SQL,
+                SQLConstants.GET_GATEWAY_VENDORS_BY_API_IDS, SQLConstants.RETRIEVE_API_INFO_FROM_UUIDS}) {
+            for (int from = 0; from < page.size(); from += SQLConstants.API_ID_CHUNK_SIZE) {
+                List<String> chunk = page.subList(from, Math.min(from + SQLConstants.API_ID_CHUNK_SIZE, page.size()));
+                String sql = sqlTemplate.replace(SQLConstants.API_UUID_REGEX,
+                        String.join(",", Collections.nCopies(chunk.size(), "?")));
+                try (ResultSet resultSet = query(sql, chunk)) {
+                    consume(resultSet, blackhole);
+                }
+            }
+        }
+    }
+
+    private ResultSet query(String sql, List<String> parameters) throws SQLException {
+
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            preparedStatement.setString(i + 1, parameters.get(i));
+        }
+        preparedStatement.closeOnCompletion();
+        return preparedStatement.executeQuery();
+    }
+
+    private void consume(ResultSet resultSet, Blackhole blackhole) throws SQLException {
+
+        int columns = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            for (int i = 1; i <= columns; i++) {
+                blackhole.consume(resultSet.getObject(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of 8 threads reading a cache of 1000 entries, for BoundedConcurrentCache and the deprecated
+ * LRUCache. 90% of the lookups go to 100 hot keys. The rest are spread over the cached keys and 50 keys that are not
+ * cached, which are written back on a miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class BoundedConcurrentCacheBenchmark {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final int HOT_KEYS = 100;
+    private static final int KEY_SPACE = MAX_ENTRIES + MAX_ENTRIES / 20;
+
+    private BoundedConcurrentCache<Integer, Integer> boundedCache;
+    private LRUCache<Integer, Integer> lruCache;
+
+    @Setup
+    public void setup() {
+
+        boundedCache = new BoundedConcurrentCache<>(MAX_ENTRIES, 0, TimeUnit.MILLISECONDS, true, null);
+        lruCache = new LRUCache<>(MAX_ENTRIES);
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            boundedCache.put(i, i);
+            lruCache.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public Integer boundedConcurrentCache() {
+
+        Integer key = nextKey();
+        Integer value = boundedCache.get(key);
+        if (value == null) {
+            boundedCache.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer lruCache() {
+
+        Integer key = nextKey();
+        Integer value = lruCache.get(key);
+        if (value == null) {
+            lruCache.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    private static Integer nextKey() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextInt(10) < 9 ? random.nextInt(HOT_KEYS) : random.nextInt(KEY_SPACE);
+    }
+}
@@ -1085,6 +1085,9 @@ public final class APIConstants {
     public static final String ALLOW_SUBSCRIPTION_VALIDATION_DISABLING = API_KEY_VALIDATOR +
             "AllowSubscriptionValidationDisabling";
     public static final String DISABLE_RETRIEVE_KEY_MAPPING = API_KEY_VALIDATOR + "DisableRetrieveKeyMapping";
+    public static final String SUBSCRIPTION_DATA_NEGATIVE_CACHE_EXPIRY = API_KEY_VALIDATOR +
+            "SubscriptionDataNegativeCacheExpiry";
+    public static final long DEFAULT_SUBSCRIPTION_DATA_NEGATIVE_CACHE_EXPIRY = 30;
 
     public static final String KEY_MANAGER_OAUTH2_SCOPES_REST_API_BASE_PATH = "/api/identity/oauth2/v1.0/scopes";
     public static final String KEY_MANAGER_OAUTH2_SCOPES_SCOPE_NAME_PARAM = "{scope_name}";
@@ -1323,6 +1326,17 @@ public final class APIConstants {
     public static final String API_ANALYTICS_PROPERTIES = API_ANALYTICS + "Properties";
     public static final String API_ANALYTICS_RESPONSE_SCHEMA_NAME = API_ANALYTICS + "ResponseSchemaName";
     public static final String API_ANALYTICS_FAULT_SCHEMA_NAME = API_ANALYTICS + "FaultSchemaName";
+    public static final String API_ANALYTICS_ASYNC_PUBLISHING = API_ANALYTICS + "AsyncPublishing.";
+    public static final String API_ANALYTICS_ASYNC_PUBLISHING_ENABLED = API_ANALYTICS_ASYNC_PUBLISHING + "Enabled";
+    public static final String API_ANALYTICS_ASYNC_PUBLISHING_QUEUE_SIZE = API_ANALYTICS_ASYNC_PUBLISHING + "QueueSize";
+    public static final String API_ANALYTICS_ASYNC_PUBLISHING_WORKER_THREADS =
+            API_ANALYTICS_ASYNC_PUBLISHING + "WorkerThreads";
+    public static final String API_ANALYTICS_ASYNC_PUBLISHING_DROP_POLICY =
+            API_ANALYTICS_ASYNC_PUBLISHING + "DropPolicy";
+    public static final String ANALYTICS_DROP_POLICY_DROP_NEWEST = "drop_newest";
+    public static final String ANALYTICS_DROP_POLICY_DROP_OLDEST = "drop_oldest";
+    public static final String ANALYTICS_DROP_POLICY_CALLER_RUNS = "caller_runs";
+    public static final String API_ANALYTICS_SSE_AGGREGATE_EVENTS = API_ANALYTICS + "SseAggregateEvents";
     public static final String API_USAGE_BAM_SERVER_URL_GROUPS = API_ANALYTICS + "StreamProcessorServerURL";
     public static final String API_USAGE_BAM_SERVER_AUTH_URL_GROUPS = API_ANALYTICS + "StreamProcessorAuthServerURL";
     public static final String API_USAGE_BUILD_MSG = API_ANALYTICS + "PublishResponseMessageSize";
@@ -1662,6 +1676,7 @@ public final class APIConstants {
     public static final String OPERATION_SECURITY_ENABLED = "Enabled";
     public static final String OPERATION_SECURITY_DISABLED = "Disabled";
     public static final String GRAPHQL_PAYLOAD = "GRAPHQL_PAYLOAD";
+    public static final String GRAPHQL_PAYLOAD_DOCUMENT = "GRAPHQL_PAYLOAD_DOCUMENT";
     public static final String GRAPHQL_SCHEMA = "GRAPHQL_SCHEMA";
     public static final String GRAPHQL_ACCESS_CONTROL_POLICY = "WSO2GraphQLAccessControlPolicy";
     public static final String QUERY_ANALYSIS_COMPLEXITY = "complexity";
@@ -1801,6 +1816,8 @@ public final class APIConstants {
 
     public static final String CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT = "KeyLockRetrievalTimeout";
     public static final String HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED = "start_time_based";
+    public static final String REDIS_COUNTER_OPERATION_MODE_TRANSACTION = "transaction";
+    public static final String REDIS_COUNTER_OPERATION_MODE_SCRIPT = "script";
 
     // Distributed Throttle Configuration constants
     public static final String DISTRIBUTED_THROTTLE_CONFIG = "DistributedThrottleConfig";
@@ -1808,6 +1825,9 @@ public final class APIConstants {
     public static final String DISTRIBUTED_THROTTLE_TYPE = "Type";
     public static final String DISTRIBUTED_THROTTLE_SYNC_INTERVAL = "SyncInterval";
     public static final String DISTRIBUTED_THROTTLE_CORE_POOL_SIZE = "CorePoolSize";
+    public static final String DISTRIBUTED_THROTTLE_SYNC_BATCH_SIZE = "SyncBatchSize";
+    public static final String DISTRIBUTED_THROTTLE_COUNTER_OPERATION_MODE = "CounterOperationMode";
+    public static final String DISTRIBUTED_THROTTLE_COUNTER_BATCHING_WINDOW = "CounterBatchingWindow";
     public static final String DISTRIBUTED_THROTTLE_PROPERTIES = "KeyValueStoreOptions";
     public static final String DISTRIBUTED_THROTTLE_HOST = "Host";
     public static final String DISTRIBUTED_THROTTLE_PORT =  "Port";
@@ -2453,12 +2473,19 @@ public final class APIConstants {
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE = "CorePoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE = "MaxmimumPoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
+        public static final String DATA_PUBLISHER_BATCHING_CONFIGURATION = "DataPublisherBatching";
+        public static final String DATA_PUBLISHER_BATCHING_CONFIGURATION_BUFFER_SIZE = "BufferSize";
+        public static final String DATA_PUBLISHER_BATCHING_CONFIGURATION_BATCH_SIZE = "BatchSize";
+        public static final String DATA_PUBLISHER_BATCHING_CONFIGURATION_PUBLISHER_THREADS = "PublisherThreads";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
         public static final String ENABLE_HEADER_CONDITIONS = "EnableHeaderConditions";
         public static final String ENABLE_JWT_CLAIM_CONDITIONS = "EnableJWTClaimConditions";
         public static final String ENABLE_QUERY_PARAM_CONDITIONS = "EnableQueryParamConditions";
+        public static final String EVENT_PROPERTIES_ENCODING = "EventPropertiesEncoding";
+        public static final String EVENT_PROPERTIES_ENCODING_JSON = "json";
+        public static final String EVENT_PROPERTIES_ENCODING_COMPACT = "compact";
         public static final String SKIP_REDEPLOYING_POLICIES = "SkipRedeployingPolicies";
         public static final String SKIP_DEPLOYING_POLICIES = "SkipDeployingPolicies";
         public static final String ENABLED = "Enabled";
@@ -3337,9 +3364,12 @@ public final class APIConstants {
         public static final String GATEWAY_INSTRUCTION_ANY = "ANY";
         public static final String SYNAPSE_ATTRIBUTES = "/synapse-attributes";
         public static final String GATEWAY_SYNAPSE_ARTIFACTS = "/runtime-artifacts";
+        public static final String GATEWAY_SYNAPSE_ARTIFACTS_MANIFEST = "/runtime-artifacts-manifest";
         public static final String GATEWAY_POLICY_SYNAPSE_ARTIFACTS = "/gateway-policy-artifacts";
         public static final String DATA_SOURCE_NAME = "DataSourceName";
         public static final String DATA_RETRIEVAL_MODE = "DataRetrievalMode";
+        public static final String DEPLOYMENT_PARALLELISM = "DeploymentParallelism";
+        public static final String ENABLE_LOCAL_ARTIFACT_CACHE = "EnableLocalArtifactCache";
         public static final String GATEWAY_STARTUP_SYNC = "sync";
         public static final String GATEWAY_STARTUP_ASYNC = "async";
         public static final String API_ID = "apiId";
@@ -5287,28 +5287,7 @@ public class APIConsumerImpl extends AbstractAPIManager implements APIConsumer {
             if (searchAPIs != null) {
                 List<DevPortalAPIInfo> list = searchAPIs.getDevPortalAPIInfoList();
                 List<Object> apiList = new ArrayList<>();
-                for (DevPortalAPIInfo devPortalAPIInfo : list) {
-                    API mappedAPI = APIMapper.INSTANCE.toApi(devPortalAPIInfo);
-                    APIUtil.updateAvailableTiersByOrganization(devPortalAPIInfo, organizationID);
-                    try {
-                        mappedAPI.setRating(APIUtil.getAverageRating(mappedAPI.getUuid()));
-                        Set<String> tierNameSet = devPortalAPIInfo.getAvailableTierNames();
-                        String tiers = null;
-                        if (tierNameSet != null) {
-                            tiers = String.join("||", tierNameSet);
-                        }
-                        Map<String, Tier> definedTiers = APIUtil.getTiers(tenantId);
-                        Set<Tier> availableTiers =
-                                APIUtil.getAvailableTiers(definedTiers, tiers, mappedAPI.getId().getApiName());
-                        mappedAPI.removeAllTiers();
-                        mappedAPI.setAvailableTiers(availableTiers);
-                        populateGatewayVendor(mappedAPI);
-                        populateApiInfo(mappedAPI, false);
-                        apiList.add(mappedAPI);
-                    } catch (APIManagementException e) {
-                        log.warn("Retrieving API details from DB failed for API: " + mappedAPI.getUuid() + " " + e);
-                    }
-                }
+                enrichDevPortalAPIs(list, organizationID, apiList);
                 apiSet.addAll(apiList);
                 result.put("apis", apiSet);
                 result.put("length", searchAPIs.getTotalAPIsCount());
@@ -6213,10 +6192,80 @@ public class APIConsumerImpl extends AbstractAPIManager implements APIConsumer {
         return false;
     }
 
+    /**
+     * Maps the APIs of a Dev Portal search result page and populates their ratings, tiers, gateway vendors and basic
+     * information. The details of all the APIs of the page are read with a fixed number of queries, instead of a set
+     * of queries per API.
+     *
+     * @param devPortalAPIInfoList APIs of the search result page
+     * @param organizationID       ID of the organization of the user, or null
+     * @param apiList              list to which the populated APIs are added
+     * @throws APIManagementException if the details of the APIs cannot be read
+     */
+    private void enrichDevPortalAPIs(List<DevPortalAPIInfo> devPortalAPIInfoList, String organizationID,
+                                     List<Object> apiList) throws APIManagementException {
+
+        List<API> mappedAPIs = new ArrayList<>(devPortalAPIInfoList.size());
+        List<String> apiIds = new ArrayList<>(devPortalAPIInfoList.size());
+        List<String> apiIdsWithoutGatewayVendor = new ArrayList<>();
+        for (DevPortalAPIInfo devPortalAPIInfo : devPortalAPIInfoList) {
+            API mappedAPI = APIMapper.INSTANCE.toApi(devPortalAPIInfo);
+            APIUtil.updateAvailableTiersByOrganization(devPortalAPIInfo, organizationID);
+            mappedAPIs.add(mappedAPI);
+            apiIds.add(mappedAPI.getUuid());
+            if (mappedAPI.getGatewayVendor() == null || "null".equals(mappedAPI.getGatewayVendor())) {
+                apiIdsWithoutGatewayVendor.add(mappedAPI.getUuid());
+            }
+        }
+        if (mappedAPIs.isEmpty()) {
+            return;
+        }
+        Map<String, Tier> definedTiers = APIUtil.getTiers(tenantId);
+        Map<String, Float> ratings = apiMgtDAO.getAverageRatings(apiIds);
+        Map<String, APIInfo> apiInfoMap = apiMgtDAO.getAPIInfoByUUIDs(apiIds);
+        Map<String, String> gatewayVendors = apiIdsWithoutGatewayVendor.isEmpty()
+                ? Collections.emptyMap()
+                : apiMgtDAO.getGatewayVendorsByAPIUUIDs(apiIdsWithoutGatewayVendor);
+
+        for (int i = 0; i < mappedAPIs.size(); i++) {
+            API mappedAPI = mappedAPIs.get(i);
+            try {
+                mappedAPI.setRating(ratings.getOrDefault(mappedAPI.getUuid(), Float.NEGATIVE_INFINITY));
+                Set<String> tierNameSet = devPortalAPIInfoList.get(i).getAvailableTierNames();
+                String tiers = null;
+                if (tierNameSet != null) {
+                    tiers = String.join("||", tierNameSet);
+                }
+                Set<Tier> availableTiers =
+                        APIUtil.getAvailableTiers(definedTiers, tiers, mappedAPI.getId().getApiName());
+                mappedAPI.removeAllTiers();
+                mappedAPI.setAvailableTiers(availableTiers);
+                if (mappedAPI.getGatewayVendor() == null || "null".equals(mappedAPI.getGatewayVendor())) {
+                    String gatewayVendor = gatewayVendors.get(mappedAPI.getUuid());
+                    mappedAPI.setGatewayVendor(gatewayVendor != null
+                            ? gatewayVendor
+                            : APIConstants.WSO2_GATEWAY_ENVIRONMENT);
+                }
+                populateGatewayVendor(mappedAPI);
+                if (mappedAPI.isRevision()) {
+                    populateApiInfo(mappedAPI, false);
+                } else {
+                    populateApiInfo(mappedAPI, apiInfoMap.get(mappedAPI.getUuid()), false);
+                }
+                apiList.add(mappedAPI);
+            } catch (APIManagementException e) {
+                log.warn("Retrieving API details from DB failed for API: " + mappedAPI.getUuid(), e);
+            }
+        }
+    }
+
     private void populateApiInfo(API api, boolean setStatus) throws APIManagementException {
 
         String apiId = api.isRevision() ? api.getRevisionedApiId() : api.getUuid();
-        APIInfo apiInfo = apiMgtDAO.getAPIInfoByUUID(apiId);
+        populateApiInfo(api, apiMgtDAO.getAPIInfoByUUID(apiId), setStatus);
+    }
+
+    private void populateApiInfo(API api, APIInfo apiInfo, boolean setStatus) {
 
         if (apiInfo == null) {
             return;
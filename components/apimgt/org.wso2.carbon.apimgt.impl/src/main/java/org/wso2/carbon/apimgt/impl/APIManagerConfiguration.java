@@ -564,6 +564,11 @@ public class APIManagerConfiguration {
                 OMElement typeElement = element.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_TYPE));
                 OMElement syncIntervalElement = element.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_SYNC_INTERVAL));
                 OMElement corePoolSizeElement = element.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_CORE_POOL_SIZE));
+                OMElement syncBatchSizeElement = element.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_SYNC_BATCH_SIZE));
+                OMElement counterOperationModeElement = element.getFirstChildWithName(
+                        new QName(APIConstants.DISTRIBUTED_THROTTLE_COUNTER_OPERATION_MODE));
+                OMElement counterBatchingWindowElement = element.getFirstChildWithName(
+                        new QName(APIConstants.DISTRIBUTED_THROTTLE_COUNTER_BATCHING_WINDOW));
                 OMElement propertiesElement = element.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_PROPERTIES));
 
                 if (enabledElement != null) {
@@ -586,6 +591,24 @@ public class APIManagerConfiguration {
                         log.warn("Invalid core pool size specified", e);
                     }
                 }
+                if (syncBatchSizeElement != null) {
+                    try {
+                        distributedThrottleConfig.setSyncBatchSize(Integer.parseInt(syncBatchSizeElement.getText()));
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid sync batch size specified", e);
+                    }
+                }
+                if (counterOperationModeElement != null) {
+                    distributedThrottleConfig.setCounterOperationMode(counterOperationModeElement.getText().trim());
+                }
+                if (counterBatchingWindowElement != null) {
+                    try {
+                        distributedThrottleConfig.setCounterBatchingWindow(
+                                Long.parseLong(counterBatchingWindowElement.getText().trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("Invalid counter batching window specified", e);
+                    }
+                }
                 if (propertiesElement != null) {
                     OMElement host = propertiesElement.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_HOST));
                     OMElement port = propertiesElement.getFirstChildWithName(new QName(APIConstants.DISTRIBUTED_THROTTLE_PORT));
@@ -1667,6 +1690,13 @@ public class APIManagerConfiguration {
                 throttleProperties.setEnableQueryParamConditions(JavaUtils.isTrueExplicitly(enableQueryParamElement
                         .getText()));
             }
+            // Check throttle event properties encoding
+            OMElement eventPropertiesEncodingElement = throttleConfigurationElement
+                    .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                            .EVENT_PROPERTIES_ENCODING));
+            if (eventPropertiesEncodingElement != null) {
+                throttleProperties.setEventPropertiesEncoding(eventPropertiesEncodingElement.getText().trim());
+            }
             // Check skip redeploy throttle policies
             OMElement skipRedeployingPoliciesElement = throttleConfigurationElement
                     .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
@@ -1822,6 +1852,41 @@ public class APIManagerConfiguration {
                         }
                     }
                     throttleProperties.setDataPublisherThreadPool(dataPublisherThreadPool);
+
+                    // Data publisher batching configuration
+                    OMElement dataPublisherBatchingConfigurationElement = dataPublisherConfigurationElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                    .DATA_PUBLISHER_BATCHING_CONFIGURATION));
+                    ThrottleProperties.DataPublisherBatching dataPublisherBatching = new ThrottleProperties
+                            .DataPublisherBatching();
+                    if (dataPublisherBatchingConfigurationElement != null) {
+                        OMElement batchingEnabledElement = dataPublisherBatchingConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.ENABLED));
+                        if (batchingEnabledElement != null) {
+                            dataPublisherBatching.setEnabled(JavaUtils.isTrueExplicitly(batchingEnabledElement
+                                    .getText()));
+                        }
+                        OMElement bufferSizeElement = dataPublisherBatchingConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BATCHING_CONFIGURATION_BUFFER_SIZE));
+                        if (bufferSizeElement != null) {
+                            dataPublisherBatching.setBufferSize(Integer.parseInt(bufferSizeElement.getText()));
+                        }
+                        OMElement batchSizeElement = dataPublisherBatchingConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BATCHING_CONFIGURATION_BATCH_SIZE));
+                        if (batchSizeElement != null) {
+                            dataPublisherBatching.setBatchSize(Integer.parseInt(batchSizeElement.getText()));
+                        }
+                        OMElement publisherThreadsElement = dataPublisherBatchingConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BATCHING_CONFIGURATION_PUBLISHER_THREADS));
+                        if (publisherThreadsElement != null) {
+                            dataPublisherBatching.setPublisherThreads(Integer.parseInt(publisherThreadsElement
+                                    .getText()));
+                        }
+                    }
+                    throttleProperties.setDataPublisherBatching(dataPublisherBatching);
                 }
 
                 // Configuring JMSConnectionDetails
@@ -2810,6 +2875,33 @@ public class APIManagerConfiguration {
             log.debug("Gateway Startup mode is not set. Set to Sync Mode");
         }
 
+        OMElement deploymentParallelismElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_PARALLELISM));
+        if (deploymentParallelismElement != null && StringUtils.isNotEmpty(deploymentParallelismElement.getText())) {
+            String deploymentParallelism = deploymentParallelismElement.getText().trim();
+            try {
+                int parallelism = Integer.parseInt(deploymentParallelism);
+                if (parallelism > 0) {
+                    gatewayArtifactSynchronizerProperties.setDeploymentParallelism(parallelism);
+                } else {
+                    log.warn("Gateway startup deployment parallelism should be a positive integer, but was "
+                            + deploymentParallelism + ". APIs will be deployed sequentially");
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid gateway startup deployment parallelism " + deploymentParallelism
+                        + ". APIs will be deployed sequentially", e);
+            }
+        } else {
+            log.debug("Gateway startup deployment parallelism is not set. APIs will be deployed sequentially");
+        }
+
+        OMElement localArtifactCacheElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.ENABLE_LOCAL_ARTIFACT_CACHE));
+        if (localArtifactCacheElement != null) {
+            gatewayArtifactSynchronizerProperties.setLocalArtifactCacheEnabled(
+                    Boolean.parseBoolean(localArtifactCacheElement.getText().trim()));
+        }
+
         OMElement gatewayLabelElement = omElement
                 .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.GATEWAY_LABELS_CONFIG));
         if (gatewayLabelElement != null) {
@@ -16,7 +16,7 @@
 
 package org.wso2.carbon.apimgt.impl;
 
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -25,7 +25,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.APIManager;
 import org.wso2.carbon.apimgt.api.APIProvider;
 import org.wso2.carbon.apimgt.api.UsedByMigrationClient;
-import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+import org.wso2.carbon.apimgt.impl.utils.BoundedConcurrentCache;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 public class APIManagerFactory {
@@ -36,8 +36,8 @@ public class APIManagerFactory {
 
     private static final APIManagerFactory instance = new APIManagerFactory();
 
-    private APIManagerCache<APIProvider> providers = new APIManagerCache<APIProvider>(50);
-    private APIManagerCache<APIConsumer> consumers = new APIManagerCache<APIConsumer>(500);
+    private BoundedConcurrentCache<String, APIProvider> providers = newAPIManagerCache(50);
+    private BoundedConcurrentCache<String, APIConsumer> consumers = newAPIManagerCache(500);
 
     private APIManagerFactory() {
 
@@ -106,24 +106,12 @@ public class APIManagerFactory {
     }
 
     public void clearAll() {
-        consumers.exclusiveLock();
-        try {
-            for (APIConsumer consumer : consumers.values()) {
-                cleanupSilently(consumer);
-            }
-            consumers.clear();
-        } finally {
-            consumers.release();
+        for (APIConsumer consumer : consumers.removeAll()) {
+            cleanupSilently(consumer);
         }
 
-        providers.exclusiveLock();
-        try {
-            for (APIProvider provider : providers.values()) {
-                cleanupSilently(provider);
-            }
-            providers.clear();
-        } finally {
-            providers.release();
+        for (APIProvider provider : providers.removeAll()) {
+            cleanupSilently(provider);
         }
     }
 
@@ -137,18 +125,13 @@ public class APIManagerFactory {
         }
     }
 
-    private class APIManagerCache<T> extends LRUCache<String,T> {
-
-        public APIManagerCache(int maxEntries) {
-            super(maxEntries);
-        }
-
-        protected void handleRemovableEntry(Map.Entry<String,T> entry) {
+    private static <T extends APIManager> BoundedConcurrentCache<String, T> newAPIManagerCache(int maxEntries) {
+        return new BoundedConcurrentCache<>(maxEntries, 0, TimeUnit.MILLISECONDS, false, (key, manager) -> {
             try {
-                ((APIManager) entry.getValue()).cleanup();
+                manager.cleanup();
             } catch (APIManagementException e) {
                 log.warn("Error while cleaning up APIManager instance", e);
             }
-        }
+        });
     }
 }
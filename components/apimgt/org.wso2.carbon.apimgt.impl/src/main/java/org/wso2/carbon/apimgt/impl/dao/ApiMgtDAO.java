@@ -3425,6 +3425,28 @@ public class ApiMgtDAO {
         return Float.parseFloat(decimal.setScale(1, BigDecimal.ROUND_UP).toString());
     }
 
+    /**
+     * Retrieves the average ratings of a set of APIs with a query per batch of APIs, instead of a query per API.
+     *
+     * @param uuids UUIDs of the APIs
+     * @return Average rating by API UUID. APIs which are not found are not included in the map.
+     * @throws APIManagementException if failed to get the average ratings
+     */
+    public Map<String, Float> getAverageRatings(List<String> uuids) throws APIManagementException {
+
+        Map<String, Float> ratings = new HashMap<>();
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            forEachAPIUUIDBatch(conn, SQLConstants.GET_API_AVERAGE_RATINGS_BY_UUIDS_SQL, uuids, rs -> {
+                BigDecimal decimal = new BigDecimal(rs.getFloat("RATING"));
+                ratings.put(rs.getString("API_UUID"),
+                        Float.parseFloat(decimal.setScale(1, BigDecimal.ROUND_UP).toString()));
+            });
+        } catch (SQLException e) {
+            handleException("Failed to get average ratings", e);
+        }
+        return ratings;
+    }
+
     /**
      * Get details of the subscription block condition by condition value and tenant domain
      *
@@ -9018,6 +9040,25 @@ public class ApiMgtDAO {
         return gatewayVendor;
     }
 
+    /**
+     * Retrieve the gateway vendors of a set of APIs by providing the UUIDs
+     *
+     * @param apiIds UUIDs of the APIs
+     * @return gatewayVendor by API UUID
+     * @throws APIManagementException
+     */
+    public Map<String, String> getGatewayVendorsByAPIUUIDs(List<String> apiIds) throws APIManagementException {
+
+        Map<String, String> gatewayVendors = new HashMap<>();
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            forEachAPIUUIDBatch(connection, SQLConstants.GET_GATEWAY_VENDORS_BY_API_IDS, apiIds,
+                    result -> gatewayVendors.put(result.getString("API_UUID"), result.getString("GATEWAY_VENDOR")));
+        } catch (SQLException e) {
+            handleException("Error occurred while fetching gateway vendors of the APIs", e);
+        }
+        return gatewayVendors;
+    }
+
     public String getUUIDFromIdentifier(Identifier apiIdentifier, String organization) throws APIManagementException {
         if (apiIdentifier instanceof APIProductIdentifier) {
             return getUUIDFromIdentifier((APIProductIdentifier) apiIdentifier, organization);
@@ -10690,40 +10731,8 @@ public class ApiMgtDAO {
                 }
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     if (resultSet.next()) {
-                        String contextTemplate = resultSet.getString("CONTEXT_TEMPLATE");
-                        String context = resultSet.getString("CONTEXT");
-                        String apiType = resultSet.getString("API_TYPE");
-                        String apiSubtype = resultSet.getString("API_SUBTYPE");
-                        if (StringUtils.isEmpty(apiSubtype)) {
-                            apiSubtype = APIConstants.API_SUBTYPE_DEFAULT;
-                        }
-                        String version = resultSet.getString("API_VERSION");
-                        if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)
-                                && APIConstants.API_PRODUCT_VERSION_1_0_0.equals(version)
-                                && StringUtils.isBlank(contextTemplate)) {
-                            context = context + "/" + APIConstants.API_PRODUCT_VERSION_1_0_0;
-                        }
-                        APIInfo.Builder apiInfoBuilder = new APIInfo.Builder();
-                        apiInfoBuilder = apiInfoBuilder.id(resultSet.getString("API_UUID"))
-                                .name(resultSet.getString("API_NAME"))
-                                .version(version)
-                                .provider(resultSet.getString("API_PROVIDER"))
-                                .context(context)
-                                .contextTemplate(contextTemplate)
-                                .status(resultSet.getString("STATUS"))
-                                .apiType(apiType)
-                                .apiSubtype(apiSubtype)
-                                .createdBy(resultSet.getString("CREATED_BY"))
-                                .createdTime(resultSet.getString("CREATED_TIME"))
-                                .updatedBy(resultSet.getString("UPDATED_BY"))
-                                .updatedTime(resultSet.getString("UPDATED_TIME"))
-                                .revisionsCreated(resultSet.getInt("REVISIONS_CREATED"))
-                                .organization(resultSet.getString("ORGANIZATION"))
-                                .isEgress(resultSet.getInt("IS_EGRESS"))
-                                .isRevision(apiRevision != null)
-                                .organization(resultSet.getString("ORGANIZATION"))
-                                .isInitiatedFromGateway(resultSet.getInt("INITIATED_FROM_GW"))
-                                .displayName(resultSet.getString("API_DISPLAY_NAME"));
+                        APIInfo.Builder apiInfoBuilder = getAPIInfoBuilder(resultSet)
+                                .isRevision(apiRevision != null);
                         if (apiRevision != null) {
                             apiInfoBuilder = apiInfoBuilder.apiTier(getAPILevelTier(connection,
                                     apiRevision.getApiUUID(), apiId));
@@ -10741,6 +10750,102 @@ public class ApiMgtDAO {
         return null;
     }
 
+    /**
+     * Retrieve basic information about the given APIs by the UUIDs quering only from AM_API. The information of all
+     * the APIs is read with a query per batch of APIs, instead of a query per API.
+     *
+     * @param apiIds UUIDs of the APIs. Revision UUIDs are not supported.
+     * @return basic information by API UUID. APIs which are not found are not included in the map.
+     * @throws APIManagementException error while getting the API information from AM_API
+     */
+    public Map<String, APIInfo> getAPIInfoByUUIDs(List<String> apiIds) throws APIManagementException {
+
+        Map<String, APIInfo> apiInfoMap = new HashMap<>();
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            forEachAPIUUIDBatch(connection, SQLConstants.RETRIEVE_API_INFO_FROM_UUIDS, apiIds, resultSet -> {
+                APIInfo apiInfo = getAPIInfoBuilder(resultSet)
+                        .isRevision(false)
+                        .apiTier(resultSet.getString("API_TIER"))
+                        .build();
+                apiInfoMap.put(apiInfo.getId(), apiInfo);
+            });
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while retrieving apimgt connection", e,
+                    ExceptionCodes.INTERNAL_ERROR);
+        }
+        return apiInfoMap;
+    }
+
+    private APIInfo.Builder getAPIInfoBuilder(ResultSet resultSet) throws SQLException {
+
+        String contextTemplate = resultSet.getString("CONTEXT_TEMPLATE");
+        String context = resultSet.getString("CONTEXT");
+        String apiType = resultSet.getString("API_TYPE");
+        String apiSubtype = resultSet.getString("API_SUBTYPE");
+        if (StringUtils.isEmpty(apiSubtype)) {
+            apiSubtype = APIConstants.API_SUBTYPE_DEFAULT;
+        }
+        String version = resultSet.getString("API_VERSION");
+        if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)
+                && APIConstants.API_PRODUCT_VERSION_1_0_0.equals(version)
+                && StringUtils.isBlank(contextTemplate)) {
+            context = context + "/" + APIConstants.API_PRODUCT_VERSION_1_0_0;
+        }
+        return new APIInfo.Builder().id(resultSet.getString("API_UUID"))
+                .name(resultSet.getString("API_NAME"))
+                .version(version)
+                .provider(resultSet.getString("API_PROVIDER"))
+                .context(context)
+                .contextTemplate(contextTemplate)
+                .status(resultSet.getString("STATUS"))
+                .apiType(apiType)
+                .apiSubtype(apiSubtype)
+                .createdBy(resultSet.getString("CREATED_BY"))
+                .createdTime(resultSet.getString("CREATED_TIME"))
+                .updatedBy(resultSet.getString("UPDATED_BY"))
+                .updatedTime(resultSet.getString("UPDATED_TIME"))
+                .revisionsCreated(resultSet.getInt("REVISIONS_CREATED"))
+                .organization(resultSet.getString("ORGANIZATION"))
+                .isEgress(resultSet.getInt("IS_EGRESS"))
+                .isInitiatedFromGateway(resultSet.getInt("INITIATED_FROM_GW"))
+                .displayName(resultSet.getString("API_DISPLAY_NAME"));
+    }
+
+    /**
+     * Runs a query which selects by a list of API UUIDs for batches of the given UUIDs, so that the number of bind
+     * parameters of a query stays within the limits of the databases.
+     *
+     * @param connection  database connection
+     * @param sqlTemplate query with the {@link SQLConstants#API_UUID_REGEX} placeholder for the UUID list
+     * @param uuids       UUIDs of the APIs
+     * @param rowHandler  handler of each row of the results
+     * @throws SQLException if the query fails
+     */
+    private void forEachAPIUUIDBatch(Connection connection, String sqlTemplate, List<String> uuids,
+                                     ResultSetRowHandler rowHandler) throws SQLException {
+
+        for (int from = 0; from < uuids.size(); from += SQLConstants.API_ID_CHUNK_SIZE) {
+            List<String> batch = uuids.subList(from, Math.min(from + SQLConstants.API_ID_CHUNK_SIZE, uuids.size()));
+            String sql = sqlTemplate.replace(SQLConstants.API_UUID_REGEX,
+                    String.join(",", Collections.nCopies(batch.size(), "?")));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    preparedStatement.setString(i + 1, batch.get(i));
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rowHandler.handle(resultSet);
+                    }
+                }
+            }
+        }
+    }
+
+    private interface ResultSetRowHandler {
+
+        void handle(ResultSet resultSet) throws SQLException;
+    }
+
     private APIRevision getRevisionByRevisionUUID(Connection connection, String revisionUUID) throws SQLException {
 
         try (PreparedStatement statement = connection
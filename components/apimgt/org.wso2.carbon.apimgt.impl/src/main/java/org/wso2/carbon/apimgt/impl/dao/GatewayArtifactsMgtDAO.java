@@ -1,5 +1,6 @@
 package org.wso2.carbon.apimgt.impl.dao;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -9,6 +10,7 @@ import org.wso2.carbon.apimgt.api.UsedByMigrationClient;
 import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.APIArtifactPropertyValues;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactManifestDto;
 import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.GatewayArtifactsMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.VHostUtils;
@@ -409,6 +411,58 @@ public class GatewayArtifactsMgtDAO {
         return apiRuntimeArtifactDtoList;
     }
 
+    /**
+     * Retrieve the manifest of the runtime artifacts deployed in the given gateway labels, without the artifacts.
+     *
+     * @param apiId        UUID of the API, or null to retrieve the manifest of all the APIs
+     * @param labels       gateway labels
+     * @param tenantDomain tenant domain of the APIs
+     * @return list of manifest entries, one per API and gateway label
+     * @throws APIManagementException if an error occurs
+     */
+    public List<RuntimeArtifactManifestDto> retrieveGatewayArtifactManifest(String apiId, String[] labels,
+                                                                            String tenantDomain)
+            throws APIManagementException {
+
+        String query = StringUtils.isNotEmpty(apiId) ? SQLConstants.RETRIEVE_ARTIFACT_MANIFEST_BY_APIID_AND_LABEL
+                : SQLConstants.RETRIEVE_ARTIFACT_MANIFEST_BY_LABEL;
+        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                String.join(",", Collections.nCopies(labels.length, "?")));
+        List<RuntimeArtifactManifestDto> manifest = new ArrayList<>();
+        try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (String label : labels) {
+                preparedStatement.setString(index, label);
+                index++;
+            }
+            preparedStatement.setString(index, tenantDomain);
+            if (StringUtils.isNotEmpty(apiId)) {
+                preparedStatement.setString(index + 1, apiId);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    RuntimeArtifactManifestDto manifestEntry = new RuntimeArtifactManifestDto();
+                    manifestEntry.setApiId(resultSet.getString("API_ID"));
+                    manifestEntry.setRevision(resultSet.getString("REVISION_ID"));
+                    manifestEntry.setLabel(resultSet.getString("LABEL"));
+                    Timestamp timestamp = resultSet.getTimestamp("TIME_STAMP");
+                    // The runtime artifact is generated from the revision artifact for the vhost of the gateway
+                    // label, hence it changes only when one of them changes.
+                    manifestEntry.setHash(DigestUtils.sha256Hex(String.join(":", manifestEntry.getApiId(),
+                            manifestEntry.getRevision(), manifestEntry.getLabel(),
+                            StringUtils.defaultString(resultSet.getString("VHOST")),
+                            timestamp != null ? String.valueOf(timestamp.getTime()) : "")));
+                    manifest.add(manifestEntry);
+                }
+            }
+        } catch (SQLException e) {
+            handleException("Failed to retrieve Gateway Artifact manifest for labels : "
+                    + StringUtils.join(labels, ","), e);
+        }
+        return manifest;
+    }
+
     public List<APIRuntimeArtifactDto> retrieveAllGatewayArtifactsByAPIIDAndLabel(String apiId, String[] labels)
             throws APIManagementException {
 
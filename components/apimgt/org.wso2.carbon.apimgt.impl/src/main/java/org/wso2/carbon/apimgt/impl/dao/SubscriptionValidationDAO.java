@@ -128,6 +128,37 @@ public class SubscriptionValidationDAO {
         return subscriptions;
     }
 
+    /*
+     * This method can be used to retrieve a page of the subscriptions of a given organization in the database, ordered
+     * by the subscription ID
+     *
+     * @param organization : organization Id
+     * @param afterSubscriptionId : subscriptions with a greater subscription ID are retrieved
+     * @param limit : maximum number of subscriptions to retrieve
+     * @return {@link List<Subscription>}
+     * */
+    public List<Subscription> getSubscriptionsByOrganization(String organization, int afterSubscriptionId, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps =
+                     conn.prepareStatement(SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTIONS_PAGE_SQL)) {
+
+            ps.setString(1, organization);
+            ps.setInt(2, afterSubscriptionId);
+            ps.setMaxRows(limit);
+
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions for the organization : " + organization,
+                    e);
+        }
+        return subscriptions;
+    }
+
     /*
      * This method can be used to retrieve all the Applications in the database
      *
@@ -1114,20 +1145,21 @@ public class SubscriptionValidationDAO {
 
     public List<API> getAllApis(String organization, String deployment, boolean isExpand) {
 
-        String sql = SubscriptionValidationSQLConstants.GET_ALL_APIS_BY_ORGANIZATION_AND_DEPLOYMENT_SQL;
-        if (StringUtils.isNotEmpty(organization)) {
-            sql = sql.concat("WHERE AM_API.ORGANIZATION = ?");
+        String sql = SubscriptionValidationSQLConstants.GET_ALL_APIS_BY_DEPLOYMENT_SQL;
+        String organizationFilter = StringUtils.isNotEmpty(organization) ? organization : null;
+        if (organizationFilter != null) {
+            sql = sql.concat(SubscriptionValidationSQLConstants.API_ORGANIZATION_FILTER_SQL);
         }
         List<API> apiList = new ArrayList<>();
+        Map<String, API> apisByRevision = new HashMap<>();
         try (Connection connection = APIMgtDBUtil.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-                preparedStatement.setString(1, organization);
+                preparedStatement.setString(1, deployment);
+                if (organizationFilter != null) {
+                    preparedStatement.setString(2, organizationFilter);
+                }
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     while (resultSet.next()) {
-                        String deploymentName = resultSet.getString("DEPLOYMENT_NAME");
-                        if (!deployment.equals(deploymentName)) {
-                            continue;
-                        }
                         String apiType = resultSet.getString("API_TYPE");
                         API api = new API();
                         String provider = resultSet.getString("API_PROVIDER");
@@ -1161,13 +1193,7 @@ public class SubscriptionValidationDAO {
                                 contextTemplate);
 
                         if (isExpand) {
-                            String revision = resultSet.getString("REVISION_UUID");
-                            api.setPolicy(getAPILevelTier(connection, apiUuid, revision));
-                            if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
-                                attachURlMappingDetailsOfApiProduct(connection, api, revision);
-                            } else {
-                                attachURLMappingDetails(connection, revision, api);
-                            }
+                            apisByRevision.put(resultSet.getString("REVISION_UUID"), api);
                         } else {
                             api.setPolicy(null);
                         }
@@ -1175,12 +1201,151 @@ public class SubscriptionValidationDAO {
                     }
                 }
             }
+            if (isExpand) {
+                attachRevisionDetails(connection, deployment, organizationFilter, apisByRevision);
+            }
         } catch (SQLException e) {
             log.error("Error in loading APIs for api : " + deployment, e);
         }
         return apiList;
     }
 
+    /**
+     * Attaches the API level tiers, URL mappings, scopes, MCP operation mappings and policies of the API revisions
+     * deployed in a gateway environment to the given APIs. The details of all the APIs are read with a fixed number
+     * of queries, joined by the deployed revisions, instead of a set of queries per API.
+     *
+     * @param connection     Database connection.
+     * @param deployment     Name of the gateway environment.
+     * @param organization   Organization of the APIs, or null if the APIs are of all the organizations.
+     * @param apisByRevision APIs by the UUID of their revision deployed in the gateway environment.
+     * @throws SQLException If the details cannot be read.
+     */
+    private void attachRevisionDetails(Connection connection, String deployment, String organization,
+                                       Map<String, API> apisByRevision) throws SQLException {
+
+        if (apisByRevision.isEmpty()) {
+            return;
+        }
+        Map<Integer, API> apiProductsById = new HashMap<>();
+        for (API api : apisByRevision.values()) {
+            api.setPolicy(null);
+            if (APIConstants.API_PRODUCT.equalsIgnoreCase(api.getApiType())) {
+                apiProductsById.put(api.getApiId(), api);
+            }
+        }
+        try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                SubscriptionValidationSQLConstants.GET_REVISIONED_API_TIERS_BY_DEPLOYMENT_SQL, deployment,
+                organization); ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                API api = apisByRevision.get(resultSet.getString("REVISION_UUID"));
+                if (api != null) {
+                    api.setPolicy(resultSet.getString("API_TIER"));
+                }
+            }
+        }
+        Map<Integer, URLMapping> backendOperationMappings = new HashMap<>();
+        Map<Integer, URLMapping> apiOperationMappings = new HashMap<>();
+        try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                SubscriptionValidationSQLConstants.GET_URI_TEMPLATES_BY_DEPLOYMENT_SQL, deployment, organization);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                API api = apisByRevision.get(resultSet.getString("REVISION_UUID"));
+                if (api == null || APIConstants.API_PRODUCT.equalsIgnoreCase(api.getApiType())) {
+                    continue;
+                }
+                URLMapping urlMapping = addURLMapping(api, resultSet);
+                if (urlMapping != null && APIConstants.API_TYPE_MCP.equals(api.getApiType())) {
+                    if (isBackendOperationMapped(api)) {
+                        backendOperationMappings.put(resultSet.getInt("URL_MAPPING_ID"), urlMapping);
+                    } else if (APIConstants.API_SUBTYPE_EXISTING_API.equals(api.getSubtype())) {
+                        apiOperationMappings.put(resultSet.getInt("URL_MAPPING_ID"), urlMapping);
+                    }
+                }
+            }
+        }
+        if (!backendOperationMappings.isEmpty()) {
+            try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                    SubscriptionValidationSQLConstants.GET_MCP_BACKEND_OPERATION_MAPPINGS_BY_DEPLOYMENT_SQL,
+                    deployment, organization); ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    URLMapping urlMapping = backendOperationMappings.remove(resultSet.getInt("URL_MAPPING_ID"));
+                    if (urlMapping != null) {
+                        setBackendOperationMapping(urlMapping, resultSet);
+                    }
+                }
+            }
+        }
+        if (!apiOperationMappings.isEmpty()) {
+            try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                    SubscriptionValidationSQLConstants.GET_MCP_API_OPERATION_MAPPINGS_BY_DEPLOYMENT_SQL,
+                    deployment, organization); ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    URLMapping urlMapping = apiOperationMappings.remove(resultSet.getInt("URL_MAPPING_ID"));
+                    if (urlMapping != null) {
+                        setAPIOperationMapping(urlMapping, resultSet);
+                    }
+                }
+            }
+        }
+        if (!apiProductsById.isEmpty()) {
+            try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                    SubscriptionValidationSQLConstants.GET_API_PRODUCT_URI_TEMPLATES_BY_DEPLOYMENT_SQL, deployment,
+                    organization); ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    API api = apiProductsById.get(resultSet.getInt("PRODUCT_ID"));
+                    if (api != null) {
+                        addAPIProductURLMapping(api, resultSet);
+                    }
+                }
+            }
+        }
+        if (isPolicyEnabledForAnalytics()) {
+            try (PreparedStatement preparedStatement = prepareDeploymentStatement(connection,
+                    SubscriptionValidationSQLConstants.GET_OPERATION_POLICIES_PER_URI_BY_DEPLOYMENT_SQL, deployment,
+                    organization); ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String revisionId = resultSet.getString("REVISION_UUID");
+                    API api = apisByRevision.get(revisionId);
+                    if (api == null) {
+                        continue;
+                    }
+                    try {
+                        addPolicies(api, resultSet);
+                    } catch (APIManagementException e) {
+                        log.error("Error while converting parameters to map for API : " + api.getApiUUID()
+                                + " Revision: " + revisionId, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private PreparedStatement prepareDeploymentStatement(Connection connection, String sql, String deployment,
+                                                         String organization) throws SQLException {
+
+        if (organization != null) {
+            sql = sql.concat(SubscriptionValidationSQLConstants.API_ORGANIZATION_FILTER_SQL);
+        }
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        try {
+            preparedStatement.setString(1, deployment);
+            if (organization != null) {
+                preparedStatement.setString(2, organization);
+            }
+        } catch (SQLException e) {
+            preparedStatement.close();
+            throw e;
+        }
+        return preparedStatement;
+    }
+
+    private boolean isPolicyEnabledForAnalytics() {
+
+        return configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)
+                && Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
+    }
+
     private static void setDefaultVersionContext(String apiType, API api, String version,
             String publishedDefaultApiVersion, String context, String contextTemplate) {
 
@@ -1209,35 +1374,37 @@ public class SubscriptionValidationDAO {
             preparedStatement.setInt(1, api.getApiId());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String httpMethod = resultSet.getString("HTTP_METHOD");
-                    String authScheme = resultSet.getString("AUTH_SCHEME");
-                    String urlPattern = resultSet.getString("URL_PATTERN");
-                    String throttlingTier = resultSet.getString("THROTTLING_TIER");
-                    String scopeName = resultSet.getString("SCOPE_NAME");
-                    URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
-                    if (urlMapping == null) {
-                        urlMapping = new URLMapping();
-                        urlMapping.setAuthScheme(authScheme);
-                        urlMapping.setHttpMethod(httpMethod);
-                        urlMapping.setThrottlingPolicy(throttlingTier);
-                        urlMapping.setUrlPattern(urlPattern);
-                    }
-                    if (StringUtils.isNotEmpty(scopeName)) {
-                        urlMapping.addScope(scopeName);
-                    }
-                    api.addResource(urlMapping);
+                    addAPIProductURLMapping(api, resultSet);
                 }
             }
         }
 
-        if (configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)) {
-            boolean isPolicyEnabled = Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
-            if (isPolicyEnabled) {
-                attachPolicies(connection, revisionId, api);
-            }
+        if (isPolicyEnabledForAnalytics()) {
+            attachPolicies(connection, revisionId, api);
         }
     }
 
+    private void addAPIProductURLMapping(API api, ResultSet resultSet) throws SQLException {
+
+        String httpMethod = resultSet.getString("HTTP_METHOD");
+        String authScheme = resultSet.getString("AUTH_SCHEME");
+        String urlPattern = resultSet.getString("URL_PATTERN");
+        String throttlingTier = resultSet.getString("THROTTLING_TIER");
+        String scopeName = resultSet.getString("SCOPE_NAME");
+        URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
+        if (urlMapping == null) {
+            urlMapping = new URLMapping();
+            urlMapping.setAuthScheme(authScheme);
+            urlMapping.setHttpMethod(httpMethod);
+            urlMapping.setThrottlingPolicy(throttlingTier);
+            urlMapping.setUrlPattern(urlPattern);
+        }
+        if (StringUtils.isNotEmpty(scopeName)) {
+            urlMapping.addScope(scopeName);
+        }
+        api.addResource(urlMapping);
+    }
+
     public API getAPIByContextAndVersion(String context, String version, String deployment, boolean isExpand) {
         String sql = SubscriptionValidationSQLConstants.GET_API_BY_CONTEXT_AND_VERSION_SQL;
         String contextWhenContextTemplateIsNull = context;
@@ -1314,77 +1481,85 @@ public class SubscriptionValidationDAO {
             preparedStatement.setString(2, revisionId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String httpMethod = resultSet.getString("HTTP_METHOD");
-                    String authScheme = resultSet.getString("AUTH_SCHEME");
-                    String urlPattern = resultSet.getString("URL_PATTERN");
-                    String throttlingTier = resultSet.getString("THROTTLING_TIER");
-                    String scopeName = resultSet.getString("SCOPE_NAME");
-                    String description = null;
-                    try (InputStream descriptionDefStream = resultSet.getBinaryStream("DESCRIPTION")) {
-                        if (descriptionDefStream != null) {
-                            description = APIMgtDBUtil.getStringFromInputStream(descriptionDefStream);
-                        }
-                    } catch (IOException e) {
-                        log.error("Error while reading description of the URI template", e);
-                    }
-                    String schemaDefinition = null;
-                    try (InputStream schemaDefStream = resultSet.getBinaryStream("SCHEMA_DEFINITION")) {
-                        if (schemaDefStream != null) {
-                            schemaDefinition = APIMgtDBUtil.getStringFromInputStream(schemaDefStream);
-                        }
-                    } catch (IOException e) {
-                        log.error("Error while reading schema definition of the URI template", e);
-                    }
-                    int urlMappingId = resultSet.getInt("URL_MAPPING_ID");
-                    URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
-                    if (urlMapping == null) {
-                        urlMapping = new URLMapping();
-                        urlMapping.setAuthScheme(authScheme);
-                        urlMapping.setHttpMethod(httpMethod);
-                        urlMapping.setThrottlingPolicy(throttlingTier);
-                        urlMapping.setUrlPattern(urlPattern);
-                        urlMapping.setDescription(description);
-                        urlMapping.setSchemaDefinition(schemaDefinition);
-
-                        if (APIConstants.API_TYPE_MCP.equals(api.getApiType())) {
-                            populateMcpOperationMappings(connection, urlMappingId, urlMapping, api);
-                        }
-                    }
-                    if (StringUtils.isNotEmpty(scopeName)) {
-                        urlMapping.addScope(scopeName);
-                    }
-                    api.addResource(urlMapping);
+                    addURLMapping(connection, api, resultSet);
                 }
             }
         }
 
-        if (configs.containsKey(POLICY_ENABLED_FOR_ANALYTICS)) {
-            boolean isPolicyEnabled = Boolean.parseBoolean(configs.get(POLICY_ENABLED_FOR_ANALYTICS));
-            if (isPolicyEnabled) {
-                attachPolicies(connection, revisionId, api);
+        if (isPolicyEnabledForAnalytics()) {
+            attachPolicies(connection, revisionId, api);
+        }
+    }
+
+    private void addURLMapping(Connection connection, API api, ResultSet resultSet) throws SQLException {
+
+        URLMapping urlMapping = addURLMapping(api, resultSet);
+        if (urlMapping != null && APIConstants.API_TYPE_MCP.equals(api.getApiType())) {
+            populateMcpOperationMappings(connection, resultSet.getInt("URL_MAPPING_ID"), urlMapping, api);
+        }
+    }
+
+    /**
+     * Adds the URL mapping of the current row of the given result set to the given API, or only the scope of the row
+     * if the API already has a URL mapping with the same URL pattern and HTTP method.
+     *
+     * @param api       API to add the URL mapping to.
+     * @param resultSet Result set positioned at a URI template row.
+     * @return The URL mapping, if it was created for this row, or null if the API already had it.
+     * @throws SQLException If the row cannot be read.
+     */
+    private URLMapping addURLMapping(API api, ResultSet resultSet) throws SQLException {
+
+        String httpMethod = resultSet.getString("HTTP_METHOD");
+        String authScheme = resultSet.getString("AUTH_SCHEME");
+        String urlPattern = resultSet.getString("URL_PATTERN");
+        String throttlingTier = resultSet.getString("THROTTLING_TIER");
+        String scopeName = resultSet.getString("SCOPE_NAME");
+        String description = null;
+        try (InputStream descriptionDefStream = resultSet.getBinaryStream("DESCRIPTION")) {
+            if (descriptionDefStream != null) {
+                description = APIMgtDBUtil.getStringFromInputStream(descriptionDefStream);
             }
+        } catch (IOException e) {
+            log.error("Error while reading description of the URI template", e);
+        }
+        String schemaDefinition = null;
+        try (InputStream schemaDefStream = resultSet.getBinaryStream("SCHEMA_DEFINITION")) {
+            if (schemaDefStream != null) {
+                schemaDefinition = APIMgtDBUtil.getStringFromInputStream(schemaDefStream);
+            }
+        } catch (IOException e) {
+            log.error("Error while reading schema definition of the URI template", e);
+        }
+        URLMapping urlMapping = api.getResource(urlPattern, httpMethod);
+        URLMapping createdUrlMapping = null;
+        if (urlMapping == null) {
+            urlMapping = new URLMapping();
+            urlMapping.setAuthScheme(authScheme);
+            urlMapping.setHttpMethod(httpMethod);
+            urlMapping.setThrottlingPolicy(throttlingTier);
+            urlMapping.setUrlPattern(urlPattern);
+            urlMapping.setDescription(description);
+            urlMapping.setSchemaDefinition(schemaDefinition);
+            createdUrlMapping = urlMapping;
         }
+        if (StringUtils.isNotEmpty(scopeName)) {
+            urlMapping.addScope(scopeName);
+        }
+        api.addResource(urlMapping);
+        return createdUrlMapping;
     }
 
     private void populateMcpOperationMappings(Connection connection, int urlMappingId, URLMapping urlMapping, API api)
             throws SQLException {
         String sql;
-        if (APIConstants.API_SUBTYPE_DIRECT_BACKEND.equals(api.getSubtype()) ||
-                APIConstants.API_SUBTYPE_SERVER_PROXY.equals(api.getSubtype())) {
+        if (isBackendOperationMapped(api)) {
             sql = SubscriptionValidationSQLConstants.GET_MCP_BACKEND_OPERATION_MAPPING_BY_REF_URL_MAPPING_ID;
             try (PreparedStatement ps = connection.prepareStatement(sql)) {
                 ps.setInt(1, urlMappingId);
                 try (ResultSet resultSet = ps.executeQuery()) {
                     if (resultSet.next()) {
-                        BackendOperationMapping backendOperationMapping = new BackendOperationMapping();
-
-                        BackendOperation backendOperation = new BackendOperation();
-                        backendOperation.setVerb(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.
-                                fromValue(resultSet.getString("VERB")));
-                        backendOperation.setTarget(resultSet.getString("TARGET"));
-                        backendOperationMapping.setBackendOperation(backendOperation);
-
-                        urlMapping.setBackendOperationMapping(backendOperationMapping);
+                        setBackendOperationMapping(urlMapping, resultSet);
                     }
                 }
             }
@@ -1394,119 +1569,59 @@ public class SubscriptionValidationDAO {
                 ps.setInt(1, urlMappingId);
                 try (ResultSet resultSet = ps.executeQuery()) {
                     if (resultSet.next()) {
-
-                        APIOperationMapping apiOperationMapping = new APIOperationMapping();
-                        apiOperationMapping.setApiUuid(resultSet.getString("API_UUID"));
-                        apiOperationMapping.setApiName(resultSet.getString("API_NAME"));
-                        apiOperationMapping.setApiVersion(resultSet.getString("API_VERSION"));
-                        apiOperationMapping.setApiContext(resultSet.getString("CONTEXT"));
-
-                        BackendOperation backendOperation = new BackendOperation();
-                        backendOperation.setVerb(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.
-                                fromValue(resultSet.getString("HTTP_METHOD")));
-                        backendOperation.setTarget(resultSet.getString("URL_PATTERN"));
-                        apiOperationMapping.setBackendOperation(backendOperation);
-
-                        urlMapping.setApiOperationMapping(apiOperationMapping);
+                        setAPIOperationMapping(urlMapping, resultSet);
                     }
                 }
             }
         }
     }
 
+    private static boolean isBackendOperationMapped(API api) {
+
+        return APIConstants.API_SUBTYPE_DIRECT_BACKEND.equals(api.getSubtype()) ||
+                APIConstants.API_SUBTYPE_SERVER_PROXY.equals(api.getSubtype());
+    }
+
+    private static void setBackendOperationMapping(URLMapping urlMapping, ResultSet resultSet) throws SQLException {
+
+        BackendOperationMapping backendOperationMapping = new BackendOperationMapping();
+
+        BackendOperation backendOperation = new BackendOperation();
+        backendOperation.setVerb(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.
+                fromValue(resultSet.getString("VERB")));
+        backendOperation.setTarget(resultSet.getString("TARGET"));
+        backendOperationMapping.setBackendOperation(backendOperation);
+
+        urlMapping.setBackendOperationMapping(backendOperationMapping);
+    }
+
+    private static void setAPIOperationMapping(URLMapping urlMapping, ResultSet resultSet) throws SQLException {
+
+        APIOperationMapping apiOperationMapping = new APIOperationMapping();
+        apiOperationMapping.setApiUuid(resultSet.getString("API_UUID"));
+        apiOperationMapping.setApiName(resultSet.getString("API_NAME"));
+        apiOperationMapping.setApiVersion(resultSet.getString("API_VERSION"));
+        apiOperationMapping.setApiContext(resultSet.getString("CONTEXT"));
+
+        BackendOperation backendOperation = new BackendOperation();
+        backendOperation.setVerb(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.
+                fromValue(resultSet.getString("HTTP_METHOD")));
+        backendOperation.setTarget(resultSet.getString("URL_PATTERN"));
+        apiOperationMapping.setBackendOperation(backendOperation);
+
+        urlMapping.setApiOperationMapping(apiOperationMapping);
+    }
+
     // Attach API and Operation Policies based on the API type (API/API Product)
     private void attachPolicies(Connection connection, String revisionId, API api) throws SQLException {
 
-        // Find an optimistic solution to separate out
-        if (APIConstants.API_PRODUCT.equals(api.getApiType())) {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(
-                    SubscriptionValidationSQLConstants.GET_OPERATION_POLICIES_PER_URI_BY_API_SQL)) {
-                preparedStatement.setString(1, api.getApiUUID());
-                preparedStatement.setString(2, revisionId);
-                try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                    while (resultSet.next()) {
-                        String httpMethod = resultSet.getString("HTTP_METHOD");
-                        String urlPattern = resultSet.getString("URL_PATTERN");
-                        String policyName = resultSet.getString("POLICY_NAME");
-                        String policyVersion = resultSet.getString("POLICY_VERSION");
-                        String operationPolicyDirection = resultSet.getString("OPERATION_POLICY_DIRECTION");
-                        String operationPolicyID = resultSet.getString("OPERATION_POLICY_UUID");
-                        String parameters = APIMgtDBUtil.getStringFromInputStream(resultSet.getBinaryStream("OPERATION_PARAMS"));
-
-                        URLMapping urlMapping = null;
-                        if (StringUtils.isNotEmpty(httpMethod) && StringUtils.isNotEmpty(urlPattern)) {
-                            urlMapping = api.getResource(urlPattern, httpMethod);
-                        }
-                        if (urlMapping != null) {
-                            if (StringUtils.isNotEmpty(operationPolicyID) && StringUtils.isNotEmpty(policyName)
-                                    && StringUtils.isNotEmpty(policyVersion) && StringUtils.isNotEmpty(
-                                    operationPolicyDirection)) {
-                                OperationPolicy operationPolicy = new OperationPolicy();
-                                operationPolicy.setPolicyId(operationPolicyID);
-                                operationPolicy.setPolicyName(policyName);
-                                operationPolicy.setPolicyVersion(policyVersion);
-                                operationPolicy.setDirection(operationPolicyDirection);
-                                operationPolicy.setParameters(APIMgtDBUtil.convertJSONStringToMap(parameters));
-                                urlMapping.setOperationPolicies(operationPolicy);
-                                api.addResource(urlMapping);
-                            }
-                        }
-                    }
-                }
-            } catch (APIManagementException e) {
-                log.error("Error while converting parameters to map for API : " + api.getApiUUID() + " Revision: "
-                        + revisionId, e);
-            }
-            return;
-        }
-
         try (PreparedStatement preparedStatement = connection.prepareStatement(
                 SubscriptionValidationSQLConstants.GET_OPERATION_POLICIES_PER_URI_BY_API_SQL)) {
             preparedStatement.setString(1, api.getApiUUID());
             preparedStatement.setString(2, revisionId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String httpMethod = resultSet.getString("HTTP_METHOD");
-                    String urlPattern = resultSet.getString("URL_PATTERN");
-                    String policyName = resultSet.getString("POLICY_NAME");
-                    String policyVersion = resultSet.getString("POLICY_VERSION");
-                    String operationPolicyDirection = resultSet.getString("OPERATION_POLICY_DIRECTION");
-                    String apiPolicyDirection = resultSet.getString("API_POLICY_DIRECTION");
-                    String operationPolicyID = resultSet.getString("OPERATION_POLICY_UUID");
-                    String apiPolicyUUID = resultSet.getString("API_POLICY_UUID");
-
-                    // We get parameters of the policies separately. However, this can be retrieved from the AM_API_OPERATION_POLICY_MAPPING as it contains both API and Operation Policies
-                    String operationParameters = APIMgtDBUtil.getStringFromInputStream(resultSet.getBinaryStream("OPERATION_PARAMS"));
-                    String apiParams = APIMgtDBUtil.getStringFromInputStream(resultSet.getBinaryStream("API_PARAMS"));
-
-                    URLMapping urlMapping = null;
-                    if (StringUtils.isNotEmpty(httpMethod) && StringUtils.isNotEmpty(urlPattern)) {
-                        urlMapping = api.getResource(urlPattern, httpMethod);
-                    }
-                    if (urlMapping != null) {
-                        if (StringUtils.isNotEmpty(operationPolicyID) && StringUtils.isNotEmpty(policyName)
-                                && StringUtils.isNotEmpty(policyVersion) && StringUtils.isNotEmpty(
-                                operationPolicyDirection)) {
-                            OperationPolicy operationPolicy = new OperationPolicy();
-                            operationPolicy.setPolicyId(operationPolicyID);
-                            operationPolicy.setPolicyName(policyName);
-                            operationPolicy.setPolicyVersion(policyVersion);
-                            operationPolicy.setDirection(operationPolicyDirection);
-                            operationPolicy.setParameters(APIMgtDBUtil.convertJSONStringToMap(operationParameters));
-                            urlMapping.setOperationPolicies(operationPolicy);
-                            api.addResource(urlMapping);
-                        }
-                    }
-                    if (StringUtils.isNotEmpty(apiPolicyUUID) && StringUtils.isNotEmpty(policyName)
-                            && StringUtils.isNotEmpty(policyVersion) && StringUtils.isNotEmpty(apiPolicyDirection)) {
-                        OperationPolicy apiPolicy = new OperationPolicy();
-                        apiPolicy.setPolicyId(apiPolicyUUID);
-                        apiPolicy.setPolicyName(policyName);
-                        apiPolicy.setPolicyVersion(policyVersion);
-                        apiPolicy.setDirection(apiPolicyDirection);
-                        apiPolicy.setParameters(APIMgtDBUtil.convertJSONStringToMap(apiParams));
-                        api.setApiPolicy(apiPolicy);
-                    }
+                    addPolicies(api, resultSet);
                 }
             }
         } catch (APIManagementException e) {
@@ -1515,6 +1630,56 @@ public class SubscriptionValidationDAO {
         }
     }
 
+    private void addPolicies(API api, ResultSet resultSet) throws SQLException, APIManagementException {
+
+        // Find an optimistic solution to separate out
+        boolean isAPIProduct = APIConstants.API_PRODUCT.equals(api.getApiType());
+        String httpMethod = resultSet.getString("HTTP_METHOD");
+        String urlPattern = resultSet.getString("URL_PATTERN");
+        String policyName = resultSet.getString("POLICY_NAME");
+        String policyVersion = resultSet.getString("POLICY_VERSION");
+        String operationPolicyDirection = resultSet.getString("OPERATION_POLICY_DIRECTION");
+        String operationPolicyID = resultSet.getString("OPERATION_POLICY_UUID");
+
+        // We get parameters of the policies separately. However, this can be retrieved from the AM_API_OPERATION_POLICY_MAPPING as it contains both API and Operation Policies
+        String operationParameters = APIMgtDBUtil.getStringFromInputStream(resultSet.getBinaryStream("OPERATION_PARAMS"));
+
+        URLMapping urlMapping = null;
+        if (StringUtils.isNotEmpty(httpMethod) && StringUtils.isNotEmpty(urlPattern)) {
+            urlMapping = api.getResource(urlPattern, httpMethod);
+        }
+        if (urlMapping != null) {
+            if (StringUtils.isNotEmpty(operationPolicyID) && StringUtils.isNotEmpty(policyName)
+                    && StringUtils.isNotEmpty(policyVersion) && StringUtils.isNotEmpty(
+                    operationPolicyDirection)) {
+                OperationPolicy operationPolicy = new OperationPolicy();
+                operationPolicy.setPolicyId(operationPolicyID);
+                operationPolicy.setPolicyName(policyName);
+                operationPolicy.setPolicyVersion(policyVersion);
+                operationPolicy.setDirection(operationPolicyDirection);
+                operationPolicy.setParameters(APIMgtDBUtil.convertJSONStringToMap(operationParameters));
+                urlMapping.setOperationPolicies(operationPolicy);
+                api.addResource(urlMapping);
+            }
+        }
+        if (isAPIProduct) {
+            return;
+        }
+        String apiPolicyDirection = resultSet.getString("API_POLICY_DIRECTION");
+        String apiPolicyUUID = resultSet.getString("API_POLICY_UUID");
+        String apiParams = APIMgtDBUtil.getStringFromInputStream(resultSet.getBinaryStream("API_PARAMS"));
+        if (StringUtils.isNotEmpty(apiPolicyUUID) && StringUtils.isNotEmpty(policyName)
+                && StringUtils.isNotEmpty(policyVersion) && StringUtils.isNotEmpty(apiPolicyDirection)) {
+            OperationPolicy apiPolicy = new OperationPolicy();
+            apiPolicy.setPolicyId(apiPolicyUUID);
+            apiPolicy.setPolicyName(policyName);
+            apiPolicy.setPolicyVersion(policyVersion);
+            apiPolicy.setDirection(apiPolicyDirection);
+            apiPolicy.setParameters(APIMgtDBUtil.convertJSONStringToMap(apiParams));
+            api.setApiPolicy(apiPolicy);
+        }
+    }
+
     private boolean isAPIDefaultVersion(Connection connection, String provider, String name, String version)
             throws SQLException {
 
@@ -1633,16 +1798,15 @@ public class SubscriptionValidationDAO {
     }
 
     public List<API> getAllApisByLabel(String gatewayLabel, Boolean expand) {
-        String sql = SubscriptionValidationSQLConstants.GET_ALL_APIS_BY_ORGANIZATION_AND_DEPLOYMENT_SQL;
+        String sql = SubscriptionValidationSQLConstants.GET_ALL_APIS_BY_DEPLOYMENT_SQL;
         List<API> apiList = new ArrayList<>();
+        Map<String, API> apisByRevision = new HashMap<>();
         try (Connection connection = APIMgtDBUtil.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                preparedStatement.setString(1, gatewayLabel);
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     while (resultSet.next()) {
                         String deploymentName = resultSet.getString("DEPLOYMENT_NAME");
-                        if (StringUtils.isEmpty(deploymentName) || !gatewayLabel.equals(deploymentName)) {
-                            continue;
-                        }
                         String apiType = resultSet.getString("API_TYPE");
                         String apiUuid = resultSet.getString("API_UUID");
                         API api = new API();
@@ -1678,12 +1842,7 @@ public class SubscriptionValidationDAO {
                                 contextTemplate);
 
                         if (expand) {
-                            api.setPolicy(getAPILevelTier(connection, apiUuid, revision));
-                            if (APIConstants.API_PRODUCT.equalsIgnoreCase(apiType)) {
-                                attachURlMappingDetailsOfApiProduct(connection, api, revision);
-                            } else {
-                                attachURLMappingDetails(connection, revision, api);
-                            }
+                            apisByRevision.put(revision, api);
                         } else {
                             api.setPolicy(null);
                         }
@@ -1691,7 +1850,9 @@ public class SubscriptionValidationDAO {
                     }
                 }
             }
-
+            if (expand) {
+                attachRevisionDetails(connection, gatewayLabel, null, apisByRevision);
+            }
         } catch (SQLException e) {
             log.error("Error in loading APIs", e);
         }
@@ -1010,6 +1010,18 @@ public class SQLConstants {
             " GROUP BY " +
             "   API_ID ";
 
+    public static final String GET_API_AVERAGE_RATINGS_BY_UUIDS_SQL =
+            " SELECT " +
+            "   AM_API.API_UUID, " +
+            "   CASE WHEN COUNT(AM_API_RATINGS.RATING) = 0 THEN 0 " +
+            "   ELSE CAST( SUM(AM_API_RATINGS.RATING) AS DECIMAL)/COUNT(AM_API_RATINGS.RATING) END AS RATING " +
+            " FROM " +
+            "   AM_API LEFT JOIN AM_API_RATINGS ON AM_API.API_ID = AM_API_RATINGS.API_ID " +
+            " WHERE " +
+            "   AM_API.API_UUID IN (_API_UUIDS_) " +
+            " GROUP BY " +
+            "   AM_API.API_UUID ";
+
     public static final String APP_APPLICATION_SQL =
             " INSERT INTO AM_APPLICATION (NAME, SUBSCRIBER_ID, APPLICATION_TIER, " +
             "   CALLBACK_URL, DESCRIPTION, APPLICATION_STATUS, GROUP_ID, CREATED_BY, CREATED_TIME, UPDATED_TIME, " +
@@ -1766,6 +1778,9 @@ public class SQLConstants {
 
     public static final String GET_GATEWAY_VENDOR_BY_API_ID = "SELECT GATEWAY_VENDOR FROM AM_API WHERE API_UUID = ?";
 
+    public static final String GET_GATEWAY_VENDORS_BY_API_IDS =
+            "SELECT API_UUID, GATEWAY_VENDOR FROM AM_API WHERE API_UUID IN (_API_UUIDS_)";
+
     public static final String FIX_NULL_THROTTLING_TIERS =
             "UPDATE AM_API_URL_MAPPING SET THROTTLING_TIER = 'Unlimited' WHERE " +
                      " THROTTLING_TIER IS NULL";
@@ -3250,6 +3265,21 @@ public class SQLConstants {
                     "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
                     "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
 
+    public static final String RETRIEVE_ARTIFACT_MANIFEST_BY_LABEL =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST," +
+                    "AM_GW_API_ARTIFACTS.TIME_STAMP AS TIME_STAMP FROM " +
+                    "AM_GW_PUBLISHED_API_DETAILS,AM_GW_API_ARTIFACTS,AM_GW_API_DEPLOYMENTS,AM_API WHERE " +
+                    "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_) AND AM_GW_PUBLISHED_API_DETAILS.TENANT_DOMAIN " +
+                    "= ? " +
+                    "AND AM_GW_PUBLISHED_API_DETAILS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
+
+    public static final String RETRIEVE_ARTIFACT_MANIFEST_BY_APIID_AND_LABEL =
+            RETRIEVE_ARTIFACT_MANIFEST_BY_LABEL + " AND AM_GW_API_DEPLOYMENTS.API_ID = ?";
+
     public static final String RETRIEVE_ALL_ARTIFACTS_BY_LABEL =
             "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
                     "AM_GW_PUBLISHED_API_DETAILS" +
@@ -3313,6 +3343,12 @@ public class SQLConstants {
                     " ORGANIZATION, REVISIONS_CREATED, STATUS, IS_EGRESS, API_SUBTYPE, API_DISPLAY_NAME," +
                     " INITIATED_FROM_GW FROM AM_API WHERE API_UUID = ? AND API_TYPE != 'MCP'";
 
+    public static final String RETRIEVE_API_INFO_FROM_UUIDS =
+            "SELECT API_UUID, API_PROVIDER, API_NAME, API_VERSION, CONTEXT, CONTEXT_TEMPLATE, API_TIER, API_TYPE," +
+                    " CREATED_BY, CREATED_TIME, UPDATED_BY, UPDATED_TIME," +
+                    " ORGANIZATION, REVISIONS_CREATED, STATUS, IS_EGRESS, API_SUBTYPE, API_DISPLAY_NAME," +
+                    " INITIATED_FROM_GW FROM AM_API WHERE API_UUID IN (_API_UUIDS_)";
+
     public static final String RETRIEVE_DEFAULT_VERSION = "SELECT DEFAULT_API_VERSION,PUBLISHED_DEFAULT_API_VERSION " +
             "FROM AM_API_DEFAULT_VERSION WHERE API_NAME = ? AND API_PROVIDER =?";
 
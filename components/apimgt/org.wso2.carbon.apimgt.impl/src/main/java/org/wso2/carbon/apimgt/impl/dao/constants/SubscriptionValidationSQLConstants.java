@@ -132,6 +132,10 @@ public class SubscriptionValidationSQLConstants {
                     "   SUBS.APPLICATION_ID = APP.APPLICATION_ID AND " +
                     "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND " +
                     "   APP.ORGANIZATION = ? ";
+    public static final String GET_ORGANIZATION_SUBSCRIPTIONS_PAGE_SQL =
+            GET_ORGANIZATION_SUBSCRIPTIONS_SQL +
+                    " AND SUBS.SUBSCRIPTION_ID > ? " +
+                    " ORDER BY SUBS.SUBSCRIPTION_ID";
     public static final String GET_ALL_SUBSCRIPTIONS_SQL =
             "SELECT " +
                     "   SUBS.UUID AS SUBSCRIPTION_UUID," +
@@ -647,6 +651,58 @@ public class SubscriptionValidationSQLConstants {
             "AM_API_DEFAULT_VERSION.API_PROVIDER=AM_API.API_PROVIDER AND " +
             "AM_API_DEFAULT_VERSION.ORGANIZATION = AM_API.ORGANIZATION ";
 
+    public static final String GET_ALL_APIS_BY_DEPLOYMENT_SQL = GET_ALL_APIS_BY_ORGANIZATION_AND_DEPLOYMENT_SQL +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
+    public static final String API_ORGANIZATION_FILTER_SQL = "AND AM_API.ORGANIZATION = ? ";
+
+    public static final String GET_REVISIONED_API_TIERS_BY_DEPLOYMENT_SQL = "SELECT " +
+            "AM_API_REVISION_METADATA.REVISION_UUID, AM_API_REVISION_METADATA.API_TIER " +
+            "FROM AM_API_REVISION_METADATA INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+            "AM_API_REVISION_METADATA.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID " +
+            "INNER JOIN AM_API ON AM_API_REVISION_METADATA.API_UUID = AM_API.API_UUID " +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
+    public static final String GET_URI_TEMPLATES_BY_DEPLOYMENT_SQL = "SELECT AM_API_URL_MAPPING.REVISION_UUID, " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID, AM_API_URL_MAPPING.HTTP_METHOD, AM_API_URL_MAPPING.AUTH_SCHEME, " +
+            "AM_API_URL_MAPPING.URL_PATTERN, AM_API_URL_MAPPING.THROTTLING_TIER, AM_API_URL_MAPPING.DESCRIPTION, " +
+            "AM_API_URL_MAPPING.SCHEMA_DEFINITION, AM_API_RESOURCE_SCOPE_MAPPING.SCOPE_NAME " +
+            "FROM AM_API_URL_MAPPING INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+            "AM_API_URL_MAPPING.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID " +
+            "INNER JOIN AM_API ON AM_API_URL_MAPPING.API_ID = AM_API.API_ID " +
+            "LEFT JOIN AM_API_RESOURCE_SCOPE_MAPPING ON " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID = AM_API_RESOURCE_SCOPE_MAPPING.URL_MAPPING_ID " +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
+    public static final String GET_API_PRODUCT_URI_TEMPLATES_BY_DEPLOYMENT_SQL = "SELECT " +
+            "AM_API_PRODUCT_MAPPING.API_ID AS PRODUCT_ID, AM_API_URL_MAPPING.URL_MAPPING_ID, " +
+            "AM_API_URL_MAPPING.HTTP_METHOD, AM_API_URL_MAPPING.AUTH_SCHEME, AM_API_URL_MAPPING.URL_PATTERN, " +
+            "AM_API_URL_MAPPING.THROTTLING_TIER, AM_API_RESOURCE_SCOPE_MAPPING.SCOPE_NAME " +
+            "FROM AM_API_PRODUCT_MAPPING INNER JOIN AM_API_URL_MAPPING ON " +
+            "AM_API_PRODUCT_MAPPING.URL_MAPPING_ID = AM_API_URL_MAPPING.URL_MAPPING_ID " +
+            "LEFT JOIN AM_API_RESOURCE_SCOPE_MAPPING ON " +
+            "AM_API_URL_MAPPING.URL_MAPPING_ID = AM_API_RESOURCE_SCOPE_MAPPING.URL_MAPPING_ID " +
+            "INNER JOIN AM_API ON AM_API_PRODUCT_MAPPING.API_ID = AM_API.API_ID " +
+            "INNER JOIN AM_REVISION ON AM_API.API_UUID = AM_REVISION.API_UUID " +
+            "INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+            "AM_REVISION.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID " +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
+    public static final String GET_OPERATION_POLICIES_PER_URI_BY_DEPLOYMENT_SQL =
+            "SELECT AOP.REVISION_UUID, OP.POLICY_NAME, OP.POLICY_VERSION, APM.DIRECTION AS API_POLICY_DIRECTION, "
+                    + "APM.POLICY_UUID AS API_POLICY_UUID, OPM.POLICY_UUID AS OPERATION_POLICY_UUID, "
+                    + "OPM.DIRECTION AS OPERATION_POLICY_DIRECTION, AUM.HTTP_METHOD, AUM.URL_PATTERN, "
+                    + "OPM.PARAMETERS AS OPERATION_PARAMS, APM.PARAMETERS AS API_PARAMS "
+                    + "FROM AM_API_OPERATION_POLICY AS AOP "
+                    + "LEFT JOIN AM_API_OPERATION_POLICY_MAPPING OPM ON AOP.POLICY_UUID = OPM.POLICY_UUID "
+                    + "LEFT JOIN AM_API_URL_MAPPING AUM ON AUM.URL_MAPPING_ID = OPM.URL_MAPPING_ID "
+                    + "INNER JOIN AM_OPERATION_POLICY OP ON OP.POLICY_UUID = AOP.POLICY_UUID "
+                    + "LEFT JOIN AM_API_POLICY_MAPPING as APM ON APM.POLICY_UUID = AOP.POLICY_UUID "
+                    + "INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON "
+                    + "AOP.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID "
+                    + "INNER JOIN AM_API ON AOP.API_UUID = AM_API.API_UUID "
+                    + "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
     public static final String  GET_ALL_API_PRODUCT_URI_TEMPLATES_SQL = "SELECT AM_API_URL_MAPPING.URL_MAPPING_ID," +
             "AM_API_URL_MAPPING.HTTP_METHOD,AM_API_URL_MAPPING.AUTH_SCHEME,AM_API_URL_MAPPING.URL_PATTERN," +
             "AM_API_URL_MAPPING.THROTTLING_TIER,AM_API_RESOURCE_SCOPE_MAPPING.SCOPE_NAME FROM AM_API_URL_MAPPING LEFT" +
@@ -695,4 +751,27 @@ public class SubscriptionValidationSQLConstants {
                 "ON AM_API_URL_MAPPING.API_ID=AM_API.API_ID " +
             "WHERE AM_API_OPERATION_MAPPING.URL_MAPPING_ID=?";
 
+    public static final String GET_MCP_BACKEND_OPERATION_MAPPINGS_BY_DEPLOYMENT_SQL = "SELECT " +
+            "AM_BACKEND_OPERATION_MAPPING.URL_MAPPING_ID, AM_BACKEND_OPERATION_MAPPING.TARGET, " +
+            "AM_BACKEND_OPERATION_MAPPING.VERB " +
+            "FROM AM_BACKEND_OPERATION_MAPPING INNER JOIN AM_API_URL_MAPPING ON " +
+            "AM_BACKEND_OPERATION_MAPPING.URL_MAPPING_ID = AM_API_URL_MAPPING.URL_MAPPING_ID " +
+            "INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+            "AM_API_URL_MAPPING.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID " +
+            "INNER JOIN AM_API ON AM_API_URL_MAPPING.API_ID = AM_API.API_ID " +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
+    public static final String GET_MCP_API_OPERATION_MAPPINGS_BY_DEPLOYMENT_SQL = "SELECT " +
+            "AM_API_OPERATION_MAPPING.URL_MAPPING_ID, REF_URL_MAPPING.HTTP_METHOD, REF_URL_MAPPING.URL_PATTERN, " +
+            "REF_API.API_UUID, REF_API.API_NAME, REF_API.API_VERSION, REF_API.CONTEXT " +
+            "FROM AM_API_OPERATION_MAPPING INNER JOIN AM_API_URL_MAPPING ON " +
+            "AM_API_OPERATION_MAPPING.URL_MAPPING_ID = AM_API_URL_MAPPING.URL_MAPPING_ID " +
+            "INNER JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+            "AM_API_URL_MAPPING.REVISION_UUID = AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID " +
+            "INNER JOIN AM_API ON AM_API_URL_MAPPING.API_ID = AM_API.API_ID " +
+            "LEFT JOIN AM_API_URL_MAPPING REF_URL_MAPPING ON " +
+            "REF_URL_MAPPING.URL_MAPPING_ID = AM_API_OPERATION_MAPPING.REF_URL_MAPPING_ID " +
+            "LEFT JOIN AM_API REF_API ON REF_URL_MAPPING.API_ID = REF_API.API_ID " +
+            "WHERE AM_DEPLOYMENT_REVISION_MAPPING.NAME = ? ";
+
 }
@@ -29,6 +29,12 @@ public class DistributedThrottleConfig {
     private int syncInterval = 10;
     // Size for the thread pool for scheduled syncing
     private int corePoolSize = 200;
+    // Maximum number of counters synced in a single pipelined round trip, 0 to sync each counter separately
+    private int syncBatchSize = 0;
+    // How the Redis counter manager of hybrid throttling runs compound counter operations, "transaction" or "script"
+    private String counterOperationMode = "transaction";
+    // Window in milliseconds within which counter increments made outside the sync locks are coalesced, 0 to disable
+    private long counterBatchingWindow = 0;
 
     private String host;
     private int port;
@@ -215,6 +221,30 @@ public class DistributedThrottleConfig {
         this.corePoolSize = corePoolSize;
     }
 
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    public String getCounterOperationMode() {
+        return counterOperationMode;
+    }
+
+    public void setCounterOperationMode(String counterOperationMode) {
+        this.counterOperationMode = counterOperationMode;
+    }
+
+    public long getCounterBatchingWindow() {
+        return counterBatchingWindow;
+    }
+
+    public void setCounterBatchingWindow(long counterBatchingWindow) {
+        this.counterBatchingWindow = counterBatchingWindow;
+    }
+
     public int getDatabaseId() {
         return databaseId;
     }
@@ -18,6 +18,8 @@ public class GatewayArtifactSynchronizerProperties {
     private int maxRetryCount = 5;
     private double retryProgressionFactor = 2.0;
     private String gatewayStartup = "sync";
+    private int deploymentParallelism = 1;
+    private boolean localArtifactCacheEnabled;
     private long eventWaitingTime = 1;
     private boolean onDemandLoading;
     private boolean tenantLoading;
@@ -154,6 +156,26 @@ public class GatewayArtifactSynchronizerProperties {
         this.gatewayStartup = gatewayStartup;
     }
 
+    public int getDeploymentParallelism() {
+
+        return deploymentParallelism;
+    }
+
+    public void setDeploymentParallelism(int deploymentParallelism) {
+
+        this.deploymentParallelism = deploymentParallelism;
+    }
+
+    public boolean isLocalArtifactCacheEnabled() {
+
+        return localArtifactCacheEnabled;
+    }
+
+    public void setLocalArtifactCacheEnabled(boolean localArtifactCacheEnabled) {
+
+        this.localArtifactCacheEnabled = localArtifactCacheEnabled;
+    }
+
     public void setOnDemandLoading(boolean onDemandLoading) {
         this.onDemandLoading = onDemandLoading;
     }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.dto;
+
+/**
+ * Manifest entry of a runtime artifact deployed in a gateway environment. The hash changes whenever the runtime
+ * artifact generated for the environment changes, so that a gateway can tell whether the artifact it already has is
+ * still current without downloading it.
+ */
+public class RuntimeArtifactManifestDto {
+
+    private String apiId;
+    private String revision;
+    private String label;
+    private String hash;
+
+    public String getApiId() {
+
+        return apiId;
+    }
+
+    public void setApiId(String apiId) {
+
+        this.apiId = apiId;
+    }
+
+    public String getRevision() {
+
+        return revision;
+    }
+
+    public void setRevision(String revision) {
+
+        this.revision = revision;
+    }
+
+    public String getLabel() {
+
+        return label;
+    }
+
+    public void setLabel(String label) {
+
+        this.label = label;
+    }
+
+    public String getHash() {
+
+        return hash;
+    }
+
+    public void setHash(String hash) {
+
+        this.hash = hash;
+    }
+}
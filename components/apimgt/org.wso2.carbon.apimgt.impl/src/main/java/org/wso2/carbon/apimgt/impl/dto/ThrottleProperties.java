@@ -30,6 +30,7 @@ public class ThrottleProperties {
     private GlobalEngineWSConnection globalEngineWSConnection;
     private DataPublisherPool dataPublisherPool;
     private DataPublisherThreadPool dataPublisherThreadPool;
+    private DataPublisherBatching dataPublisherBatching = new DataPublisherBatching();
     private JMSConnectionProperties jmsConnectionProperties;
     private boolean enableUnlimitedTier;
     private String throttleDataSourceName;
@@ -50,6 +51,7 @@ public class ThrottleProperties {
     private boolean enableHeaderConditions = false;
     private boolean enableJwtConditions = false;
     private boolean enableQueryParamConditions =false;
+    private String eventPropertiesEncoding = "json";
     private String[] skipRedeployingPolicies = new String[]{};
     private List<String> skipDeployingPolicies = new ArrayList<>();
     private Map<String, Long> defaultThrottleTierLimits = new HashMap<String, Long>();
@@ -63,6 +65,14 @@ public class ThrottleProperties {
         this.enabledSubscriptionLevelSpikeArrest = enabledSubscriptionLevelSpikeArrest;
     }
 
+    public DataPublisherBatching getDataPublisherBatching() {
+        return dataPublisherBatching;
+    }
+
+    public void setDataPublisherBatching(DataPublisherBatching dataPublisherBatching) {
+        this.dataPublisherBatching = dataPublisherBatching;
+    }
+
     public DataPublisherThreadPool getDataPublisherThreadPool() {
         return dataPublisherThreadPool;
     }
@@ -153,6 +163,14 @@ public class ThrottleProperties {
         this.enableJwtConditions = enableJwtConditions;
     }
 
+    public String getEventPropertiesEncoding() {
+        return eventPropertiesEncoding;
+    }
+
+    public void setEventPropertiesEncoding(String eventPropertiesEncoding) {
+        this.eventPropertiesEncoding = eventPropertiesEncoding;
+    }
+
     public boolean isEnableQueryParamConditions() {
         return enableQueryParamConditions;
     }
@@ -640,6 +658,45 @@ public class ThrottleProperties {
         }
     }
 
+    public static class DataPublisherBatching {
+        private boolean enabled = false;
+        private int bufferSize = 8192;
+        private int batchSize = 256;
+        private int publisherThreads = 2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getPublisherThreads() {
+            return publisherThreads;
+        }
+
+        public void setPublisherThreads(int publisherThreads) {
+            this.publisherThreads = publisherThreads;
+        }
+    }
+
     public String[] getSkipRedeployingPolicies() {
         return skipRedeployingPolicies;
     }
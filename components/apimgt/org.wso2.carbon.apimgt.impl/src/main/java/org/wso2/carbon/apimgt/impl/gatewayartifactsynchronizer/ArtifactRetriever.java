@@ -22,6 +22,7 @@ import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.Artifac
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is a Artifact Retriever type. this interface let users to retriever API artifacts from a storage.
@@ -67,6 +68,24 @@ public interface ArtifactRetriever {
      */
      List<String> retrieveAllArtifacts(String gatewayLabel, String tenantDomain) throws ArtifactSynchronizerException;
 
+    /**
+     * This method is used to retrieve data from the storage one artifact at a time. Each artifact is handed over to
+     * the consumer as soon as it is read, so that the caller can start deploying it while the rest are retrieved.
+     *
+     * @param gatewayLabel     - Label subscribed by the gateway
+     * @param tenantDomain     Tenant Domain
+     * @param artifactConsumer consumer of the gateway runtime artifacts
+     * @return number of artifacts handed over to the consumer
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveAllArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        List<String> gatewayRuntimeArtifacts = retrieveAllArtifacts(gatewayLabel, tenantDomain);
+        gatewayRuntimeArtifacts.forEach(artifactConsumer);
+        return gatewayRuntimeArtifacts.size();
+    }
+
     /**
      * Will be called after all publishing is done or if init fails
      */
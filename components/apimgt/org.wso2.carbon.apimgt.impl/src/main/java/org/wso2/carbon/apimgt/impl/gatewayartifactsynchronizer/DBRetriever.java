@@ -19,8 +19,12 @@
 package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.HttpClient;
@@ -28,6 +32,7 @@ import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
@@ -37,17 +42,25 @@ import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.CarbonUtils;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class DBRetriever implements ArtifactRetriever {
 
@@ -58,6 +71,7 @@ public class DBRetriever implements ArtifactRetriever {
             ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration()
                     .getGatewayArtifactSynchronizerProperties();
     private String baseURL = eventHubConfigurationDto.getServiceUrl() + APIConstants.INTERNAL_WEB_APP_EP;
+    private final Map<String, LocalArtifactStore> localArtifactStores = new ConcurrentHashMap<>();
 
     @Override
     public void init() throws ArtifactSynchronizerException {
@@ -123,6 +137,10 @@ public class DBRetriever implements ArtifactRetriever {
     @Override
     public List<String> retrieveAllArtifacts(String label, String tenantDomain) throws ArtifactSynchronizerException {
         List<String> gatewayRuntimeArtifactsArray = new ArrayList<>();
+        if (gatewayArtifactSynchronizerProperties.isLocalArtifactCacheEnabled()) {
+            retrieveAllArtifacts(label, tenantDomain, gatewayRuntimeArtifactsArray::add);
+            return gatewayRuntimeArtifactsArray;
+        }
         try {
             String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
             String path = APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS
@@ -149,6 +167,226 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    @Override
+    public int retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        try {
+            String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
+            String path = APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS
+                    + "?gatewayLabel=" + endcodedgatewayLabel + "&type=Synapse";
+            if (gatewayArtifactSynchronizerProperties.isLocalArtifactCacheEnabled()) {
+                Map<String, String> fingerprints = retrieveArtifactFingerprints(endcodedgatewayLabel, tenantDomain);
+                if (fingerprints != null) {
+                    return retrieveChangedArtifacts(label, endcodedgatewayLabel, tenantDomain, fingerprints,
+                            artifactConsumer);
+                }
+            }
+            String endpoint = baseURL + path;
+            try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+                return streamArtifacts(httpResponse, artifactConsumer);
+            }
+        } catch (IOException e) {
+            String msg = "Error while executing the http client";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        } catch (ArtifactSynchronizerException e) {
+            String msg = "Error while retrieving artifacts";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        }
+    }
+
+    /**
+     * Reads the artifact list of the response one element at a time, without buffering the whole response body.
+     */
+    private int streamArtifacts(CloseableHttpResponse httpResponse, Consumer<String> artifactConsumer)
+            throws IOException, ArtifactSynchronizerException {
+
+        if (httpResponse.getStatusLine().getStatusCode() == 404) {
+            log.info("No artifacts available to deploy");
+            return 0;
+        } else if (httpResponse.getStatusLine().getStatusCode() == 200) {
+            if (httpResponse.getEntity() == null) {
+                throw new ArtifactSynchronizerException("HTTP response is empty");
+            }
+            int count = 0;
+            try (JsonReader reader = new JsonReader(new InputStreamReader(httpResponse.getEntity().getContent(),
+                    APIConstants.DigestAuthConstants.CHARSET))) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("list".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            artifactConsumer.accept(reader.nextString());
+                            count++;
+                        }
+                        reader.endArray();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } catch (IllegalStateException | JsonParseException e) {
+                throw new ArtifactSynchronizerException("Unexpected runtime artifacts response received", e);
+            }
+            return count;
+        } else {
+            String errorMessage = EntityUtils.toString(httpResponse.getEntity(),
+                    APIConstants.DigestAuthConstants.CHARSET);
+            throw new ArtifactSynchronizerException(errorMessage + "Event-Hub status code is : "
+                    + httpResponse.getStatusLine().getStatusCode());
+        }
+    }
+
+    /**
+     * Retrieves the manifest of the artifacts deployed in the given labels and reduces it to a fingerprint per API,
+     * which changes whenever the runtime artifact of the API changes in any of the labels.
+     *
+     * @return fingerprints keyed by the API UUID, or null if the control plane does not provide the manifest
+     */
+    private Map<String, String> retrieveArtifactFingerprints(String encodedGatewayLabel, String tenantDomain)
+            throws IOException, ArtifactSynchronizerException {
+
+        String endpoint = baseURL + APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS_MANIFEST
+                + "?gatewayLabel=" + encodedGatewayLabel;
+        Map<String, Map<String, String>> hashesByApi = new HashMap<>();
+        try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+            if (httpResponse.getStatusLine().getStatusCode() != 200 || httpResponse.getEntity() == null) {
+                log.debug("Runtime artifact manifest is not available. Retrieving all the artifacts");
+                EntityUtils.consumeQuietly(httpResponse.getEntity());
+                return null;
+            }
+            JSONArray manifest = new JSONObject(EntityUtils.toString(httpResponse.getEntity(),
+                    APIConstants.DigestAuthConstants.CHARSET)).getJSONArray("list");
+            for (int i = 0; i < manifest.length(); i++) {
+                JSONObject manifestEntry = manifest.getJSONObject(i);
+                hashesByApi.computeIfAbsent(manifestEntry.getString("apiId"), apiId -> new TreeMap<>())
+                        .put(manifestEntry.getString("label"), manifestEntry.getString("hash"));
+            }
+        } catch (JSONException e) {
+            log.warn("Unexpected runtime artifact manifest received. Retrieving all the artifacts", e);
+            return null;
+        }
+        Map<String, String> fingerprints = new HashMap<>(hashesByApi.size());
+        for (Map.Entry<String, Map<String, String>> apiHashes : hashesByApi.entrySet()) {
+            fingerprints.put(apiHashes.getKey(), DigestUtils.sha256Hex(String.join(":",
+                    apiHashes.getValue().values())));
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Serves the APIs whose fingerprint is unchanged from the local artifact store and retrieves only the artifacts of
+     * the other APIs from the control plane. The whole label is retrieved at once when most of the APIs are missing,
+     * as in the first startup of the gateway. In that case the artifacts of APIs which are not in the manifest, i.e.
+     * deployed after the manifest was read, are deployed as well.
+     */
+    private int retrieveChangedArtifacts(String label, String encodedGatewayLabel, String tenantDomain,
+                                         Map<String, String> fingerprints, Consumer<String> artifactConsumer)
+            throws IOException, ArtifactSynchronizerException {
+
+        LocalArtifactStore localArtifactStore = getLocalArtifactStore(label, tenantDomain);
+        int count = 0;
+        Set<String> changedApis = new HashSet<>();
+        for (Map.Entry<String, String> fingerprint : fingerprints.entrySet()) {
+            List<String> artifacts = localArtifactStore.get(fingerprint.getKey(), fingerprint.getValue());
+            if (artifacts == null) {
+                changedApis.add(fingerprint.getKey());
+                continue;
+            }
+            for (String artifact : artifacts) {
+                artifactConsumer.accept(artifact);
+                count++;
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug((fingerprints.size() - changedApis.size()) + " APIs loaded from the local artifact store and "
+                    + changedApis.size() + " APIs to be retrieved for label " + label);
+        }
+        Map<String, List<String>> retrievedArtifacts = new HashMap<>();
+        if (changedApis.size() * 2 > fingerprints.size()) {
+            String endpoint = baseURL + APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS
+                    + "?gatewayLabel=" + encodedGatewayLabel + "&type=Synapse";
+            try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+                streamArtifacts(httpResponse, artifact -> {
+                    String apiId = readApiId(artifact);
+                    if (apiId == null || changedApis.contains(apiId) || !fingerprints.containsKey(apiId)) {
+                        artifactConsumer.accept(artifact);
+                        // Artifacts which could not be identified or are not in the manifest are deployed, but never
+                        // stored.
+                        retrievedArtifacts.computeIfAbsent(apiId != null ? apiId : "", id -> new ArrayList<>())
+                                .add(artifact);
+                    }
+                });
+            }
+        } else {
+            for (String apiId : changedApis) {
+                String endpoint = baseURL + APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS
+                        + "?apiId=" + URLEncoder.encode(apiId, APIConstants.DigestAuthConstants.CHARSET)
+                        + "&gatewayLabel=" + encodedGatewayLabel + "&type=Synapse";
+                List<String> artifacts = new ArrayList<>();
+                try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+                    streamArtifacts(httpResponse, artifact -> {
+                        artifactConsumer.accept(artifact);
+                        artifacts.add(artifact);
+                    });
+                }
+                retrievedArtifacts.put(apiId, artifacts);
+            }
+        }
+        for (Map.Entry<String, List<String>> artifacts : retrievedArtifacts.entrySet()) {
+            count += artifacts.getValue().size();
+            String fingerprint = fingerprints.get(artifacts.getKey());
+            if (fingerprint != null) {
+                localArtifactStore.put(artifacts.getKey(), fingerprint, artifacts.getValue());
+            }
+        }
+        localArtifactStore.retainAll(fingerprints.keySet());
+        return count;
+    }
+
+    private LocalArtifactStore getLocalArtifactStore(String label, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        String tenant = tenantDomain != null ? tenantDomain : MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+        String storeKey = tenant + ":" + label;
+        LocalArtifactStore localArtifactStore = localArtifactStores.get(storeKey);
+        if (localArtifactStore == null) {
+            try {
+                localArtifactStore = new LocalArtifactStore(Paths.get(CarbonUtils.getCarbonHome(), "repository",
+                        "data", "gateway-artifacts", tenant, DigestUtils.sha1Hex(label)));
+            } catch (IOException e) {
+                throw new ArtifactSynchronizerException("Error while opening the local artifact store", e);
+            }
+            LocalArtifactStore existingStore = localArtifactStores.putIfAbsent(storeKey, localArtifactStore);
+            if (existingStore != null) {
+                localArtifactStore = existingStore;
+            }
+        }
+        return localArtifactStore;
+    }
+
+    /**
+     * Reads the API UUID of a runtime artifact without binding the whole artifact.
+     */
+    private static String readApiId(String artifact) {
+
+        try (JsonReader reader = new JsonReader(new StringReader(artifact))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (APIConstants.GatewayArtifactSynchronizer.API_ID.equals(reader.nextName())
+                        && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException | JsonParseException e) {
+            log.debug("Unable to read the API UUID of the runtime artifact", e);
+        }
+        return null;
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
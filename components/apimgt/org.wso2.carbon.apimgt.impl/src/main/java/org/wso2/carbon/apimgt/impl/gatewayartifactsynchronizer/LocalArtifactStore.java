@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Local disk store of the runtime artifacts retrieved by a gateway, indexed by the API UUID. Each API is stored in a
+ * file named after the API UUID and the fingerprint of its artifacts, so a stored API is only reused as long as the
+ * control plane reports the same fingerprint for it. The files are read through a memory mapping and replaced
+ * atomically, hence a partially written file is never read. The mapping is released as soon as a file is read, so that
+ * the file can be replaced or deleted afterwards on any platform.
+ */
+final class LocalArtifactStore {
+
+    private static final Log log = LogFactory.getLog(LocalArtifactStore.class);
+    private static final String FILE_EXTENSION = ".artifacts";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final char FINGERPRINT_SEPARATOR = '_';
+    /**
+     * API UUIDs and fingerprints become file names, hence they must not contain path separators or dots.
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9-]+");
+    private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+    private final Path directory;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    LocalArtifactStore(Path directory) throws IOException {
+
+        this.directory = Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                int separatorIndex = fileName.lastIndexOf(FINGERPRINT_SEPARATOR);
+                String apiId = separatorIndex > 0 ? fileName.substring(0, separatorIndex) : null;
+                String fingerprint = fileName.endsWith(FILE_EXTENSION) && separatorIndex > 0
+                        ? fileName.substring(separatorIndex + 1, fileName.length() - FILE_EXTENSION.length()) : null;
+                if (isValidName(apiId) && isValidName(fingerprint)) {
+                    fingerprints.put(apiId, fingerprint);
+                } else {
+                    // Leftover of an interrupted write.
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the stored artifacts of the API, if they were stored with the given fingerprint.
+     *
+     * @param apiId       UUID of the API
+     * @param fingerprint fingerprint of the artifacts of the API currently deployed in the control plane
+     * @return stored artifacts of the API, or null if the API is not stored or is outdated
+     */
+    List<String> get(String apiId, String fingerprint) {
+
+        if (fingerprint == null || !fingerprint.equals(fingerprints.get(apiId))) {
+            return null;
+        }
+        Path file = resolve(apiId, fingerprint);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                int count = buffer.getInt();
+                List<String> artifacts = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    byte[] artifact = new byte[buffer.getInt()];
+                    buffer.get(artifact);
+                    artifacts.add(new String(artifact, StandardCharsets.UTF_8));
+                }
+                return artifacts;
+            } finally {
+                // Released before an unreadable file is removed below.
+                UNMAPPER.accept(buffer);
+            }
+        } catch (IOException | BufferUnderflowException | NegativeArraySizeException e) {
+            log.warn("Discarding the unreadable local artifacts of API " + apiId, e);
+            remove(apiId);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the artifacts of the API, replacing the artifacts previously stored for it.
+     *
+     * @param apiId       UUID of the API
+     * @param fingerprint fingerprint of the artifacts
+     * @param artifacts   runtime artifacts of the API
+     */
+    void put(String apiId, String fingerprint, List<String> artifacts) {
+
+        if (!isValidName(apiId) || !isValidName(fingerprint)) {
+            log.warn("Artifacts of API " + apiId + " are not stored locally, as the API UUID or the fingerprint is "
+                    + "not a valid file name");
+            return;
+        }
+        Path file = resolve(apiId, fingerprint);
+        Path tempFile = directory.resolve(apiId + FINGERPRINT_SEPARATOR + fingerprint + TEMP_FILE_EXTENSION);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                 DataOutputStream dataOutputStream = new DataOutputStream(outputStream)) {
+                dataOutputStream.writeInt(artifacts.size());
+                for (String artifact : artifacts) {
+                    byte[] bytes = artifact.getBytes(StandardCharsets.UTF_8);
+                    dataOutputStream.writeInt(bytes.length);
+                    dataOutputStream.write(bytes);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            String previousFingerprint = fingerprints.put(apiId, fingerprint);
+            if (previousFingerprint != null && !previousFingerprint.equals(fingerprint)) {
+                Files.deleteIfExists(resolve(apiId, previousFingerprint));
+            }
+        } catch (IOException e) {
+            log.warn("Error while storing the artifacts of API " + apiId + " locally", e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                log.debug("Error while deleting " + tempFile, ex);
+            }
+        }
+    }
+
+    /**
+     * Removes the stored artifacts of the API.
+     *
+     * @param apiId UUID of the API
+     */
+    void remove(String apiId) {
+
+        String fingerprint = fingerprints.remove(apiId);
+        if (fingerprint != null) {
+            try {
+                Files.deleteIfExists(resolve(apiId, fingerprint));
+            } catch (IOException e) {
+                log.warn("Error while removing the local artifacts of API " + apiId, e);
+            }
+        }
+    }
+
+    /**
+     * Removes the stored artifacts of the APIs which are not in the given set.
+     *
+     * @param apiIds UUIDs of the APIs to keep
+     */
+    void retainAll(Set<String> apiIds) {
+
+        for (String apiId : new ArrayList<>(fingerprints.keySet())) {
+            if (!apiIds.contains(apiId)) {
+                remove(apiId);
+            }
+        }
+    }
+
+    Set<String> getApiIds() {
+
+        return Collections.unmodifiableSet(fingerprints.keySet());
+    }
+
+    private Path resolve(String apiId, String fingerprint) {
+
+        if (!isValidName(apiId) || !isValidName(fingerprint)) {
+            throw new IllegalArgumentException("Invalid local artifact file name for API " + apiId);
+        }
+        return directory.resolve(apiId + FINGERPRINT_SEPARATOR + fingerprint + FILE_EXTENSION);
+    }
+
+    private static boolean isValidName(String name) {
+
+        return name != null && NAME_PATTERN.matcher(name).matches();
+    }
+
+    /**
+     * Creates the function which releases the memory mapping of a buffer right away, rather than when the buffer is
+     * garbage collected. A file cannot be replaced or deleted while it is mapped on some platforms.
+     */
+    private static Consumer<ByteBuffer> createUnmapper() {
+
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            Object unsafe = unsafeField.get(null);
+            return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unsafe#invokeCleaner is not available", e);
+        }
+        try {
+            // Java 8
+            Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object cleaner = invokeQuietly(cleanerMethod, buffer);
+                if (cleaner != null) {
+                    invokeQuietly(cleanMethod, cleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Mapped buffers of the local artifact store are released only when garbage collected", e);
+            return buffer -> {
+            };
+        }
+    }
+
+    private static Object invokeQuietly(Method method, Object target, Object... args) {
+
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Error while releasing a mapped buffer", e);
+            return null;
+        }
+    }
+}
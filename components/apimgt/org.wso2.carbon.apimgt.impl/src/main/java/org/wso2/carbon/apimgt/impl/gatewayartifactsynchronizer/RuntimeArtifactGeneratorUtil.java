@@ -27,6 +27,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactManifestDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.ApiMetadataProjectDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.EnvironmentDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.MetadataDescriptorDto;
@@ -38,6 +39,7 @@ import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -86,6 +88,28 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * Generate the manifest of the runtime artifacts deployed in the given gateway labels. A gateway compares it with
+     * the artifacts it already has, to retrieve only the artifacts that have changed.
+     *
+     * @param apiId        UUID of the API, or null for all the APIs of the tenant
+     * @param gatewayLabel Base64 encoded gateway labels separated by '|'
+     * @param tenantDomain tenant domain of the APIs
+     * @return manifest entries, one per API and gateway label
+     * @throws APIManagementException if an error occurs while retrieving the manifest
+     */
+    public static List<RuntimeArtifactManifestDto> generateRuntimeArtifactManifest(String apiId, String gatewayLabel,
+                                                                                  String tenantDomain)
+            throws APIManagementException {
+
+        if (StringUtils.isEmpty(gatewayLabel)) {
+            return Collections.emptyList();
+        }
+        byte[] decodedValue = Base64.decodeBase64(gatewayLabel.getBytes());
+        String[] gatewayLabels = new String(decodedValue).split("\\|");
+        return gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(apiId, gatewayLabels, tenantDomain);
+    }
+
     public static RuntimeArtifactDto generateMetadataArtifact(String tenantDomain, String apiId, String gatewayLabel)
             throws APIManagementException {
 
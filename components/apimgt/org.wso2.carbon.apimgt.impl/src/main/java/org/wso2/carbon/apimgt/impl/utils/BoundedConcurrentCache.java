@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, bounded, in-memory cache intended for high read concurrency.
+ * <p>
+ * Entries are spread over segments. Reads look entries up in a concurrent map without locking, and record the access
+ * in a small per segment buffer. The buffer is replayed into the recency order and the frequency estimate of the
+ * segment under the segment lock, by the reader that fills it up or by the next write. Writes take the segment lock
+ * and evict the least recently used entry of the segment when the segment or the cache is full. Optionally, a new entry is only admitted to
+ * a full segment when it is estimated to be accessed at least as frequently as the entry it would evict (TinyLFU
+ * admission), which keeps a burst of one-off keys from flushing out the entries that are actually reused. Entries may
+ * also be given a time to live.
+ * <p>
+ * Keys seldom hash evenly over the segments, so each segment may hold up to twice its share of the maximum number of
+ * entries, and the cache as a whole is bounded by a shared entry count. Entries are therefore only evicted before the
+ * cache is full when a single segment receives more than twice its share of the keys. The eviction order is least
+ * recently used per segment, not across the whole cache. Concurrent writes to empty segments may take the cache a few
+ * entries over its maximum.
+ * <p>
+ * Hit, miss, eviction and rejection counts are recorded and can be read through {@link #getStatistics()}.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class BoundedConcurrentCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 8;
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    // how many times its share of the maximum number of entries a segment may hold, to absorb uneven hashing
+    private static final int SEGMENT_CAPACITY_FACTOR = 2;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final EvictionListener<K, V> evictionListener;
+    private final AtomicInteger entryCount = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    /**
+     * Listener notified of values that leave the cache because the cache is full or because they expired, and of
+     * values that were not admitted to the cache.
+     */
+    public interface EvictionListener<K, V> {
+
+        void onEviction(K key, V value);
+    }
+
+    /**
+     * Creates a least recently used cache holding at most the given number of entries.
+     *
+     * @param maxEntries maximum number of entries
+     */
+    public BoundedConcurrentCache(int maxEntries) {
+
+        this(maxEntries, 0, TimeUnit.MILLISECONDS, false, null);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     *
+     * @param maxEntries              maximum number of entries
+     * @param timeToLive              time to live of an entry after it is written, or 0 to keep entries until
+     *                                they are evicted
+     * @param timeUnit                unit of the time to live
+     * @param frequencyAwareAdmission whether new entries should only replace entries that are used less frequently
+     * @param evictionListener        listener notified of evicted values, may be null
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedConcurrentCache(int maxEntries, long timeToLive, TimeUnit timeUnit,
+                                  boolean frequencyAwareAdmission, EvictionListener<K, V> evictionListener) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries should be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive > 0 ? timeUnit.toNanos(timeToLive) : 0;
+        this.evictionListener = evictionListener;
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_ENTRIES_PER_SEGMENT <= maxEntries) {
+            segmentCount <<= 1;
+        }
+        segments = new Segment[segmentCount];
+        int entriesPerSegment = (maxEntries + segmentCount - 1) / segmentCount;
+        int segmentCapacity = (int) Math.min(maxEntries, (long) entriesPerSegment * SEGMENT_CAPACITY_FACTOR);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity,
+                    frequencyAwareAdmission ? new FrequencySketch(entriesPerSegment) : null);
+        }
+        segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Returns the value cached against the given key.
+     *
+     * @param key key to look up
+     * @return cached value, or null if the key is not cached or its entry has expired
+     */
+    public V get(K key) {
+
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        Node<K, V> node = segment.data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (isExpired(node, System.nanoTime())) {
+            boolean removed;
+            segment.lock.lock();
+            try {
+                removed = segment.removeNode(node);
+            } finally {
+                segment.lock.unlock();
+            }
+            if (removed) {
+                entryCount.decrementAndGet();
+                evictionCount.increment();
+                notifyEviction(key, node.value);
+            }
+            missCount.increment();
+            return null;
+        }
+        V value = node.value;
+        segment.recordRead(node);
+        hitCount.increment();
+        return value;
+    }
+
+    /**
+     * Caches the given value against the given key. If the segment of the key or the cache is full, the least
+     * recently used entry of the segment is evicted, unless frequency aware admission is enabled and the new key is used less frequently than
+     * that entry, in which case the new value is not cached.
+     *
+     * @param key   key
+     * @param value value
+     * @return value previously cached against the key, or null
+     */
+    public V put(K key, V value) {
+
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        K evictedKey = null;
+        V evictedValue = null;
+        boolean rejected = false;
+        V previous = null;
+        segment.lock.lock();
+        try {
+            segment.drainReadBuffer();
+            if (segment.frequencySketch != null) {
+                segment.frequencySketch.increment(hash);
+            }
+            Node<K, V> existing = segment.data.get(key);
+            if (existing != null) {
+                previous = existing.value;
+                existing.writeTime = System.nanoTime();
+                existing.value = value;
+                segment.order.get(key);
+            } else {
+                if (segment.order.size() >= segment.capacity
+                        || (!segment.order.isEmpty() && entryCount.get() >= maxEntries)) {
+                    Iterator<Map.Entry<K, Node<K, V>>> iterator = segment.order.entrySet().iterator();
+                    Node<K, V> eldest = iterator.next().getValue();
+                    if (segment.frequencySketch != null && !isExpired(eldest, System.nanoTime())
+                            && segment.frequencySketch.frequency(hash)
+                            < segment.frequencySketch.frequency(eldest.hash)) {
+                        rejected = true;
+                    } else {
+                        evictedKey = eldest.key;
+                        evictedValue = eldest.value;
+                        iterator.remove();
+                        segment.data.remove(eldest.key);
+                        entryCount.decrementAndGet();
+                    }
+                }
+                if (!rejected) {
+                    Node<K, V> node = new Node<>(key, hash, value, System.nanoTime());
+                    segment.data.put(key, node);
+                    segment.order.put(key, node);
+                    entryCount.incrementAndGet();
+                }
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        if (rejected) {
+            rejectionCount.increment();
+            notifyEviction(key, value);
+        } else if (evictedKey != null) {
+            evictionCount.increment();
+            notifyEviction(evictedKey, evictedValue);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the entry of the given key. The eviction listener is not notified.
+     *
+     * @param key key to remove
+     * @return value that was cached against the key, or null
+     */
+    public V remove(K key) {
+
+        Segment<K, V> segment = segmentFor(spread(key.hashCode()));
+        segment.lock.lock();
+        try {
+            Node<K, V> node = segment.data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            segment.order.remove(key);
+            entryCount.decrementAndGet();
+            return node.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries. The eviction listener is not notified.
+     */
+    public void clear() {
+
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                entryCount.addAndGet(-segment.order.size());
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries and returns their values. The eviction listener is not notified.
+     *
+     * @return values that were cached
+     */
+    public Collection<V> removeAll() {
+
+        List<V> values = new ArrayList<>();
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                for (Node<K, V> node : segment.order.values()) {
+                    values.add(node.value);
+                }
+                entryCount.addAndGet(-segment.order.size());
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a snapshot of the cached values, including entries that have expired but are not yet removed.
+     *
+     * @return cached values
+     */
+    public Collection<V> values() {
+
+        List<V> values = new ArrayList<>();
+        for (Segment<K, V> segment : segments) {
+            for (Node<K, V> node : segment.data.values()) {
+                values.add(node.value);
+            }
+        }
+        return values;
+    }
+
+    public int size() {
+
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.data.size();
+        }
+        return size;
+    }
+
+    public int getMaxEntries() {
+
+        return maxEntries;
+    }
+
+    public Statistics getStatistics() {
+
+        return new Statistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), rejectionCount.sum());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+
+        return timeToLiveNanos > 0 && now - node.writeTime >= timeToLiveNanos;
+    }
+
+    private void notifyEviction(K key, V value) {
+
+        if (evictionListener != null) {
+            evictionListener.onEviction(key, value);
+        }
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+
+        return segments[(hash >>> 16) & segmentMask];
+    }
+
+    private static int spread(int hashCode) {
+
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Entries of a segment. {@code data} is read without locking. {@code order}, the frequency sketch and all writes
+     * are guarded by {@code lock}.
+     */
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentHashMap<K, Node<K, V>> data;
+        private final LinkedHashMap<K, Node<K, V>> order;
+        private final FrequencySketch frequencySketch;
+        private final int capacity;
+        private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        private Segment(int capacity, FrequencySketch frequencySketch) {
+
+            this.capacity = capacity;
+            this.frequencySketch = frequencySketch;
+            this.data = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+            this.order = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true);
+        }
+
+        /**
+         * Records a read of the given node. Slots are overwritten when readers lap the buffer before it is drained,
+         * so under heavy contention some reads are not reflected in the recency order, which only makes the order
+         * approximate.
+         */
+        private void recordRead(Node<K, V> node) {
+
+            int index = readCount.getAndIncrement() & READ_BUFFER_MASK;
+            readBuffer.lazySet(index, node);
+            if (index == READ_BUFFER_MASK && lock.tryLock()) {
+                try {
+                    drainReadBuffer();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        private void drainReadBuffer() {
+
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                Node<K, V> node = readBuffer.getAndSet(i, null);
+                if (node != null && data.get(node.key) == node) {
+                    order.get(node.key);
+                    if (frequencySketch != null) {
+                        frequencySketch.increment(node.hash);
+                    }
+                }
+            }
+        }
+
+        private boolean removeNode(Node<K, V> node) {
+
+            if (data.remove(node.key, node)) {
+                order.remove(node.key);
+                return true;
+            }
+            return false;
+        }
+
+        private void clear() {
+
+            data.clear();
+            order.clear();
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                readBuffer.set(i, null);
+            }
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final int hash;
+        private volatile V value;
+        private volatile long writeTime;
+
+        private Node(K key, int hash, V value, long writeTime) {
+
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * Approximate access frequency of keys, kept as a count-min sketch of 4 rows of saturating 4-bit counters.
+     * Counters are halved periodically so that the estimate follows recent usage. Each segment has its own sketch,
+     * which is only accessed under the segment lock.
+     */
+    static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final int MIN_WIDTH = 256;
+        private static final int[] SEEDS = {0x97CB3127, 0xB1A6A7F5, 0x6C4B8A9D, 0xCF3E11D3};
+
+        private final byte[] counters;
+        private final int rowMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+
+            int width = Integer.highestOneBit(Math.max(MIN_WIDTH, expectedEntries) - 1) << 1;
+            counters = new byte[width * SEEDS.length];
+            rowMask = width - 1;
+            sampleSize = width * 10;
+        }
+
+        void increment(int hash) {
+
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+
+            int h = (hash ^ SEEDS[row]) * 0x85EBCA6B;
+            h ^= h >>> 13;
+            return row * (rowMask + 1) + (h & rowMask);
+        }
+
+        private void reset() {
+
+            additions = 0;
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = (byte) (counters[i] >>> 1);
+            }
+        }
+    }
+
+    /**
+     * Point in time statistics of a cache.
+     */
+    public static final class Statistics {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long rejectionCount;
+
+        Statistics(long hitCount, long missCount, long evictionCount, long rejectionCount) {
+
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+        }
+
+        public long getHitCount() {
+
+            return hitCount;
+        }
+
+        public long getMissCount() {
+
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+
+            return evictionCount;
+        }
+
+        public long getRejectionCount() {
+
+            return rejectionCount;
+        }
+
+        public double getHitRate() {
+
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+
+            return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                    + ", rejections=" + rejectionCount;
+        }
+    }
+}
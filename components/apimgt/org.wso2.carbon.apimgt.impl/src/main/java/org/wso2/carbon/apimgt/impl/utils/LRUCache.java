@@ -24,7 +24,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 /**
  * A simple, thread-safe LRU cache implementation. This cache allows concurrent reads.
  * Concurrent write attempts are synchronized using an exclusive lock.
+ *
+ * @deprecated entries are evicted in insertion order and all writes are serialized. Use
+ * {@link BoundedConcurrentCache} instead.
  */
+@Deprecated
 public class LRUCache<K,V> extends LinkedHashMap<K,V> {
 
     private int maxEntries;
@@ -833,6 +833,45 @@ public class APIMgtDAOTest {
         apiMgtDAO.deleteAPI(api.getUuid());
     }
 
+    @Test
+    public void testGetAPIDetailsByUUIDs() throws Exception {
+        List<String> apiUUIDs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            APIIdentifier apiId = new APIIdentifier("getAPIDetailsByUUIDs", "getAPIDetailsByUUIDs" + i, "1.0.0");
+            API api = new API(apiId);
+            api.setContext("/getAPIDetailsByUUIDs" + i);
+            api.setContextTemplate("/getAPIDetailsByUUIDs" + i + "/{version}");
+            api.setUUID(UUID.randomUUID().toString());
+            api.setGatewayType("testGatewayVendor" + i);
+            apiMgtDAO.addAPI(api, -1234, "testOrg");
+            apiUUIDs.add(api.getUuid());
+        }
+        String unknownUUID = UUID.randomUUID().toString();
+        List<String> requestedUUIDs = new ArrayList<>(apiUUIDs);
+        requestedUUIDs.add(unknownUUID);
+        try {
+            Map<String, Float> ratings = apiMgtDAO.getAverageRatings(requestedUUIDs);
+            Map<String, APIInfo> apiInfoMap = apiMgtDAO.getAPIInfoByUUIDs(requestedUUIDs);
+            Map<String, String> gatewayVendors = apiMgtDAO.getGatewayVendorsByAPIUUIDs(requestedUUIDs);
+            assertEquals(3, ratings.size());
+            assertEquals(3, apiInfoMap.size());
+            assertEquals(3, gatewayVendors.size());
+            assertFalse(ratings.containsKey(unknownUUID));
+            for (String apiUUID : apiUUIDs) {
+                assertEquals(apiMgtDAO.getAverageRating(apiUUID), ratings.get(apiUUID), 0.0f);
+                assertEquals(apiMgtDAO.getGatewayVendorByAPIUUID(apiUUID), gatewayVendors.get(apiUUID));
+                APIInfo apiInfo = apiMgtDAO.getAPIInfoByUUID(apiUUID);
+                assertEquals(apiInfo.getContext(), apiInfoMap.get(apiUUID).getContext());
+                assertEquals(apiInfo.getApiSubtype(), apiInfoMap.get(apiUUID).getApiSubtype());
+                assertEquals(apiInfo.isEgress(), apiInfoMap.get(apiUUID).isEgress());
+            }
+        } finally {
+            for (String apiUUID : apiUUIDs) {
+                apiMgtDAO.deleteAPI(apiUUID);
+            }
+        }
+    }
+
     @Test
     public void testAPIGatewayTypeHandling() throws Exception {
         APIIdentifier apiId = new APIIdentifier("getAPIGatewayVendorByApiUUID",
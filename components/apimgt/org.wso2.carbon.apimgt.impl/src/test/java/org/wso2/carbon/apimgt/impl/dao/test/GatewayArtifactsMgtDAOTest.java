@@ -43,6 +43,7 @@ import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
 import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactManifestDto;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.GatewayArtifactsMgtDBUtil;
@@ -206,4 +207,72 @@ public class GatewayArtifactsMgtDAOTest {
         Assert.assertNotNull(artifact);
         Assert.assertEquals(context, artifacts.get(0).getContext());
     }
+
+    @Test
+    public void testRetrieveGatewayArtifactManifest() throws APIManagementException {
+        String uuid = UUID.randomUUID().toString();
+        String name = "manifestapiname";
+        String version = "1.0.0";
+        String revision = UUID.randomUUID().toString();
+        URL resource = getClass().getClassLoader().getResource("admin-PizzaShackAPI-1.0.0.zip");
+        File file = new File(resource.getPath());
+        gatewayArtifactsMgtDAO.addGatewayAPIArtifactAndMetaData(uuid, name, version, revision, "carbon.super",
+                APIConstants.HTTP_PROTOCOL, file);
+
+        API api = new API(new APIIdentifier("test-provider", name, version));
+        api.setContext("/context3");
+        api.setContextTemplate("/context3/{version}");
+        api.setUUID(uuid);
+        apiMgtDAO.addAPI(api, -1234, "testOrg");
+
+        Map<String, String> gatewayVhosts = new HashMap<>();
+        gatewayVhosts.put("manifestlabel1", "dev.wso2.com");
+        gatewayVhosts.put("manifestlabel2", "prod.wso2.com");
+        gatewayArtifactsMgtDAO.addAndRemovePublishedGatewayLabels(uuid, revision,
+                Collections.asSet("manifestlabel1", "manifestlabel2"), gatewayVhosts);
+        String[] labels = new String[]{"manifestlabel1", "manifestlabel2"};
+        Map<String, RuntimeArtifactManifestDto> manifest = manifestByLabel(
+                gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(null, labels, "carbon.super"));
+        Assert.assertEquals(2, manifest.size());
+        RuntimeArtifactManifestDto manifestEntry = manifest.get("manifestlabel1");
+        Assert.assertEquals(uuid, manifestEntry.getApiId());
+        Assert.assertEquals(revision, manifestEntry.getRevision());
+        Assert.assertNotEquals(manifestEntry.getHash(), manifest.get("manifestlabel2").getHash());
+
+        // the hash is stable as long as nothing is redeployed
+        List<RuntimeArtifactManifestDto> apiManifest = gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(uuid,
+                new String[]{"manifestlabel1"}, "carbon.super");
+        Assert.assertEquals(1, apiManifest.size());
+        Assert.assertEquals(manifestEntry.getHash(), apiManifest.get(0).getHash());
+        Assert.assertTrue(gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(null,
+                new String[]{"manifestlabel3"}, "carbon.super").isEmpty());
+        Assert.assertTrue(gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(null, labels, "wso2.com")
+                .isEmpty());
+
+        // redeploying a new revision to one label changes the hash of that label only
+        String newRevision = UUID.randomUUID().toString();
+        gatewayArtifactsMgtDAO.addGatewayAPIArtifactAndMetaData(uuid, name, version, newRevision, "carbon.super",
+                APIConstants.HTTP_PROTOCOL, file);
+        APIRevisionDeployment apiRevisionDeployment = new APIRevisionDeployment();
+        apiRevisionDeployment.setRevisionUUID(revision);
+        apiRevisionDeployment.setDeployment("manifestlabel1");
+        gatewayArtifactsMgtDAO.addAndRemovePublishedGatewayLabels(uuid, newRevision,
+                Collections.asSet("manifestlabel1"), gatewayVhosts, Collections.asSet(apiRevisionDeployment));
+        Map<String, RuntimeArtifactManifestDto> redeployedManifest = manifestByLabel(
+                gatewayArtifactsMgtDAO.retrieveGatewayArtifactManifest(null, labels, "carbon.super"));
+        Assert.assertEquals(2, redeployedManifest.size());
+        Assert.assertEquals(newRevision, redeployedManifest.get("manifestlabel1").getRevision());
+        Assert.assertNotEquals(manifestEntry.getHash(), redeployedManifest.get("manifestlabel1").getHash());
+        Assert.assertEquals(manifest.get("manifestlabel2").getHash(),
+                redeployedManifest.get("manifestlabel2").getHash());
+    }
+
+    private static Map<String, RuntimeArtifactManifestDto> manifestByLabel(
+            List<RuntimeArtifactManifestDto> manifest) {
+        Map<String, RuntimeArtifactManifestDto> manifestByLabel = new HashMap<>();
+        for (RuntimeArtifactManifestDto manifestEntry : manifest) {
+            manifestByLabel.put(manifestEntry.getLabel(), manifestEntry);
+        }
+        return manifestByLabel;
+    }
 }
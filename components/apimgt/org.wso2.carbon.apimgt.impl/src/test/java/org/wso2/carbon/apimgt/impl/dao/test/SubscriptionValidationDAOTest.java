@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dao.test;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.impl.builder.StAXOMBuilder;
+import org.apache.commons.io.FileUtils;
+import org.apache.tomcat.dbcp.dbcp2.BasicDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+import org.wso2.carbon.apimgt.api.model.APIOperationMapping;
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.api.model.OperationPolicy;
+import org.wso2.carbon.apimgt.api.model.subscription.API;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+@RunWith(PowerMockRunner.class)
+@PowerMockIgnore("javax.management.*")
+public class SubscriptionValidationDAOTest {
+
+    private static final String ORGANIZATION = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+    private SubscriptionValidationDAO subscriptionValidationDAO;
+    private Map<String, String> analyticsProperties;
+
+    @Before
+    public void setUp() throws Exception {
+
+        String dbConfigPath = System.getProperty("APIManagerDBConfigurationPath");
+        APIManagerConfiguration config = new APIManagerConfiguration();
+        initializeDatabase(dbConfigPath);
+        config.load(dbConfigPath);
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(new APIManagerConfigurationServiceImpl
+                (config));
+        APIMgtDBUtil.initialize();
+        subscriptionValidationDAO = new SubscriptionValidationDAO();
+        analyticsProperties = Whitebox.getInternalState(SubscriptionValidationDAO.class, "configs");
+        Whitebox.setInternalState(SubscriptionValidationDAO.class, "configs",
+                Collections.singletonMap(APIConstants.POLICY_ENABLED_FOR_ANALYTICS, "true"));
+    }
+
+    @After
+    public void tearDown() {
+
+        Whitebox.setInternalState(SubscriptionValidationDAO.class, "configs", analyticsProperties);
+    }
+
+    private static void initializeDatabase(String configFilePath)
+            throws XMLStreamException, IOException, NamingException {
+
+        InputStream in;
+        try {
+            in = FileUtils.openInputStream(new File(configFilePath));
+            StAXOMBuilder builder = new StAXOMBuilder(in);
+            OMElement databaseElement = builder.getDocumentElement().getFirstChildWithName(new QName("Database"));
+            String databaseURL = databaseElement.getFirstChildWithName(new QName("URL")).getText();
+            String databaseUser = databaseElement.getFirstChildWithName(new QName("Username")).getText();
+            String databasePass = databaseElement.getFirstChildWithName(new QName("Password")).getText();
+            String databaseDriver = databaseElement.getFirstChildWithName(new QName("Driver")).getText();
+
+            BasicDataSource basicDataSource = new BasicDataSource();
+            basicDataSource.setDriverClassName(databaseDriver);
+            basicDataSource.setUrl(databaseURL);
+            basicDataSource.setUsername(databaseUser);
+            basicDataSource.setPassword(databasePass);
+
+            // Create initial context
+            System.setProperty(Context.INITIAL_CONTEXT_FACTORY,
+                    "org.apache.naming.java.javaURLContextFactory");
+            System.setProperty(Context.URL_PKG_PREFIXES,
+                    "org.apache.naming");
+            try {
+                InitialContext.doLookup("java:/comp/env/jdbc/WSO2AM_DB");
+            } catch (NamingException e) {
+                InitialContext ic = new InitialContext();
+                ic.createSubcontext("java:");
+                ic.createSubcontext("java:/comp");
+                ic.createSubcontext("java:/comp/env");
+                ic.createSubcontext("java:/comp/env/jdbc");
+
+                ic.bind("java:/comp/env/jdbc/WSO2AM_DB", basicDataSource);
+            }
+        } catch (XMLStreamException e) {
+            throw new XMLStreamException("Unexpected error in processing XML");
+        } catch (IOException e) {
+            throw new IOException("Error in processing the APIManagerDBConfiguration file ");
+        } catch (NamingException e) {
+            throw new NamingException("Error in database Username and Password");
+        }
+    }
+
+    /**
+     * Loads the APIs of a gateway environment with the queries per deployment and with the queries per API, and
+     * checks that both return the same API level tiers, URI templates, scopes and policies, for an API and an API
+     * Product.
+     */
+    @Test
+    public void testDeployedApisLoadedInBulkMatchApisLoadedOneByOne() throws Exception {
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String deployment = "env-" + suffix;
+        String apiUUID = UUID.randomUUID().toString();
+        String apiRevisionUUID = UUID.randomUUID().toString();
+        String productUUID = UUID.randomUUID().toString();
+        String productRevisionUUID = UUID.randomUUID().toString();
+        String policyUUID = UUID.randomUUID().toString();
+        String productPolicyUUID = UUID.randomUUID().toString();
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            int apiId = addAPI(connection, apiUUID, "PizzaShack-" + suffix, "/pizzashack-" + suffix + "/1.0.0",
+                    "/pizzashack-" + suffix + "/{version}", "HTTP");
+            int productId = addAPI(connection, productUUID, "Product-" + suffix, "/product-" + suffix, null,
+                    APIConstants.API_PRODUCT);
+            addRevision(connection, apiUUID, 1, apiRevisionUUID, deployment, "Gold");
+            addRevision(connection, productUUID, 1, productRevisionUUID, deployment, "Silver");
+            // A revision which is not deployed in the environment.
+            addRevision(connection, apiUUID, 2, UUID.randomUUID().toString(), "other-" + suffix, "Bronze");
+
+            int menu = addURLMapping(connection, apiId, "GET", "/menu", "Unlimited", apiRevisionUUID);
+            int order = addURLMapping(connection, apiId, "POST", "/order", "Gold", apiRevisionUUID);
+            addURLMapping(connection, apiId, "DELETE", "/order", "Gold", UUID.randomUUID().toString());
+            addScope(connection, "read-" + suffix, menu);
+            addScope(connection, "write-" + suffix, order);
+            addScope(connection, "admin-" + suffix, order);
+
+            int productMenu = addURLMapping(connection, apiId, "GET", "/menu", "Unlimited", null);
+            addScope(connection, "read-" + suffix, productMenu);
+            execute(connection, "INSERT INTO AM_API_PRODUCT_MAPPING (API_ID, URL_MAPPING_ID) VALUES (?, ?)",
+                    productId, productMenu);
+
+            addOperationPolicy(connection, policyUUID, apiUUID, apiRevisionUUID);
+            addOperationPolicy(connection, productPolicyUUID, productUUID, productRevisionUUID);
+            execute(connection, "INSERT INTO AM_API_OPERATION_POLICY_MAPPING (URL_MAPPING_ID, POLICY_UUID, " +
+                    "POLICY_ORDER, DIRECTION, PARAMETERS) VALUES (?, ?, 1, 'request', ?)", menu, policyUUID,
+                    "{\"headerName\":\"X-Menu\"}".getBytes(StandardCharsets.UTF_8));
+            execute(connection, "INSERT INTO AM_API_OPERATION_POLICY_MAPPING (URL_MAPPING_ID, POLICY_UUID, " +
+                    "POLICY_ORDER, DIRECTION, PARAMETERS) VALUES (?, ?, 1, 'request', ?)", productMenu,
+                    productPolicyUUID, "{\"headerName\":\"X-Product\"}".getBytes(StandardCharsets.UTF_8));
+            execute(connection, "INSERT INTO AM_API_POLICY_MAPPING (API_UUID, REVISION_UUID, POLICY_UUID, " +
+                    "POLICY_ORDER, DIRECTION, PARAMETERS) VALUES (?, ?, ?, 1, 'response', ?)", apiUUID,
+                    apiRevisionUUID, policyUUID, "{\"headerName\":\"X-API\"}".getBytes(StandardCharsets.UTF_8));
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+
+        List<API> apis = subscriptionValidationDAO.getAllApis(ORGANIZATION, deployment, true);
+        Assert.assertEquals(2, apis.size());
+        Assert.assertEquals(apis.size(), subscriptionValidationDAO.getAllApis("", deployment, true).size());
+        for (API api : apis) {
+            API expected = subscriptionValidationDAO.getApiByUUID(api.getApiUUID(), deployment, ORGANIZATION, true);
+            Assert.assertNotNull(expected);
+            assertSameApi(expected, api);
+        }
+
+        API api = findApi(apis, apiUUID);
+        Assert.assertEquals("Gold", api.getPolicy());
+        Assert.assertEquals(2, api.getAllResources().size());
+        Assert.assertEquals(Collections.singletonList("read-" + suffix),
+                api.getResource("/menu", "GET").getScopes());
+        Assert.assertEquals(1, api.getResource("/menu", "GET").getOperationPolicies().size());
+        Assert.assertEquals(1, api.getApiPolicies().size());
+        API product = findApi(apis, productUUID);
+        Assert.assertEquals("Silver", product.getPolicy());
+        Assert.assertEquals(1, product.getAllResources().size());
+        Assert.assertEquals(1, product.getResource("/menu", "GET").getOperationPolicies().size());
+        Assert.assertTrue(product.getApiPolicies().isEmpty());
+
+        for (API unexpanded : subscriptionValidationDAO.getAllApis(ORGANIZATION, deployment, false)) {
+            Assert.assertNull(unexpanded.getPolicy());
+            Assert.assertTrue(unexpanded.getAllResources().isEmpty());
+        }
+    }
+
+    /**
+     * Loads the MCP APIs of a gateway environment with the queries per deployment and with the queries per API, and
+     * checks that both return the same backend and API operation mappings.
+     */
+    @Test
+    public void testDeployedMcpApisLoadedInBulkMatchApisLoadedOneByOne() throws Exception {
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String deployment = "env-" + suffix;
+        String restApiUUID = UUID.randomUUID().toString();
+        String backendMcpUUID = UUID.randomUUID().toString();
+        String backendMcpRevisionUUID = UUID.randomUUID().toString();
+        String existingApiMcpUUID = UUID.randomUUID().toString();
+        String existingApiMcpRevisionUUID = UUID.randomUUID().toString();
+        String backendId = UUID.randomUUID().toString();
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            int restApiId = addAPI(connection, restApiUUID, "Menu-" + suffix, "/menu-" + suffix + "/1.0.0",
+                    "/menu-" + suffix + "/{version}", "HTTP");
+            int backendMcpId = addAPI(connection, backendMcpUUID, "MenuTools-" + suffix,
+                    "/menu-tools-" + suffix + "/1.0.0", "/menu-tools-" + suffix + "/{version}",
+                    APIConstants.API_TYPE_MCP);
+            int existingApiMcpId = addAPI(connection, existingApiMcpUUID, "MenuApiTools-" + suffix,
+                    "/menu-api-tools-" + suffix + "/1.0.0", "/menu-api-tools-" + suffix + "/{version}",
+                    APIConstants.API_TYPE_MCP);
+            execute(connection, "UPDATE AM_API SET API_SUBTYPE = ? WHERE API_UUID = ?",
+                    APIConstants.API_SUBTYPE_DIRECT_BACKEND, backendMcpUUID);
+            execute(connection, "UPDATE AM_API SET API_SUBTYPE = ? WHERE API_UUID = ?",
+                    APIConstants.API_SUBTYPE_EXISTING_API, existingApiMcpUUID);
+            addRevision(connection, backendMcpUUID, 1, backendMcpRevisionUUID, deployment, "Gold");
+            addRevision(connection, existingApiMcpUUID, 1, existingApiMcpRevisionUUID, deployment, "Gold");
+
+            int menu = addURLMapping(connection, restApiId, "GET", "/menu", "Unlimited", null);
+            int listMenu = addURLMapping(connection, backendMcpId, "TOOL", "listMenu", "Unlimited",
+                    backendMcpRevisionUUID);
+            int getMenu = addURLMapping(connection, existingApiMcpId, "TOOL", "getMenu", "Unlimited",
+                    existingApiMcpRevisionUUID);
+            // A tool without an operation mapping.
+            addURLMapping(connection, existingApiMcpId, "TOOL", "getOrders", "Unlimited",
+                    existingApiMcpRevisionUUID);
+            addScope(connection, "read-" + suffix, listMenu);
+            addScope(connection, "menu-" + suffix, listMenu);
+
+            execute(connection, "INSERT INTO AM_BACKEND (BACKEND_ID, BACKEND_NAME, REFERENCE_API_UUID, " +
+                    "REFERENCE_API_REVISION_UUID, ORGANIZATION) VALUES (?, 'Menu', ?, ?, ?)", backendId,
+                    backendMcpUUID, backendMcpRevisionUUID, ORGANIZATION);
+            execute(connection, "INSERT INTO AM_BACKEND_OPERATION_MAPPING (URL_MAPPING_ID, BACKEND_ID, TARGET, " +
+                    "VERB) VALUES (?, ?, '/menu', 'GET')", listMenu, backendId);
+            execute(connection, "INSERT INTO AM_API_OPERATION_MAPPING (URL_MAPPING_ID, REF_URL_MAPPING_ID) " +
+                    "VALUES (?, ?)", getMenu, menu);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+
+        List<API> apis = subscriptionValidationDAO.getAllApis(ORGANIZATION, deployment, true);
+        Assert.assertEquals(2, apis.size());
+        for (API api : apis) {
+            API expected = subscriptionValidationDAO.getApiByUUID(api.getApiUUID(), deployment, ORGANIZATION, true);
+            Assert.assertNotNull(expected);
+            assertSameApi(expected, api);
+        }
+
+        URLMapping listMenuMapping = findApi(apis, backendMcpUUID).getResource("listMenu", "TOOL");
+        Assert.assertEquals("/menu", listMenuMapping.getBackendOperationMapping().getBackendOperation().getTarget());
+        Assert.assertEquals(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.GET,
+                listMenuMapping.getBackendOperationMapping().getBackendOperation().getVerb());
+        Assert.assertNull(listMenuMapping.getApiOperationMapping());
+        API existingApiMcp = findApi(apis, existingApiMcpUUID);
+        APIOperationMapping getMenuMapping = existingApiMcp.getResource("getMenu", "TOOL").getApiOperationMapping();
+        Assert.assertEquals(restApiUUID, getMenuMapping.getApiUuid());
+        Assert.assertEquals("Menu-" + suffix, getMenuMapping.getApiName());
+        Assert.assertEquals("1.0.0", getMenuMapping.getApiVersion());
+        Assert.assertEquals("/menu-" + suffix + "/1.0.0", getMenuMapping.getApiContext());
+        Assert.assertEquals("/menu", getMenuMapping.getBackendOperation().getTarget());
+        Assert.assertEquals(org.wso2.carbon.apimgt.api.APIConstants.SupportedHTTPVerbs.GET,
+                getMenuMapping.getBackendOperation().getVerb());
+        Assert.assertNull(existingApiMcp.getResource("getOrders", "TOOL").getApiOperationMapping());
+    }
+
+    private void assertSameApi(API expected, API actual) {
+
+        Assert.assertEquals(expected.getApiUUID(), actual.getApiUUID());
+        Assert.assertEquals(expected.getApiId(), actual.getApiId());
+        Assert.assertEquals(expected.getName(), actual.getName());
+        Assert.assertEquals(expected.getVersion(), actual.getVersion());
+        Assert.assertEquals(expected.getContext(), actual.getContext());
+        Assert.assertEquals(expected.getContextTemplate(), actual.getContextTemplate());
+        Assert.assertEquals(expected.getApiType(), actual.getApiType());
+        Assert.assertEquals(expected.getStatus(), actual.getStatus());
+        Assert.assertEquals(expected.getOrganization(), actual.getOrganization());
+        Assert.assertEquals(expected.isDefaultVersion(), actual.isDefaultVersion());
+        Assert.assertEquals(expected.getPolicy(), actual.getPolicy());
+        Assert.assertEquals(describe(expected.getApiPolicies()), describe(actual.getApiPolicies()));
+        Assert.assertEquals(expected.getAllResources().keySet(), actual.getAllResources().keySet());
+        for (Map.Entry<String, URLMapping> entry : expected.getAllResources().entrySet()) {
+            URLMapping expectedMapping = entry.getValue();
+            URLMapping actualMapping = actual.getAllResources().get(entry.getKey());
+            Assert.assertEquals(expectedMapping, actualMapping);
+            List<String> expectedScopes = new ArrayList<>(expectedMapping.getScopes());
+            List<String> actualScopes = new ArrayList<>(actualMapping.getScopes());
+            Collections.sort(expectedScopes);
+            Collections.sort(actualScopes);
+            Assert.assertEquals(expectedScopes, actualScopes);
+            Assert.assertEquals(describe(expectedMapping.getOperationPolicies()),
+                    describe(actualMapping.getOperationPolicies()));
+            Assert.assertEquals(describe(expectedMapping.getBackendOperationMapping()),
+                    describe(actualMapping.getBackendOperationMapping()));
+            Assert.assertEquals(describe(expectedMapping.getApiOperationMapping()),
+                    describe(actualMapping.getApiOperationMapping()));
+        }
+    }
+
+    private List<String> describe(Iterable<OperationPolicy> policies) {
+
+        List<String> descriptions = new ArrayList<>();
+        for (OperationPolicy policy : policies) {
+            descriptions.add(policy.getPolicyId() + ":" + policy.getPolicyName() + ":" + policy.getPolicyVersion()
+                    + ":" + policy.getDirection() + ":" + new HashMap<>(policy.getParameters()));
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    private String describe(BackendOperationMapping backendOperationMapping) {
+
+        return backendOperationMapping == null ? null : describe(backendOperationMapping.getBackendOperation());
+    }
+
+    private String describe(APIOperationMapping apiOperationMapping) {
+
+        return apiOperationMapping == null ? null : apiOperationMapping.getApiUuid() + ":"
+                + apiOperationMapping.getApiName() + ":" + apiOperationMapping.getApiVersion() + ":"
+                + apiOperationMapping.getApiContext() + ":" + describe(apiOperationMapping.getBackendOperation());
+    }
+
+    private String describe(BackendOperation backendOperation) {
+
+        return backendOperation.getVerb() + ":" + backendOperation.getTarget();
+    }
+
+    private API findApi(List<API> apis, String apiUUID) {
+
+        for (API api : apis) {
+            if (apiUUID.equals(api.getApiUUID())) {
+                return api;
+            }
+        }
+        Assert.fail("API " + apiUUID + " is not loaded");
+        return null;
+    }
+
+    private int addAPI(Connection connection, String apiUUID, String name, String context, String contextTemplate,
+                       String apiType) throws SQLException {
+
+        execute(connection, "INSERT INTO AM_API (API_UUID, API_PROVIDER, API_NAME, API_VERSION, CONTEXT, " +
+                        "CONTEXT_TEMPLATE, API_TIER, API_TYPE, ORGANIZATION, STATUS) VALUES (?, 'admin', ?, " +
+                        "'1.0.0', ?, ?, 'Unlimited', ?, ?, 'PUBLISHED')", apiUUID, name, context, contextTemplate,
+                apiType, ORGANIZATION);
+        try (PreparedStatement preparedStatement =
+                     connection.prepareStatement("SELECT API_ID FROM AM_API WHERE API_UUID = ?")) {
+            preparedStatement.setString(1, apiUUID);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getInt("API_ID");
+            }
+        }
+    }
+
+    private void addRevision(Connection connection, String apiUUID, int revisionId, String revisionUUID,
+                             String deployment, String apiTier) throws SQLException {
+
+        execute(connection, "INSERT INTO AM_REVISION (ID, API_UUID, REVISION_UUID, CREATED_BY) VALUES " +
+                "(?, ?, ?, 'admin')", revisionId, apiUUID, revisionUUID);
+        execute(connection, "INSERT INTO AM_API_REVISION_METADATA (API_UUID, REVISION_UUID, API_TIER) VALUES " +
+                "(?, ?, ?)", apiUUID, revisionUUID, apiTier);
+        execute(connection, "INSERT INTO AM_DEPLOYMENT_REVISION_MAPPING (NAME, VHOST, REVISION_UUID, " +
+                "REVISION_STATUS, DISPLAY_ON_DEVPORTAL) VALUES (?, 'localhost', ?, 'APPROVED', TRUE)", deployment,
+                revisionUUID);
+    }
+
+    private void addOperationPolicy(Connection connection, String policyUUID, String apiUUID, String revisionUUID)
+            throws SQLException {
+
+        execute(connection, "INSERT INTO AM_OPERATION_POLICY (POLICY_UUID, POLICY_NAME, POLICY_VERSION, " +
+                "DISPLAY_NAME, APPLICABLE_FLOWS, GATEWAY_TYPES, API_TYPES, ORGANIZATION, POLICY_CATEGORY, " +
+                "POLICY_MD5) VALUES (?, 'addHeader', 'v1', 'Add Header', '[request,response]', '[Synapse]', " +
+                "'[HTTP]', ?, 'Mediation', 'md5')", policyUUID, ORGANIZATION);
+        execute(connection, "INSERT INTO AM_API_OPERATION_POLICY (POLICY_UUID, API_UUID, REVISION_UUID) " +
+                "VALUES (?, ?, ?)", policyUUID, apiUUID, revisionUUID);
+    }
+
+    private int addURLMapping(Connection connection, int apiId, String httpMethod, String urlPattern,
+                              String throttlingTier, String revisionUUID) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO AM_API_URL_MAPPING " +
+                "(API_ID, HTTP_METHOD, AUTH_SCHEME, URL_PATTERN, THROTTLING_TIER, REVISION_UUID) VALUES " +
+                "(?, ?, 'Any', ?, ?, ?)", new String[]{"URL_MAPPING_ID"})) {
+            preparedStatement.setInt(1, apiId);
+            preparedStatement.setString(2, httpMethod);
+            preparedStatement.setString(3, urlPattern);
+            preparedStatement.setString(4, throttlingTier);
+            preparedStatement.setString(5, revisionUUID);
+            preparedStatement.executeUpdate();
+            try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private void addScope(Connection connection, String scopeName, int urlMappingId) throws SQLException {
+
+        execute(connection, "INSERT INTO AM_API_RESOURCE_SCOPE_MAPPING (SCOPE_NAME, URL_MAPPING_ID, TENANT_ID) " +
+                "VALUES (?, ?, -1234)", scopeName, urlMappingId);
+    }
+
+    private void execute(Connection connection, String sql, Object... parameters) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            preparedStatement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.http.StatusLine;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceReferenceHolder.class, APIUtil.class})
+@PowerMockIgnore("javax.management.*")
+public class DBRetrieverTest {
+
+    private static final String LABEL = "Default";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String MANIFEST_PATH =
+            APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS_MANIFEST + "?";
+    private static final String ARTIFACTS_PATH =
+            APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS + "?";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Map<String, String> manifestHashes = new HashMap<>();
+    private final Map<String, String> deployedArtifacts = new HashMap<>();
+    private final List<String> requestedPaths = new ArrayList<>();
+    private boolean manifestAvailable = true;
+
+    @Before
+    public void setUp() throws Exception {
+
+        System.setProperty("carbon.home", temporaryFolder.getRoot().getAbsolutePath());
+        EventHubConfigurationDto eventHubConfigurationDto = new EventHubConfigurationDto();
+        eventHubConfigurationDto.setServiceUrl("https://localhost:9443");
+        eventHubConfigurationDto.setUsername("admin");
+        eventHubConfigurationDto.setPassword("admin".toCharArray());
+        GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties =
+                new GatewayArtifactSynchronizerProperties();
+        gatewayArtifactSynchronizerProperties.setLocalArtifactCacheEnabled(true);
+
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        ServiceReferenceHolder serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        APIManagerConfigurationService apiManagerConfigurationService =
+                Mockito.mock(APIManagerConfigurationService.class);
+        APIManagerConfiguration apiManagerConfiguration = Mockito.mock(APIManagerConfiguration.class);
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        Mockito.when(serviceReferenceHolder.getAPIManagerConfigurationService())
+                .thenReturn(apiManagerConfigurationService);
+        Mockito.when(apiManagerConfigurationService.getAPIManagerConfiguration()).thenReturn(apiManagerConfiguration);
+        Mockito.when(apiManagerConfiguration.getEventHubConfigurationDto()).thenReturn(eventHubConfigurationDto);
+        Mockito.when(apiManagerConfiguration.getGatewayArtifactSynchronizerProperties())
+                .thenReturn(gatewayArtifactSynchronizerProperties);
+
+        PowerMockito.mockStatic(APIUtil.class);
+        PowerMockito.when(APIUtil.getHttpClient(Mockito.anyInt(), Mockito.anyString()))
+                .thenReturn(Mockito.mock(HttpClient.class));
+        PowerMockito.when(APIUtil.executeHTTPRequestWithRetries(Mockito.any(HttpRequestBase.class),
+                Mockito.any(HttpClient.class))).thenAnswer(invocation -> {
+            HttpRequestBase request = invocation.getArgument(0);
+            String path = request.getURI().getRawPath() + "?" + request.getURI().getRawQuery();
+            requestedPaths.add(path.substring(APIConstants.INTERNAL_WEB_APP_EP.length()));
+            return respond(path);
+        });
+    }
+
+    @Test
+    public void testUnchangedApisAreServedFromLocalStore() throws Exception {
+
+        DBRetriever dbRetriever = new DBRetriever();
+        deploy("api1", "hash1", "revision1");
+        deploy("api2", "hash2", "revision1");
+        deploy("api3", "hash3", "revision1");
+        // nothing is stored yet, hence the whole label is retrieved at once
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1", "api2", "api3");
+        Assert.assertEquals(2, requestedPaths.size());
+        Assert.assertTrue(requestedPaths.get(1).startsWith(ARTIFACTS_PATH + "gatewayLabel="));
+
+        requestedPaths.clear();
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1", "api2", "api3");
+        Assert.assertEquals(1, requestedPaths.size());
+        Assert.assertTrue(requestedPaths.get(0).startsWith(MANIFEST_PATH));
+
+        // only the redeployed API is retrieved
+        requestedPaths.clear();
+        deploy("api2", "hash4", "revision2");
+        List<String> artifacts = dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN);
+        assertArtifacts(artifacts, "api1", "api2", "api3");
+        Assert.assertTrue(artifacts.contains(artifact("api2", "revision2")));
+        Assert.assertEquals(2, requestedPaths.size());
+        Assert.assertTrue(requestedPaths.get(1).startsWith(ARTIFACTS_PATH + "apiId=api2&"));
+
+        // an undeployed API is neither retrieved nor served from the local store
+        requestedPaths.clear();
+        manifestHashes.remove("api3");
+        deployedArtifacts.remove("api3");
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1", "api2");
+        Assert.assertEquals(1, requestedPaths.size());
+    }
+
+    @Test
+    public void testApisDeployedAfterManifestIsReadAreDeployed() throws Exception {
+
+        DBRetriever dbRetriever = new DBRetriever();
+        deploy("api1", "hash1", "revision1");
+        // api2 is deployed after the manifest is read, hence only its artifact is returned
+        deployedArtifacts.put("api2", artifact("api2", "revision1"));
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1", "api2");
+
+        // api2 is not stored without a fingerprint, hence it is retrieved once it is in the manifest
+        requestedPaths.clear();
+        manifestHashes.put("api2", "hash2");
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1", "api2");
+        Assert.assertEquals(2, requestedPaths.size());
+        Assert.assertTrue(requestedPaths.get(1).startsWith(ARTIFACTS_PATH + "apiId=api2&"));
+    }
+
+    @Test
+    public void testAllArtifactsAreRetrievedWithoutManifest() throws Exception {
+
+        DBRetriever dbRetriever = new DBRetriever();
+        deployedArtifacts.put("api1", artifact("api1", "revision1"));
+        manifestAvailable = false;
+        assertArtifacts(dbRetriever.retrieveAllArtifacts(LABEL, TENANT_DOMAIN), "api1");
+        Assert.assertEquals(2, requestedPaths.size());
+    }
+
+    private void deploy(String apiId, String hash, String revision) {
+
+        manifestHashes.put(apiId, hash);
+        deployedArtifacts.put(apiId, artifact(apiId, revision));
+    }
+
+    private static String artifact(String apiId, String revision) {
+
+        return new JSONObject().put(APIConstants.GatewayArtifactSynchronizer.API_ID, apiId)
+                .put("revision", revision).toString();
+    }
+
+    private static void assertArtifacts(List<String> artifacts, String... apiIds) {
+
+        List<String> retrievedApiIds = new ArrayList<>();
+        for (String artifact : artifacts) {
+            retrievedApiIds.add(new JSONObject(artifact).getString(APIConstants.GatewayArtifactSynchronizer.API_ID));
+        }
+        Collections.sort(retrievedApiIds);
+        Assert.assertEquals(Arrays.asList(apiIds), retrievedApiIds);
+    }
+
+    private CloseableHttpResponse respond(String path) {
+
+        int statusCode = 200;
+        JSONArray list = new JSONArray();
+        if (path.startsWith(APIConstants.INTERNAL_WEB_APP_EP + MANIFEST_PATH)) {
+            if (!manifestAvailable) {
+                statusCode = 404;
+            }
+            for (Map.Entry<String, String> manifestHash : manifestHashes.entrySet()) {
+                list.put(new JSONObject().put("apiId", manifestHash.getKey()).put("label", LABEL)
+                        .put("hash", manifestHash.getValue()));
+            }
+        } else if (path.contains("apiId=")) {
+            String apiId = path.substring(path.indexOf("apiId=") + 6, path.indexOf('&', path.indexOf("apiId=")));
+            list.put(deployedArtifacts.get(apiId));
+        } else {
+            for (String artifact : new HashSet<>(deployedArtifacts.values())) {
+                list.put(artifact);
+            }
+        }
+        CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(statusLine.getStatusCode()).thenReturn(statusCode);
+        Mockito.when(httpResponse.getStatusLine()).thenReturn(statusLine);
+        Mockito.when(httpResponse.getEntity()).thenReturn(new StringEntity(new JSONObject().put("list", list)
+                .toString(), ContentType.APPLICATION_JSON));
+        return httpResponse;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class LocalArtifactStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testStoredArtifactsAreReusedAcrossRestarts() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath().resolve("store");
+        List<String> artifacts = Arrays.asList("{\"apiId\":\"api1\",\"label\":\"Default\"}", "caf\u00e9", "");
+        new LocalArtifactStore(directory).put("api1", "fingerprint1", artifacts);
+
+        LocalArtifactStore reopenedStore = new LocalArtifactStore(directory);
+        Assert.assertEquals(artifacts, reopenedStore.get("api1", "fingerprint1"));
+        Assert.assertNull(reopenedStore.get("api1", "fingerprint2"));
+        Assert.assertNull(reopenedStore.get("api2", "fingerprint1"));
+    }
+
+    @Test
+    public void testOutdatedArtifactsAreReplaced() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        LocalArtifactStore localArtifactStore = new LocalArtifactStore(directory);
+        localArtifactStore.put("api1", "fingerprint1", Collections.singletonList("revision1"));
+        localArtifactStore.put("api1", "fingerprint2", Collections.singletonList("revision2"));
+
+        Assert.assertNull(localArtifactStore.get("api1", "fingerprint1"));
+        Assert.assertEquals(Collections.singletonList("revision2"), localArtifactStore.get("api1", "fingerprint2"));
+        Assert.assertEquals(1, Files.list(directory).count());
+    }
+
+    @Test
+    public void testRetainAll() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        LocalArtifactStore localArtifactStore = new LocalArtifactStore(directory);
+        localArtifactStore.put("api1", "fingerprint1", Collections.singletonList("artifact1"));
+        localArtifactStore.put("api2", "fingerprint2", Collections.singletonList("artifact2"));
+        localArtifactStore.retainAll(Collections.singleton("api2"));
+
+        Assert.assertEquals(Collections.singleton("api2"), localArtifactStore.getApiIds());
+        Assert.assertEquals(Collections.singleton("api2"), new LocalArtifactStore(directory).getApiIds());
+    }
+
+    @Test
+    public void testCorruptedArtifactsAreDiscarded() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        LocalArtifactStore localArtifactStore = new LocalArtifactStore(directory);
+        localArtifactStore.put("api1", "fingerprint1", Collections.singletonList("artifact1"));
+        Files.write(directory.resolve("api1_fingerprint1.artifacts"), new byte[]{0, 0, 0, 1, 0, 0, 0, 9});
+
+        Assert.assertNull(localArtifactStore.get("api1", "fingerprint1"));
+        Assert.assertTrue(localArtifactStore.getApiIds().isEmpty());
+    }
+
+    @Test
+    public void testInvalidFileNamesAreRejected() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath().resolve("store");
+        LocalArtifactStore localArtifactStore = new LocalArtifactStore(directory);
+        localArtifactStore.put("../api1", "fingerprint1", Collections.singletonList("artifact1"));
+        localArtifactStore.put("api1", "../../fingerprint1", Collections.singletonList("artifact1"));
+        localArtifactStore.put("api1/..", "fingerprint1", Collections.singletonList("artifact1"));
+        localArtifactStore.put("..", "fingerprint1", Collections.singletonList("artifact1"));
+
+        Assert.assertTrue(localArtifactStore.getApiIds().isEmpty());
+        Assert.assertNull(localArtifactStore.get("../api1", "fingerprint1"));
+        Assert.assertEquals(0, Files.list(directory).count());
+        Assert.assertEquals(1, Files.list(temporaryFolder.getRoot().toPath()).count());
+    }
+
+    @Test
+    public void testReadArtifactsCanBeReplacedAndRemoved() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        LocalArtifactStore localArtifactStore = new LocalArtifactStore(directory);
+        localArtifactStore.put("api1", "fingerprint1", Collections.singletonList("revision1"));
+        Assert.assertEquals(Collections.singletonList("revision1"), localArtifactStore.get("api1", "fingerprint1"));
+
+        localArtifactStore.put("api1", "fingerprint1", Collections.singletonList("revision2"));
+        Assert.assertEquals(Collections.singletonList("revision2"), localArtifactStore.get("api1", "fingerprint1"));
+        localArtifactStore.remove("api1");
+        Assert.assertEquals(0, Files.list(directory).count());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedConcurrentCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+
+        List<String> evicted = new ArrayList<>();
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2, 0, TimeUnit.MILLISECONDS,
+                false, (key, value) -> evicted.add(key));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        Assert.assertEquals("1", cache.get("a"));
+        cache.put("c", "3");
+
+        Assert.assertEquals(Collections.singletonList("b"), evicted);
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals("1", cache.get("a"));
+        Assert.assertEquals("3", cache.get("c"));
+        Assert.assertEquals(2, cache.size());
+
+        BoundedConcurrentCache.Statistics statistics = cache.getStatistics();
+        Assert.assertEquals(3, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(1, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+
+        BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(500);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, i);
+        }
+        Assert.assertTrue(cache.size() <= 500 + 16);
+        Assert.assertTrue(cache.size() >= 500);
+    }
+
+    @Test
+    public void testEntriesAreNotEvictedBeforeCacheIsFull() {
+
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(500);
+        for (int i = 0; i < 500; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        // keys do not spread evenly over the segments, which must not evict entries while the cache has room
+        Assert.assertEquals(500, cache.size());
+        Assert.assertEquals(0, cache.getStatistics().getEvictionCount());
+        cache.put("key500", "value500");
+        Assert.assertEquals(500, cache.size());
+        Assert.assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testOneOffKeysDoNotReplaceFrequentlyUsedKeys() {
+
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(4, 0, TimeUnit.MILLISECONDS,
+                true, null);
+        for (int i = 0; i < 4; i++) {
+            cache.put("hot" + i, "value");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 4; i++) {
+                Assert.assertNotNull(cache.get("hot" + i));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            cache.put("cold" + i, "value");
+        }
+        for (int i = 0; i < 4; i++) {
+            Assert.assertNotNull(cache.get("hot" + i));
+        }
+        Assert.assertTrue(cache.getStatistics().getRejectionCount() > 0);
+    }
+
+    @Test
+    public void testNewKeyIsAdmittedOverEquallyUsedEntry() {
+
+        List<String> evicted = new ArrayList<>();
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2, 0, TimeUnit.MILLISECONDS,
+                true, (key, value) -> evicted.add(key));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        Assert.assertEquals(Collections.singletonList("a"), evicted);
+        Assert.assertEquals("3", cache.get("c"));
+        Assert.assertEquals(0, cache.getStatistics().getRejectionCount());
+    }
+
+    @Test
+    public void testExpiredEntriesAreNotReturned() throws Exception {
+
+        List<String> evicted = new ArrayList<>();
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10, 50, TimeUnit.MILLISECONDS,
+                false, (key, value) -> evicted.add(key));
+        cache.put("a", "1");
+        Assert.assertEquals("1", cache.get("a"));
+        Thread.sleep(100);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(Collections.singletonList("a"), evicted);
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testRemoveAllReturnsCachedValues() {
+
+        List<String> evicted = new ArrayList<>();
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10, 0, TimeUnit.MILLISECONDS,
+                false, (key, value) -> evicted.add(key));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        Assert.assertEquals("1", cache.remove("a"));
+        Assert.assertEquals(Collections.singletonList("2"), new ArrayList<>(cache.removeAll()));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+
+        BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(256);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20000; i++) {
+                        int key = (i * 31 + seed) % 512;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            Assert.assertEquals(key, value.intValue());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertTrue(cache.size() <= 256 + 16);
+        BoundedConcurrentCache.Statistics statistics = cache.getStatistics();
+        Assert.assertEquals(threads * 20000, statistics.getHitCount() + statistics.getMissCount());
+    }
+}
@@ -0,0 +1,50 @@
+package org.wso2.carbon.apimgt.internal.service;
+
+import org.wso2.carbon.apimgt.internal.service.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.RuntimeArtifactManifestListDTO;
+import org.wso2.carbon.apimgt.internal.service.RuntimeArtifactsManifestApiService;
+import org.wso2.carbon.apimgt.internal.service.impl.RuntimeArtifactsManifestApiServiceImpl;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.inject.Inject;
+
+import io.swagger.annotations.*;
+import java.io.InputStream;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
+import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+
+import java.util.Map;
+import java.util.List;
+import javax.validation.constraints.*;
+@Path("/runtime-artifacts-manifest")
+
+@Api(description = "the runtime-artifacts-manifest API")
+
+
+
+
+public class RuntimeArtifactsManifestApi  {
+
+  @Context MessageContext securityContext;
+
+RuntimeArtifactsManifestApiService delegate = new RuntimeArtifactsManifestApiServiceImpl();
+
+
+    @GET
+    
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the manifest of the runtime artifacts deployed in the given gateway labels", notes = "This will provide the API UUID, revision and hash of the runtime artifacts deployed in the given gateway labels, without the artifacts. ", response = RuntimeArtifactManifestListDTO.class, tags={ "Retrieving Runtime artifacts" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Manifest of the runtime artifacts", response = RuntimeArtifactManifestListDTO.class),
+        @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
+    public Response runtimeArtifactsManifestGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.   Api ID ")  @QueryParam("apiId") String apiId,  @ApiParam(value = "**Search condition**.  label associated with the APIs ")  @QueryParam("gatewayLabel") String gatewayLabel) throws APIManagementException{
+        return delegate.runtimeArtifactsManifestGet(xWSO2Tenant, apiId, gatewayLabel, securityContext);
+    }
+}
@@ -0,0 +1,142 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import javax.validation.Valid;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+
+public class RuntimeArtifactManifestDTO   {
+  
+    private String apiId = null;
+    private String revision = null;
+    private String label = null;
+    private String hash = null;
+
+  /**
+   **/
+  public RuntimeArtifactManifestDTO apiId(String apiId) {
+    this.apiId = apiId;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("apiId")
+  public String getApiId() {
+    return apiId;
+  }
+  public void setApiId(String apiId) {
+    this.apiId = apiId;
+  }
+
+  /**
+   **/
+  public RuntimeArtifactManifestDTO revision(String revision) {
+    this.revision = revision;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("revision")
+  public String getRevision() {
+    return revision;
+  }
+  public void setRevision(String revision) {
+    this.revision = revision;
+  }
+
+  /**
+   **/
+  public RuntimeArtifactManifestDTO label(String label) {
+    this.label = label;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("label")
+  public String getLabel() {
+    return label;
+  }
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  /**
+   **/
+  public RuntimeArtifactManifestDTO hash(String hash) {
+    this.hash = hash;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("hash")
+  public String getHash() {
+    return hash;
+  }
+  public void setHash(String hash) {
+    this.hash = hash;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    RuntimeArtifactManifestDTO runtimeArtifactManifest = (RuntimeArtifactManifestDTO) o;
+    return Objects.equals(apiId, runtimeArtifactManifest.apiId) &&
+        Objects.equals(revision, runtimeArtifactManifest.revision) &&
+        Objects.equals(label, runtimeArtifactManifest.label) &&
+        Objects.equals(hash, runtimeArtifactManifest.hash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(apiId, revision, label, hash);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class RuntimeArtifactManifestDTO {\n");
+    
+    sb.append("    apiId: ").append(toIndentedString(apiId)).append("\n");
+    sb.append("    revision: ").append(toIndentedString(revision)).append("\n");
+    sb.append("    label: ").append(toIndentedString(label)).append("\n");
+    sb.append("    hash: ").append(toIndentedString(hash)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.ExceptionCodes;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactManifestDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
+import org.wso2.carbon.apimgt.internal.service.RuntimeArtifactsManifestApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.RuntimeArtifactManifestDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.RuntimeArtifactManifestListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
+import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
+import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.Response;
+
+/**
+ * Runtime Artifact manifest service implementation.
+ */
+public class RuntimeArtifactsManifestApiServiceImpl implements RuntimeArtifactsManifestApiService {
+
+    public Response runtimeArtifactsManifestGet(String xWSO2Tenant, String apiId, String gatewayLabel,
+                                                MessageContext messageContext) throws APIManagementException {
+
+        xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
+        String organization = RestApiUtil.getOrganization(messageContext);
+        if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
+            // The manifest is tenant scoped, gateways loading the APIs of all the organizations retrieve the
+            // runtime artifacts directly.
+            return Response
+                    .status(Response.Status.NOT_FOUND)
+                    .entity(RestApiUtil.getErrorDTO(ExceptionCodes.NO_API_ARTIFACT_FOUND))
+                    .build();
+        }
+        if (StringUtils.isNotEmpty(organization)) {
+            xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
+        }
+        List<RuntimeArtifactManifestDto> manifest =
+                RuntimeArtifactGeneratorUtil.generateRuntimeArtifactManifest(apiId, gatewayLabel, xWSO2Tenant);
+        List<RuntimeArtifactManifestDTO> manifestEntries = new ArrayList<>(manifest.size());
+        for (RuntimeArtifactManifestDto manifestEntry : manifest) {
+            manifestEntries.add(new RuntimeArtifactManifestDTO().apiId(manifestEntry.getApiId())
+                    .revision(manifestEntry.getRevision()).label(manifestEntry.getLabel())
+                    .hash(manifestEntry.getHash()));
+        }
+        RuntimeArtifactManifestListDTO manifestListDTO = new RuntimeArtifactManifestListDTO();
+        manifestListDTO.setList(manifestEntries);
+        manifestListDTO.setCount(manifestEntries.size());
+        return Response.ok().entity(manifestListDTO)
+                .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+    }
+}
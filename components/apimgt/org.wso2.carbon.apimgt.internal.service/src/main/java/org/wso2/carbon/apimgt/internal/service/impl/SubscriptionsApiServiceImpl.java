@@ -37,7 +37,8 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
     @Override
     public Response subscriptionsGet(String xWSO2Tenant, Integer apiId, Integer appId, String apiUUID,
-                                     String applicationUUID, MessageContext messageContext) throws
+                                     String applicationUUID, Integer after, Integer limit,
+                                     MessageContext messageContext) throws
             APIManagementException {
 
         Response result;
@@ -60,6 +61,11 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
+        } else if (StringUtils.isNotEmpty(organization) &&
+                !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) && limit != null && limit > 0) {
+            result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
+                    subscriptionValidationDAO.getSubscriptionsByOrganization(organization,
+                            after != null ? after : 0, limit))).build();
         } else if (StringUtils.isNotEmpty(organization) &&
                 !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
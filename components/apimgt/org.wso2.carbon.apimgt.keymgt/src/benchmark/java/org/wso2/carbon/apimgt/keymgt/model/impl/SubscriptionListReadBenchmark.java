@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import com.google.gson.Gson;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading an internal API subscriptions response of 1,000 and 100,000 subscriptions, by reading the whole
+ * response into a string and binding it to a {@link SubscriptionList} as the loader did before, and by reading the
+ * subscriptions from the response stream with {@link SubscriptionDataLoaderImpl#readList}. Run with the JMH gc
+ * profiler (-prof gc) to compare the bytes allocated per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscriptionListReadBenchmark {
+
+    private static final Gson gson = new Gson();
+
+    @Param({"1000", "100000"})
+    private int subscriptions;
+
+    private byte[] response;
+
+    @Setup
+    public void setup() {
+
+        StringBuilder builder = new StringBuilder("{\"count\": ").append(subscriptions).append(", \"list\": [");
+        for (int i = 1; i <= subscriptions; i++) {
+            if (i > 1) {
+                builder.append(", ");
+            }
+            builder.append("{\"subscriptionUUID\": \"").append(i).append("-uuid\", \"subscriptionId\": ").append(i)
+                    .append(", \"policyId\": \"Unlimited\", \"apiUUID\": \"api-").append(i % 500)
+                    .append("\", \"apiId\": ").append(i % 500).append(", \"applicationUUID\": \"app-").append(i)
+                    .append("\", \"appId\": ").append(i).append(", \"subscriptionState\": \"UNBLOCKED\", ")
+                    .append("\"apiName\": \"PizzaShack\", \"apiVersion\": \"1.0.0\", ")
+                    .append("\"apiOrganization\": \"carbon.super\", \"applicationOrganization\": \"carbon.super\"}");
+        }
+        response = builder.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Subscription> stringResponse() throws IOException {
+
+        String responseString = EntityUtils.toString(new ByteArrayEntity(response), SubscriptionDataLoaderImpl.UTF8);
+        return gson.fromJson(responseString, SubscriptionList.class).getList();
+    }
+
+    @Benchmark
+    public List<Subscription> streamedResponse() throws IOException {
+
+        return SubscriptionDataLoaderImpl.readList(new ByteArrayInputStream(response), Subscription.class);
+    }
+}
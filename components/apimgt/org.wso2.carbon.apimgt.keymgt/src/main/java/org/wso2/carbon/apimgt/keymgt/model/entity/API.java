@@ -23,10 +23,14 @@ import org.wso2.carbon.apimgt.api.model.VHost;
 import org.wso2.carbon.apimgt.api.model.subscription.CacheableEntity;
 import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
 
+import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * Entity for keeping API related information.
@@ -112,21 +116,21 @@ public class API implements CacheableEntity<String> {
         this.isDefaultVersion = isDefaultVersion;
         this.deployed = isDeployed;
     }
-    private List<URLMapping> urlMappings = new ArrayList<>();
-
+    private List<URLMapping> urlMappings = new URLMappingList();
+    private transient volatile URLMappingIndex urlMappingIndex;
 
     public void addResource(URLMapping resource) {
 
-        urlMappings.add(resource);
+        trackedUrlMappings().add(resource);
     }
 
     public List<URLMapping> getResources() {
 
-        return urlMappings;
+        return trackedUrlMappings();
     }
 
     public void removeResource(URLMapping resource) {
-        urlMappings.remove(resource);
+        trackedUrlMappings().remove(resource);
     }
 
     public String getContext() {
@@ -309,11 +313,49 @@ public class API implements CacheableEntity<String> {
     }
 
     public List<URLMapping> getUrlMappings() {
-        return urlMappings;
+        return trackedUrlMappings();
     }
 
     public void setUrlMappings(List<URLMapping> urlMappings) {
-        this.urlMappings = urlMappings;
+        this.urlMappings = urlMappings != null ? new URLMappingList(urlMappings) : null;
+        this.urlMappingIndex = null;
+    }
+
+    /**
+     * Returns the first URL mapping of this API with the given URL pattern, e.g. the operation of an MCP tool. The
+     * lookup is served from an index that is rebuilt after any change to the URL mapping list of the API, including
+     * changes made through the list returned by {@link #getUrlMappings()}.
+     *
+     * @param urlPattern URL pattern to look up
+     * @return matching URL mapping, or null if there is none
+     */
+    public URLMapping getUrlMappingByPattern(String urlPattern) {
+
+        List<URLMapping> mappings = trackedUrlMappings();
+        if (urlPattern == null || mappings == null) {
+            return null;
+        }
+        int modifications = ((URLMappingList) mappings).getModifications();
+        URLMappingIndex index = urlMappingIndex;
+        if (index == null || index.mappings != mappings || index.modifications != modifications) {
+            index = new URLMappingIndex(mappings, modifications);
+            urlMappingIndex = index;
+        }
+        return index.mappingsByPattern.get(urlPattern);
+    }
+
+    /**
+     * Returns the URL mappings as a list that counts its modifications. A list assigned to the field directly, e.g. by
+     * Gson when the API is loaded from the internal data service, is swapped for a tracked copy on first access.
+     */
+    private List<URLMapping> trackedUrlMappings() {
+
+        List<URLMapping> mappings = urlMappings;
+        if (mappings != null && !(mappings instanceof URLMappingList)) {
+            mappings = new URLMappingList(mappings);
+            urlMappings = mappings;
+        }
+        return mappings;
     }
 
     public boolean isDeployed() {
@@ -397,4 +439,91 @@ public class API implements CacheableEntity<String> {
     public void setLastUpdatedEventId(String lastUpdatedEventId) {
         this.lastUpdatedEventId = lastUpdatedEventId;
     }
+
+    /**
+     * Immutable index of URL mappings by URL pattern, tied to the list it was built from and the number of
+     * modifications that list had seen at the time.
+     */
+    private static final class URLMappingIndex {
+
+        private final List<URLMapping> mappings;
+        private final int modifications;
+        private final Map<String, URLMapping> mappingsByPattern;
+
+        private URLMappingIndex(List<URLMapping> mappings, int modifications) {
+
+            this.mappings = mappings;
+            this.modifications = modifications;
+            this.mappingsByPattern = new HashMap<>(Math.max(16, mappings.size() * 2));
+            for (URLMapping mapping : mappings) {
+                if (mapping != null && mapping.getUrlPattern() != null) {
+                    mappingsByPattern.putIfAbsent(mapping.getUrlPattern(), mapping);
+                }
+            }
+        }
+    }
+
+    /**
+     * URL mapping list that counts every add, remove and replace, including the ones made through its iterators and
+     * sub lists, so that the URL mapping index can tell when it is stale.
+     */
+    private static final class URLMappingList extends AbstractList<URLMapping> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ArrayList<URLMapping> mappings;
+        private volatile int modifications;
+
+        private URLMappingList() {
+
+            this.mappings = new ArrayList<>();
+        }
+
+        private URLMappingList(Collection<URLMapping> mappings) {
+
+            this.mappings = new ArrayList<>(mappings);
+        }
+
+        private int getModifications() {
+
+            return modifications;
+        }
+
+        @Override
+        public URLMapping get(int index) {
+
+            return mappings.get(index);
+        }
+
+        @Override
+        public int size() {
+
+            return mappings.size();
+        }
+
+        @Override
+        public URLMapping set(int index, URLMapping mapping) {
+
+            URLMapping previous = mappings.set(index, mapping);
+            modifications++;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, URLMapping mapping) {
+
+            mappings.add(index, mapping);
+            modCount++;
+            modifications++;
+        }
+
+        @Override
+        public URLMapping remove(int index) {
+
+            URLMapping removed = mappings.remove(index);
+            modCount++;
+            modifications++;
+            return removed;
+        }
+    }
 }
@@ -19,9 +19,14 @@ package org.wso2.carbon.apimgt.keymgt.model.impl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -46,14 +51,16 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
-import org.wso2.carbon.apimgt.keymgt.model.entity.ScopesList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -68,6 +75,9 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     private EventHubConfigurationDto getEventHubConfigurationDto;
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     public static final String UTF8 = "UTF-8";
+    private static final String LIST_FIELD = "list";
+    private static final Gson gson = new Gson();
+    static final int SUBSCRIPTIONS_PAGE_SIZE = 10000;
 
     public SubscriptionDataLoaderImpl() {
 
@@ -83,57 +93,70 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     public List<Subscription> loadAllSubscriptions(String tenantDomain) throws DataLoadingException {
 
         String subscriptionsEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS;
-        List<Subscription> subscriptions = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(subscriptionsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + subscriptionsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
+        return loadPages(afterSubscriptionId -> loadList(subscriptionsEP + "?after=" + afterSubscriptionId + "&limit="
+                + SUBSCRIPTIONS_PAGE_SIZE, tenantDomain, Subscription.class), SUBSCRIPTIONS_PAGE_SIZE);
+    }
+
+    /**
+     * Loads the subscriptions page by page, ordered by the subscription ID. A control plane which does not support
+     * paging returns all the subscriptions for every page request. Such a response is detected either by a page
+     * larger than the page size, or by a page with subscriptions which do not follow the previous page, and the
+     * subscriptions loaded so far are then returned as the full list.
+     *
+     * @param pageLoader Loader of the page of subscriptions after a subscription ID.
+     * @param pageSize   Page size.
+     * @return List of subscriptions.
+     * @throws DataLoadingException If a page cannot be retrieved.
+     */
+    static List<Subscription> loadPages(PageLoader<Subscription> pageLoader, int pageSize)
+            throws DataLoadingException {
+
+        List<Subscription> subscriptions = pageLoader.load(0);
+        if (subscriptions.size() != pageSize) {
+            return subscriptions;
         }
-        if (responseString != null && !responseString.isEmpty()) {
-            subscriptions = (new Gson().fromJson(responseString, SubscriptionList.class)).getList();
+        int afterSubscriptionId = getMaxSubscriptionId(subscriptions);
+        while (true) {
+            List<Subscription> page = pageLoader.load(afterSubscriptionId);
+            for (Subscription subscription : page) {
+                if (getSubscriptionId(subscription) <= afterSubscriptionId) {
+                    return subscriptions;
+                }
+            }
+            subscriptions.addAll(page);
+            if (page.size() != pageSize) {
+                return subscriptions;
+            }
+            afterSubscriptionId = getMaxSubscriptionId(page);
+        }
+    }
+
+    private static int getMaxSubscriptionId(List<Subscription> subscriptions) {
+
+        int maxSubscriptionId = 0;
+        for (Subscription subscription : subscriptions) {
+            maxSubscriptionId = Math.max(maxSubscriptionId, getSubscriptionId(subscription));
         }
-        return subscriptions;
+        return maxSubscriptionId;
+    }
+
+    private static int getSubscriptionId(Subscription subscription) {
+
+        return NumberUtils.toInt(subscription.getSubscriptionId(), 0);
     }
 
     @Override
     public List<Application> loadAllApplications(String tenantDomain) throws DataLoadingException {
 
         String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATIONS;
-        List<Application> applications = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applications = (new Gson().fromJson(responseString, ApplicationList.class)).getList();
-        }
-        return applications;
+        return loadList(applicationsEP, tenantDomain, Application.class);
     }
 
     @Override
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException {
 
         String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS;
-        List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applicationKeyMappings = (new Gson().fromJson(responseString, ApplicationKeyMappingList.class)).getList();
-        }
-        return applicationKeyMappings;
+        return loadList(applicationsEP, tenantDomain, ApplicationKeyMapping.class);
     }
 
     @Override
@@ -145,19 +168,8 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             for (String gatewayLabel : gatewayLabels) {
                 String apisEP =
                         APIConstants.SubscriptionValidationResources.APIS + "?gatewayLabel=" + getEncodedLabel(gatewayLabel);
-                String responseString = null;
-                try {
-                    responseString = invokeService(apisEP, tenantDomain);
-                } catch (IOException e) {
-                    String msg = "Error while executing the http client " + apisEP;
-                    log.error(msg, e);
-                    throw new DataLoadingException(msg, e);
-                }
-                if (responseString != null && !responseString.isEmpty()) {
-                    APIList apiList = new Gson().fromJson(responseString, APIList.class);
-                    apis.addAll(apiList.getList());
-                }
-                if (log.isDebugEnabled()) {
+                apis.addAll(loadList(apisEP, tenantDomain, API.class));
+                if (log.isDebugEnabled() && !apis.isEmpty()) {
                     log.debug("apis :" + apis.get(0).toString());
                 }
             }
@@ -175,19 +187,8 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             for (String gatewayLabel : gatewayLabels) {
                 String apisEP =
                         APIConstants.SubscriptionValidationResources.APIS + "?gatewayLabel=" + getEncodedLabel(gatewayLabel);
-                String responseString;
-                try {
-                    responseString = invokeService(apisEP, APIConstants.ORG_ALL_QUERY_PARAM);
-                } catch (IOException e) {
-                    String msg = "Error while executing the http client " + apisEP;
-                    log.error(msg, e);
-                    throw new DataLoadingException(msg, e);
-                }
-                if (responseString != null && !responseString.isEmpty()) {
-                    APIList apiList = new Gson().fromJson(responseString, APIList.class);
-                    apis.addAll(apiList.getList());
-                }
-                if (log.isDebugEnabled()) {
+                apis.addAll(loadList(apisEP, APIConstants.ORG_ALL_QUERY_PARAM, API.class));
+                if (log.isDebugEnabled() && !apis.isEmpty()) {
                     log.debug("apis :" + apis.get(0).toString());
                 }
             }
@@ -200,57 +201,21 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     public List<SubscriptionPolicy> loadAllSubscriptionPolicies(String tenantDomain) throws DataLoadingException {
 
         String subscriptionPoliciesEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTION_POLICIES;
-        List<SubscriptionPolicy> subscriptionPolicies = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(subscriptionPoliciesEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + subscriptionPoliciesEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            subscriptionPolicies = (new Gson().fromJson(responseString, SubscriptionPolicyList.class)).getList();
-        }
-        return subscriptionPolicies;
+        return loadList(subscriptionPoliciesEP, tenantDomain, SubscriptionPolicy.class);
     }
 
     @Override
     public List<ApiPolicy> loadAllAPIPolicies(String tenantDomain) throws DataLoadingException {
 
         String apiPoliciesEP = APIConstants.SubscriptionValidationResources.API_POLICIES;
-        List<ApiPolicy> apiPolicies = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(apiPoliciesEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + apiPoliciesEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            apiPolicies = (new Gson().fromJson(responseString, APIPolicyList.class)).getList();
-        }
-        return apiPolicies;
+        return loadList(apiPoliciesEP, tenantDomain, ApiPolicy.class);
     }
 
     @Override
     public List<ApplicationPolicy> loadAllAppPolicies(String tenantDomain) throws DataLoadingException {
 
         String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATION_POLICIES;
-        List<ApplicationPolicy> applicationPolicies = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applicationPolicies = (new Gson().fromJson(responseString, ApplicationPolicyList.class)).getList();
-        }
-        return applicationPolicies;
+        return loadList(applicationsEP, tenantDomain, ApplicationPolicy.class);
     }
 
     @Override
@@ -268,7 +233,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            SubscriptionList list = new Gson().fromJson(responseString, SubscriptionList.class);
+            SubscriptionList list = gson.fromJson(responseString, SubscriptionList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 subscription = list.getList().get(0);
             }
@@ -290,7 +255,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationList applicationList = new Gson().fromJson(responseString, ApplicationList.class);
+            ApplicationList applicationList = gson.fromJson(responseString, ApplicationList.class);
             if (applicationList != null && applicationList.getList() != null && !applicationList.getList().isEmpty()) {
                 for (Application app : applicationList.getList()) {
                     if (app.getId() == appId) {
@@ -322,7 +287,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationKeyMappingList list = new Gson().fromJson(responseString, ApplicationKeyMappingList.class);
+            ApplicationKeyMappingList list = gson.fromJson(responseString, ApplicationKeyMappingList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 application = list.getList().get(0);
             }
@@ -348,7 +313,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
                     throw new DataLoadingException(msg, e);
                 }
                 if (responseString != null && !responseString.isEmpty()) {
-                    APIList list = new Gson().fromJson(responseString, APIList.class);
+                    APIList list = gson.fromJson(responseString, APIList.class);
                     if (list.getList() != null && !list.getList().isEmpty()) {
                         api = list.getList().get(0);
                     }
@@ -379,7 +344,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            SubscriptionPolicyList list = new Gson().fromJson(responseString, SubscriptionPolicyList.class);
+            SubscriptionPolicyList list = gson.fromJson(responseString, SubscriptionPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 subscriptionPolicy = list.getList().get(0);
             }
@@ -405,7 +370,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationPolicyList list = new Gson().fromJson(responseString, ApplicationPolicyList.class);
+            ApplicationPolicyList list = gson.fromJson(responseString, ApplicationPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 applicationPolicy = list.getList().get(0);
             }
@@ -431,7 +396,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            APIPolicyList list = new Gson().fromJson(responseString, APIPolicyList.class);
+            APIPolicyList list = gson.fromJson(responseString, APIPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 apiPolicy = list.getList().get(0);
             }
@@ -441,28 +406,15 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
     @Override
     public List<Scope> loadAllScopes(String tenantDomain) throws DataLoadingException {
-        String scopesEp = APIConstants.SubscriptionValidationResources.SCOPES;
-        List<Scope> scopes = new ArrayList<>();
-        String responseString;
-        try {
-            responseString = invokeService(scopesEp, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the HTTP client " + scopesEp;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            scopes = new Gson().fromJson(responseString, ScopesList.class).getList();
-        }
-        return scopes;
 
+        String scopesEp = APIConstants.SubscriptionValidationResources.SCOPES;
+        return loadList(scopesEp, tenantDomain, Scope.class);
     }
 
     @Override
     public void subscribeToAPIInternally(API api, Application app, String tenantDomain) {
         String path  = String.format("%s?appId=%s&appUuid=%s",
                 APIConstants.SubscriptionValidationResources.SUBSCRIBE_INTERNAL, app.getId(), app.getUUID());
-        Gson gson = new Gson();
         String apiJson = gson.toJson(api);
         JsonObject apiJsonObject = gson.fromJson(apiJson, JsonObject.class);
         // Remove the deployed property from the API object before sending to the internal API
@@ -483,6 +435,122 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
         }
     }
 
+    /**
+     * Loads all the entities of a type from the internal API. The entities are read one by one from the response
+     * stream, without reading the whole response into memory first.
+     *
+     * @param path         Path of the internal API resource.
+     * @param tenantDomain Tenant domain of the entities.
+     * @param entityType   Type of the entities.
+     * @return List of entities.
+     * @throws DataLoadingException If the entities cannot be retrieved.
+     */
+    private <T> List<T> loadList(String path, String tenantDomain, Class<T> entityType) throws DataLoadingException {
+
+        List<T> entities;
+        try {
+            entities = invokeService(path, tenantDomain, inputStream -> readList(inputStream, entityType));
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            String msg = "Error while executing the http client " + path;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + entities.size() + " " + entityType.getSimpleName() + " entries from " + path);
+        }
+        return entities;
+    }
+
+    /**
+     * Reads the entities in the list of an internal API list response, such as {"count": 2, "list": [{...}, {...}]}.
+     *
+     * @param inputStream Response stream.
+     * @param entityType  Type of the entities.
+     * @return List of entities, which is empty if the response is empty.
+     * @throws IOException If the response cannot be read.
+     */
+    static <T> List<T> readList(InputStream inputStream, Class<T> entityType) throws IOException {
+
+        List<T> entities = new ArrayList<>();
+        if (inputStream == null) {
+            return entities;
+        }
+        JsonReader reader = new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        JsonToken token;
+        try {
+            token = reader.peek();
+        } catch (EOFException e) {
+            return entities;
+        }
+        if (token == JsonToken.NULL) {
+            return entities;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (LIST_FIELD.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    entities.add(gson.fromJson(reader, entityType));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return entities;
+    }
+
+    private <T> T invokeService(String path, String tenantDomain, ResponseReader<T> responseReader)
+            throws DataLoadingException, IOException {
+
+        HttpGet method = createGetRequest(path, tenantDomain);
+        String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
+        URL serviceURL = new URL(serviceURLStr + path);
+        HttpClient httpClient = APIUtil.getHttpClient(serviceURL.getPort(), serviceURL.getProtocol());
+        try (CloseableHttpResponse httpResponse = APIUtil.executeHTTPRequestWithRetries(method, httpClient)) {
+            HttpEntity entity = httpResponse.getEntity();
+            try (InputStream inputStream = entity != null ? entity.getContent() : null) {
+                return responseReader.read(inputStream);
+            }
+        } catch (APIManagementException e) {
+            throw new DataLoadingException("Error while retrieving subscriptions", e);
+        }
+    }
+
+    private HttpGet createGetRequest(String path, String tenantDomain) {
+
+        String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
+        HttpGet method = new HttpGet(serviceURLStr + path);
+        byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
+        method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                APIConstants.AUTHORIZATION_BASIC + new String(credentials, StandardCharsets.UTF_8));
+        if (tenantDomain != null) {
+            method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
+        }
+        return method;
+    }
+
+    /**
+     * Loads a page of entities from the internal API.
+     *
+     * @param <T> Type of the entities.
+     */
+    interface PageLoader<T> {
+
+        List<T> load(int after) throws DataLoadingException;
+    }
+
+    /**
+     * Reads an internal API response from the response stream.
+     *
+     * @param <T> Type of the response.
+     */
+    private interface ResponseReader<T> {
+
+        T read(InputStream inputStream) throws IOException;
+    }
+
     private String invokeService(String path, String tenantDomain) throws DataLoadingException, IOException {
 
         String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Loads subscription data entities missing in the in-memory data store from the internal API. Concurrent loads of
+ * the same entity share a single remote call, and entities which are not found are remembered for a configured
+ * period so that repeated lookups of unknown keys do not reach the internal API. The entries of an entity are
+ * invalidated when the entity is added through an event.
+ *
+ * @param <K> Type of the entity key.
+ * @param <V> Type of the entity.
+ */
+final class SubscriptionDataRemoteLoader<K, V> {
+
+    private static final Log log = LogFactory.getLog(SubscriptionDataRemoteLoader.class);
+    private static final int MAX_ABSENT_ENTRIES = 10000;
+
+    private final String entityType;
+    private final long absentEntryExpiryMillis;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Long> absentEntries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Remote call of a load, which returns null if the entity is not found.
+     *
+     * @param <V> Type of the entity.
+     */
+    interface Loader<V> {
+
+        V load() throws DataLoadingException;
+    }
+
+    /**
+     * @param entityType              Entity type, used in the log messages and in the name of the remote load timer.
+     * @param absentEntryExpiryMillis Period for which entities which are not found are remembered. Entities which
+     *                                are not found are not remembered if this is not positive.
+     */
+    SubscriptionDataRemoteLoader(String entityType, long absentEntryExpiryMillis) {
+
+        this.entityType = entityType;
+        this.absentEntryExpiryMillis = absentEntryExpiryMillis;
+    }
+
+    /**
+     * Loads an entity, joining the load of the same entity in progress if there is one.
+     *
+     * @param key    Entity key.
+     * @param loader Remote call to load the entity.
+     * @param found  Whether a loaded entity is a valid one. An entity which is not valid is considered as not found.
+     * @return The loaded entity, or null if the entity is not found.
+     * @throws DataLoadingException If loading the entity fails.
+     */
+    V load(K key, Loader<V> loader, Predicate<V> found) throws DataLoadingException {
+
+        if (isAbsent(key)) {
+            if (log.isDebugEnabled()) {
+                log.debug(entityType + " " + key + " was recently not found. Skipping the remote load.");
+            }
+            return null;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+        if (inFlightLoad != null) {
+            return await(inFlightLoad);
+        }
+        long invalidationsBeforeLoad = invalidations.get();
+        Timer.Context timerContext = MetricManager.timer(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                SubscriptionDataRemoteLoader.class.getSimpleName(), entityType, "REMOTE_LOAD")).start();
+        try {
+            V entity = loader.load();
+            if (entity == null || !found.test(entity)) {
+                // An entity added through an event during the load must not be recorded as absent.
+                if (absentEntryExpiryMillis > 0 && invalidations.get() == invalidationsBeforeLoad) {
+                    recordAbsent(key);
+                }
+                entity = null;
+            }
+            future.complete(entity);
+            return entity;
+        } catch (DataLoadingException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            timerContext.stop();
+            inFlightLoads.remove(key, future);
+        }
+    }
+
+    /**
+     * Invalidates the absent entry of an entity, when the entity is added.
+     *
+     * @param key Entity key.
+     */
+    void invalidate(K key) {
+
+        invalidations.incrementAndGet();
+        absentEntries.remove(key);
+    }
+
+    private boolean isAbsent(K key) {
+
+        Long expiry = absentEntries.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry > System.currentTimeMillis()) {
+            return true;
+        }
+        absentEntries.remove(key, expiry);
+        return false;
+    }
+
+    private void recordAbsent(K key) {
+
+        long now = System.currentTimeMillis();
+        if (absentEntries.size() >= MAX_ABSENT_ENTRIES) {
+            absentEntries.values().removeIf(expiry -> expiry <= now);
+            if (absentEntries.size() >= MAX_ABSENT_ENTRIES) {
+                absentEntries.clear();
+            }
+        }
+        absentEntries.put(key, now + absentEntryExpiryMillis);
+    }
+
+    private V await(CompletableFuture<V> inFlightLoad) throws DataLoadingException {
+
+        try {
+            return inFlightLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException("Interrupted while waiting for " + entityType + " to be loaded", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DataLoadingException("Error while loading " + entityType, cause);
+        }
+    }
+}
@@ -74,6 +74,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private boolean apisInitialized;
     private boolean apiPoliciesInitialized;
     private String tenantDomain;
+    // Loaders of the entities missing in the maps, which remember the entities not found in the internal API.
+    private SubscriptionDataRemoteLoader<Integer, Application> applicationLoader;
+    private SubscriptionDataRemoteLoader<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> keyMappingLoader;
+    private SubscriptionDataRemoteLoader<String, API> apiLoader;
+    private SubscriptionDataRemoteLoader<String, Subscription> subscriptionLoader;
 
     private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
     private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(LOADING_POOL_SIZE,
@@ -114,6 +119,33 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.subscriptionMap = new ConcurrentHashMap<>();
         this.scopesMap = new ConcurrentHashMap<>();
         this.apiNameVersionMap = new ConcurrentHashMap<>();
+        long negativeCacheExpiryMillis = getNegativeCacheExpiryMillis();
+        this.applicationLoader = new SubscriptionDataRemoteLoader<>("Application", negativeCacheExpiryMillis);
+        this.keyMappingLoader = new SubscriptionDataRemoteLoader<>("KeyMapping", negativeCacheExpiryMillis);
+        this.apiLoader = new SubscriptionDataRemoteLoader<>("API", negativeCacheExpiryMillis);
+        this.subscriptionLoader = new SubscriptionDataRemoteLoader<>("Subscription", negativeCacheExpiryMillis);
+    }
+
+    /**
+     * Returns the period for which the entities not found in the internal API are remembered.
+     *
+     * @return The period in milliseconds.
+     */
+    private long getNegativeCacheExpiryMillis() {
+
+        APIManagerConfiguration config =
+                ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration();
+        long expiry = APIConstants.DEFAULT_SUBSCRIPTION_DATA_NEGATIVE_CACHE_EXPIRY;
+        String configuredExpiry = config.getFirstProperty(APIConstants.SUBSCRIPTION_DATA_NEGATIVE_CACHE_EXPIRY);
+        if (StringUtils.isNotEmpty(configuredExpiry)) {
+            try {
+                expiry = Long.parseLong(configuredExpiry.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid subscription data negative cache expiry " + configuredExpiry + ". Using the " +
+                        "default value " + expiry + " seconds.");
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(expiry);
     }
 
     @Override
@@ -138,27 +170,28 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationById(int appId) {
 
-        String synchronizeKey = "SubscriptionDataStoreImpl-Application-" + appId;
         Application application = applicationMap.get(appId);
         if (application == null) {
-            synchronized (synchronizeKey.intern()) {
-                application = applicationMap.get(appId);
-                if (application != null) {
-                    return application;
-                }
-            }
             try {
-                application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
+                application = applicationLoader.load(appId, () -> {
+                    Application loadedApplication = applicationMap.get(appId);
+                    if (loadedApplication != null) {
+                        return loadedApplication;
+                    }
+                    loadedApplication = new SubscriptionDataLoaderImpl().getApplicationById(appId);
+                    if (isValidApplication(loadedApplication)) {
+                        // load to the memory
+                        log.debug("Loading Application to the in-memory datastore. applicationId = " +
+                                loadedApplication.getId());
+                        addOrUpdateApplication(loadedApplication);
+                    } else {
+                        log.debug("Application not found. applicationId = " + appId);
+                    }
+                    return loadedApplication;
+                }, SubscriptionDataStoreImpl::isValidApplication);
             } catch (DataLoadingException e) {
                 log.error("Error while Retrieving Application Metadata From Internal API.", e);
             }
-            if (application != null && application.getId() != null && application.getId() != 0) {
-                // load to the memory
-                log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
-                addOrUpdateApplication(application);
-            } else {
-                log.debug("Application not found. applicationId = " + appId);
-            }
         }
 
         if (log.isDebugEnabled()) {
@@ -182,32 +215,13 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                 Boolean.parseBoolean(config.getFirstProperty(APIConstants.DISABLE_RETRIEVE_KEY_MAPPING));
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
 
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-        if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
-                applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-                if (applicationKeyMapping != null) {
-                    return applicationKeyMapping;
-                }
-                try {
-                    if (!validationDisabled || !disableRetrieveKeyMappings) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Attempting to load key mapping from internal API");
-                        }
-                        applicationKeyMapping = new SubscriptionDataLoaderImpl()
-                                .getKeyMapping(key, keyManager, tenantDomain);
-                    }
-                } catch (DataLoadingException e) {
-                    log.error("Error while Loading KeyMapping Information from Internal API.", e);
-                }
-                if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
-                    // load to the memory
-                    log.debug("Loading Keymapping to the in-memory datastore.");
-                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
-                }
+        if (applicationKeyMapping == null && (!validationDisabled || !disableRetrieveKeyMappings)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attempting to load key mapping from internal API");
             }
+            applicationKeyMapping = loadKeyMapping(key, keyManager, applicationKeyMappingCacheKey);
         }
 
         if (log.isDebugEnabled()) {
@@ -226,27 +240,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
 
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
         if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
-                applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-                if (applicationKeyMapping != null) {
-                    return applicationKeyMapping;
-                }
-                try {
-                    applicationKeyMapping = new SubscriptionDataLoaderImpl()
-                            .getKeyMapping(key, keyManager, tenantDomain);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Loading KeyMapping Information from Internal API.", e);
-                }
-                if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
-                    // load to the memory
-                    log.debug("Loading Keymapping to the in-memory datastore.");
-                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
-                }
-            }
+            applicationKeyMapping = loadKeyMapping(key, keyManager, applicationKeyMappingCacheKey);
         }
 
         if (log.isDebugEnabled()) {
@@ -260,6 +257,30 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return applicationKeyMapping;
     }
 
+    private ApplicationKeyMapping loadKeyMapping(String key, String keyManager,
+                                                 ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey) {
+
+        try {
+            return keyMappingLoader.load(applicationKeyMappingCacheKey, () -> {
+                ApplicationKeyMapping applicationKeyMapping =
+                        applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
+                if (applicationKeyMapping != null) {
+                    return applicationKeyMapping;
+                }
+                applicationKeyMapping = new SubscriptionDataLoaderImpl().getKeyMapping(key, keyManager, tenantDomain);
+                if (isValidKeyMapping(applicationKeyMapping)) {
+                    // load to the memory
+                    log.debug("Loading Keymapping to the in-memory datastore.");
+                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
+                }
+                return applicationKeyMapping;
+            }, SubscriptionDataStoreImpl::isValidKeyMapping);
+        } catch (DataLoadingException e) {
+            log.error("Error while Loading KeyMapping Information from Internal API.", e);
+        }
+        return null;
+    }
+
     @Override
     public API getApiByContextAndVersion(String context, String version) {
 
@@ -278,24 +299,24 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             return null;
         }
         String key = context + DELEM_PERIOD + version;
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
         API api = apiMap.get(key);
         if (api == null) {
-            synchronized (synchronizeKey.intern()) {
-                api = apiMap.get(key);
-                if (api != null) {
-                    return api;
-                }
-                try {
-                    api = new SubscriptionDataLoaderImpl().getApi(context, version);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Data From Internal Rest API", e);
-                }
-                if (api != null && api.getApiId() != 0) {
-                    // load to the memory
-                    log.debug("Loading API to the in-memory datastore.");
-                    addOrUpdateAPI(api);
-                }
+            try {
+                api = apiLoader.load(key, () -> {
+                    API loadedApi = apiMap.get(key);
+                    if (loadedApi != null) {
+                        return loadedApi;
+                    }
+                    loadedApi = new SubscriptionDataLoaderImpl().getApi(context, version);
+                    if (isValidAPI(loadedApi)) {
+                        // load to the memory
+                        log.debug("Loading API to the in-memory datastore.");
+                        addOrUpdateAPI(loadedApi);
+                    }
+                    return loadedApi;
+                }, SubscriptionDataStoreImpl::isValidAPI);
+            } catch (DataLoadingException e) {
+                log.error("Error while Retrieving Data From Internal Rest API", e);
             }
         }
         if (log.isDebugEnabled()) {
@@ -358,25 +379,25 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public Subscription getSubscriptionById(int appId, int apiId) {
 
         String subscriptionCacheKey = SubscriptionDataStoreUtil.getSubscriptionCacheKey(appId, apiId);
-        String synchronizeKey = "SubscriptionDataStoreImpl-Subscription-" + subscriptionCacheKey;
         Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
         if (subscription == null) {
-            synchronized (synchronizeKey.intern()) {
-                subscription = subscriptionMap.get(subscriptionCacheKey);
-                if (subscription != null) {
-                    return subscription;
-                }
-                try {
-                    subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
-                            Integer.toString(appId));
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Subscription Data From Internal API", e);
-                }
-                if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
-                    // load to the memory
-                    log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
-                }
+            try {
+                subscription = subscriptionLoader.load(subscriptionCacheKey, () -> {
+                    Subscription loadedSubscription = subscriptionMap.get(subscriptionCacheKey);
+                    if (loadedSubscription != null) {
+                        return loadedSubscription;
+                    }
+                    loadedSubscription = new SubscriptionDataLoaderImpl().getSubscriptionById(
+                            Integer.toString(apiId), Integer.toString(appId));
+                    if (isValidSubscription(loadedSubscription)) {
+                        // load to the memory
+                        log.debug("Loading Subscription to the in-memory datastore.");
+                        subscriptionMap.put(loadedSubscription.getCacheKey(), loadedSubscription);
+                    }
+                    return loadedSubscription;
+                }, SubscriptionDataStoreImpl::isValidSubscription);
+            } catch (DataLoadingException e) {
+                log.error("Error while Retrieving Subscription Data From Internal API", e);
             }
         }
         if (log.isDebugEnabled()) {
@@ -392,6 +413,26 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return subscription;
     }
 
+    private static boolean isValidApplication(Application application) {
+
+        return application != null && application.getId() != null && application.getId() != 0;
+    }
+
+    private static boolean isValidKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
+
+        return applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey());
+    }
+
+    private static boolean isValidAPI(API api) {
+
+        return api != null && api.getApiId() != 0;
+    }
+
+    private static boolean isValidSubscription(Subscription subscription) {
+
+        return subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId());
+    }
+
     @Override
     public ApiPolicy getApiPolicyByName(String policyName, int tenantId) {
 
@@ -539,6 +580,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public void addOrUpdateSubscription(Subscription subscription) {
         String synchronizeKey = "SubscriptionDataStoreImpl-API-" + subscription.getCacheKey();
 
+        subscriptionLoader.invalidate(subscription.getCacheKey());
         synchronized (synchronizeKey.intern()) {
             Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
             if (retrievedSubscription == null) {
@@ -595,6 +637,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public void addOrUpdateAPI(API api) {
 
         String key = api.getApiName().concat(":").concat(api.getApiVersion());
+        apiLoader.invalidate(api.getCacheKey());
         apiByUUIDMap.put(api.getUuid(), api);
         apiNameVersionMap.put(key, api);
         apiMap.put(api.getCacheKey(), api);
@@ -606,6 +649,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         try {
             API newAPI = new SubscriptionDataLoaderImpl().getApi(api.getContext(), api.getApiVersion());
             if (newAPI != null) {
+                apiLoader.invalidate(api.getCacheKey());
                 apiMap.put(api.getCacheKey(), newAPI);
                 String key = newAPI.getApiName().concat(":").concat(newAPI.getApiVersion());
                 apiNameVersionMap.put(key, newAPI);
@@ -629,6 +673,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void addOrUpdateApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
 
+        keyMappingLoader.invalidate(applicationKeyMapping.getCacheKey());
         applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
         applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(), applicationKeyMapping);
     }
@@ -668,6 +713,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void addOrUpdateApplication(Application application) {
 
+        applicationLoader.invalidate(application.getId());
         applicationMap.remove(application.getId());
         applicationMap.put(application.getId(), application);
     }
@@ -930,7 +976,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         public void run() {
 
             List<V> list = supplier.get();
-            HashMap<K, V> tempMap = new HashMap<>();
+            HashMap<K, V> tempMap = new HashMap<>(list != null ? list.size() * 4 / 3 + 1 : 16);
 
             if (list != null) {
                 for (V v : list) {
@@ -938,13 +984,12 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     if (log.isDebugEnabled()) {
                         log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
                     }
-
-                    if (!tempMap.isEmpty()) {
-                        entityMap.clear();
-                        entityMap.putAll(tempMap);
-                    }
                 }
-
+                // Swap the entries once all of them are read, rather than once per entry.
+                if (!tempMap.isEmpty()) {
+                    entityMap.clear();
+                    entityMap.putAll(tempMap);
+                }
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("List is null for " + supplier.getClass());
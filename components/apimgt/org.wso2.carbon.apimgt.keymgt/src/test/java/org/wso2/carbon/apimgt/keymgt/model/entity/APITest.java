@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+public class APITest {
+
+    @Test
+    public void testUrlMappingLookupAfterResourceChanges() {
+
+        API api = new API();
+        URLMapping listMenu = urlMapping("listMenu");
+        api.addResource(listMenu);
+        Assert.assertSame(listMenu, api.getUrlMappingByPattern("listMenu"));
+
+        URLMapping placeOrder = urlMapping("placeOrder");
+        api.removeResource(listMenu);
+        api.addResource(placeOrder);
+        Assert.assertNull(api.getUrlMappingByPattern("listMenu"));
+        Assert.assertSame(placeOrder, api.getUrlMappingByPattern("placeOrder"));
+    }
+
+    @Test
+    public void testUrlMappingLookupAfterChangesThroughReturnedList() {
+
+        API api = new API();
+        api.setUrlMappings(Arrays.asList(urlMapping("listMenu"), urlMapping("placeOrder")));
+        Assert.assertNotNull(api.getUrlMappingByPattern("listMenu"));
+
+        URLMapping cancelOrder = urlMapping("cancelOrder");
+        api.getUrlMappings().set(0, cancelOrder);
+        Assert.assertNull(api.getUrlMappingByPattern("listMenu"));
+        Assert.assertSame(cancelOrder, api.getUrlMappingByPattern("cancelOrder"));
+
+        URLMapping trackOrder = urlMapping("trackOrder");
+        ListIterator<URLMapping> iterator = api.getResources().listIterator();
+        iterator.next();
+        iterator.set(trackOrder);
+        Assert.assertNull(api.getUrlMappingByPattern("cancelOrder"));
+        Assert.assertSame(trackOrder, api.getUrlMappingByPattern("trackOrder"));
+
+        URLMapping refundOrder = urlMapping("refundOrder");
+        api.getUrlMappings().subList(1, 2).set(0, refundOrder);
+        Assert.assertNull(api.getUrlMappingByPattern("placeOrder"));
+        Assert.assertSame(refundOrder, api.getUrlMappingByPattern("refundOrder"));
+
+        api.getUrlMappings().clear();
+        Assert.assertNull(api.getUrlMappingByPattern("trackOrder"));
+    }
+
+    @Test
+    public void testSetUrlMappingsDoesNotKeepCallerList() {
+
+        API api = new API();
+        List<URLMapping> mappings = Arrays.asList(urlMapping("listMenu"));
+        api.setUrlMappings(mappings);
+        Assert.assertNotNull(api.getUrlMappingByPattern("listMenu"));
+
+        mappings.set(0, urlMapping("placeOrder"));
+        Assert.assertNotNull(api.getUrlMappingByPattern("listMenu"));
+        Assert.assertNull(api.getUrlMappingByPattern("placeOrder"));
+
+        api.setUrlMappings(null);
+        Assert.assertNull(api.getUrlMappingByPattern("listMenu"));
+    }
+
+    @Test
+    public void testUrlMappingLookupOfDeserializedApi() {
+
+        API api = new Gson().fromJson("{\"urlMappings\": [{\"urlPattern\": \"listMenu\"}]}", API.class);
+        Assert.assertEquals("listMenu", api.getUrlMappingByPattern("listMenu").getUrlPattern());
+
+        api.getUrlMappings().add(urlMapping("placeOrder"));
+        Assert.assertNotNull(api.getUrlMappingByPattern("placeOrder"));
+    }
+
+    private static URLMapping urlMapping(String urlPattern) {
+
+        URLMapping urlMapping = new URLMapping();
+        urlMapping.setUrlPattern(urlPattern);
+        return urlMapping;
+    }
+}
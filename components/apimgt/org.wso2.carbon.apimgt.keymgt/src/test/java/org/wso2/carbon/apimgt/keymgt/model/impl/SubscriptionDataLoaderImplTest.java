@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SubscriptionDataLoaderImplTest {
+
+    @Test
+    public void testReadList() throws IOException {
+
+        String response = "{\"count\": 2, \"list\": [" +
+                "{\"subscriptionId\": \"1\", \"apiId\": 10, \"appId\": 20, \"subscriptionState\": \"UNBLOCKED\", " +
+                "\"unknownField\": {\"nested\": [1, 2]}}, " +
+                "{\"subscriptionId\": \"2\", \"apiId\": 11, \"appId\": 21, \"subscriptionState\": \"BLOCKED\"}], " +
+                "\"pagination\": null}";
+        List<Subscription> subscriptions = SubscriptionDataLoaderImpl.readList(toStream(response),
+                Subscription.class);
+        Assert.assertEquals(2, subscriptions.size());
+        Assert.assertEquals("1", subscriptions.get(0).getSubscriptionId());
+        Assert.assertEquals(Integer.valueOf(20), subscriptions.get(0).getAppId());
+        Assert.assertEquals("BLOCKED", subscriptions.get(1).getSubscriptionState());
+    }
+
+    @Test
+    public void testReadEmptyList() throws IOException {
+
+        Assert.assertTrue(SubscriptionDataLoaderImpl.readList(toStream(""), Subscription.class).isEmpty());
+        Assert.assertTrue(SubscriptionDataLoaderImpl.readList(toStream("{\"count\": 0, \"list\": []}"),
+                Subscription.class).isEmpty());
+        Assert.assertTrue(SubscriptionDataLoaderImpl.readList(toStream("{\"count\": 0, \"list\": null}"),
+                Subscription.class).isEmpty());
+        Assert.assertTrue(SubscriptionDataLoaderImpl.readList(null, Subscription.class).isEmpty());
+    }
+
+    @Test
+    public void testLoadPages() throws Exception {
+
+        List<Subscription> all = createSubscriptions(7);
+        List<Integer> requestedPages = new ArrayList<>();
+        List<Subscription> subscriptions = SubscriptionDataLoaderImpl.loadPages(after -> {
+            requestedPages.add(after);
+            List<Subscription> page = new ArrayList<>();
+            for (Subscription subscription : all) {
+                if (Integer.parseInt(subscription.getSubscriptionId()) > after && page.size() < 3) {
+                    page.add(subscription);
+                }
+            }
+            return page;
+        }, 3);
+        Assert.assertEquals(all, subscriptions);
+        Assert.assertEquals(Arrays.asList(0, 3, 6), requestedPages);
+    }
+
+    @Test
+    public void testLoadPagesFromControlPlaneWithoutPaging() throws Exception {
+
+        List<Subscription> all = createSubscriptions(5);
+        Collections.reverse(all);
+        Assert.assertEquals(all, SubscriptionDataLoaderImpl.loadPages(after -> new ArrayList<>(all), 3));
+        Assert.assertEquals(all, SubscriptionDataLoaderImpl.loadPages(after -> new ArrayList<>(all), 5));
+    }
+
+    private List<Subscription> createSubscriptions(int count) {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Subscription subscription = new Subscription();
+            subscription.setSubscriptionId(String.valueOf(i));
+            subscriptions.add(subscription);
+        }
+        return subscriptions;
+    }
+
+    private InputStream toStream(String response) {
+
+        return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricService;
+import org.wso2.carbon.metrics.manager.ServiceReferenceHolder;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceReferenceHolder.class})
+public class SubscriptionDataRemoteLoaderTest {
+
+    @Before
+    public void init() {
+
+        ServiceReferenceHolder serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        MetricService metricService = Mockito.mock(MetricService.class);
+        Timer timer = Mockito.mock(Timer.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        Mockito.when(serviceReferenceHolder.getMetricService()).thenReturn(metricService);
+        Mockito.when(metricService.timer(Mockito.anyString(), Mockito.any(Level.class))).thenReturn(timer);
+        Mockito.when(timer.start()).thenReturn(Mockito.mock(Timer.Context.class));
+    }
+
+    @Test
+    public void testConcurrentLoadsShareRemoteCall() throws Exception {
+
+        SubscriptionDataRemoteLoader<String, String> loader = new SubscriptionDataRemoteLoader<>("API", 30000);
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executorService.submit(() -> loader.load("/test:1.0.0", () -> {
+                remoteCalls.incrementAndGet();
+                loadStarted.countDown();
+                try {
+                    releaseLoad.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new DataLoadingException("Interrupted while loading", e);
+                }
+                return "api";
+            }, api -> true));
+            Assert.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            Future<String> second = executorService.submit(() -> loader.load("/test:1.0.0", () -> {
+                remoteCalls.incrementAndGet();
+                return "other";
+            }, api -> true));
+            // Let the second load reach the in-flight load before it completes.
+            Thread.sleep(200);
+            releaseLoad.countDown();
+            Assert.assertEquals("api", first.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("api", second.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(1, remoteCalls.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAbsentEntityIsRememberedUntilInvalidated() throws Exception {
+
+        SubscriptionDataRemoteLoader<Integer, String> loader = new SubscriptionDataRemoteLoader<>("Application",
+                30000);
+        AtomicInteger remoteCalls = new AtomicInteger();
+        SubscriptionDataRemoteLoader.Loader<String> notFound = () -> {
+            remoteCalls.incrementAndGet();
+            return null;
+        };
+        Assert.assertNull(loader.load(1, notFound, application -> true));
+        Assert.assertNull(loader.load(1, notFound, application -> true));
+        Assert.assertEquals(1, remoteCalls.get());
+
+        loader.invalidate(1);
+        Assert.assertEquals("application", loader.load(1, () -> {
+            remoteCalls.incrementAndGet();
+            return "application";
+        }, application -> true));
+        Assert.assertEquals(2, remoteCalls.get());
+    }
+
+    @Test
+    public void testFailedLoadIsNotRemembered() throws Exception {
+
+        SubscriptionDataRemoteLoader<String, String> loader = new SubscriptionDataRemoteLoader<>("Subscription",
+                30000);
+        try {
+            loader.load("1:1", () -> {
+                throw new DataLoadingException("Internal API is not available");
+            }, subscription -> true);
+            Assert.fail("Expected the load to fail");
+        } catch (DataLoadingException e) {
+            Assert.assertEquals("Internal API is not available", e.getMessage());
+        }
+        Assert.assertEquals("subscription", loader.load("1:1", () -> "subscription", subscription -> true));
+    }
+}
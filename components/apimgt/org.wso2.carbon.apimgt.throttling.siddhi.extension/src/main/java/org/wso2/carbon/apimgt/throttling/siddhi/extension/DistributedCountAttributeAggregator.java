@@ -18,21 +18,29 @@
 package org.wso2.carbon.apimgt.throttling.siddhi.extension;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.DistributedThrottleConfig;
 
 import org.wso2.carbon.apimgt.throttling.siddhi.extension.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore.KeyValueStoreClient;
 import org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore.KeyValueStoreException;
 import org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore.KeyValueStoreManager;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
 import org.wso2.siddhi.core.config.ExecutionPlanContext;
 import org.wso2.siddhi.core.executor.ExpressionExecutor;
 import org.wso2.siddhi.core.query.selector.attribute.aggregator.AttributeAggregator;
@@ -45,9 +53,9 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
     private static Attribute.Type type = Attribute.Type.LONG;
     private KeyValueStoreClient kvStoreClient;
     private String key;
-    private final AtomicLong localCounter = new AtomicLong(0L);
+    final AtomicLong localCounter = new AtomicLong(0L);
     // Store the net change of local counter since last sync task
-    private final AtomicLong unsyncedCounter = new AtomicLong(0L);
+    final AtomicLong unsyncedCounter = new AtomicLong(0L);
     private static final ConcurrentHashMap<String, DistributedCountAttributeAggregator> ACTIVE_AGGREGATORS =
             new ConcurrentHashMap<>();
     private final Object kvStoreLock = new Object();
@@ -61,6 +69,7 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
     private static boolean distributedThrottlingEnabled = false;
     private static int corePoolSize = 10;
     private static int kvStoreSyncIntervalMilliseconds = 10;
+    private static int kvStoreSyncBatchSize = 0;
 
     // Scheduler initialization control
     private static volatile boolean schedulerStarted = false;
@@ -71,6 +80,30 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
     private static final ScheduledExecutorService masterScheduler =
             Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, Thread.currentThread().getName()));
 
+    // Batched sync metrics
+    private static final String METRIC_NAME = "DistributedThrottleSync";
+    private static final AtomicLong lastBatchErrorLogTimestamp = new AtomicLong(0L);
+    private static final AtomicLong lastSyncedCounters = new AtomicLong(0L);
+    private static final AtomicLong lastSyncBatches = new AtomicLong(0L);
+    private static final AtomicLong lastSyncDuration = new AtomicLong(0L);
+    private static final AtomicLong lastSuccessfulSyncTimestamp = new AtomicLong(System.currentTimeMillis());
+    private static final AtomicLong failedSyncBatches = new AtomicLong(0L);
+    private static volatile boolean metricsRegistered = false;
+
+    public DistributedCountAttributeAggregator() {
+    }
+
+    /**
+     * Creates an aggregator which is synced with the given key-value store under the given key, as init does when
+     * distributed throttling is enabled.
+     *
+     * @param key           key of the counter in the key-value store
+     * @param kvStoreClient key-value store client
+     */
+    DistributedCountAttributeAggregator(String key, KeyValueStoreClient kvStoreClient) {
+        this.key = key;
+        this.kvStoreClient = kvStoreClient;
+    }
 
     /**
      * The initialization method for FunctionExecutor
@@ -90,6 +123,7 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
                 distributedThrottlingEnabled = DISTRIBUTED_THROTTLE_CONFIG.isEnabled();
                 corePoolSize = DISTRIBUTED_THROTTLE_CONFIG.getCorePoolSize();
                 kvStoreSyncIntervalMilliseconds = DISTRIBUTED_THROTTLE_CONFIG.getSyncInterval();
+                kvStoreSyncBatchSize = DISTRIBUTED_THROTTLE_CONFIG.getSyncBatchSize();
             }
         }
         String throttleKey = QuerySelector.getThreadLocalGroupByKey();
@@ -162,6 +196,108 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
         }
     }
 
+    /**
+     * Synchronize the local counters of all the active aggregators with the key-value store. The unsynced counter
+     * values are collected and flushed in batches of the configured size, each batch in a single pipelined round
+     * trip, and the resulting values are scattered back to the local counters.
+     */
+    private static void syncAllWithKVStore() {
+        syncAllWithKVStore(new ArrayList<>(ACTIVE_AGGREGATORS.values()), kvStoreSyncBatchSize, kvStoreSyncScheduler);
+    }
+
+    /**
+     * Synchronize the local counters of the given aggregators with the key-value store in batches of the given size.
+     *
+     * @param aggregators aggregators to sync
+     * @param batchSize   maximum number of counters synced in a single round trip
+     * @param executor    executor which syncs the batches
+     * @return true, if all the batches were synced
+     */
+    static boolean syncAllWithKVStore(List<DistributedCountAttributeAggregator> aggregators, int batchSize,
+                                      Executor executor) {
+        long startTime = System.currentTimeMillis();
+        if (aggregators.isEmpty()) {
+            lastSuccessfulSyncTimestamp.set(startTime);
+            return true;
+        }
+        KeyValueStoreClient client = aggregators.get(0).kvStoreClient;
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < aggregators.size(); i += batchSize) {
+            List<DistributedCountAttributeAggregator> batch =
+                    aggregators.subList(i, Math.min(i + batchSize, aggregators.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> syncBatchWithKVStore(client, batch), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        boolean synced = true;
+        for (CompletableFuture<Boolean> future : futures) {
+            synced &= future.join();
+        }
+        long endTime = System.currentTimeMillis();
+        lastSyncedCounters.set(aggregators.size());
+        lastSyncBatches.set(futures.size());
+        lastSyncDuration.set(endTime - startTime);
+        if (synced) {
+            lastSuccessfulSyncTimestamp.set(endTime);
+        }
+        return synced;
+    }
+
+    static boolean syncBatchWithKVStore(KeyValueStoreClient client,
+                                        List<DistributedCountAttributeAggregator> batch) {
+        String[] keys = new String[batch.size()];
+        long[] deltas = new long[batch.size()];
+        for (int i = 0; i < keys.length; i++) {
+            DistributedCountAttributeAggregator aggregator = batch.get(i);
+            keys[i] = aggregator.key;
+            deltas[i] = aggregator.unsyncedCounter.getAndSet(0L);
+        }
+        try {
+            Long[] values = client.syncCounters(keys, deltas);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    batch.get(i).localCounter.set(values[i]);
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            long currentTimeMillis = System.currentTimeMillis();
+            if (currentTimeMillis - lastBatchErrorLogTimestamp.get() > ERROR_LOG_INTERVAL_MS) {
+                log.error("Error syncing a batch of " + keys.length + " keys with key-value store", e);
+                lastBatchErrorLogTimestamp.set(currentTimeMillis);
+            }
+            for (int i = 0; i < keys.length; i++) {
+                batch.get(i).unsyncedCounter.addAndGet(deltas[i]);
+            }
+            failedSyncBatches.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Registers the batched sync metrics. The sync lag is the time elapsed since all the active aggregators were
+     * last synced successfully.
+     */
+    private static void registerMetrics() {
+        if (metricsRegistered) {
+            return;
+        }
+        try {
+            registerGauge("syncedCounters", lastSyncedCounters::get);
+            registerGauge("batches", lastSyncBatches::get);
+            registerGauge("syncDuration", lastSyncDuration::get);
+            registerGauge("syncLag", () -> System.currentTimeMillis() - lastSuccessfulSyncTimestamp.get());
+            registerGauge("failedBatches", failedSyncBatches::get);
+            metricsRegistered = true;
+        } catch (Exception e) {
+            log.warn("Error while registering distributed throttle sync metrics", e);
+        }
+    }
+
+    private static void registerGauge(String name, Supplier<Long> value) {
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name),
+                (Gauge<Long>) value::get);
+    }
+
     public Attribute.Type getReturnType() {
         return type;
     }
@@ -321,7 +457,8 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
      * Starts the scheduler responsible for periodically synchronizing all active aggregators
      * with the distributed key-value store. The scheduler runs at a fixed interval and submits
      * sync tasks for each active aggregator instance. This ensures that local counter changes
-     * are propagated to the distributed store in a timely manner.
+     * are propagated to the distributed store in a timely manner. When a sync batch size is configured,
+     * the active aggregators are synced in pipelined batches instead of one task per aggregator.
      * The scheduler is shared among all aggregator instances and is only started once.
      */
     private static void startScheduler() {
@@ -338,10 +475,18 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
             }
 
             log.debug("Starting key-value store sync scheduler with interval: "
-                    + kvStoreSyncIntervalMilliseconds + " ms, pool size: " + corePoolSize);
+                    + kvStoreSyncIntervalMilliseconds + " ms, pool size: " + corePoolSize
+                    + ", batch size: " + kvStoreSyncBatchSize);
+            if (kvStoreSyncBatchSize > 0) {
+                registerMetrics();
+            }
 
             masterScheduler.scheduleAtFixedRate(() -> {
                 try {
+                    if (kvStoreSyncBatchSize > 0) {
+                        syncAllWithKVStore();
+                        return;
+                    }
                     CompletableFuture<?>[] futures = ACTIVE_AGGREGATORS.values().stream()
                             .map(aggregator -> CompletableFuture.runAsync(() -> {
                                 try {
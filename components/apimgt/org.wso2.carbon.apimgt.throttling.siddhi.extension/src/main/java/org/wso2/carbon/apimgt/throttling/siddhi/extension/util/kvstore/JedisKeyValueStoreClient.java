@@ -27,7 +27,12 @@ import org.wso2.carbon.apimgt.throttling.siddhi.extension.internal.ServiceRefere
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -55,6 +60,22 @@ public class JedisKeyValueStoreClient implements KeyValueStoreClient {
     private static final AtomicLong lastErrorLogTimestamp = new AtomicLong(0L);
     private static final long ERROR_LOG_INTERVAL_MS = 30000L; // 30 seconds
 
+    // Pool of this client, or null if the client uses the shared pool created from the configuration
+    private final JedisPool clientPool;
+
+    public JedisKeyValueStoreClient() {
+        this(null);
+    }
+
+    /**
+     * Creates a client which uses the given pool instead of the shared pool created from the configuration.
+     *
+     * @param clientPool Jedis pool of the client
+     */
+    JedisKeyValueStoreClient(JedisPool clientPool) {
+        this.clientPool = clientPool;
+    }
+
     private static void populateKeyValueStoreConfigs() {
         try {
             DistributedThrottleConfig distributedConfig = ServiceReferenceHolder.getInstance()
@@ -109,6 +130,9 @@ public class JedisKeyValueStoreClient implements KeyValueStoreClient {
     }
 
     private JedisPool getJedisPool() {
+        if (clientPool != null) {
+            return clientPool;
+        }
         if (jedisPool == null) {
             synchronized (JedisKeyValueStoreClient.class) {
                 if (jedisPool == null) {
@@ -283,4 +307,42 @@ public class JedisKeyValueStoreClient implements KeyValueStoreClient {
             closeJedis(jedis);
         }
     }
+
+    /**
+     * Syncs the given counters in a single pipelined round trip, using INCRBY for the counters with a delta and GET
+     * for the others.
+     */
+    @Override
+    public Long[] syncCounters(String[] keys, long[] deltas) {
+        if (keys == null || deltas == null || keys.length != deltas.length) {
+            throw new KeyValueStoreException("Keys and deltas must be of the same length for SYNC operation.");
+        }
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            if (jedis == null) {
+                throw new KeyValueStoreException("Failed to get connection from KeyValue pool for SYNC operation.");
+            }
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<?>> responses = new ArrayList<>(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                responses.add(deltas[i] != 0 ? pipeline.incrBy(keys[i], deltas[i]) : pipeline.get(keys[i]));
+            }
+            pipeline.sync();
+            Long[] values = new Long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Object value = responses.get(i).get();
+                if (value instanceof Long) {
+                    values[i] = (Long) value;
+                } else if (value != null) {
+                    values[i] = Long.valueOf(value.toString());
+                }
+            }
+            return values;
+        } catch (JedisException | NumberFormatException e) {
+            throw new KeyValueStoreException("Error during KeyValue SYNC of " + keys.length + " keys", e);
+        } finally {
+            closeJedis(jedis);
+        }
+    }
 }
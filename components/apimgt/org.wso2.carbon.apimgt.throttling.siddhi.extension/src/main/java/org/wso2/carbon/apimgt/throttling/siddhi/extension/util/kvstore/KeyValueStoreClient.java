@@ -68,4 +68,32 @@ public interface KeyValueStoreClient {
      * @param key The key whose mapping is to be removed from the store.
      */
     void delete(String key);
+
+    /**
+     * Applies the given deltas to the numeric values of the given keys and returns the resulting values.
+     * A zero delta only reads the value of the key. Implementations may apply all the deltas in a single
+     * round trip, without the updates being atomic as a whole.
+     *
+     * @param keys   The keys whose numeric values are to be synced.
+     * @param deltas The deltas to be applied to the values of the keys, in the order of the keys.
+     * @return The values of the keys after applying the deltas, or null for a key without a value.
+     */
+    default Long[] syncCounters(String[] keys, long[] deltas) {
+        Long[] values = new Long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (deltas[i] > 0) {
+                values[i] = incrementBy(keys[i], deltas[i]);
+            } else if (deltas[i] < 0) {
+                values[i] = decrementBy(keys[i], Math.abs(deltas[i]));
+            } else {
+                String value = get(keys[i]);
+                try {
+                    values[i] = value != null ? Long.valueOf(value) : null;
+                } catch (NumberFormatException e) {
+                    throw new KeyValueStoreException("Non numeric value found for key: " + keys[i], e);
+                }
+            }
+        }
+        return values;
+    }
 }
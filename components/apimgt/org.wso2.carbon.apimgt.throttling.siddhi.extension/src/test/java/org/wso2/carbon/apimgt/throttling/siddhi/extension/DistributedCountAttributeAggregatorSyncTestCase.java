@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.throttling.siddhi.extension;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore.KeyValueStoreClient;
+import org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore.KeyValueStoreException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Unit test cases related to the batched key-value store sync of DistributedCountAttributeAggregator
+ */
+public class DistributedCountAttributeAggregatorSyncTestCase {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private KeyValueStoreClient kvStoreClient;
+
+    @Before
+    public void init() {
+        kvStoreClient = Mockito.mock(KeyValueStoreClient.class);
+    }
+
+    @Test
+    public void testSyncBatchScattersValuesToCounters() {
+        List<DistributedCountAttributeAggregator> batch = createAggregators(3);
+        batch.get(0).unsyncedCounter.set(2L);
+        batch.get(2).unsyncedCounter.set(-1L);
+        Mockito.when(kvStoreClient.syncCounters(Mockito.any(String[].class), Mockito.any(long[].class)))
+                .thenReturn(new Long[]{12L, 7L, 4L});
+
+        Assert.assertTrue(DistributedCountAttributeAggregator.syncBatchWithKVStore(kvStoreClient, batch));
+
+        Mockito.verify(kvStoreClient).syncCounters(new String[]{"key0", "key1", "key2"}, new long[]{2L, 0L, -1L});
+        Assert.assertEquals(12L, batch.get(0).localCounter.get());
+        Assert.assertEquals(7L, batch.get(1).localCounter.get());
+        Assert.assertEquals(4L, batch.get(2).localCounter.get());
+        for (DistributedCountAttributeAggregator aggregator : batch) {
+            Assert.assertEquals(0L, aggregator.unsyncedCounter.get());
+        }
+    }
+
+    @Test
+    public void testSyncBatchKeepsCounterOfKeyWithoutValue() {
+        List<DistributedCountAttributeAggregator> batch = createAggregators(2);
+        batch.get(0).localCounter.set(5L);
+        batch.get(1).localCounter.set(3L);
+        Mockito.when(kvStoreClient.syncCounters(Mockito.any(String[].class), Mockito.any(long[].class)))
+                .thenReturn(new Long[]{null, 9L});
+
+        Assert.assertTrue(DistributedCountAttributeAggregator.syncBatchWithKVStore(kvStoreClient, batch));
+
+        Assert.assertEquals(5L, batch.get(0).localCounter.get());
+        Assert.assertEquals(9L, batch.get(1).localCounter.get());
+    }
+
+    @Test
+    public void testSyncBatchRestoresDeltasOnFailure() {
+        List<DistributedCountAttributeAggregator> batch = createAggregators(2);
+        batch.get(0).localCounter.set(4L);
+        batch.get(0).unsyncedCounter.set(3L);
+        batch.get(1).localCounter.set(1L);
+        batch.get(1).unsyncedCounter.set(-2L);
+        Mockito.when(kvStoreClient.syncCounters(Mockito.any(String[].class), Mockito.any(long[].class)))
+                .thenThrow(new KeyValueStoreException("Pipeline failed"));
+
+        Assert.assertFalse(DistributedCountAttributeAggregator.syncBatchWithKVStore(kvStoreClient, batch));
+
+        Assert.assertEquals(3L, batch.get(0).unsyncedCounter.get());
+        Assert.assertEquals(-2L, batch.get(1).unsyncedCounter.get());
+        Assert.assertEquals(4L, batch.get(0).localCounter.get());
+        Assert.assertEquals(1L, batch.get(1).localCounter.get());
+    }
+
+    @Test
+    public void testSyncAllSplitsAggregatorsIntoBatches() {
+        List<DistributedCountAttributeAggregator> aggregators = createAggregators(5);
+        for (int i = 0; i < aggregators.size(); i++) {
+            aggregators.get(i).unsyncedCounter.set(i + 1);
+        }
+        Mockito.when(kvStoreClient.syncCounters(Mockito.any(String[].class), Mockito.any(long[].class)))
+                .thenAnswer(invocation -> {
+                    long[] deltas = invocation.getArgument(1);
+                    Long[] values = new Long[deltas.length];
+                    for (int i = 0; i < deltas.length; i++) {
+                        values[i] = deltas[i] * 10;
+                    }
+                    return values;
+                });
+
+        Assert.assertTrue(DistributedCountAttributeAggregator.syncAllWithKVStore(aggregators, 2, DIRECT_EXECUTOR));
+
+        ArgumentCaptor<String[]> keys = ArgumentCaptor.forClass(String[].class);
+        Mockito.verify(kvStoreClient, Mockito.times(3)).syncCounters(keys.capture(), Mockito.any(long[].class));
+        Assert.assertArrayEquals(new String[]{"key0", "key1"}, keys.getAllValues().get(0));
+        Assert.assertArrayEquals(new String[]{"key2", "key3"}, keys.getAllValues().get(1));
+        Assert.assertArrayEquals(new String[]{"key4"}, keys.getAllValues().get(2));
+        for (int i = 0; i < aggregators.size(); i++) {
+            Assert.assertEquals((i + 1) * 10L, aggregators.get(i).localCounter.get());
+            Assert.assertEquals(0L, aggregators.get(i).unsyncedCounter.get());
+        }
+    }
+
+    @Test
+    public void testSyncAllRestoresDeltasOfFailedBatchOnly() {
+        List<DistributedCountAttributeAggregator> aggregators = createAggregators(3);
+        for (DistributedCountAttributeAggregator aggregator : aggregators) {
+            aggregator.unsyncedCounter.set(1L);
+        }
+        Mockito.when(kvStoreClient.syncCounters(Mockito.any(String[].class), Mockito.any(long[].class)))
+                .thenReturn(new Long[]{6L, 8L})
+                .thenThrow(new KeyValueStoreException("Pipeline failed"));
+
+        Assert.assertFalse(DistributedCountAttributeAggregator.syncAllWithKVStore(aggregators, 2, DIRECT_EXECUTOR));
+
+        Assert.assertEquals(6L, aggregators.get(0).localCounter.get());
+        Assert.assertEquals(8L, aggregators.get(1).localCounter.get());
+        Assert.assertEquals(0L, aggregators.get(0).unsyncedCounter.get());
+        Assert.assertEquals(0L, aggregators.get(1).unsyncedCounter.get());
+        Assert.assertEquals(0L, aggregators.get(2).localCounter.get());
+        Assert.assertEquals(1L, aggregators.get(2).unsyncedCounter.get());
+    }
+
+    @Test
+    public void testSyncAllWithoutAggregators() {
+        Assert.assertTrue(DistributedCountAttributeAggregator.syncAllWithKVStore(new ArrayList<>(), 2,
+                DIRECT_EXECUTOR));
+        Mockito.verifyZeroInteractions(kvStoreClient);
+    }
+
+    private List<DistributedCountAttributeAggregator> createAggregators(int count) {
+        DistributedCountAttributeAggregator[] aggregators = new DistributedCountAttributeAggregator[count];
+        for (int i = 0; i < count; i++) {
+            aggregators[i] = new DistributedCountAttributeAggregator("key" + i, kvStoreClient);
+        }
+        return Arrays.asList(aggregators);
+    }
+}
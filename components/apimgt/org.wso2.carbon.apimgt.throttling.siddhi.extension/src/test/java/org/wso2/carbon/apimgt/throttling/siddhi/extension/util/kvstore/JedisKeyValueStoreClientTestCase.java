@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.throttling.siddhi.extension.util.kvstore;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * Unit test cases related to the pipelined counter sync of JedisKeyValueStoreClient
+ */
+public class JedisKeyValueStoreClientTestCase {
+
+    private Jedis jedis;
+    private Pipeline pipeline;
+    private JedisKeyValueStoreClient client;
+
+    @Before
+    public void init() {
+        JedisPool jedisPool = Mockito.mock(JedisPool.class);
+        jedis = Mockito.mock(Jedis.class);
+        pipeline = Mockito.mock(Pipeline.class);
+        Mockito.when(jedisPool.getResource()).thenReturn(jedis);
+        Mockito.when(jedis.pipelined()).thenReturn(pipeline);
+        client = new JedisKeyValueStoreClient(jedisPool);
+    }
+
+    @Test
+    public void testSyncCountersIncrementsAndReadsInOrder() {
+        Response<Long> incremented = mockResponse(15L);
+        Response<String> read = mockResponse("7");
+        Response<Long> decremented = mockResponse(-2L);
+        Mockito.when(pipeline.incrBy("key0", 5L)).thenReturn(incremented);
+        Mockito.when(pipeline.get("key1")).thenReturn(read);
+        Mockito.when(pipeline.incrBy("key2", -3L)).thenReturn(decremented);
+
+        Long[] values = client.syncCounters(new String[]{"key0", "key1", "key2"}, new long[]{5L, 0L, -3L});
+
+        Assert.assertArrayEquals(new Long[]{15L, 7L, -2L}, values);
+        Mockito.verify(pipeline).sync();
+        Mockito.verify(pipeline, Mockito.never()).incrBy("key1", 0L);
+        Mockito.verify(jedis).close();
+    }
+
+    @Test
+    public void testSyncCountersReturnsNullForKeyWithoutValue() {
+        Response<String> read = mockResponse(null);
+        Mockito.when(pipeline.get("key0")).thenReturn(read);
+
+        Long[] values = client.syncCounters(new String[]{"key0"}, new long[]{0L});
+
+        Assert.assertArrayEquals(new Long[]{null}, values);
+    }
+
+    @Test
+    public void testSyncCountersWrapsPipelineFailure() {
+        Response<Long> incremented = mockResponse(1L);
+        Mockito.when(pipeline.incrBy("key0", 1L)).thenReturn(incremented);
+        Mockito.doThrow(new JedisConnectionException("Connection reset")).when(pipeline).sync();
+
+        try {
+            client.syncCounters(new String[]{"key0"}, new long[]{1L});
+            Assert.fail("Pipeline failure was not reported");
+        } catch (KeyValueStoreException e) {
+            Assert.assertTrue(e.getCause() instanceof JedisConnectionException);
+        }
+        Mockito.verify(jedis).close();
+    }
+
+    @Test
+    public void testSyncCountersWrapsNonNumericValue() {
+        Response<String> read = mockResponse("not-a-number");
+        Mockito.when(pipeline.get("key0")).thenReturn(read);
+
+        try {
+            client.syncCounters(new String[]{"key0"}, new long[]{0L});
+            Assert.fail("Non numeric value was not reported");
+        } catch (KeyValueStoreException e) {
+            Assert.assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+        Mockito.verify(jedis).close();
+    }
+
+    @Test(expected = KeyValueStoreException.class)
+    public void testSyncCountersRejectsMismatchedDeltas() {
+        try {
+            client.syncCounters(new String[]{"key0", "key1"}, new long[]{1L});
+        } finally {
+            Mockito.verifyZeroInteractions(jedis);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Response<T> mockResponse(T value) {
+        Response<T> response = Mockito.mock(Response.class);
+        Mockito.when(response.get()).thenReturn(value);
+        return response;
+    }
+}